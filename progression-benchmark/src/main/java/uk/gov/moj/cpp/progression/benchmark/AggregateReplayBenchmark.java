@@ -0,0 +1,79 @@
+package uk.gov.moj.cpp.progression.benchmark;
+
+import static uk.gov.moj.cpp.progression.benchmark.SyntheticEvents.applicationEvents;
+import static uk.gov.moj.cpp.progression.benchmark.SyntheticEvents.caseEvents;
+import static uk.gov.moj.cpp.progression.benchmark.SyntheticEvents.hearingEvents;
+
+import uk.gov.moj.cpp.progression.aggregate.ApplicationAggregate;
+import uk.gov.moj.cpp.progression.aggregate.CaseAggregate;
+import uk.gov.moj.cpp.progression.aggregate.HearingAggregate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Rebuilds each aggregate from a stream of {@code eventCount} events, which is the work done every
+ * time a command is handled against an aggregate without a usable snapshot.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class AggregateReplayBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int eventCount;
+
+    private List<Object> caseEvents;
+    private List<Object> hearingEvents;
+    private List<Object> applicationEvents;
+
+    @Setup(Level.Trial)
+    public void createEventStreams() {
+        caseEvents = caseEvents(eventCount);
+        hearingEvents = hearingEvents(eventCount);
+        applicationEvents = applicationEvents(eventCount);
+    }
+
+    @Benchmark
+    public CaseAggregate replayCaseAggregate() {
+        final CaseAggregate caseAggregate = new CaseAggregate();
+        for (final Object event : caseEvents) {
+            caseAggregate.apply(event);
+        }
+        return caseAggregate;
+    }
+
+    @Benchmark
+    public HearingAggregate replayHearingAggregate() {
+        final HearingAggregate hearingAggregate = new HearingAggregate();
+        for (final Object event : hearingEvents) {
+            hearingAggregate.apply(event);
+        }
+        return hearingAggregate;
+    }
+
+    @Benchmark
+    public ApplicationAggregate replayApplicationAggregate() {
+        final ApplicationAggregate applicationAggregate = new ApplicationAggregate();
+        for (final Object event : applicationEvents) {
+            applicationAggregate.apply(event);
+        }
+        return applicationAggregate;
+    }
+}
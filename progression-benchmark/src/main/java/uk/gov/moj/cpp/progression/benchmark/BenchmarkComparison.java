@@ -0,0 +1,93 @@
+package uk.gov.moj.cpp.progression.benchmark;
+
+import static java.lang.String.format;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+
+/**
+ * Prints the change in score and normalised allocation between two JMH json result files, for
+ * example a baseline saved from main and the results of a feature branch.
+ *
+ * <pre>
+ *     java -cp ... uk.gov.moj.cpp.progression.benchmark.BenchmarkComparison baseline/main.json target/jmh-result.json
+ * </pre>
+ */
+public final class BenchmarkComparison {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    private BenchmarkComparison() {
+    }
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <candidate.json>");
+            System.exit(1);
+        }
+
+        final Map<String, JsonObject> baseline = read(args[0]);
+        final Map<String, JsonObject> candidate = read(args[1]);
+
+        System.out.println(format("%-80s %14s %14s %8s %14s %14s %8s",
+                "Benchmark", "Baseline", "Candidate", "Change", "Alloc base", "Alloc cand", "Change"));
+        candidate.forEach((name, result) -> {
+            final JsonObject base = baseline.get(name);
+            if (base == null) {
+                System.out.println(format("%-80s %14s %14.3f", name, "-", score(result)));
+                return;
+            }
+            System.out.println(format("%-80s %14.3f %14.3f %7.1f%% %14.0f %14.0f %7.1f%%",
+                    name,
+                    score(base), score(result), change(score(base), score(result)),
+                    allocation(base), allocation(result), change(allocation(base), allocation(result))));
+        });
+    }
+
+    private static Map<String, JsonObject> read(final String path) throws IOException {
+        try (final Reader reader = Files.newBufferedReader(Paths.get(path));
+             final JsonReader jsonReader = Json.createReader(reader)) {
+            final JsonArray results = jsonReader.readArray();
+            return results.getValuesAs(JsonObject.class).stream()
+                    .collect(Collectors.toMap(BenchmarkComparison::name, result -> result, (first, second) -> second, LinkedHashMap::new));
+        }
+    }
+
+    private static String name(final JsonObject result) {
+        final JsonObject params = result.getJsonObject("params");
+        if (params == null || params.isEmpty()) {
+            return result.getString("benchmark");
+        }
+        return result.getString("benchmark") + params.keySet().stream()
+                .map(key -> key + "=" + params.getString(key))
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    private static double score(final JsonObject result) {
+        return result.getJsonObject("primaryMetric").getJsonNumber("score").doubleValue();
+    }
+
+    private static double allocation(final JsonObject result) {
+        final JsonObject secondaryMetrics = result.getJsonObject("secondaryMetrics");
+        if (secondaryMetrics == null || !secondaryMetrics.containsKey(ALLOCATION_METRIC)) {
+            return Double.NaN;
+        }
+        final JsonNumber score = secondaryMetrics.getJsonObject(ALLOCATION_METRIC).getJsonNumber("score");
+        return score.doubleValue();
+    }
+
+    private static double change(final double baseline, final double candidate) {
+        return baseline == 0 ? 0 : (candidate - baseline) / baseline * 100;
+    }
+}
@@ -0,0 +1,109 @@
+package uk.gov.moj.cpp.progression.benchmark;
+
+import static java.util.Collections.emptyList;
+import static java.util.UUID.randomUUID;
+import static java.util.stream.Collectors.toList;
+import static uk.gov.moj.cpp.progression.benchmark.SyntheticEvents.caseEvents;
+import static uk.gov.moj.cpp.progression.benchmark.SyntheticEvents.courtCentre;
+import static uk.gov.moj.cpp.progression.benchmark.SyntheticEvents.defendantUpdate;
+import static uk.gov.moj.cpp.progression.benchmark.SyntheticEvents.referenceDataOffences;
+import static uk.gov.moj.cpp.progression.benchmark.SyntheticEvents.reworded;
+
+import uk.gov.justice.core.courts.CourtCentre;
+import uk.gov.justice.core.courts.Defendant;
+import uk.gov.justice.core.courts.DefendantUpdate;
+import uk.gov.justice.core.courts.HearingDay;
+import uk.gov.justice.core.courts.JurisdictionType;
+import uk.gov.justice.core.courts.Offence;
+import uk.gov.justice.core.courts.ProsecutionCase;
+import uk.gov.justice.core.courts.ProsecutionCaseCreated;
+import uk.gov.moj.cpp.progression.aggregate.CaseAggregate;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.JsonObject;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Handles the most frequent case commands against an aggregate that has already been rebuilt. The
+ * generated events are collected so they are applied to the aggregate, as they are when the
+ * command handler appends them to the stream. The aggregate is rebuilt from the same history
+ * before every invocation, so each command sees the same state rather than one that has grown with
+ * the events of every earlier invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Thread)
+public class CaseAggregateCommandBenchmark {
+
+    private static final int HISTORY_LENGTH = 100;
+
+    private List<Object> history;
+    private CaseAggregate caseAggregate;
+    private ProsecutionCase prosecutionCase;
+    private DefendantUpdate defendantUpdate;
+    private List<UUID> hearingIds;
+    private UUID defendantId;
+    private List<Offence> offences;
+    private Optional<List<JsonObject>> referenceDataOffences;
+    private CourtCentre courtCentre;
+    private List<HearingDay> hearingDays;
+
+    @Setup(Level.Trial)
+    public void createCommands() {
+        history = caseEvents(HISTORY_LENGTH);
+
+        prosecutionCase = ((ProsecutionCaseCreated) history.get(0)).getProsecutionCase();
+        final Defendant defendant = prosecutionCase.getDefendants().get(0);
+        defendantId = defendant.getId();
+        defendantUpdate = defendantUpdate(prosecutionCase.getId(), defendant, HISTORY_LENGTH);
+        hearingIds = List.of(randomUUID(), randomUUID());
+        offences = reworded(defendant.getOffences(), HISTORY_LENGTH);
+        referenceDataOffences = Optional.of(referenceDataOffences());
+        courtCentre = courtCentre();
+        hearingDays = List.of(HearingDay.hearingDay()
+                .withSittingDay(ZonedDateTime.now())
+                .withListedDurationMinutes(60)
+                .build());
+    }
+
+    @Setup(Level.Invocation)
+    public void rebuildAggregate() {
+        caseAggregate = new CaseAggregate();
+        history.forEach(caseAggregate::apply);
+    }
+
+    @Benchmark
+    public List<Object> updateDefendantDetails() {
+        return caseAggregate.updateDefendantDetails(defendantUpdate, hearingIds).collect(toList());
+    }
+
+    @Benchmark
+    public List<Object> updateOffences() {
+        return caseAggregate.updateOffences(offences, prosecutionCase.getId(), defendantId, referenceDataOffences).collect(toList());
+    }
+
+    @Benchmark
+    public List<Object> updateCase() {
+        return caseAggregate.updateCase(prosecutionCase, emptyList(), courtCentre, hearingIds.get(0), hearingDays,
+                "Trial", JurisdictionType.CROWN, Boolean.FALSE, emptyList()).collect(toList());
+    }
+}
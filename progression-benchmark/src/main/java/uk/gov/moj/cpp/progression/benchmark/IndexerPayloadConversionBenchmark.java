@@ -0,0 +1,107 @@
+package uk.gov.moj.cpp.progression.benchmark;
+
+import static java.util.UUID.randomUUID;
+import static uk.gov.justice.services.EventPayloadConverter.eventPayloadConverter;
+import static uk.gov.moj.cpp.progression.benchmark.SyntheticEvents.caseEvents;
+import static uk.gov.moj.cpp.progression.benchmark.SyntheticEvents.hearing;
+import static uk.gov.moj.cpp.progression.benchmark.SyntheticEvents.prosecutionCase;
+
+import uk.gov.justice.core.courts.HearingListingStatus;
+import uk.gov.justice.core.courts.ProsecutionCaseCreated;
+import uk.gov.justice.core.courts.ProsecutionCaseDefendantListingStatusChangedV2;
+import uk.gov.justice.core.courts.ProsecutionCaseDefendantUpdated;
+import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.JsonObject;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reads the payload handed to an event indexer transformer into its typed event, once through the
+ * json text and {@link JsonObject} round trip the transformers used to make and once directly with
+ * the shared converter. The payload is the parsed map the indexer passes to the
+ * transformers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class IndexerPayloadConversionBenchmark {
+
+    public enum EventType {
+        PROSECUTION_CASE_CREATED(ProsecutionCaseCreated.class),
+        DEFENDANT_LISTING_STATUS_CHANGED(ProsecutionCaseDefendantListingStatusChangedV2.class),
+        DEFENDANT_UPDATED(ProsecutionCaseDefendantUpdated.class);
+
+        private final Class<?> eventClass;
+
+        EventType(final Class<?> eventClass) {
+            this.eventClass = eventClass;
+        }
+    }
+
+    @Param({"PROSECUTION_CASE_CREATED", "DEFENDANT_LISTING_STATUS_CHANGED", "DEFENDANT_UPDATED"})
+    private EventType eventType;
+
+    private final ObjectMapper objectMapper = new ObjectMapperProducer().objectMapper();
+
+    private Map<String, Object> payload;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void createPayload() {
+        try {
+            payload = objectMapper.readValue(objectMapper.writeValueAsString(event()), Map.class);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Benchmark
+    public Object jsonObjectRoundTrip() {
+        try {
+            final JsonObject jsonObject = objectMapper.readValue(objectMapper.writeValueAsString(payload), JsonObject.class);
+            return objectMapper.readValue(objectMapper.writeValueAsString(jsonObject), eventType.eventClass);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Benchmark
+    public Object directConversion() {
+        return eventPayloadConverter().convert(payload, eventType.eventClass);
+    }
+
+    private Object event() {
+        switch (eventType) {
+            case PROSECUTION_CASE_CREATED:
+                return caseEvents(1).get(0);
+            case DEFENDANT_LISTING_STATUS_CHANGED:
+                return ProsecutionCaseDefendantListingStatusChangedV2.prosecutionCaseDefendantListingStatusChangedV2()
+                        .withHearing(hearing(prosecutionCase(randomUUID())))
+                        .withHearingListingStatus(HearingListingStatus.HEARING_INITIALISED)
+                        .build();
+            default:
+                return caseEvents(3).get(2);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package uk.gov.moj.cpp.progression.benchmark;
+
+import static java.util.UUID.randomUUID;
+import static java.util.stream.Collectors.joining;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Resolves {@code idCount} material ids against a progression viewstore with the query used by
+ * {@code MaterialBulkRepository}, once with the ids written into the statement as a {@code VALUES}
+ * list, as it used to be, and once with the ids bound as a single uuid array parameter. Unlike the
+ * other benchmarks this one needs a database: it connects to {@code benchmark.viewstore.url} as
+ * {@code benchmark.viewstore.user}, with the password from {@code benchmark.viewstore.password} or
+ * the {@code BENCHMARK_VIEWSTORE_PASSWORD} environment variable, and takes as many existing
+ * material ids as it can, making up the rest with ids that match nothing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class MaterialIdLookupBenchmark {
+
+    private static final String MAPPINGS_FROM_INPUTS = "    links AS (\n" +
+            "      SELECT\n" +
+            "        cdm.material_id,\n" +
+            "        cdm.court_document_id,\n" +
+            "        cdi.prosecution_case_id AS case_id\n" +
+            "      FROM inputs i\n" +
+            "      JOIN court_document_material cdm ON cdm.material_id = i.material_id\n" +
+            "      JOIN court_document_index    cdi ON cdi.court_document_id = cdm.court_document_id\n" +
+            "    ),\n" +
+            "    ranked AS (\n" +
+            "      SELECT *,\n" +
+            "             ROW_NUMBER() OVER (\n" +
+            "               PARTITION BY material_id\n" +
+            "               ORDER BY\n" +
+            "                 court_document_id DESC\n" +
+            "             ) AS rn\n" +
+            "      FROM links\n" +
+            "    )\n" +
+            "    SELECT\n" +
+            "      l.material_id,\n" +
+            "      l.court_document_id,\n" +
+            "      l.case_id,\n" +
+            "      spc.reference AS caseurn\n" +
+            "    FROM ranked l\n" +
+            "    INNER JOIN search_prosecution_case spc ON spc.case_id = CAST(l.case_id AS text)\n" +
+            "    WHERE l.rn = 1\n" +
+            "    ORDER BY l.material_id";
+
+    private static final String ARRAY_PARAMETER_QUERY = "WITH inputs(material_id) AS (\n" +
+            "  SELECT unnest(CAST(? AS uuid[]))\n" +
+            "),\n" +
+            MAPPINGS_FROM_INPUTS;
+
+    @Param({"10", "1000", "10000"})
+    private int idCount;
+
+    private Connection connection;
+    private List<UUID> materialIds;
+
+    @Setup(Level.Trial)
+    public void connect() throws SQLException {
+        final String url = System.getProperty("benchmark.viewstore.url", "jdbc:postgresql://localhost:5432/progressionviewstore");
+        connection = DriverManager.getConnection(url,
+                System.getProperty("benchmark.viewstore.user", "progression"),
+                password());
+
+        materialIds = new ArrayList<>(idCount);
+        try (final PreparedStatement statement = connection.prepareStatement("SELECT material_id FROM court_document_material LIMIT ?")) {
+            statement.setInt(1, idCount);
+            try (final ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    materialIds.add(resultSet.getObject(1, UUID.class));
+                }
+            }
+        }
+        while (materialIds.size() < idCount) {
+            materialIds.add(randomUUID());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void disconnect() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public int valuesList() throws SQLException {
+        final String values = materialIds.stream()
+                .map(uuid -> "('" + uuid + "'::uuid)")
+                .collect(joining(","));
+        final String sql = "WITH inputs(material_id) AS (\n" +
+                "  SELECT * FROM (VALUES " + values + ") AS t(material_id)\n" +
+                "),\n" +
+                MAPPINGS_FROM_INPUTS;
+        try (final PreparedStatement statement = connection.prepareStatement(sql)) {
+            return count(statement);
+        }
+    }
+
+    @Benchmark
+    public int arrayParameter() throws SQLException {
+        try (final PreparedStatement statement = connection.prepareStatement(ARRAY_PARAMETER_QUERY)) {
+            statement.setString(1, materialIds.stream().map(UUID::toString).collect(joining(",", "{", "}")));
+            return count(statement);
+        }
+    }
+
+    private static int count(final PreparedStatement statement) throws SQLException {
+        int rows = 0;
+        try (final ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private static String password() {
+        final String password = System.getProperty("benchmark.viewstore.password", "");
+        if (!password.isEmpty()) {
+            return password;
+        }
+        final String environmentPassword = System.getenv("BENCHMARK_VIEWSTORE_PASSWORD");
+        if (environmentPassword == null || environmentPassword.isEmpty()) {
+            throw new IllegalStateException("Set the viewstore password with -Dbenchmark.viewstore.password or BENCHMARK_VIEWSTORE_PASSWORD");
+        }
+        return environmentPassword;
+    }
+}
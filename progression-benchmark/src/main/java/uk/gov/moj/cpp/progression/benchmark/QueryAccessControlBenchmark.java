@@ -0,0 +1,120 @@
+package uk.gov.moj.cpp.progression.benchmark;
+
+import static java.util.Collections.singletonList;
+import static java.util.UUID.randomUUID;
+import static uk.gov.justice.services.core.annotation.Component.QUERY_API;
+import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
+import static uk.gov.justice.services.messaging.JsonEnvelope.metadataBuilder;
+
+import uk.gov.justice.api.resource.service.UsersAndGroupsService;
+import uk.gov.justice.services.core.accesscontrol.AccessControlService;
+import uk.gov.justice.services.core.accesscontrol.AccessControlViolation;
+import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.progression.query.api.accesscontrol.GroupAccessControlServiceDecorator;
+import uk.gov.moj.cpp.progression.query.api.accesscontrol.GroupAccessIndex;
+import uk.gov.moj.cpp.progression.query.api.accesscontrol.UserGroupsCache;
+import uk.gov.moj.cpp.progression.query.view.UserGroupsDetails;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.json.JsonValue;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Decides access to an indexed query action through {@link GroupAccessControlServiceDecorator},
+ * once with the user's groups already held by the {@link UserGroupsCache} and once with the cache
+ * missing them, for a member of an allowed group and for a user in none of them. A miss looks the
+ * groups up from a stub that returns them straight away, so it measures the cache's own work and
+ * not the usersgroups request a real miss also makes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class QueryAccessControlBenchmark {
+
+    private static final String ACTION_NAME = "progression.query.courtdocuments";
+
+    @Param({"true", "false"})
+    private boolean member;
+
+    private final UUID userId = randomUUID();
+
+    private UserGroupsCache userGroupsCache;
+
+    private GroupAccessControlServiceDecorator groupAccessControlServiceDecorator;
+
+    private JsonEnvelope query;
+
+    @Setup(Level.Trial)
+    public void createDecorator() {
+        final List<UserGroupsDetails> userGroups = singletonList(new UserGroupsDetails(randomUUID(), member ? "Court Clerks" : "Not A Group"));
+
+        final GroupAccessIndex groupAccessIndex = new GroupAccessIndex();
+        groupAccessIndex.compile();
+
+        userGroupsCache = new UserGroupsCache();
+        setField(userGroupsCache, "ttlSeconds", "3600");
+        setField(userGroupsCache, "usersAndGroupsService", new UsersAndGroupsService() {
+            @Override
+            public List<UserGroupsDetails> getUserGroups(final UUID userId) {
+                return userGroups;
+            }
+        });
+
+        groupAccessControlServiceDecorator = new GroupAccessControlServiceDecorator();
+        setField(groupAccessControlServiceDecorator, "groupAccessIndex", groupAccessIndex);
+        setField(groupAccessControlServiceDecorator, "userGroupsCache", userGroupsCache);
+        setField(groupAccessControlServiceDecorator, "accessControlService", new AccessControlService() {
+            @Override
+            public Optional<AccessControlViolation> checkAccessControl(final String component, final JsonEnvelope jsonEnvelope) {
+                throw new IllegalStateException(ACTION_NAME + " should be decided from the group access index");
+            }
+        });
+
+        query = envelopeFrom(metadataBuilder()
+                .withId(randomUUID())
+                .withName(ACTION_NAME)
+                .withUserId(userId.toString()), JsonValue.NULL);
+        userGroupsCache.getGroupNames(userId);
+    }
+
+    @Benchmark
+    public Optional<AccessControlViolation> userGroupsCacheHit() {
+        return groupAccessControlServiceDecorator.checkAccessControl(QUERY_API, query);
+    }
+
+    @Benchmark
+    public Optional<AccessControlViolation> userGroupsCacheMiss() {
+        userGroupsCache.evict(userId);
+        return groupAccessControlServiceDecorator.checkAccessControl(QUERY_API, query);
+    }
+
+    private static void setField(final Object target, final String name, final Object value) {
+        try {
+            final Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
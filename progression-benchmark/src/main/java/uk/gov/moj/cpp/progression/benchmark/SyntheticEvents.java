@@ -0,0 +1,277 @@
+package uk.gov.moj.cpp.progression.benchmark;
+
+import static java.util.UUID.randomUUID;
+import static javax.json.Json.createObjectBuilder;
+
+import uk.gov.justice.core.courts.ApplicationReferredToCourt;
+import uk.gov.justice.core.courts.ConvictionDateAdded;
+import uk.gov.justice.core.courts.ConvictionDateRemoved;
+import uk.gov.justice.core.courts.CourtApplication;
+import uk.gov.justice.core.courts.CourtApplicationCase;
+import uk.gov.justice.core.courts.CourtApplicationProceedingsInitiated;
+import uk.gov.justice.core.courts.CourtCentre;
+import uk.gov.justice.core.courts.Defendant;
+import uk.gov.justice.core.courts.DefendantCaseOffences;
+import uk.gov.justice.core.courts.DefendantUpdate;
+import uk.gov.justice.core.courts.Hearing;
+import uk.gov.justice.core.courts.HearingDay;
+import uk.gov.justice.core.courts.HearingDefendantUpdated;
+import uk.gov.justice.core.courts.HearingInitiateEnriched;
+import uk.gov.justice.core.courts.HearingListingStatus;
+import uk.gov.justice.core.courts.InitiationCode;
+import uk.gov.justice.core.courts.JurisdictionType;
+import uk.gov.justice.core.courts.Offence;
+import uk.gov.justice.core.courts.Person;
+import uk.gov.justice.core.courts.PersonDefendant;
+import uk.gov.justice.core.courts.ProsecutionCase;
+import uk.gov.justice.core.courts.ProsecutionCaseCreated;
+import uk.gov.justice.core.courts.ProsecutionCaseDefendantListingStatusChangedV2;
+import uk.gov.justice.core.courts.ProsecutionCaseDefendantUpdated;
+import uk.gov.justice.core.courts.ProsecutionCaseIdentifier;
+import uk.gov.justice.core.courts.ProsecutionCaseOffencesUpdated;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import javax.json.JsonObject;
+
+/**
+ * Builds event streams shaped like those of a busy case, hearing and application: one creation
+ * event followed by a long run of the updates that dominate real streams.
+ */
+public final class SyntheticEvents {
+
+    public static final int DEFENDANTS_PER_CASE = 3;
+    public static final int OFFENCES_PER_DEFENDANT = 4;
+
+    private static final String OFFENCE_CODE_PREFIX = "TH68";
+
+    private SyntheticEvents() {
+    }
+
+    public static ProsecutionCase prosecutionCase(final UUID caseId) {
+        final List<Defendant> defendants = new ArrayList<>();
+        for (int i = 0; i < DEFENDANTS_PER_CASE; i++) {
+            defendants.add(defendant(caseId, randomUUID(), i));
+        }
+
+        return ProsecutionCase.prosecutionCase()
+                .withId(caseId)
+                .withCaseStatus("ACTIVE")
+                .withInitiationCode(InitiationCode.C)
+                .withOriginatingOrganisation("B01LY00")
+                .withProsecutionCaseIdentifier(ProsecutionCaseIdentifier.prosecutionCaseIdentifier()
+                        .withProsecutionAuthorityId(randomUUID())
+                        .withProsecutionAuthorityCode("TFL")
+                        .withProsecutionAuthorityReference("TFL" + caseId.toString().substring(0, 8))
+                        .withCaseURN("URN" + caseId.toString().substring(0, 8))
+                        .build())
+                .withDefendants(defendants)
+                .build();
+    }
+
+    /**
+     * A case created with {@link #DEFENDANTS_PER_CASE} defendants, followed by alternating
+     * defendant and offence updates spread across those defendants.
+     */
+    public static List<Object> caseEvents(final int eventCount) {
+        final UUID caseId = randomUUID();
+        final ProsecutionCase prosecutionCase = prosecutionCase(caseId);
+        final List<Object> events = new ArrayList<>(eventCount);
+        events.add(ProsecutionCaseCreated.prosecutionCaseCreated()
+                .withProsecutionCase(prosecutionCase)
+                .build());
+
+        for (int i = 1; i < eventCount; i++) {
+            final Defendant defendant = prosecutionCase.getDefendants().get(i % DEFENDANTS_PER_CASE);
+            if (i % 2 == 0) {
+                events.add(ProsecutionCaseDefendantUpdated.prosecutionCaseDefendantUpdated()
+                        .withDefendant(defendantUpdate(caseId, defendant, i))
+                        .withHearingIds(new ArrayList<>())
+                        .build());
+            } else {
+                events.add(ProsecutionCaseOffencesUpdated.prosecutionCaseOffencesUpdated()
+                        .withDefendantCaseOffences(DefendantCaseOffences.defendantCaseOffences()
+                                .withProsecutionCaseId(caseId)
+                                .withDefendantId(defendant.getId())
+                                .withLegalAidStatus("NO_VALUE")
+                                .withOffences(reworded(defendant.getOffences(), i))
+                                .build())
+                        .build());
+            }
+        }
+        return events;
+    }
+
+    /**
+     * A hearing initiated with one case, followed by alternating listing status changes and
+     * defendant updates.
+     */
+    public static List<Object> hearingEvents(final int eventCount) {
+        final Hearing hearing = hearing(prosecutionCase(randomUUID()));
+        final List<Object> events = new ArrayList<>(eventCount);
+        events.add(HearingInitiateEnriched.hearingInitiateEnriched()
+                .withHearing(hearing)
+                .build());
+
+        final ProsecutionCase prosecutionCase = hearing.getProsecutionCases().get(0);
+        for (int i = 1; i < eventCount; i++) {
+            if (i % 2 == 1) {
+                events.add(ProsecutionCaseDefendantListingStatusChangedV2.prosecutionCaseDefendantListingStatusChangedV2()
+                        .withHearing(hearing)
+                        .withHearingListingStatus(HearingListingStatus.HEARING_INITIALISED)
+                        .build());
+            } else {
+                final Defendant defendant = prosecutionCase.getDefendants().get(i % DEFENDANTS_PER_CASE);
+                events.add(HearingDefendantUpdated.hearingDefendantUpdated()
+                        .withHearingId(hearing.getId())
+                        .withDefendant(defendantUpdate(prosecutionCase.getId(), defendant, i))
+                        .build());
+            }
+        }
+        return events;
+    }
+
+    /**
+     * An application initiated against one case, referred to court and then repeatedly having
+     * conviction dates added to and removed from its offences.
+     */
+    public static List<Object> applicationEvents(final int eventCount) {
+        final UUID applicationId = randomUUID();
+        final UUID caseId = randomUUID();
+        final List<Offence> offences = offences(0);
+        final CourtApplication courtApplication = CourtApplication.courtApplication()
+                .withId(applicationId)
+                .withApplicationReference("APP" + applicationId.toString().substring(0, 8))
+                .withApplicationReceivedDate(LocalDate.now())
+                .withCourtApplicationCases(new ArrayList<>(List.of(CourtApplicationCase.courtApplicationCase()
+                        .withProsecutionCaseId(caseId)
+                        .withIsSJP(false)
+                        .withCaseStatus("ACTIVE")
+                        .withOffences(offences)
+                        .build())))
+                .build();
+
+        final List<Object> events = new ArrayList<>(eventCount);
+        events.add(CourtApplicationProceedingsInitiated.courtApplicationProceedingsInitiated()
+                .withCourtApplication(courtApplication)
+                .withSummonsApprovalRequired(false)
+                .build());
+        if (eventCount > 1) {
+            events.add(ApplicationReferredToCourt.applicationReferredToCourt().build());
+        }
+
+        for (int i = 2; i < eventCount; i++) {
+            final UUID offenceId = offences.get(i % OFFENCES_PER_DEFENDANT).getId();
+            if (i % 2 == 0) {
+                events.add(ConvictionDateAdded.convictionDateAdded()
+                        .withCourtApplicationId(applicationId)
+                        .withOffenceId(offenceId)
+                        .withConvictionDate(LocalDate.now())
+                        .build());
+            } else {
+                events.add(ConvictionDateRemoved.convictionDateRemoved()
+                        .withCourtApplicationId(applicationId)
+                        .withOffenceId(offenceId)
+                        .build());
+            }
+        }
+        return events;
+    }
+
+    public static Hearing hearing(final ProsecutionCase prosecutionCase) {
+        return Hearing.hearing()
+                .withId(randomUUID())
+                .withJurisdictionType(JurisdictionType.CROWN)
+                .withCourtCentre(courtCentre())
+                .withHearingDays(new ArrayList<>(List.of(HearingDay.hearingDay()
+                        .withSittingDay(ZonedDateTime.now().plusDays(7))
+                        .withListedDurationMinutes(60)
+                        .build())))
+                .withProsecutionCases(new ArrayList<>(List.of(prosecutionCase)))
+                .build();
+    }
+
+    public static CourtCentre courtCentre() {
+        return CourtCentre.courtCentre()
+                .withId(randomUUID())
+                .withCode("B01LY00")
+                .withName("Lavender Hill Magistrates' Court")
+                .build();
+    }
+
+    public static DefendantUpdate defendantUpdate(final UUID caseId, final Defendant defendant, final int revision) {
+        return DefendantUpdate.defendantUpdate()
+                .withId(defendant.getId())
+                .withMasterDefendantId(defendant.getMasterDefendantId())
+                .withProsecutionCaseId(caseId)
+                .withPersonDefendant(personDefendant("Defendant" + revision))
+                .withMitigation("Mitigation revision " + revision)
+                .withNumberOfPreviousConvictionsCited(revision % 5)
+                .withIsYouth(false)
+                .build();
+    }
+
+    public static List<Offence> offences(final int revision) {
+        final List<Offence> offences = new ArrayList<>();
+        for (int i = 0; i < OFFENCES_PER_DEFENDANT; i++) {
+            offences.add(Offence.offence()
+                    .withId(randomUUID())
+                    .withOffenceDefinitionId(randomUUID())
+                    .withOffenceCode(OFFENCE_CODE_PREFIX + "00" + i)
+                    .withOffenceTitle("Theft from a shop")
+                    .withWording("Stole goods to the value of " + (revision + i) + " pounds")
+                    .withStartDate(LocalDate.now().minusMonths(2))
+                    .withOrderIndex(i + 1)
+                    .withCount(i + 1)
+                    .build());
+        }
+        return offences;
+    }
+
+    public static List<Offence> reworded(final List<Offence> offences, final int revision) {
+        final List<Offence> reworded = new ArrayList<>(offences.size());
+        for (final Offence offence : offences) {
+            reworded.add(Offence.offence()
+                    .withValuesFrom(offence)
+                    .withWording(offence.getWording() + " revision " + revision)
+                    .build());
+        }
+        return reworded;
+    }
+
+    public static List<JsonObject> referenceDataOffences() {
+        final List<JsonObject> referenceDataOffences = new ArrayList<>();
+        for (int i = 0; i < OFFENCES_PER_DEFENDANT; i++) {
+            referenceDataOffences.add(createObjectBuilder()
+                    .add("cjsOffenceCode", OFFENCE_CODE_PREFIX + "00" + i)
+                    .add("maxPenalty", "7 years")
+                    .build());
+        }
+        return referenceDataOffences;
+    }
+
+    private static Defendant defendant(final UUID caseId, final UUID defendantId, final int index) {
+        return Defendant.defendant()
+                .withId(defendantId)
+                .withMasterDefendantId(defendantId)
+                .withProsecutionCaseId(caseId)
+                .withCourtProceedingsInitiated(ZonedDateTime.now())
+                .withPersonDefendant(personDefendant("Defendant" + index))
+                .withOffences(offences(index))
+                .build();
+    }
+
+    private static PersonDefendant personDefendant(final String lastName) {
+        return PersonDefendant.personDefendant()
+                .withPersonDetails(Person.person()
+                        .withFirstName("Alex")
+                        .withLastName(lastName)
+                        .withDateOfBirth(LocalDate.now().minusYears(30))
+                        .build())
+                .build();
+    }
+}
@@ -1,27 +1,60 @@
 package uk.gov.moj.cpp.progression.command.service;
 
+import static java.util.Optional.ofNullable;
+import static javax.transaction.Transactional.TxType.NOT_SUPPORTED;
+
 import uk.gov.justice.services.common.configuration.Value;
 import uk.gov.moj.cpp.progression.eventprocessorstore.persistence.repository.NotificationInfoJdbcRepository;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
 
 import javax.inject.Inject;
 import javax.transaction.Transactional;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 @Transactional
 public class DeleteNotificationInfoService {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeleteNotificationInfoService.class);
+
+    private static final int DEFAULT_PURGE_CHUNK_SIZE = 1000;
+
     @Inject
     @Value(key = "notificationInfoRetentionDays", defaultValue = "30")
     private String notificationInfoRetentionDays;
 
+    @Inject
+    @Value(key = "notificationInfoPurgeChunkSize", defaultValue = "1000")
+    private String notificationInfoPurgeChunkSize;
+
+    @Inject
+    @Value(key = "notificationInfoPurgeMaxSeconds", defaultValue = "60")
+    private String notificationInfoPurgeMaxSeconds;
+
     @Inject
     private NotificationInfoJdbcRepository repository;
 
+    /**
+     * Runs outside of a transaction so that each chunk deleted by the repository is committed, and
+     * its locks on notification_info released, before the next chunk starts.
+     */
+    @Transactional(NOT_SUPPORTED)
     public void deleteNotifications(final String status, final ZonedDateTime dateTime) {
         final int retentionDays = Integer.parseInt(notificationInfoRetentionDays);
         final ZonedDateTime cutoffDate = dateTime.minusDays(retentionDays);
-        repository.deleteNotifications(status, cutoffDate);
+        final int deleted = repository.deleteNotifications(status, cutoffDate,
+                purgeChunkSize(), Duration.ofSeconds(Long.parseLong(notificationInfoPurgeMaxSeconds)));
+        LOGGER.info("Deleted {} {} notifications processed on or before {}", deleted, status, cutoffDate);
+    }
+
+    private int purgeChunkSize() {
+        return ofNullable(notificationInfoPurgeChunkSize)
+                .map(Integer::valueOf)
+                .filter(chunkSize -> chunkSize > 0)
+                .orElse(DEFAULT_PURGE_CHUNK_SIZE);
     }
 
 }
@@ -1,5 +1,6 @@
 package uk.gov.moj.cpp.progression.command.service;
 
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -7,6 +8,7 @@ import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.
 
 import uk.gov.moj.cpp.progression.eventprocessorstore.persistence.repository.NotificationInfoJdbcRepository;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
 
 import org.junit.jupiter.api.Test;
@@ -29,10 +31,12 @@ public class DeleteNotificationInfoServiceTest {
         final String status = "PROCESSED";
         final ZonedDateTime dateTime = ZonedDateTime.now();
         setField(deleteNotificationInfoService, "notificationInfoRetentionDays", "30");
+        setField(deleteNotificationInfoService, "notificationInfoPurgeChunkSize", "1000");
+        setField(deleteNotificationInfoService, "notificationInfoPurgeMaxSeconds", "60");
 
         deleteNotificationInfoService.deleteNotifications(status, dateTime);
 
-        verify(repository, times(1)).deleteNotifications(any(String.class), any(ZonedDateTime.class));
+        verify(repository, times(1)).deleteNotifications(any(String.class), any(ZonedDateTime.class), anyInt(), any(Duration.class));
     }
 
     @Test
@@ -40,9 +44,23 @@ public class DeleteNotificationInfoServiceTest {
         final String status = "PROCESSED";
         final ZonedDateTime dateTime = ZonedDateTime.now();
         setField(deleteNotificationInfoService, "notificationInfoRetentionDays", "0");
+        setField(deleteNotificationInfoService, "notificationInfoPurgeChunkSize", "500");
+        setField(deleteNotificationInfoService, "notificationInfoPurgeMaxSeconds", "30");
 
         deleteNotificationInfoService.deleteNotifications(status, dateTime);
 
-        verify(repository, times(1)).deleteNotifications("PROCESSED", dateTime);
+        verify(repository, times(1)).deleteNotifications("PROCESSED", dateTime, 500, Duration.ofSeconds(30));
+    }
+
+    @Test
+    public void shouldDeleteNotificationsInChunksOfTheDefaultSizeWhenTheChunkSizeIsBelowOne() {
+        final ZonedDateTime dateTime = ZonedDateTime.now();
+        setField(deleteNotificationInfoService, "notificationInfoRetentionDays", "30");
+        setField(deleteNotificationInfoService, "notificationInfoPurgeChunkSize", "0");
+        setField(deleteNotificationInfoService, "notificationInfoPurgeMaxSeconds", "60");
+
+        deleteNotificationInfoService.deleteNotifications("PROCESSED", dateTime);
+
+        verify(repository, times(1)).deleteNotifications("PROCESSED", dateTime.minusDays(30), 1000, Duration.ofSeconds(60));
     }
 }
@@ -1,5 +1,6 @@
 package uk.gov.moj.cpp.progression.handler;
 
+import static java.lang.Boolean.TRUE;
 import static java.util.Objects.isNull;
 import static javax.json.Json.createObjectBuilder;
 import static org.apache.commons.collections.CollectionUtils.isEmpty;
@@ -11,8 +12,11 @@ import uk.gov.justice.core.courts.CourtRegisterRecorded;
 import uk.gov.justice.core.courts.courtRegisterDocument.CourtRegisterDefendant;
 import uk.gov.justice.core.courts.courtRegisterDocument.CourtRegisterDocumentRequest;
 import uk.gov.justice.progression.courts.CourtRegisterGenerated;
+import uk.gov.justice.progression.courts.CourtRegisterGenerationRequested;
+import uk.gov.justice.progression.courts.CourtRegisterKey;
 import uk.gov.justice.progression.courts.GenerateCourtRegister;
 import uk.gov.justice.progression.courts.NotifyCourtRegister;
+import uk.gov.justice.services.common.configuration.Value;
 import uk.gov.justice.services.common.converter.JsonObjectToObjectConverter;
 import uk.gov.justice.services.common.converter.StringToJsonObjectConverter;
 import uk.gov.justice.services.core.aggregate.AggregateService;
@@ -29,8 +33,10 @@ import uk.gov.justice.services.messaging.Metadata;
 import uk.gov.moj.cpp.progression.aggregate.ApplicationAggregate;
 import uk.gov.moj.cpp.progression.aggregate.CourtCentreAggregate;
 import uk.gov.moj.cpp.progression.command.GenerateCourtRegisterByDate;
-import uk.gov.moj.cpp.progression.domain.constant.RegisterStatus;
+import uk.gov.moj.cpp.progression.command.GenerateCourtRegisterForCourtCentre;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -49,11 +55,17 @@ import org.slf4j.LoggerFactory;
 
 @ServiceComponent(Component.COMMAND_HANDLER)
 public class CourtRegisterHandler extends AbstractCommandHandler {
-    private static final String QUERY_COURT_REGISTER_DOCUMENT_REQUEST = "progression.query.court-register-document-request";
+    private static final String QUERY_RECORDED_COURT_REGISTERS = "progression.query.recorded-court-registers";
+    private static final String QUERY_RECORDED_COURT_REGISTER_DOCUMENT_REQUESTS = "progression.query.recorded-court-register-document-requests";
     private static final String QUERY_COURT_REGISTER_DOCUMENT_REQUEST_BY_DATE = "progression.query.court-register-document-by-request-date";
     private static final String FIELD_COURT_REGISTER_DOCUMENT_REQUESTS = "courtRegisterDocumentRequests";
     private static final String FIELD_COURT_CENTRE_ID = "courtCentreId";
-    private static final String FIELD_REQUEST_STATUS = "requestStatus";
+    private static final String FIELD_COURT_REGISTERS = "courtRegisters";
+    private static final String FIELD_COURT_REGISTER_REQUEST_ID = "courtRegisterRequestId";
+    private static final String FIELD_PAYLOAD = "payload";
+    private static final String FIELD_PAGE_SIZE = "pageSize";
+    private static final String FIELD_AFTER = "after";
+    private static final int DEFAULT_COURT_REGISTER_REQUEST_PAGE_SIZE = 200;
     private static final String FIELD_REGISTER_DATE = "registerDate";
     private static final String FIELD_COURT_HOUSE = "courtHouse";
 
@@ -72,6 +84,10 @@ public class CourtRegisterHandler extends AbstractCommandHandler {
     @Inject
     private Requester requester;
 
+    @Inject
+    @Value(key = "courtRegisterRequestPageSize", defaultValue = "200")
+    private String courtRegisterRequestPageSize;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(CourtRegisterHandler.class.getName());
 
     @Handles("progression.command.add-court-register")
@@ -102,10 +118,47 @@ public class CourtRegisterHandler extends AbstractCommandHandler {
         appendEventsToStream(courtRegisterDocumentRequestEnvelope, eventStream, events);
     }
 
+    /**
+     * Records which court registers have requests waiting to be generated, so that the event
+     * processor can generate each of them with its own command.
+     */
     @Handles("progression.command.generate-court-register")
-    public void handleGenerateCourtRegister(final Envelope<GenerateCourtRegister> jsonEnvelope) {
-        final Map<UUID, List<JsonObject>> courtRegisterDocumentRequests = this.getCourtRegisterDocumentRequests(RegisterStatus.RECORDED.name(), jsonEnvelope);
-        courtRegisterDocumentRequests.forEach((courtRegisterId, courtRegisterRequest) -> processRequests(courtRegisterId, courtRegisterRequest, jsonEnvelope, true));
+    public void handleGenerateCourtRegister(final Envelope<GenerateCourtRegister> jsonEnvelope) throws EventStreamException {
+        final List<CourtRegisterKey> courtRegisters = this.getRecordedCourtRegisters(jsonEnvelope);
+        if (courtRegisters.isEmpty()) {
+            LOGGER.info("No recorded court register requests to generate");
+            return;
+        }
+
+        LOGGER.info("Requesting generation of {} court registers", courtRegisters.size());
+        final EventStream eventStream = eventSource.getStreamById(jsonEnvelope.metadata().id());
+        final Stream<Object> events = Stream.of(CourtRegisterGenerationRequested.courtRegisterGenerationRequested()
+                .withCourtRegisters(courtRegisters)
+                .withSystemGenerated(true)
+                .build());
+
+        appendEventsToStream(jsonEnvelope, eventStream, events);
+    }
+
+    @Handles("progression.command.generate-court-register-for-court-centre")
+    public void handleGenerateCourtRegisterForCourtCentre(final Envelope<GenerateCourtRegisterForCourtCentre> jsonEnvelope) throws EventStreamException {
+        final long startTime = System.currentTimeMillis();
+        final GenerateCourtRegisterForCourtCentre generateCourtRegister = jsonEnvelope.payload();
+        final UUID courtCentreId = generateCourtRegister.getCourtCentreId();
+        final LocalDate registerDate = generateCourtRegister.getRegisterDate();
+
+        final List<CourtRegisterDocumentRequest> courtRegisterDocumentRequests = this.getRecordedCourtRegisterDocumentRequests(courtCentreId, registerDate, jsonEnvelope);
+        if (courtRegisterDocumentRequests.isEmpty()) {
+            LOGGER.info("No recorded requests for the court register of court centre {} on {}", courtCentreId, registerDate);
+            return;
+        }
+
+        final UUID courtRegisterId = getCourtRegisterStreamId(courtCentreId.toString(), registerDate.toString());
+        final EventStream eventStream = eventSource.getStreamById(courtRegisterId);
+        appendEventsToStream(jsonEnvelope, eventStream, Stream.of(courtRegisterGenerated(courtRegisterDocumentRequests, TRUE.equals(generateCourtRegister.getSystemGenerated()))));
+
+        LOGGER.info("Court register {} for court centre {} on {} generated from {} requests in {} ms",
+                courtRegisterId, courtCentreId, registerDate, courtRegisterDocumentRequests.size(), System.currentTimeMillis() - startTime);
     }
 
     @Handles("progression.command.generate-court-register-by-date")
@@ -171,15 +224,11 @@ public class CourtRegisterHandler extends AbstractCommandHandler {
     private void processRequests(final UUID courtRegisterId, final List<JsonObject> courtRegisterRequest, final Envelope jsonEnvelope, final boolean systemGenerated) {
         try {
             final List<CourtRegisterDocumentRequest> courtRegisterDocumentRequests = courtRegisterRequest.stream()
-                    .map(r -> stringToJsonObjectConverter.convert(r.getString(("payload"))))
-                    .map(r -> jsonObjectToObjectConverter.convert(r, CourtRegisterDocumentRequest.class))
+                    .map(this::toCourtRegisterDocumentRequest)
                     .collect(Collectors.toList());
 
             final EventStream eventStream = eventSource.getStreamById(courtRegisterId);
-            final Stream<Object> events = Stream.of(CourtRegisterGenerated.courtRegisterGenerated()
-                    .withCourtRegisterDocumentRequests(courtRegisterDocumentRequests)
-                    .withSystemGenerated(systemGenerated)
-                    .build());
+            final Stream<Object> events = Stream.of(courtRegisterGenerated(courtRegisterDocumentRequests, systemGenerated));
 
             appendEventsToStream(jsonEnvelope, eventStream, events);
         } catch (EventStreamException e) {
@@ -187,12 +236,68 @@ public class CourtRegisterHandler extends AbstractCommandHandler {
         }
     }
 
-    private Map<UUID, List<JsonObject>> getCourtRegisterDocumentRequests(final String requestStatus, final Envelope envelope) {
-        final JsonObject courtRegisterDocumentRequests = this.queryCourtRegisterDocumentRequests(requestStatus, envelope);
+    private static CourtRegisterGenerated courtRegisterGenerated(final List<CourtRegisterDocumentRequest> courtRegisterDocumentRequests, final boolean systemGenerated) {
+        return CourtRegisterGenerated.courtRegisterGenerated()
+                .withCourtRegisterDocumentRequests(courtRegisterDocumentRequests)
+                .withSystemGenerated(systemGenerated)
+                .build();
+    }
 
-        return courtRegisterDocumentRequests.getJsonArray(FIELD_COURT_REGISTER_DOCUMENT_REQUESTS).stream()
-                .map(r -> (JsonObject) r)
-                .collect(Collectors.groupingBy(request -> getCourtRegisterStreamId(request.getString(FIELD_COURT_CENTRE_ID), request.getString(FIELD_REGISTER_DATE))));
+    private CourtRegisterDocumentRequest toCourtRegisterDocumentRequest(final JsonObject courtRegisterRequest) {
+        return jsonObjectToObjectConverter.convert(stringToJsonObjectConverter.convert(courtRegisterRequest.getString(FIELD_PAYLOAD)), CourtRegisterDocumentRequest.class);
+    }
+
+    private List<CourtRegisterKey> getRecordedCourtRegisters(final Envelope envelope) {
+        final Metadata metadata = Envelope.metadataFrom(envelope.metadata()).withName(QUERY_RECORDED_COURT_REGISTERS).build();
+        final JsonEnvelope courtRegistersEnvelope = requester.request(envelopeFrom(metadata, createObjectBuilder().build()));
+
+        return courtRegistersEnvelope.payloadAsJsonObject().getJsonArray(FIELD_COURT_REGISTERS).getValuesAs(JsonObject.class).stream()
+                .map(courtRegister -> CourtRegisterKey.courtRegisterKey()
+                        .withCourtCentreId(UUID.fromString(courtRegister.getString(FIELD_COURT_CENTRE_ID)))
+                        .withRegisterDate(LocalDate.parse(courtRegister.getString(FIELD_REGISTER_DATE)))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Reads the recorded requests of one court register a page at a time, keeping only the
+     * converted requests between pages.
+     */
+    private List<CourtRegisterDocumentRequest> getRecordedCourtRegisterDocumentRequests(final UUID courtCentreId, final LocalDate registerDate, final Envelope envelope) {
+        final int pageSize = getCourtRegisterRequestPageSize();
+        final List<CourtRegisterDocumentRequest> courtRegisterDocumentRequests = new ArrayList<>();
+        String after = null;
+        List<JsonObject> page;
+        do {
+            page = this.queryRecordedCourtRegisterDocumentRequests(courtCentreId, registerDate, after, pageSize, envelope);
+            page.stream().map(this::toCourtRegisterDocumentRequest).forEach(courtRegisterDocumentRequests::add);
+            if (!page.isEmpty()) {
+                after = page.get(page.size() - 1).getString(FIELD_COURT_REGISTER_REQUEST_ID);
+            }
+        } while (page.size() == pageSize);
+        return courtRegisterDocumentRequests;
+    }
+
+    private List<JsonObject> queryRecordedCourtRegisterDocumentRequests(final UUID courtCentreId, final LocalDate registerDate, final String after,
+                                                                        final int pageSize, final Envelope envelope) {
+        final Metadata metadata = Envelope.metadataFrom(envelope.metadata()).withName(QUERY_RECORDED_COURT_REGISTER_DOCUMENT_REQUESTS).build();
+        final JsonObjectBuilder queryParameters = createObjectBuilder()
+                .add(FIELD_COURT_CENTRE_ID, courtCentreId.toString())
+                .add(FIELD_REGISTER_DATE, registerDate.toString())
+                .add(FIELD_PAGE_SIZE, pageSize);
+        if (after != null) {
+            queryParameters.add(FIELD_AFTER, after);
+        }
+
+        final JsonEnvelope courtRegisterRequestEnvelope = requester.request(envelopeFrom(metadata, queryParameters.build()));
+        return courtRegisterRequestEnvelope.payloadAsJsonObject().getJsonArray(FIELD_COURT_REGISTER_DOCUMENT_REQUESTS).getValuesAs(JsonObject.class);
+    }
+
+    private int getCourtRegisterRequestPageSize() {
+        return Optional.ofNullable(courtRegisterRequestPageSize)
+                .map(Integer::valueOf)
+                .filter(pageSize -> pageSize > 0)
+                .orElse(DEFAULT_COURT_REGISTER_REQUEST_PAGE_SIZE);
     }
 
     private Map<UUID, List<JsonObject>> getCourtRegisterDocumentRequestsByDate(final GenerateCourtRegisterByDate generateCourtRegisterByDate, final Envelope envelope) {
@@ -203,13 +308,6 @@ public class CourtRegisterHandler extends AbstractCommandHandler {
                 .collect(Collectors.groupingBy(request -> getCourtRegisterStreamId(request.getString(FIELD_COURT_CENTRE_ID), request.getString(FIELD_REGISTER_DATE))));
     }
 
-    private JsonObject queryCourtRegisterDocumentRequests(final String requestStatus, final Envelope envelope) {
-        final Metadata metadata = Envelope.metadataFrom(envelope.metadata()).withName(QUERY_COURT_REGISTER_DOCUMENT_REQUEST).build();
-        final Envelope<JsonObject> requestEnvelope = envelopeFrom(metadata, createObjectBuilder().add(FIELD_REQUEST_STATUS, requestStatus).build());
-        final JsonEnvelope courtRegisterRequestEnvelope = requester.request(requestEnvelope);
-        return courtRegisterRequestEnvelope.payloadAsJsonObject();
-    }
-
     private JsonObject queryCourtRegisterDocumentRequestsByDate(final GenerateCourtRegisterByDate generateCourtRegisterByDate, final Envelope envelope) {
         final Metadata metadata = Envelope.metadataFrom(envelope.metadata()).withName(QUERY_COURT_REGISTER_DOCUMENT_REQUEST_BY_DATE).build();
 
@@ -26,6 +26,7 @@ import uk.gov.justice.services.messaging.MetadataBuilder;
 import uk.gov.moj.cpp.progression.aggregate.CaseAggregate;
 import uk.gov.moj.cpp.progression.aggregate.GroupCaseAggregate;
 import uk.gov.moj.cpp.progression.aggregate.HearingAggregate;
+import uk.gov.moj.cpp.progression.helper.ResultedEventCompressor;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -59,6 +60,9 @@ public class HearingResultsCommandHandler {
     @Inject
     private Requester requester;
 
+    @Inject
+    private ResultedEventCompressor resultedEventCompressor;
+
     @Handles("progression.command.process-hearing-results")
     public void processHearingResults(final Envelope<HearingResult> envelope) throws EventStreamException {
 
@@ -102,7 +106,7 @@ public class HearingResultsCommandHandler {
             events = hearingAggregate.processHearingResults(hearingResultShared.getHearing(), hearingResultShared.getSharedTime(), hearingResultShared.getShadowListedOffences(), hearingResultShared.getHearingDay(),resultIdList);
         }
 
-        appendEventsToStream(envelope, eventStream, events);
+        appendEventsToStream(envelope, eventStream, resultedEventCompressor.compress(events));
     }
 
     @Handles("progression.command.store-booking-reference-court-schedule-ids")
@@ -10,6 +10,7 @@ import uk.gov.justice.core.courts.ProsecutionCase;
 import uk.gov.justice.core.courts.UpdateCaseDefendantWithDriverNumber;
 import uk.gov.justice.core.courts.UpdateDefendantAddressOnCase;
 import uk.gov.justice.core.courts.UpdateDefendantForHearing;
+import uk.gov.justice.core.courts.UpdateDefendantForHearings;
 import uk.gov.justice.core.courts.UpdateDefendantForMatchedDefendant;
 import uk.gov.justice.core.courts.UpdateDefendantForProsecutionCase;
 import uk.gov.justice.core.courts.UpdateDefendantForProsecutionCaseWithCustodialEstablishment;
@@ -34,6 +35,7 @@ import uk.gov.moj.cpp.progression.service.service.ProgressionService;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -200,6 +202,26 @@ public class UpdateDefendantHandler {
         appendEventsToStream(updateDefendantEnvelope, eventStream, events);
     }
 
+    /**
+     * Applies one defendant update to each of the hearings it was raised for, appending to every
+     * hearing stream within this command rather than as a separate command per hearing.
+     */
+    @Handles("progression.command.update-defendant-for-hearings")
+    public void handleUpdateDefendantForHearings(final Envelope<UpdateDefendantForHearings> updateDefendantEnvelope) throws EventStreamException {
+        final UpdateDefendantForHearings defendantDetailsToUpdate = updateDefendantEnvelope.payload();
+        final DefendantUpdate defendantUpdate = defendantDetailsToUpdate.getDefendant();
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("progression.command.update-defendant-for-hearings, defendantId :: {}, hearings :: {}", defendantUpdate.getId(), defendantDetailsToUpdate.getHearingIds().size());
+        }
+
+        for (final UUID hearingId : new LinkedHashSet<>(defendantDetailsToUpdate.getHearingIds())) {
+            final EventStream eventStream = eventSource.getStreamById(hearingId);
+            final HearingAggregate hearingAggregate = aggregateService.get(eventStream, HearingAggregate.class);
+            final Stream<Object> events = hearingAggregate.updateDefendant(hearingId, defendantUpdate);
+            appendEventsToStream(updateDefendantEnvelope, eventStream, events);
+        }
+    }
+
     @Handles("progression.command.update-hearing-with-new-defendant")
     public void handleUpdateHearingWithNewDefendant(final Envelope<UpdateHearingWithNewDefendant> updateHearingWithNewDefendantEnvelope) throws EventStreamException {
         final UpdateHearingWithNewDefendant defendantDetailsToUpdate = updateHearingWithNewDefendantEnvelope.payload();
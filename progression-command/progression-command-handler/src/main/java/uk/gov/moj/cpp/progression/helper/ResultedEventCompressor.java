@@ -0,0 +1,99 @@
+package uk.gov.moj.cpp.progression.helper;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Optional.ofNullable;
+
+import uk.gov.justice.core.courts.Hearing;
+import uk.gov.justice.core.courts.ProsecutionCasesResultedV2;
+import uk.gov.justice.core.courts.ProsecutionCasesResultedV3;
+import uk.gov.justice.progression.courts.ApplicationsResulted;
+import uk.gov.justice.progression.courts.ApplicationsResultedV2;
+import uk.gov.justice.services.common.configuration.Value;
+import uk.gov.justice.services.common.converter.ObjectToJsonObjectConverter;
+import uk.gov.moj.cpp.progression.domain.helper.CompressedHearingPayload;
+
+import java.util.stream.Stream;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Replaces a {@link ProsecutionCasesResultedV2} or {@link ApplicationsResulted} event whose hearing
+ * json is larger than {@code resultedEventCompressionThresholdBytes} with a
+ * {@link ProsecutionCasesResultedV3} or {@link ApplicationsResultedV2}, which carry the hearing as
+ * {@code compressedHearing}, the gzipped json in base64. Only the event processor reads these
+ * events' hearing, so a multi-defendant results share no longer writes, and every later hearing
+ * aggregate load no longer reads, several copies of the full hearing graph. Smaller hearings, and
+ * the consumers of the existing events, are left as they were.
+ *
+ * <p>Each hearing compressed is logged at info with its size before and after. The log is the only
+ * place these figures go.
+ */
+@ApplicationScoped
+public class ResultedEventCompressor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResultedEventCompressor.class);
+
+    private static final long DEFAULT_THRESHOLD_BYTES = 65536;
+
+    @Inject
+    private ObjectToJsonObjectConverter objectToJsonObjectConverter;
+
+    @Inject
+    @Value(key = "resultedEventCompressionThresholdBytes", defaultValue = "65536")
+    private String thresholdBytes;
+
+    public Stream<Object> compress(final Stream<Object> events) {
+        return events.map(this::compressHearing);
+    }
+
+    private Object compressHearing(final Object event) {
+        if (event instanceof ProsecutionCasesResultedV2) {
+            final ProsecutionCasesResultedV2 prosecutionCasesResulted = (ProsecutionCasesResultedV2) event;
+            final String compressedHearing = compressedHearing("progression.event.prosecution-cases-resulted-v2", prosecutionCasesResulted.getHearing());
+            return compressedHearing == null ? event : ProsecutionCasesResultedV3.prosecutionCasesResultedV3()
+                    .withCompressedHearing(compressedHearing)
+                    .withHearingDay(prosecutionCasesResulted.getHearingDay())
+                    .build();
+        }
+        if (event instanceof ApplicationsResulted) {
+            final ApplicationsResulted applicationsResulted = (ApplicationsResulted) event;
+            final String compressedHearing = compressedHearing("progression.event.applications-resulted", applicationsResulted.getHearing());
+            return compressedHearing == null ? event : ApplicationsResultedV2.applicationsResultedV2()
+                    .withCompressedHearing(compressedHearing)
+                    .withShadowListedOffences(applicationsResulted.getShadowListedOffences())
+                    .withCommittingCourt(applicationsResulted.getCommittingCourt())
+                    .build();
+        }
+        return event;
+    }
+
+    /**
+     * The compressed hearing json, or {@code null} when the hearing is small enough to write as it
+     * is.
+     */
+    private String compressedHearing(final String eventName, final Hearing hearing) {
+        if (hearing == null) {
+            return null;
+        }
+
+        final String hearingJson = objectToJsonObjectConverter.convert(hearing).toString();
+        final long size = hearingJson.getBytes(UTF_8).length;
+        if (size <= threshold()) {
+            return null;
+        }
+
+        final String compressedHearing = CompressedHearingPayload.compress(hearingJson);
+        LOGGER.info("Compressed hearing {} of {} from {} to {} bytes", hearing.getId(), eventName, size, compressedHearing.length());
+        return compressedHearing;
+    }
+
+    private long threshold() {
+        return ofNullable(thresholdBytes)
+                .map(Long::valueOf)
+                .orElse(DEFAULT_THRESHOLD_BYTES);
+    }
+}
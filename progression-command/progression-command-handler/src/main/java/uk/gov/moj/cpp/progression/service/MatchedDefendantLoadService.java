@@ -1,6 +1,9 @@
 package uk.gov.moj.cpp.progression.service;
 
+import static java.lang.Integer.parseInt;
 import static java.util.Objects.nonNull;
+import static java.util.concurrent.CompletableFuture.runAsync;
+import static java.util.stream.Collectors.toList;
 import static javax.json.JsonValue.NULL;
 import static uk.gov.justice.services.core.annotation.Component.COMMAND_HANDLER;
 import static uk.gov.justice.services.core.enveloper.Enveloper.envelop;
@@ -11,6 +14,7 @@ import uk.gov.justice.core.courts.Cases;
 import uk.gov.justice.core.courts.Defendant;
 import uk.gov.justice.core.courts.MatchedDefendantsResult;
 import uk.gov.justice.core.courts.ProsecutionCase;
+import uk.gov.justice.services.common.configuration.Value;
 import uk.gov.justice.services.core.aggregate.AggregateService;
 import uk.gov.justice.services.core.annotation.ServiceComponent;
 import uk.gov.justice.services.core.enveloper.Enveloper;
@@ -25,12 +29,18 @@ import uk.gov.moj.cpp.progression.domain.MatchDefendantSearchResult;
 import uk.gov.moj.cpp.progression.helper.MatchedDefendantCriteria;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import javax.annotation.Resource;
+import javax.enterprise.concurrent.ManagedExecutorService;
 import javax.inject.Inject;
 import javax.json.Json;
 import javax.json.JsonObject;
@@ -41,6 +51,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 
+/**
+ * Searches unified search for existing cases matching the person defendants of a prosecution case
+ * and records the exact and partial matches on the case. Defendants are matched concurrently, in
+ * at most {@code matchedDefendantSearchParallelism} lanes on the managed executor, and a search
+ * made for one defendant is not repeated for another defendant with the same criteria. All of the
+ * resulting events are appended to the case stream in one go.
+ */
 public class MatchedDefendantLoadService {
     private static final Logger LOGGER = LoggerFactory.getLogger(MatchedDefendantLoadService.class);
 
@@ -61,33 +78,57 @@ public class MatchedDefendantLoadService {
     @Inject
     private AggregateService aggregateService;
 
+    @Inject
+    @Value(key = "matchedDefendantSearchParallelism", defaultValue = "4")
+    private String matchedDefendantSearchParallelism;
+
+    @Resource
+    private ManagedExecutorService managedExecutorService;
+
     public void aggregateDefendantsSearchResultForAProsecutionCase(final Envelope<?> envelope, final ProsecutionCase prosecutionCase) throws EventStreamException {
         final MatchDefendantSearchResult matchDefendantSearchResult = getDefendantsSearchResults(envelope, prosecutionCase);
 
         final EventStream prosecutionCaseStream = eventSource.getStreamById(prosecutionCase.getId());
         final CaseAggregate caseAggregate = aggregateService.get(prosecutionCaseStream, CaseAggregate.class);
 
-        final Map<UUID, List<Cases>> exactMatchedDefendants = matchDefendantSearchResult.getFullyMatchedDefendants();
-        for (final Map.Entry<UUID, List<Cases>> e : exactMatchedDefendants.entrySet()) {
-            final Stream<Object> events = caseAggregate.aggregateExactMatchedDefendantSearchResult(e.getKey(), e.getValue());
-            appendEventsToStream(envelope, prosecutionCaseStream, events);
+        final List<Object> events = new ArrayList<>();
+        for (final Map.Entry<UUID, List<Cases>> e : matchDefendantSearchResult.getFullyMatchedDefendants().entrySet()) {
+            events.addAll(caseAggregate.aggregateExactMatchedDefendantSearchResult(e.getKey(), e.getValue()).collect(toList()));
+        }
+        for (final Map.Entry<UUID, List<Cases>> e : matchDefendantSearchResult.getPartiallyMatchedDefendants().entrySet()) {
+            events.addAll(caseAggregate.aggregatePartialMatchedDefendantSearchResult(e.getKey(), e.getValue()).collect(toList()));
         }
 
-        final Map<UUID, List<Cases>> partialMatchedDefendants = matchDefendantSearchResult.getPartiallyMatchedDefendants();
-        for (final Map.Entry<UUID, List<Cases>> e : partialMatchedDefendants.entrySet()) {
-            final Stream<Object> events = caseAggregate.aggregatePartialMatchedDefendantSearchResult(e.getKey(), e.getValue());
-            appendEventsToStream(envelope, prosecutionCaseStream, events);
+        if (!events.isEmpty()) {
+            appendEventsToStream(envelope, prosecutionCaseStream, events.stream());
         }
     }
 
     private MatchDefendantSearchResult getDefendantsSearchResults(final Envelope<?> envelope, final ProsecutionCase prosecutionCase) {
+        final List<Defendant> personDefendants = prosecutionCase.getDefendants().stream()
+                .filter(defendant -> nonNull(defendant.getPersonDefendant()))
+                .collect(toList());
+        LOGGER.info("{} person defendants in prosecution case", personDefendants.size());
 
-        final Map<UUID, List<Cases>> partialMatchedDefendants = new HashMap<>();
-        final Map<UUID, List<Cases>> exactMatchedDefendants = new HashMap<>();
-        for (final Defendant defendant : prosecutionCase.getDefendants()) {
-            if (nonNull(defendant.getPersonDefendant())) {
-                LOGGER.info("Person Defendant in prosecution case");
-                addExactMatchAndPartialMatchDefendants(envelope, partialMatchedDefendants, exactMatchedDefendants, defendant);
+        final Map<JsonObject, List<Cases>> searches = new ConcurrentHashMap<>();
+        final DefendantMatch[] matches = new DefendantMatch[personDefendants.size()];
+        final int lanes = Math.min(parseInt(matchedDefendantSearchParallelism), personDefendants.size());
+        if (lanes <= 1) {
+            matchDefendants(envelope, personDefendants, 0, 1, searches, matches);
+        } else {
+            final CompletableFuture<?>[] futures = IntStream.range(0, lanes)
+                    .mapToObj(lane -> runAsync(() -> matchDefendants(envelope, personDefendants, lane, lanes, searches, matches), managedExecutorService))
+                    .toArray(CompletableFuture[]::new);
+            join(futures);
+        }
+
+        final Map<UUID, List<Cases>> partialMatchedDefendants = new LinkedHashMap<>();
+        final Map<UUID, List<Cases>> exactMatchedDefendants = new LinkedHashMap<>();
+        for (final DefendantMatch match : matches) {
+            if (match.isExact()) {
+                exactMatchedDefendants.put(match.getDefendantId(), match.getCases());
+            } else if (CollectionUtils.isNotEmpty(match.getCases())) {
+                partialMatchedDefendants.put(match.getDefendantId(), match.getCases());
             }
         }
         return MatchDefendantSearchResult.matchDefendantSearchResult()
@@ -96,19 +137,47 @@ public class MatchedDefendantLoadService {
                 .build();
     }
 
-    private void addExactMatchAndPartialMatchDefendants(final Envelope<?> envelope, final Map<UUID, List<Cases>> partialMatchedDefendants, final Map<UUID, List<Cases>> exactMatchedDefendants, final Defendant defendant) {
+    private void matchDefendants(final Envelope<?> envelope, final List<Defendant> defendants, final int lane, final int lanes,
+                                 final Map<JsonObject, List<Cases>> searches, final DefendantMatch[] matches) {
+        for (int i = lane; i < defendants.size(); i += lanes) {
+            matches[i] = matchDefendant(envelope, defendants.get(i), searches);
+        }
+    }
+
+    private static void join(final CompletableFuture<?>[] futures) {
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private DefendantMatch matchDefendant(final Envelope<?> envelope, final Defendant defendant, final Map<JsonObject, List<Cases>> searches) {
         final MatchedDefendantCriteria matchedDefendantCriteria = new MatchedDefendantCriteria(defendant);
-        List<Cases> cases = callUnifiedSearchQueryForExactMatch(matchedDefendantCriteria, envelope);
+        List<Cases> cases = callUnifiedSearchQueryForExactMatch(matchedDefendantCriteria, envelope, searches);
         if (CollectionUtils.isNotEmpty(cases)) {
             LOGGER.info("Defendant with id is fully matched in CP Search");
-            exactMatchedDefendants.put(defendant.getId(), cases);
-        } else {
-            cases = callUnifiedSearchQueryForPartialMatch(matchedDefendantCriteria, envelope);
-            if (CollectionUtils.isNotEmpty(cases)) {
-                LOGGER.info("Defendant with id is partially matched in CP Search");
-                partialMatchedDefendants.put(defendant.getId(), cases);
-            }
+            return new DefendantMatch(defendant.getId(), cases, true);
         }
+        cases = callUnifiedSearchQueryForPartialMatch(matchedDefendantCriteria, envelope, searches);
+        if (CollectionUtils.isNotEmpty(cases)) {
+            LOGGER.info("Defendant with id is partially matched in CP Search");
+        }
+        return new DefendantMatch(defendant.getId(), cases, false);
+    }
+
+    private List<Cases> callUnifiedSearchQuery(final Envelope<?> envelope, final JsonObject criteria, final Map<JsonObject, List<Cases>> searches) {
+        final List<Cases> previous = searches.get(criteria);
+        if (nonNull(previous)) {
+            LOGGER.info("Cp search already made with {}", criteria);
+            return previous;
+        }
+        final List<Cases> cases = callUnifiedSearchQuery(envelope, criteria);
+        searches.putIfAbsent(criteria, cases);
+        return cases;
     }
 
     private List<Cases> callUnifiedSearchQuery(final Envelope<?> envelope, JsonObject criteria) {
@@ -142,13 +211,13 @@ public class MatchedDefendantLoadService {
         return casesList;
     }
 
-    private List<Cases> callUnifiedSearchQueryForExactMatch(final MatchedDefendantCriteria matchedDefendantCriteria, final Envelope<?> envelope) {
+    private List<Cases> callUnifiedSearchQueryForExactMatch(final MatchedDefendantCriteria matchedDefendantCriteria, final Envelope<?> envelope, final Map<JsonObject, List<Cases>> searches) {
         final List<Cases> casesList = new ArrayList<>();
         while (casesList.isEmpty() && matchedDefendantCriteria.hasMoreExactSteps()) {
             final int lastExactStep = matchedDefendantCriteria.getCurrentExactStep();
             while (lastExactStep == matchedDefendantCriteria.getCurrentExactStep() && matchedDefendantCriteria.hasMoreSubSteps()) {
                 if (matchedDefendantCriteria.nextExactCriteria()) {
-                    casesList.addAll(callUnifiedSearchQuery(envelope, matchedDefendantCriteria.getExactCriteria().build()));
+                    casesList.addAll(callUnifiedSearchQuery(envelope, matchedDefendantCriteria.getExactCriteria().build(), searches));
                 }
             }
         }
@@ -156,13 +225,13 @@ public class MatchedDefendantLoadService {
         return casesList;
     }
 
-    private List<Cases> callUnifiedSearchQueryForPartialMatch(final MatchedDefendantCriteria matchedDefendantCriteria, final Envelope<?> envelope) {
+    private List<Cases> callUnifiedSearchQueryForPartialMatch(final MatchedDefendantCriteria matchedDefendantCriteria, final Envelope<?> envelope, final Map<JsonObject, List<Cases>> searches) {
         final List<Cases> casesList = new ArrayList<>();
         while (casesList.isEmpty() && matchedDefendantCriteria.hasMorePartialSteps()) {
             final int lastPartialStep = matchedDefendantCriteria.getCurrentPartialStep();
             while (lastPartialStep == matchedDefendantCriteria.getCurrentPartialStep() && matchedDefendantCriteria.hasMoreSubSteps()) {
                 if (matchedDefendantCriteria.nextPartialCriteria()) {
-                    casesList.addAll(callUnifiedSearchQuery(envelope, matchedDefendantCriteria.getPartialCriteria().build()));
+                    casesList.addAll(callUnifiedSearchQuery(envelope, matchedDefendantCriteria.getPartialCriteria().build(), searches));
                 }
             }
         }
@@ -175,4 +244,29 @@ public class MatchedDefendantLoadService {
         final Stream<JsonEnvelope> envelopeStream = events.map(toEnvelopeWithMetadataFrom(jsonEnvelope));
         eventStream.append(envelopeStream);
     }
+
+    private static final class DefendantMatch {
+
+        private final UUID defendantId;
+        private final List<Cases> cases;
+        private final boolean exact;
+
+        private DefendantMatch(final UUID defendantId, final List<Cases> cases, final boolean exact) {
+            this.defendantId = defendantId;
+            this.cases = cases;
+            this.exact = exact;
+        }
+
+        UUID getDefendantId() {
+            return defendantId;
+        }
+
+        List<Cases> getCases() {
+            return cases;
+        }
+
+        boolean isExact() {
+            return exact;
+        }
+    }
 }
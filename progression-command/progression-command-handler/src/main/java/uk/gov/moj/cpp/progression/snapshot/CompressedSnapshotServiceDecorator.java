@@ -0,0 +1,33 @@
+package uk.gov.moj.cpp.progression.snapshot;
+
+import uk.gov.justice.domain.aggregate.Aggregate;
+import uk.gov.justice.services.eventsourcing.source.core.SnapshotService;
+import uk.gov.moj.cpp.progression.aggregate.snapshot.CompressedAggregateSnapshot;
+
+import java.util.UUID;
+
+import javax.annotation.Priority;
+import javax.decorator.Decorator;
+import javax.decorator.Delegate;
+import javax.enterprise.inject.Any;
+import javax.inject.Inject;
+import javax.interceptor.Interceptor;
+
+/**
+ * Stores aggregate snapshots with {@link CompressedAggregateSnapshot} compression turned on, so
+ * aggregates that support it are compressed in the snapshot store and nowhere else.
+ */
+@Decorator
+@Priority(Interceptor.Priority.APPLICATION)
+public abstract class CompressedSnapshotServiceDecorator implements SnapshotService {
+
+    @Inject
+    @Delegate
+    @Any
+    private SnapshotService snapshotService;
+
+    @Override
+    public <T extends Aggregate> void attemptAggregateStore(final UUID streamId, final long currentAggregateVersionNo, final T aggregate) {
+        CompressedAggregateSnapshot.compressingSnapshots(() -> snapshotService.attemptAggregateStore(streamId, currentAggregateVersionNo, aggregate));
+    }
+}
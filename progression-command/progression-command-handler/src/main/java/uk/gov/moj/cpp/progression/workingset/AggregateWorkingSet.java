@@ -0,0 +1,323 @@
+package uk.gov.moj.cpp.progression.workingset;
+
+import static java.util.Optional.ofNullable;
+
+import uk.gov.justice.domain.aggregate.Aggregate;
+import uk.gov.justice.services.common.configuration.Value;
+import uk.gov.justice.services.common.converter.JsonObjectToObjectConverter;
+import uk.gov.justice.services.core.extension.EventFoundEvent;
+import uk.gov.justice.services.eventsourcing.source.core.EventStream;
+import uk.gov.justice.services.messaging.JsonEnvelope;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+import javax.annotation.Resource;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import javax.transaction.TransactionSynchronizationRegistry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Recently loaded aggregates, each kept as a serialised copy together with the position in its
+ * event stream that the copy has seen. A load of a kept aggregate reads only the events after that
+ * position and applies them to a fresh copy, instead of rebuilding the aggregate from the whole
+ * stream. Every load gets its own copy, so what a command handler does to its aggregate is never
+ * seen by another command. A copy is only kept once the transaction that loaded it commits, so the
+ * events it has seen can never include ones appended by a command that then rolled back, and an
+ * entry only moves to a later position. An event after the kept position with no registered event
+ * class makes the load rebuild the aggregate instead.
+ *
+ * <p>The working set holds at most {@code aggregateWorkingSetMaxEntries} aggregates and
+ * {@code aggregateWorkingSetMaxBytes} of serialised state, evicting the least recently used
+ * aggregates first. It is off unless {@code aggregateWorkingSetEnabled} is set to true.
+ *
+ * <p>Every load is logged at debug as a catch-up or a rebuild. The log is the only place these
+ * figures go.
+ */
+@ApplicationScoped
+public class AggregateWorkingSet {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AggregateWorkingSet.class);
+
+    private static final int DEFAULT_MAX_ENTRIES = 1000;
+    private static final long DEFAULT_MAX_BYTES = 67108864;
+
+    @Inject
+    private JsonObjectToObjectConverter jsonObjectToObjectConverter;
+
+    @Inject
+    @Value(key = "aggregateWorkingSetEnabled", defaultValue = "false")
+    private String enabled;
+
+    @Inject
+    @Value(key = "aggregateWorkingSetMaxEntries", defaultValue = "1000")
+    private String maxEntries;
+
+    @Inject
+    @Value(key = "aggregateWorkingSetMaxBytes", defaultValue = "67108864")
+    private String maxBytes;
+
+    @Resource
+    private TransactionSynchronizationRegistry transactionSynchronizationRegistry;
+
+    private final Map<String, Class<?>> eventClasses = new ConcurrentHashMap<>();
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+
+    void register(@Observes final EventFoundEvent event) {
+        register(event.getEventName(), event.getClazz());
+    }
+
+    void register(final String eventName, final Class<?> eventClass) {
+        eventClasses.putIfAbsent(eventName, eventClass);
+    }
+
+    /**
+     * The aggregate of the stream, caught up from the working set when it is kept there, or from
+     * {@code rebuild} when it is not.
+     */
+    public <T extends Aggregate> T get(final EventStream eventStream, final Class<T> aggregateClass, final BiFunction<EventStream, Class<T>, T> rebuild) {
+        if (!isEnabled()) {
+            return rebuild.apply(eventStream, aggregateClass);
+        }
+
+        final String key = aggregateClass.getName() + ":" + eventStream.getId();
+        final Entry entry = lookup(key);
+        if (entry != null) {
+            final Optional<T> copy = copyOf(entry, aggregateClass);
+            if (copy.isPresent() && catchUp(key, entry, copy.get(), eventStream)) {
+                return copy.get();
+            }
+        }
+
+        final AtomicLong position = new AtomicLong();
+        final T aggregate = rebuild.apply(recordingPositions(eventStream, position), aggregateClass);
+        if (position.get() > 0) {
+            keep(key, position.get(), aggregate);
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Rebuilt {} to position {}, aggregate working set size={} bytes={}", key, position.get(), size(), getBytes());
+        }
+        return aggregate;
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    long getBytes() {
+        synchronized (entries) {
+            return bytes;
+        }
+    }
+
+    /**
+     * Applies the events after the entry's position to its copy, or returns false when one of them
+     * has no registered event class, leaving the copy to be discarded.
+     */
+    private boolean catchUp(final String key, final Entry entry, final Aggregate aggregate, final EventStream eventStream) {
+        long position = entry.position;
+        try (final Stream<JsonEnvelope> events = eventStream.readFrom(entry.position + 1)) {
+            final Iterator<JsonEnvelope> iterator = events.iterator();
+            while (iterator.hasNext()) {
+                final JsonEnvelope event = iterator.next();
+                final long eventPosition = event.metadata().position().orElse(position + 1);
+                if (eventPosition > position) {
+                    final Class<?> eventClass = eventClasses.get(event.metadata().name());
+                    if (eventClass == null) {
+                        LOGGER.warn("No event class registered for events of type {}, rebuilding {}", event.metadata().name(), key);
+                        return false;
+                    }
+                    aggregate.apply(jsonObjectToObjectConverter.convert(event.payloadAsJsonObject(), eventClass));
+                    position = eventPosition;
+                }
+            }
+        }
+
+        if (position > entry.position) {
+            keep(key, position, aggregate);
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Caught up {} from position {} to {}, aggregate working set size={} bytes={}", key, entry.position, position, size(), getBytes());
+        }
+        return true;
+    }
+
+    private Entry lookup(final String key) {
+        synchronized (entries) {
+            return entries.get(key);
+        }
+    }
+
+    /**
+     * Serialises the aggregate straight away, before the command handler changes it, and stores it
+     * once the current transaction commits, or straight away when there is no transaction.
+     */
+    private void keep(final String key, final long position, final Aggregate aggregate) {
+        final byte[] state;
+        try {
+            state = serialise(aggregate);
+        } catch (final IOException e) {
+            LOGGER.warn("Unable to keep {} in the aggregate working set", key, e);
+            return;
+        }
+
+        if (transactionSynchronizationRegistry == null || transactionSynchronizationRegistry.getTransactionKey() == null) {
+            store(key, position, state);
+            return;
+        }
+
+        transactionSynchronizationRegistry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+                // nothing to do until the transaction has committed
+            }
+
+            @Override
+            public void afterCompletion(final int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    store(key, position, state);
+                }
+            }
+        });
+    }
+
+    private void store(final String key, final long position, final byte[] state) {
+        final long maxBytes = maxBytes();
+        if (state.length > maxBytes) {
+            return;
+        }
+
+        synchronized (entries) {
+            final Entry existing = entries.get(key);
+            if (existing != null) {
+                if (existing.position >= position) {
+                    return;
+                }
+                bytes -= existing.state.length;
+            }
+            entries.put(key, new Entry(position, state));
+            bytes += state.length;
+
+            final int maxEntries = maxEntries();
+            final Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+            while ((entries.size() > maxEntries || bytes > maxBytes) && eldest.hasNext()) {
+                final Map.Entry<String, Entry> evicted = eldest.next();
+                if (evicted.getKey().equals(key)) {
+                    continue;
+                }
+                bytes -= evicted.getValue().state.length;
+                eldest.remove();
+            }
+        }
+    }
+
+    private <T extends Aggregate> Optional<T> copyOf(final Entry entry, final Class<T> aggregateClass) {
+        try (final ObjectInputStream objectInputStream = new AggregateObjectInputStream(new ByteArrayInputStream(entry.state), aggregateClass.getClassLoader())) {
+            return Optional.of(aggregateClass.cast(objectInputStream.readObject()));
+        } catch (final IOException | ClassNotFoundException | ClassCastException e) {
+            LOGGER.warn("Unable to read {} from the aggregate working set, rebuilding it", aggregateClass.getName(), e);
+            return Optional.empty();
+        }
+    }
+
+    private static byte[] serialise(final Aggregate aggregate) throws IOException {
+        final ByteArrayOutputStream state = new ByteArrayOutputStream();
+        try (final ObjectOutputStream objectOutputStream = new ObjectOutputStream(state)) {
+            objectOutputStream.writeObject(aggregate);
+        }
+        return state.toByteArray();
+    }
+
+    /**
+     * The stream as passed to the aggregate service on a rebuild, noting the position of every
+     * event in the streams returned by its {@code read} methods, so the aggregate is kept at exactly
+     * the position it was built to. Nothing else the stream returns is looked at.
+     */
+    @SuppressWarnings("unchecked")
+    private static EventStream recordingPositions(final EventStream eventStream, final AtomicLong position) {
+        return (EventStream) Proxy.newProxyInstance(EventStream.class.getClassLoader(), new Class<?>[]{EventStream.class}, (proxy, method, args) -> {
+            final Object result;
+            try {
+                result = method.invoke(eventStream, args);
+            } catch (final InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if (result instanceof Stream && method.getName().startsWith("read")) {
+                return ((Stream<JsonEnvelope>) result).peek(event -> event.metadata().position()
+                        .ifPresent(eventPosition -> position.accumulateAndGet(eventPosition, Math::max)));
+            }
+            return result;
+        });
+    }
+
+    private boolean isEnabled() {
+        return enabled != null && Boolean.parseBoolean(enabled.trim()) && !eventClasses.isEmpty();
+    }
+
+    private int maxEntries() {
+        return ofNullable(maxEntries)
+                .map(Integer::valueOf)
+                .orElse(DEFAULT_MAX_ENTRIES);
+    }
+
+    private long maxBytes() {
+        return ofNullable(maxBytes)
+                .map(Long::valueOf)
+                .orElse(DEFAULT_MAX_BYTES);
+    }
+
+    private static class Entry {
+
+        private final long position;
+        private final byte[] state;
+
+        Entry(final long position, final byte[] state) {
+            this.position = position;
+            this.state = state;
+        }
+    }
+
+    private static class AggregateObjectInputStream extends ObjectInputStream {
+
+        private final ClassLoader classLoader;
+
+        AggregateObjectInputStream(final InputStream inputStream, final ClassLoader classLoader) throws IOException {
+            super(inputStream);
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        protected Class<?> resolveClass(final ObjectStreamClass objectStreamClass) throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(objectStreamClass.getName(), false, classLoader);
+            } catch (final ClassNotFoundException e) {
+                return super.resolveClass(objectStreamClass);
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package uk.gov.moj.cpp.progression.workingset;
+
+import uk.gov.justice.domain.aggregate.Aggregate;
+import uk.gov.justice.services.core.aggregate.AggregateService;
+import uk.gov.justice.services.eventsourcing.source.core.EventStream;
+
+import javax.annotation.Priority;
+import javax.decorator.Decorator;
+import javax.decorator.Delegate;
+import javax.enterprise.inject.Any;
+import javax.inject.Inject;
+import javax.interceptor.Interceptor;
+
+/**
+ * Loads the aggregates of every command handler through the {@link AggregateWorkingSet}, so a
+ * burst of commands against the same hearing or case catches its aggregate up with the newest
+ * events rather than rebuilding it each time. Aggregates the working set does not hold are built
+ * by the aggregate service as before.
+ */
+@Decorator
+@Priority(Interceptor.Priority.APPLICATION)
+public abstract class AggregateWorkingSetDecorator implements AggregateService {
+
+    @Inject
+    @Delegate
+    @Any
+    private AggregateService aggregateService;
+
+    @Inject
+    private AggregateWorkingSet aggregateWorkingSet;
+
+    @Override
+    public <T extends Aggregate> T get(final EventStream stream, final Class<T> clazz) {
+        return aggregateWorkingSet.get(stream, clazz, aggregateService::get);
+    }
+}
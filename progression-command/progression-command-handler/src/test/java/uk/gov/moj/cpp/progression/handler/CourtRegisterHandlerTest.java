@@ -10,8 +10,10 @@ import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.anyOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.core.courts.courtRegisterDocument.CourtRegisterCaseOrApplication.courtRegisterCaseOrApplication;
 import static uk.gov.justice.services.core.annotation.Component.COMMAND_HANDLER;
@@ -22,6 +24,7 @@ import static uk.gov.justice.services.test.utils.core.matchers.JsonEnvelopeMatch
 import static uk.gov.justice.services.test.utils.core.matchers.JsonEnvelopeMetadataMatcher.metadata;
 import static uk.gov.justice.services.test.utils.core.matchers.JsonEnvelopeStreamMatcher.streamContaining;
 import static uk.gov.justice.services.test.utils.core.messaging.MetadataBuilderFactory.metadataWithRandomUUID;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
 import static uk.gov.moj.cpp.progression.domain.helper.CourtRegisterHelper.getCourtRegisterStreamId;
 
 import uk.gov.justice.core.courts.CourtApplication;
@@ -31,6 +34,7 @@ import uk.gov.justice.core.courts.courtRegisterDocument.CourtRegisterDefendant;
 import uk.gov.justice.core.courts.courtRegisterDocument.CourtRegisterDocumentRequest;
 import uk.gov.justice.core.courts.courtRegisterDocument.CourtRegisterRecipient;
 import uk.gov.justice.progression.courts.CourtRegisterGenerated;
+import uk.gov.justice.progression.courts.CourtRegisterGenerationRequested;
 import uk.gov.justice.progression.courts.CourtRegisterNotificationIgnored;
 import uk.gov.justice.progression.courts.CourtRegisterNotified;
 import uk.gov.justice.progression.courts.CourtRegisterNotifiedV2;
@@ -53,6 +57,7 @@ import uk.gov.justice.services.test.utils.framework.api.JsonObjectConvertersFact
 import uk.gov.moj.cpp.progression.aggregate.ApplicationAggregate;
 import uk.gov.moj.cpp.progression.aggregate.CourtCentreAggregate;
 import uk.gov.moj.cpp.progression.command.GenerateCourtRegisterByDate;
+import uk.gov.moj.cpp.progression.command.GenerateCourtRegisterForCourtCentre;
 import uk.gov.moj.cpp.progression.test.FileUtil;
 
 import java.time.LocalDate;
@@ -65,6 +70,7 @@ import java.util.stream.Stream;
 
 import javax.json.Json;
 import javax.json.JsonArray;
+import javax.json.JsonArrayBuilder;
 import javax.json.JsonObject;
 
 import org.junit.jupiter.api.Test;
@@ -115,9 +121,9 @@ public class CourtRegisterHandlerTest {
     @Spy
     private final StringToJsonObjectConverter stringToJsonObjectConverter = new JsonObjectConvertersFactory().stringToJsonObjectConverter();
     @Spy
-    private Enveloper enveloper = EnveloperFactory.createEnveloperWithEvents(CourtRegisterRecorded.class, CourtRegisterGenerated.class, CourtRegisterNotified.class, CourtRegisterNotifiedV2.class, CourtRegisterNotificationIgnored.class);
+    private Enveloper enveloper = EnveloperFactory.createEnveloperWithEvents(CourtRegisterRecorded.class, CourtRegisterGenerated.class, CourtRegisterGenerationRequested.class, CourtRegisterNotified.class, CourtRegisterNotifiedV2.class, CourtRegisterNotificationIgnored.class);
     @Captor
-    private ArgumentCaptor<UUID> courtRegisterStreamIdCaptor;
+    private ArgumentCaptor<Envelope<JsonObject>> queryCaptor;
 
 
     @Test
@@ -146,112 +152,132 @@ public class CourtRegisterHandlerTest {
     }
 
     @Test
-    public void shouldHandleGenerateRequest() throws EventStreamException {
+    public void shouldRequestGenerationOfEachRecordedCourtRegister() throws EventStreamException {
         final Envelope<GenerateCourtRegister> generateCourtRegisterEnvelope = prepareGenerateCourtRegisterEnvelope();
         final UUID courtCentreId = randomUUID();
-        final ZonedDateTime registerDate = ZonedDateTime.parse("2024-10-24T22:23:12.414Z");
+        final JsonObject courtRegisters = Json.createObjectBuilder().add("courtRegisters", Json.createArrayBuilder()
+                .add(Json.createObjectBuilder().add("courtCentreId", courtCentreId.toString()).add("registerDate", "2024-10-24"))
+                .add(Json.createObjectBuilder().add("courtCentreId", courtCentreId.toString()).add("registerDate", "2024-10-25")))
+                .build();
         final JsonEnvelope queryEnvelope = mock(JsonEnvelope.class);
-        final CourtRegisterDocumentRequest courtRegisterDocumentRequest = getCourtRegisterDocumentRequest(courtCentreId, registerDate);
-        final JsonArray jsonValues = Json.createArrayBuilder().add(Json.createObjectBuilder()
-                .add("courtCentreId", courtCentreId.toString())
-                .add("registerDate", registerDate.toLocalDate().toString())
-                .add("payload", objectToJsonObjectConverter.convert(courtRegisterDocumentRequest).toString())
-                .build()).build();
-        final JsonObject jsonObject = Json.createObjectBuilder().add("courtRegisterDocumentRequests", jsonValues).build();
-        when(queryEnvelope.payloadAsJsonObject()).thenReturn(jsonObject);
+        when(queryEnvelope.payloadAsJsonObject()).thenReturn(courtRegisters);
         when(requester.request(any(Envelope.class))).thenReturn(queryEnvelope);
-
-        when(eventSource.getStreamById(any())).thenReturn(eventStream);
+        when(eventSource.getStreamById(generateCourtRegisterEnvelope.metadata().id())).thenReturn(eventStream);
 
         courtRegisterHandler.handleGenerateCourtRegister(generateCourtRegisterEnvelope);
-        verifyCourtRegisterGenerateDocumentResults();
+
+        assertThat(verifyAppendAndGetArgumentFrom(eventStream), streamContaining(
+                jsonEnvelope(
+                        metadata().withName("progression.event.court-register-generation-requested"),
+                        JsonEnvelopePayloadMatcher.payload().isJson(allOf(
+                                withJsonPath("$.courtRegisters.length()", is(2)),
+                                withJsonPath("$.courtRegisters[0].courtCentreId", is(courtCentreId.toString())),
+                                withJsonPath("$.courtRegisters[0].registerDate", is("2024-10-24")),
+                                withJsonPath("$.courtRegisters[1].registerDate", is("2024-10-25")),
+                                withJsonPath("$.systemGenerated", is(true))
+                        )))));
     }
 
     @Test
-    public void shouldHandleGenerateRequestWhenMultipleCourtCentreRequestsInDifferentRegisterDate() throws EventStreamException {
-        final Envelope<GenerateCourtRegister> generateCourtRegisterEnvelope = prepareGenerateCourtRegisterEnvelope();
-        final UUID courtCentreId = randomUUID();
-        final ZonedDateTime registerDate1 = ZonedDateTime.parse("2024-10-24T22:23:12.414Z");
-        final ZonedDateTime registerDate2 = ZonedDateTime.parse("2024-10-25T12:03:12.414Z");
-
-        final CourtRegisterDocumentRequest courtRegisterDocumentRequest1 = getCourtRegisterDocumentRequest(courtCentreId, registerDate1);
-        final CourtRegisterDocumentRequest courtRegisterDocumentRequest2 = getCourtRegisterDocumentRequest(courtCentreId, registerDate2);
-        final JsonArray jsonValues = Json.createArrayBuilder()
-                .add(Json.createObjectBuilder()
-                        .add("courtCentreId", courtCentreId.toString())
-                        .add("registerDate", registerDate1.toLocalDate().toString())
-                        .add("payload", objectToJsonObjectConverter.convert(courtRegisterDocumentRequest1).toString())
-                        .build())
-                .add(Json.createObjectBuilder()
-                        .add("courtCentreId", courtCentreId.toString())
-                        .add("registerDate", registerDate2.toLocalDate().toString())
-                        .add("payload", objectToJsonObjectConverter.convert(courtRegisterDocumentRequest2).toString())
-                        .build())
-                .build();
-        final JsonObject jsonObject = Json.createObjectBuilder().add("courtRegisterDocumentRequests", jsonValues).build();
-
+    public void shouldNotRequestGenerationWhenNoCourtRegisterRequestsAreRecorded() {
         final JsonEnvelope queryEnvelope = mock(JsonEnvelope.class);
-        when(queryEnvelope.payloadAsJsonObject()).thenReturn(jsonObject);
+        when(queryEnvelope.payloadAsJsonObject()).thenReturn(Json.createObjectBuilder().add("courtRegisters", Json.createArrayBuilder()).build());
         when(requester.request(any(Envelope.class))).thenReturn(queryEnvelope);
 
-        final EventStream eventStream1 = mock(EventStream.class);
-        final EventStream eventStream2 = mock(EventStream.class);
+        assertDoesNotThrow(() -> courtRegisterHandler.handleGenerateCourtRegister(prepareGenerateCourtRegisterEnvelope()));
 
-        when(eventSource.getStreamById(courtRegisterStreamIdCaptor.capture())).thenReturn(eventStream1, eventStream2);
+        verifyNoInteractions(eventSource);
+    }
 
-        courtRegisterHandler.handleGenerateCourtRegister(generateCourtRegisterEnvelope);
-        assertStreamEnvelopeForCourtRegisterGenerated(verifyAppendAndGetArgumentFrom(eventStream1), 1);
-        assertStreamEnvelopeForCourtRegisterGenerated(verifyAppendAndGetArgumentFrom(eventStream2), 1);
+    @Test
+    public void shouldGenerateCourtRegisterForCourtCentre() throws EventStreamException {
+        final UUID courtCentreId = randomUUID();
+        final ZonedDateTime registerDate = ZonedDateTime.parse("2024-10-24T22:23:12.414Z");
+        final JsonEnvelope queryEnvelope = mock(JsonEnvelope.class);
+        when(queryEnvelope.payloadAsJsonObject()).thenReturn(courtRegisterRequests(
+                getCourtRegisterDocumentRequest(courtCentreId, registerDate),
+                getCourtRegisterDocumentRequest(courtCentreId, registerDate)));
+        when(requester.request(any(Envelope.class))).thenReturn(queryEnvelope);
+        when(eventSource.getStreamById(getCourtRegisterStreamId(courtCentreId.toString(), "2024-10-24"))).thenReturn(eventStream);
 
-        //assert streamIds generated are unique
-        final List<UUID> courtRegisterStreamIdList = courtRegisterStreamIdCaptor.getAllValues();
-        assertThat(courtRegisterStreamIdList.size(), is(2));
-        assertThat(courtRegisterStreamIdList.get(0).equals(courtRegisterStreamIdList.get(1)), is(false));
+        courtRegisterHandler.handleGenerateCourtRegisterForCourtCentre(prepareGenerateCourtRegisterForCourtCentreEnvelope(courtCentreId, registerDate.toLocalDate()));
+
+        assertThat(verifyAppendAndGetArgumentFrom(eventStream), streamContaining(
+                jsonEnvelope(
+                        metadata().withName("progression.event.court-register-generated"),
+                        JsonEnvelopePayloadMatcher.payload().isJson(allOf(
+                                withJsonPath("$.courtRegisterDocumentRequests.length()", is(2)),
+                                withJsonPath("$.systemGenerated", is(true))
+                        )))));
     }
 
     @Test
-    public void shouldHandleGenerateRequestWhenMultipleCourtCentreRequestsInSameRegisterDate() throws EventStreamException {
-        final Envelope<GenerateCourtRegister> generateCourtRegisterEnvelope = prepareGenerateCourtRegisterEnvelope();
+    public void shouldReadTheCourtRegisterRequestsOfACourtCentreAPageAtATime() throws EventStreamException {
+        setField(courtRegisterHandler, "courtRegisterRequestPageSize", "1");
         final UUID courtCentreId = randomUUID();
         final ZonedDateTime registerDate = ZonedDateTime.parse("2024-10-24T22:23:12.414Z");
+        final JsonObject firstPage = courtRegisterRequests(getCourtRegisterDocumentRequest(courtCentreId, registerDate));
+        final JsonObject secondPage = courtRegisterRequests(getCourtRegisterDocumentRequest(courtCentreId, registerDate));
+        final JsonEnvelope firstPageEnvelope = mock(JsonEnvelope.class);
+        final JsonEnvelope secondPageEnvelope = mock(JsonEnvelope.class);
+        final JsonEnvelope lastPageEnvelope = mock(JsonEnvelope.class);
+        when(firstPageEnvelope.payloadAsJsonObject()).thenReturn(firstPage);
+        when(secondPageEnvelope.payloadAsJsonObject()).thenReturn(secondPage);
+        when(lastPageEnvelope.payloadAsJsonObject()).thenReturn(courtRegisterRequests());
+        when(requester.request(queryCaptor.capture())).thenReturn(firstPageEnvelope, secondPageEnvelope, lastPageEnvelope);
+        when(eventSource.getStreamById(getCourtRegisterStreamId(courtCentreId.toString(), "2024-10-24"))).thenReturn(eventStream);
+
+        courtRegisterHandler.handleGenerateCourtRegisterForCourtCentre(prepareGenerateCourtRegisterForCourtCentreEnvelope(courtCentreId, registerDate.toLocalDate()));
+
+        assertStreamEnvelopeForCourtRegisterGenerated(verifyAppendAndGetArgumentFrom(eventStream), 2);
+        final List<Envelope<JsonObject>> queries = queryCaptor.getAllValues();
+        assertThat(queries.size(), is(3));
+        assertThat(queries.get(0).metadata().name(), is("progression.query.recorded-court-register-document-requests"));
+        assertThat(queries.get(0).payload().getString("courtCentreId"), is(courtCentreId.toString()));
+        assertThat(queries.get(0).payload().getString("registerDate"), is("2024-10-24"));
+        assertThat(queries.get(0).payload().getInt("pageSize"), is(1));
+        assertThat(queries.get(0).payload().containsKey("after"), is(false));
+        assertThat(queries.get(1).payload().getString("after"), is(firstPage.getJsonArray("courtRegisterDocumentRequests").getJsonObject(0).getString("courtRegisterRequestId")));
+        assertThat(queries.get(2).payload().getString("after"), is(secondPage.getJsonArray("courtRegisterDocumentRequests").getJsonObject(0).getString("courtRegisterRequestId")));
+    }
 
-        final CourtRegisterDocumentRequest courtRegisterDocumentRequest1 = getCourtRegisterDocumentRequest(courtCentreId, registerDate);
-        final CourtRegisterDocumentRequest courtRegisterDocumentRequest2 = getCourtRegisterDocumentRequest(courtCentreId, registerDate);
-        final JsonArray jsonValues = Json.createArrayBuilder()
-                .add(Json.createObjectBuilder()
-                        .add("courtCentreId", courtCentreId.toString())
-                        .add("registerDate", registerDate.toLocalDate().toString())
-                        .add("payload", objectToJsonObjectConverter.convert(courtRegisterDocumentRequest1).toString())
-                        .build())
-                .add(Json.createObjectBuilder()
-                        .add("courtCentreId", courtCentreId.toString())
-                        .add("registerDate", registerDate.toLocalDate().toString())
-                        .add("payload", objectToJsonObjectConverter.convert(courtRegisterDocumentRequest2).toString())
-                        .build())
-                .build();
-        final JsonObject jsonObject = Json.createObjectBuilder().add("courtRegisterDocumentRequests", jsonValues).build();
+    @Test
+    public void shouldReadTheCourtRegisterRequestsWithTheDefaultPageSizeWhenThePageSizeIsBelowOne() throws EventStreamException {
+        setField(courtRegisterHandler, "courtRegisterRequestPageSize", "0");
+        final UUID courtCentreId = randomUUID();
+        final ZonedDateTime registerDate = ZonedDateTime.parse("2024-10-24T22:23:12.414Z");
+        final JsonEnvelope queryEnvelope = mock(JsonEnvelope.class);
+        when(queryEnvelope.payloadAsJsonObject()).thenReturn(courtRegisterRequests(getCourtRegisterDocumentRequest(courtCentreId, registerDate)));
+        when(requester.request(queryCaptor.capture())).thenReturn(queryEnvelope);
+        when(eventSource.getStreamById(getCourtRegisterStreamId(courtCentreId.toString(), "2024-10-24"))).thenReturn(eventStream);
 
+        courtRegisterHandler.handleGenerateCourtRegisterForCourtCentre(prepareGenerateCourtRegisterForCourtCentreEnvelope(courtCentreId, registerDate.toLocalDate()));
+
+        assertStreamEnvelopeForCourtRegisterGenerated(verifyAppendAndGetArgumentFrom(eventStream), 1);
+        final List<Envelope<JsonObject>> queries = queryCaptor.getAllValues();
+        assertThat(queries.size(), is(1));
+        assertThat(queries.get(0).payload().getInt("pageSize"), is(200));
+    }
+
+    @Test
+    public void shouldNotGenerateCourtRegisterForCourtCentreWithoutRecordedRequests() {
         final JsonEnvelope queryEnvelope = mock(JsonEnvelope.class);
-        when(queryEnvelope.payloadAsJsonObject()).thenReturn(jsonObject);
+        when(queryEnvelope.payloadAsJsonObject()).thenReturn(courtRegisterRequests());
         when(requester.request(any(Envelope.class))).thenReturn(queryEnvelope);
 
-        when(eventSource.getStreamById(courtRegisterStreamIdCaptor.capture())).thenReturn(eventStream);
+        assertDoesNotThrow(() -> courtRegisterHandler.handleGenerateCourtRegisterForCourtCentre(prepareGenerateCourtRegisterForCourtCentreEnvelope(randomUUID(), LocalDate.now())));
 
-        courtRegisterHandler.handleGenerateCourtRegister(generateCourtRegisterEnvelope);
-        assertThat(verifyAppendAndGetArgumentFrom(eventStream), streamContaining(
-                        jsonEnvelope(
-                                metadata()
-                                        .withName("progression.event.court-register-generated"),
-                                JsonEnvelopePayloadMatcher.payload().isJson(anyOf(
-                                                withJsonPath("$.courtRegisterDocumentRequests.length()", is(equalTo(2)))
-                                        )
-                                ))
-                )
-        );
+        verifyNoInteractions(eventSource);
+    }
 
-        //assert streamIds generated are unique
-        final List<UUID> courtRegisterStreamIdList = courtRegisterStreamIdCaptor.getAllValues();
-        assertThat(courtRegisterStreamIdList.size(), is(1));
+    private JsonObject courtRegisterRequests(final CourtRegisterDocumentRequest... courtRegisterDocumentRequests) {
+        final JsonArrayBuilder jsonValues = Json.createArrayBuilder();
+        Arrays.stream(courtRegisterDocumentRequests).forEach(courtRegisterDocumentRequest -> jsonValues.add(Json.createObjectBuilder()
+                .add("courtRegisterRequestId", randomUUID().toString())
+                .add("courtCentreId", courtRegisterDocumentRequest.getCourtCentreId().toString())
+                .add("registerDate", courtRegisterDocumentRequest.getRegisterDate().toLocalDate().toString())
+                .add("payload", objectToJsonObjectConverter.convert(courtRegisterDocumentRequest).toString())));
+        return Json.createObjectBuilder().add("courtRegisterDocumentRequests", jsonValues).build();
     }
 
     private static CourtRegisterDocumentRequest getCourtRegisterDocumentRequest(final UUID courtCentreId, final ZonedDateTime registerDate) {
@@ -542,6 +568,20 @@ public class CourtRegisterHandlerTest {
         );
     }
 
+    private Envelope<GenerateCourtRegisterForCourtCentre> prepareGenerateCourtRegisterForCourtCentreEnvelope(final UUID courtCentreId, final LocalDate registerDate) {
+        final GenerateCourtRegisterForCourtCentre generateCourtRegister = GenerateCourtRegisterForCourtCentre.generateCourtRegisterForCourtCentre()
+                .withCourtCentreId(courtCentreId)
+                .withRegisterDate(registerDate)
+                .withSystemGenerated(true)
+                .build();
+        final JsonEnvelope requestEnvelope = JsonEnvelope.envelopeFrom(
+                metadataWithRandomUUID("progression.command.generate-court-register-for-court-centre").withUserId(randomUUID().toString()),
+                createObjectBuilder().build());
+        return Enveloper.envelop(generateCourtRegister)
+                .withName("progression.command.generate-court-register-for-court-centre")
+                .withMetadataFrom(requestEnvelope);
+    }
+
     private Envelope prepareGenerateCourtRegisterEnvelope() {
         final GenerateCourtRegister generateCourtRegister = GenerateCourtRegister.generateCourtRegister().withRegisterDate(LocalDate.now()).build();
         final JsonEnvelope requestEnvelope = JsonEnvelope.envelopeFrom(
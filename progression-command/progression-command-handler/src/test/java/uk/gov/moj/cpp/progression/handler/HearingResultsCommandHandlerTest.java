@@ -17,6 +17,7 @@ import static uk.gov.justice.services.test.utils.core.matchers.JsonEnvelopeMatch
 import static uk.gov.justice.services.test.utils.core.matchers.JsonEnvelopeMetadataMatcher.metadata;
 import static uk.gov.justice.services.test.utils.core.matchers.JsonEnvelopePayloadMatcher.payloadIsJson;
 import static uk.gov.justice.services.test.utils.core.messaging.MetadataBuilderFactory.metadataWithRandomUUIDAndName;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
 import static uk.gov.moj.cpp.progression.test.CoreTestTemplates.CoreTemplateArguments.toMap;
 import static uk.gov.moj.cpp.progression.test.CoreTestTemplates.defaultArguments;
 
@@ -40,6 +41,8 @@ import uk.gov.justice.progression.courts.BookingReferenceCourtScheduleIds;
 import uk.gov.justice.progression.courts.BookingReferencesAndCourtScheduleIdsStored;
 import uk.gov.justice.progression.courts.HearingResulted;
 import uk.gov.justice.progression.courts.StoreBookingReferenceCourtScheduleIds;
+import uk.gov.justice.services.common.converter.ObjectToJsonObjectConverter;
+import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
 import uk.gov.justice.services.common.util.UtcClock;
 import uk.gov.justice.services.core.aggregate.AggregateService;
 import uk.gov.justice.services.core.enveloper.Enveloper;
@@ -55,6 +58,8 @@ import uk.gov.moj.cpp.progression.aggregate.CaseAggregate;
 import uk.gov.moj.cpp.progression.aggregate.GroupCaseAggregate;
 import uk.gov.moj.cpp.progression.aggregate.HearingAggregate;
 import uk.gov.moj.cpp.progression.domain.constant.CaseStatusEnum;
+import uk.gov.moj.cpp.progression.domain.helper.CompressedHearingPayload;
+import uk.gov.moj.cpp.progression.helper.ResultedEventCompressor;
 import uk.gov.moj.cpp.progression.test.CoreTestTemplates;
 
 import java.time.LocalDate;
@@ -66,6 +71,8 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.json.JsonObject;
+
 import com.google.common.collect.ImmutableList;
 import org.hamcrest.CoreMatchers;
 import org.junit.jupiter.api.BeforeEach;
@@ -112,8 +119,12 @@ public class HearingResultsCommandHandlerTest {
     @Mock
     private Requester requester;
 
+    @Spy
+    private ResultedEventCompressor resultedEventCompressor;
+
     @BeforeEach
     public void setup() {
+        setField(resultedEventCompressor, "objectToJsonObjectConverter", new ObjectToJsonObjectConverter(new ObjectMapperProducer().objectMapper()));
         hearingAggregate = new HearingAggregate();
         when(eventSource.getStreamById(any())).thenReturn(eventStream);
         when(aggregateService.get(eventStream, HearingAggregate.class)).thenReturn(hearingAggregate);
@@ -232,6 +243,42 @@ public class HearingResultsCommandHandlerTest {
         assertThat(unscheduledNextHearingsEvent.payloadAsJsonObject().getJsonObject("seedingHearing").getString("seedingHearingId"), is(hearingId.toString()));
     }
 
+    @Test
+    public void shouldWriteProsecutionCasesResultedV3WhenTheHearingIsOverTheThreshold() throws EventStreamException {
+        setField(resultedEventCompressor, "thresholdBytes", "0");
+        final UUID hearingId = randomUUID();
+        final UUID caseId = randomUUID();
+        final NextHearing nextHearing = NextHearing.nextHearing().withListedStartDateTime(new UtcClock().now()).withAdjournmentReason("AdjournmentReason").build();
+        final List<HearingDay> hearingDays = Arrays.asList(HearingDay.hearingDay().withSittingDay(new UtcClock().now().plusDays(1)).build());
+
+        final HearingResult hearingResult = createCommandPayload(hearingId, caseId, utcClock.now().plusDays(1), nextHearing, hearingDays);
+
+        final Metadata metadata = Envelope
+                .metadataBuilder()
+                .withName("progression.command.hearing-result")
+                .withId(randomUUID())
+                .build();
+
+        final Envelope<HearingResult> envelope = envelopeFrom(metadata, hearingResult);
+        final JsonEnvelope resultsEnvelope = JsonEnvelope.envelopeFrom(metadataWithRandomUUIDAndName(),
+                createObjectBuilder().add("resultDefinitions", createArrayBuilder().add(createObjectBuilder().add("id", randomUUID().toString()))));
+
+        when(requester.request(any(JsonEnvelope.class))).thenReturn(resultsEnvelope);
+
+        handler.processHearingResults(envelope);
+
+        final List<JsonEnvelope> events = verifyAppendAndGetArgumentFrom(eventStream).collect(Collectors.toList());
+        final JsonEnvelope prosecutionCaseResultedEvent = events.get(2);
+        assertThat(prosecutionCaseResultedEvent.metadata().name(), is("progression.event.prosecution-cases-resulted-v3"));
+        assertThat(prosecutionCaseResultedEvent.payloadAsJsonObject().getString("hearingDay"), is(LocalDate.now().toString()));
+
+        final JsonObject hearing = CompressedHearingPayload.decompress(prosecutionCaseResultedEvent.payloadAsJsonObject().getString("compressedHearing"));
+        assertThat(hearing.getString("id"), is(hearingId.toString()));
+        assertThat(hearing.getJsonArray("prosecutionCases").getJsonObject(0).getString("id"), is(caseId.toString()));
+
+        assertThat(events.get(1).payloadAsJsonObject().getJsonObject("hearing").getString("id"), is(hearingId.toString()));
+    }
+
     @Test
     public void shouldProcessHearingResultsWithoutNextHearingsOnReshareWhenNextHearingResultsNotAmended() throws EventStreamException {
         final UUID hearingId = randomUUID();
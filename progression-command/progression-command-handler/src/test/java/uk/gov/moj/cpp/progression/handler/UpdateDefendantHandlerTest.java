@@ -10,6 +10,8 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.core.courts.ProsecutionCaseDefendantUpdated.prosecutionCaseDefendantUpdated;
 import static uk.gov.justice.services.core.annotation.Component.COMMAND_HANDLER;
@@ -41,6 +43,7 @@ import uk.gov.justice.core.courts.ProsecutionCaseUpdateDefendantsWithMatchedRequ
 import uk.gov.justice.core.courts.ProsecutionCaseUpdateDefendantsWithMatchedRequestedV2;
 import uk.gov.justice.core.courts.UpdateCaseDefendantWithDriverNumber;
 import uk.gov.justice.core.courts.UpdateDefendantForHearing;
+import uk.gov.justice.core.courts.UpdateDefendantForHearings;
 import uk.gov.justice.core.courts.UpdateDefendantForMatchedDefendant;
 import uk.gov.justice.core.courts.UpdateDefendantForProsecutionCase;
 import uk.gov.justice.core.courts.UpdateDefendantForProsecutionCaseWithCustodialEstablishment;
@@ -585,6 +588,73 @@ public class UpdateDefendantHandlerTest {
         );
     }
 
+    @Test
+    public void shouldHandleUpdateDefendantForHearings() throws EventStreamException {
+        final UUID defendantId = randomUUID();
+        final UUID masterDefendantId = randomUUID();
+        final UUID firstHearingId = randomUUID();
+        final UUID secondHearingId = randomUUID();
+        final DefendantUpdate defendant =
+                DefendantUpdate.defendantUpdate().withPersonDefendant(PersonDefendant.personDefendant().build())
+                        .withProsecutionCaseId(randomUUID())
+                        .withId(defendantId)
+                        .withMasterDefendantId(masterDefendantId)
+                        .build();
+
+        final UpdateDefendantForHearings updateDefendant = UpdateDefendantForHearings.updateDefendantForHearings()
+                .withDefendant(defendant)
+                .withHearingIds(Arrays.asList(firstHearingId, secondHearingId, firstHearingId))
+                .build();
+
+        final Metadata metadata = Envelope
+                .metadataBuilder()
+                .withName("progression.command.update-defendant-for-hearings")
+                .withId(randomUUID())
+                .build();
+
+        final EventStream secondEventStream = mock(EventStream.class);
+        final HearingAggregate firstHearingAggregate = hearingWithDefendant(defendantId, masterDefendantId);
+        final HearingAggregate secondHearingAggregate = hearingWithDefendant(defendantId, masterDefendantId);
+        when(eventSource.getStreamById(firstHearingId)).thenReturn(eventStream);
+        when(eventSource.getStreamById(secondHearingId)).thenReturn(secondEventStream);
+        when(aggregateService.get(eventStream, HearingAggregate.class)).thenReturn(firstHearingAggregate);
+        when(aggregateService.get(secondEventStream, HearingAggregate.class)).thenReturn(secondHearingAggregate);
+
+        updateDefendantHandler.handleUpdateDefendantForHearings(envelopeFrom(metadata, updateDefendant));
+
+        assertThat(verifyAppendAndGetArgumentFrom(eventStream), streamContaining(
+                jsonEnvelope(
+                        metadata().withName("progression.event.hearing-defendant-updated"),
+                        JsonEnvelopePayloadMatcher.payload().isJson(allOf(
+                                withJsonPath("$.defendant.id", is(defendantId.toString())),
+                                withJsonPath("$.hearingId", is(firstHearingId.toString()))
+                        )))
+        ));
+        assertThat(verifyAppendAndGetArgumentFrom(secondEventStream), streamContaining(
+                jsonEnvelope(
+                        metadata().withName("progression.event.hearing-defendant-updated"),
+                        JsonEnvelopePayloadMatcher.payload().isJson(allOf(
+                                withJsonPath("$.defendant.id", is(defendantId.toString())),
+                                withJsonPath("$.hearingId", is(secondHearingId.toString()))
+                        )))
+        ));
+        verify(eventSource).getStreamById(firstHearingId);
+    }
+
+    private HearingAggregate hearingWithDefendant(final UUID defendantId, final UUID masterDefendantId) {
+        final HearingAggregate hearingAggregate = new HearingAggregate();
+        hearingAggregate.enrichInitiateHearing(
+                Hearing.hearing()
+                        .withProsecutionCases(Arrays.asList(ProsecutionCase.prosecutionCase()
+                                .withDefendants(new ArrayList<>(Arrays.asList(Defendant.defendant()
+                                        .withId(defendantId)
+                                        .withMasterDefendantId(masterDefendantId)
+                                        .build())))
+                                .build()))
+                        .build());
+        return hearingAggregate;
+    }
+
     @Test
     public void shouldHNotUpdateDefendantForResultedHearing() throws EventStreamException {
         final UUID defendantId = randomUUID();
@@ -0,0 +1,115 @@
+package uk.gov.moj.cpp.progression.helper;
+
+import static java.util.UUID.randomUUID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import uk.gov.justice.core.courts.Hearing;
+import uk.gov.justice.core.courts.ProsecutionCase;
+import uk.gov.justice.core.courts.ProsecutionCasesResultedV2;
+import uk.gov.justice.core.courts.ProsecutionCasesResultedV3;
+import uk.gov.justice.progression.courts.ApplicationsResulted;
+import uk.gov.justice.progression.courts.ApplicationsResultedV2;
+import uk.gov.justice.services.common.converter.ObjectToJsonObjectConverter;
+import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
+import uk.gov.moj.cpp.progression.domain.helper.CompressedHearingPayload;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ResultedEventCompressorTest {
+
+    private final ObjectToJsonObjectConverter objectToJsonObjectConverter = new ObjectToJsonObjectConverter(new ObjectMapperProducer().objectMapper());
+
+    private final ResultedEventCompressor resultedEventCompressor = new ResultedEventCompressor();
+
+    @BeforeEach
+    public void setUp() {
+        setField(resultedEventCompressor, "objectToJsonObjectConverter", objectToJsonObjectConverter);
+    }
+
+    @Test
+    public void shouldWriteHearingsUnderTheThresholdAsTheyAre() {
+        final ProsecutionCasesResultedV2 event = ProsecutionCasesResultedV2.prosecutionCasesResultedV2()
+                .withHearing(hearingWithCases(1))
+                .withHearingDay(LocalDate.now())
+                .build();
+
+        final List<Object> events = compress(event);
+
+        assertThat(events.get(0), is(sameInstance(event)));
+    }
+
+    @Test
+    public void shouldWriteAProsecutionCasesResultedOverTheThresholdAsV3() {
+        setField(resultedEventCompressor, "thresholdBytes", "1024");
+        final Hearing hearing = hearingWithCases(100);
+        final LocalDate hearingDay = LocalDate.now();
+
+        final List<Object> events = compress(ProsecutionCasesResultedV2.prosecutionCasesResultedV2()
+                .withHearing(hearing)
+                .withHearingDay(hearingDay)
+                .build());
+
+        final ProsecutionCasesResultedV3 compressed = (ProsecutionCasesResultedV3) events.get(0);
+        assertThat(compressed.getHearingDay(), is(hearingDay));
+        assertThat(CompressedHearingPayload.decompress(compressed.getCompressedHearing()), is(objectToJsonObjectConverter.convert(hearing)));
+    }
+
+    @Test
+    public void shouldWriteAnApplicationsResultedOverTheThresholdAsV2() {
+        setField(resultedEventCompressor, "thresholdBytes", "1024");
+        final Hearing hearing = hearingWithCases(100);
+        final List<UUID> shadowListedOffences = List.of(randomUUID());
+
+        final List<Object> events = compress(ApplicationsResulted.applicationsResulted()
+                .withHearing(hearing)
+                .withShadowListedOffences(shadowListedOffences)
+                .build());
+
+        final ApplicationsResultedV2 compressed = (ApplicationsResultedV2) events.get(0);
+        assertThat(compressed.getCompressedHearing(), is(notNullValue()));
+        assertThat(compressed.getShadowListedOffences(), is(shadowListedOffences));
+        assertThat(CompressedHearingPayload.decompress(compressed.getCompressedHearing()), is(objectToJsonObjectConverter.convert(hearing)));
+        assertThat(compressed.getCompressedHearing().length(), is(lessThan(objectToJsonObjectConverter.convert(hearing).toString().length())));
+    }
+
+    @Test
+    public void shouldLeaveOtherEventsAsTheyAre() {
+        setField(resultedEventCompressor, "thresholdBytes", "0");
+        final Hearing hearing = hearingWithCases(1);
+
+        final List<Object> events = compress(hearing);
+
+        assertThat(events.get(0), is(sameInstance(hearing)));
+    }
+
+    private List<Object> compress(final Object event) {
+        return resultedEventCompressor.compress(Stream.of(event)).collect(Collectors.toList());
+    }
+
+    private static Hearing hearingWithCases(final int caseCount) {
+        final List<ProsecutionCase> prosecutionCases = new ArrayList<>();
+        for (int index = 0; index < caseCount; index++) {
+            prosecutionCases.add(ProsecutionCase.prosecutionCase()
+                    .withId(randomUUID())
+                    .withCaseStatus("ACTIVE")
+                    .build());
+        }
+        return Hearing.hearing()
+                .withId(randomUUID())
+                .withProsecutionCases(prosecutionCases)
+                .build();
+    }
+}
@@ -5,6 +5,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -50,9 +51,13 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.enterprise.concurrent.ManagedExecutorService;
 import javax.json.JsonObject;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -120,6 +125,9 @@ public class MatchedDefendantLoadServiceTest {
     @Mock
     private AggregateService aggregateService;
 
+    @Mock
+    private ManagedExecutorService managedExecutorService;
+
     @Mock
     private Envelope emptyCpSearchResponse;
 
@@ -162,6 +170,45 @@ public class MatchedDefendantLoadServiceTest {
         setField(this.listToJsonArrayConverter, "mapper", objectMapper);
         setField(this.listToJsonArrayConverter, "stringToJsonObjectConverter", stringToJsonObjectConverter);
         setField(this.matchedDefendantHelper, "listToJsonArrayConverter", this.listToJsonArrayConverter);
+        setField(this.matchedDefendantLoadService, "matchedDefendantSearchParallelism", "4");
+    }
+
+    @Test
+    public void shouldMatchDefendantsConcurrentlyAndAppendAllEventsOnce() throws EventStreamException {
+        final Defendant firstDefendant = getSampleDefendant(SAMPLE_PNC_ID_LESS_THAN_12_CHARS, SAMPLE_CRO_NUMBER, "");
+        final Defendant secondDefendant = getSampleDefendant(SAMPLE_PNC_ID_LESS_THAN_12_CHARS, SAMPLE_CRO_NUMBER, "");
+        final ProsecutionCase prosecutionCase = ProsecutionCase.prosecutionCase()
+                .withValuesFrom(getSampleProsecutionCase(SAMPLE_CASE_URN, SAMPLE_PROSECUTION_AUTHORITY_REFERENCE, firstDefendant))
+                .withDefendants(Arrays.asList(firstDefendant, secondDefendant))
+                .build();
+        final MatchedDefendantsResult result = jsonObjectConverter.convert(getUnifiedSearchResult(DEFAULT_PAGE_SIZE), MatchedDefendantsResult.class);
+
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(managedExecutorService).execute(any());
+        final CaseAggregate caseAggregate = new CaseAggregate();
+        when(eventSource.getStreamById(any())).thenReturn(eventStream);
+        when(aggregateService.get(eventStream, CaseAggregate.class)).thenReturn(caseAggregate);
+        when(envelope.metadata()).thenReturn(metadataBuilder()
+                .withId(UUID.randomUUID())
+                .withName("unifiedsearch.query.defendant.cases")
+                .build());
+        when(cpSearchResponse.payload()).thenReturn(result);
+        when(requester.requestAsAdmin(unifiedSearchQueryParamCapture.capture(), eq(MatchedDefendantsResult.class))).thenReturn(cpSearchResponse);
+
+        matchedDefendantLoadService.aggregateDefendantsSearchResultForAProsecutionCase(envelope, prosecutionCase);
+
+        verify(managedExecutorService, times(2)).execute(any());
+        verify(requester, times(1)).requestAsAdmin(any(), eq(MatchedDefendantsResult.class));
+        verify(eventStream, times(1)).append(persistEventCapture.capture());
+
+        final List<String> matchedDefendantIds = persistEventCapture.getValue()
+                .map(event -> event.payloadAsJsonObject().getString("defendantId", null))
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        assertThat(matchedDefendantIds, is(Arrays.asList(firstDefendant.getId().toString(), secondDefendant.getId().toString())));
     }
 
     @Test
@@ -0,0 +1,254 @@
+package uk.gov.moj.cpp.progression.workingset;
+
+import static java.util.UUID.randomUUID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
+import static uk.gov.justice.services.test.utils.core.messaging.MetadataBuilderFactory.metadataWithRandomUUID;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import uk.gov.justice.core.courts.CivilFeesAdded;
+import uk.gov.justice.core.courts.CivilFeesUpdated;
+import uk.gov.justice.core.courts.FeeStatus;
+import uk.gov.justice.services.common.converter.JsonObjectToObjectConverter;
+import uk.gov.justice.services.common.converter.ObjectToJsonObjectConverter;
+import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
+import uk.gov.justice.services.eventsourcing.source.core.EventStream;
+import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.progression.aggregate.FeeAggregate;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import javax.transaction.TransactionSynchronizationRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+public class AggregateWorkingSetTest {
+
+    private static final String CIVIL_FEES_ADDED = "progression.event.civil-fees-added";
+    private static final String CIVIL_FEES_UPDATED = "progression.event.civil-fees-updated";
+
+    private final ObjectToJsonObjectConverter objectToJsonObjectConverter = new ObjectToJsonObjectConverter(new ObjectMapperProducer().objectMapper());
+    private final JsonObjectToObjectConverter jsonObjectToObjectConverter = new JsonObjectToObjectConverter(new ObjectMapperProducer().objectMapper());
+
+    private final AggregateWorkingSet aggregateWorkingSet = new AggregateWorkingSet();
+
+    private final AtomicInteger rebuilds = new AtomicInteger();
+
+    private final BiFunction<EventStream, Class<FeeAggregate>, FeeAggregate> rebuild = (eventStream, aggregateClass) -> {
+        rebuilds.incrementAndGet();
+        return apply(new FeeAggregate(), eventStream.read());
+    };
+
+    @BeforeEach
+    public void setUp() {
+        setField(aggregateWorkingSet, "jsonObjectToObjectConverter", jsonObjectToObjectConverter);
+        setField(aggregateWorkingSet, "enabled", "true");
+        aggregateWorkingSet.register(CIVIL_FEES_ADDED, CivilFeesAdded.class);
+        aggregateWorkingSet.register(CIVIL_FEES_UPDATED, CivilFeesUpdated.class);
+    }
+
+    @Test
+    public void shouldCatchUpAKeptAggregateWithOnlyTheEventsAfterItsPosition() {
+        final EventStream eventStream = eventStream(randomUUID());
+        when(eventStream.readFrom(2L)).thenReturn(Stream.of(civilFeesUpdated(2, FeeStatus.SATISFIED)));
+
+        final FeeAggregate rebuilt = aggregateWorkingSet.get(eventStream, FeeAggregate.class, rebuild);
+        final FeeAggregate caughtUp = aggregateWorkingSet.get(eventStream, FeeAggregate.class, rebuild);
+
+        assertThat(rebuilt.getCivilFees().getFeeStatus(), is(FeeStatus.OUTSTANDING));
+        assertThat(caughtUp.getCivilFees().getFeeStatus(), is(FeeStatus.SATISFIED));
+        verify(eventStream, times(1)).read();
+        verify(eventStream, times(1)).readFrom(2L);
+        assertThat(rebuilds.get(), is(1));
+    }
+
+    @Test
+    public void shouldGiveEveryLoadItsOwnCopyOfTheAggregate() {
+        final EventStream eventStream = eventStream(randomUUID());
+        when(eventStream.readFrom(2L)).thenReturn(Stream.empty(), Stream.empty());
+
+        final FeeAggregate first = aggregateWorkingSet.get(eventStream, FeeAggregate.class, rebuild);
+        final FeeAggregate second = aggregateWorkingSet.get(eventStream, FeeAggregate.class, rebuild);
+        first.apply(jsonObjectToObjectConverter.convert(civilFeesUpdated(2, FeeStatus.SATISFIED).payloadAsJsonObject(), CivilFeesUpdated.class));
+        final FeeAggregate third = aggregateWorkingSet.get(eventStream, FeeAggregate.class, rebuild);
+
+        assertThat(second, is(not(sameInstance(first))));
+        assertThat(third.getCivilFees().getFeeStatus(), is(FeeStatus.OUTSTANDING));
+        verify(eventStream, times(1)).read();
+        verify(eventStream, times(2)).readFrom(2L);
+    }
+
+    @Test
+    public void shouldEvictTheLeastRecentlyUsedAggregateOverTheMaximumEntries() {
+        setField(aggregateWorkingSet, "maxEntries", "2");
+        final EventStream first = eventStream(randomUUID());
+        final EventStream second = eventStream(randomUUID());
+        final EventStream third = eventStream(randomUUID());
+        when(first.readFrom(2L)).thenReturn(Stream.empty());
+
+        aggregateWorkingSet.get(first, FeeAggregate.class, rebuild);
+        aggregateWorkingSet.get(second, FeeAggregate.class, rebuild);
+        aggregateWorkingSet.get(first, FeeAggregate.class, rebuild);
+        aggregateWorkingSet.get(third, FeeAggregate.class, rebuild);
+        aggregateWorkingSet.get(second, FeeAggregate.class, rebuild);
+
+        assertThat(aggregateWorkingSet.size(), is(2));
+        verify(first, times(1)).read();
+        verify(second, times(2)).read();
+        assertThat(rebuilds.get(), is(4));
+    }
+
+    @Test
+    public void shouldNotKeepAggregatesLargerThanTheMemoryBudget() {
+        setField(aggregateWorkingSet, "maxBytes", "16");
+        final EventStream eventStream = eventStream(randomUUID());
+
+        aggregateWorkingSet.get(eventStream, FeeAggregate.class, rebuild);
+        aggregateWorkingSet.get(eventStream, FeeAggregate.class, rebuild);
+
+        assertThat(aggregateWorkingSet.size(), is(0));
+        assertThat(aggregateWorkingSet.getBytes(), is(0L));
+        assertThat(rebuilds.get(), is(2));
+    }
+
+    @Test
+    public void shouldRebuildAKeptAggregateWhenAnEventAfterItsPositionHasNoRegisteredClass() {
+        final EventStream eventStream = eventStream(randomUUID());
+        when(eventStream.readFrom(2L)).thenReturn(Stream.of(envelopeFrom(metadataWithRandomUUID("progression.event.unregistered").withPosition(2L),
+                objectToJsonObjectConverter.convert(CivilFeesAdded.civilFeesAdded().build()))));
+
+        aggregateWorkingSet.get(eventStream, FeeAggregate.class, rebuild);
+        final FeeAggregate rebuilt = aggregateWorkingSet.get(eventStream, FeeAggregate.class, rebuild);
+
+        assertThat(rebuilt.getCivilFees().getFeeStatus(), is(FeeStatus.OUTSTANDING));
+        verify(eventStream, times(2)).read();
+        assertThat(rebuilds.get(), is(2));
+    }
+
+    @Test
+    public void shouldKeepAnAggregateOnlyOnceTheTransactionThatLoadedItCommits() {
+        final TransactionSynchronizationRegistry transactionSynchronizationRegistry = transactionSynchronizationRegistry();
+        final EventStream eventStream = eventStream(randomUUID());
+
+        aggregateWorkingSet.get(eventStream, FeeAggregate.class, rebuild);
+
+        assertThat(aggregateWorkingSet.size(), is(0));
+        afterCompletion(transactionSynchronizationRegistry, Status.STATUS_COMMITTED);
+        assertThat(aggregateWorkingSet.size(), is(1));
+    }
+
+    @Test
+    public void shouldNotKeepAnAggregateWhenTheTransactionThatLoadedItRollsBack() {
+        final TransactionSynchronizationRegistry transactionSynchronizationRegistry = transactionSynchronizationRegistry();
+        final EventStream eventStream = eventStream(randomUUID());
+
+        aggregateWorkingSet.get(eventStream, FeeAggregate.class, rebuild);
+        afterCompletion(transactionSynchronizationRegistry, Status.STATUS_ROLLEDBACK);
+        aggregateWorkingSet.get(eventStream, FeeAggregate.class, rebuild);
+
+        assertThat(aggregateWorkingSet.size(), is(0));
+        verify(eventStream, never()).readFrom(anyLong());
+        assertThat(rebuilds.get(), is(2));
+    }
+
+    @Test
+    public void shouldRecordThePositionsOfEventsReadThroughAnyReadMethodOfTheStream() {
+        final EventStream eventStream = eventStream(randomUUID());
+        when(eventStream.readFrom(1L)).thenReturn(Stream.of(civilFeesAdded(), civilFeesUpdated(2, FeeStatus.SATISFIED)));
+        when(eventStream.readFrom(3L)).thenReturn(Stream.empty());
+
+        aggregateWorkingSet.get(eventStream, FeeAggregate.class, (stream, aggregateClass) -> apply(new FeeAggregate(), stream.readFrom(1L)));
+        final FeeAggregate caughtUp = aggregateWorkingSet.get(eventStream, FeeAggregate.class, rebuild);
+
+        assertThat(caughtUp.getCivilFees().getFeeStatus(), is(FeeStatus.SATISFIED));
+        verify(eventStream).readFrom(3L);
+        assertThat(rebuilds.get(), is(0));
+    }
+
+    @Test
+    public void shouldNotKeepAnAggregateRebuiltWithoutReadingAnyEvents() {
+        final EventStream eventStream = eventStream(randomUUID());
+
+        aggregateWorkingSet.get(eventStream, FeeAggregate.class, (stream, aggregateClass) -> {
+            stream.getId();
+            return new FeeAggregate();
+        });
+
+        assertThat(aggregateWorkingSet.size(), is(0));
+    }
+
+    @Test
+    public void shouldRebuildEveryAggregateByDefault() {
+        setField(aggregateWorkingSet, "enabled", null);
+        final EventStream eventStream = eventStream(randomUUID());
+
+        aggregateWorkingSet.get(eventStream, FeeAggregate.class, rebuild);
+        aggregateWorkingSet.get(eventStream, FeeAggregate.class, rebuild);
+
+        verify(eventStream, never()).readFrom(anyLong());
+        assertThat(rebuilds.get(), is(2));
+        assertThat(aggregateWorkingSet.size(), is(0));
+    }
+
+    private TransactionSynchronizationRegistry transactionSynchronizationRegistry() {
+        final TransactionSynchronizationRegistry transactionSynchronizationRegistry = mock(TransactionSynchronizationRegistry.class);
+        when(transactionSynchronizationRegistry.getTransactionKey()).thenReturn(new Object());
+        setField(aggregateWorkingSet, "transactionSynchronizationRegistry", transactionSynchronizationRegistry);
+        return transactionSynchronizationRegistry;
+    }
+
+    private static void afterCompletion(final TransactionSynchronizationRegistry transactionSynchronizationRegistry, final int status) {
+        final ArgumentCaptor<Synchronization> synchronization = ArgumentCaptor.forClass(Synchronization.class);
+        verify(transactionSynchronizationRegistry).registerInterposedSynchronization(synchronization.capture());
+        synchronization.getValue().afterCompletion(status);
+    }
+
+    private FeeAggregate apply(final FeeAggregate feeAggregate, final Stream<JsonEnvelope> events) {
+        events.forEach(event -> feeAggregate.apply(jsonObjectToObjectConverter.convert(event.payloadAsJsonObject(),
+                CIVIL_FEES_ADDED.equals(event.metadata().name()) ? CivilFeesAdded.class : CivilFeesUpdated.class)));
+        return feeAggregate;
+    }
+
+    private EventStream eventStream(final UUID streamId) {
+        final EventStream eventStream = mock(EventStream.class);
+        when(eventStream.getId()).thenReturn(streamId);
+        when(eventStream.read()).thenAnswer(invocation -> Stream.of(civilFeesAdded()));
+        return eventStream;
+    }
+
+    private JsonEnvelope civilFeesAdded() {
+        return envelopeFrom(metadataWithRandomUUID(CIVIL_FEES_ADDED).withPosition(1L),
+                objectToJsonObjectConverter.convert(CivilFeesAdded.civilFeesAdded()
+                        .withFeeId(randomUUID())
+                        .withFeeType("INITIAL")
+                        .withFeeStatus(FeeStatus.OUTSTANDING)
+                        .withPaymentReference("PAY-1")
+                        .build()));
+    }
+
+    private JsonEnvelope civilFeesUpdated(final long position, final FeeStatus feeStatus) {
+        return envelopeFrom(metadataWithRandomUUID(CIVIL_FEES_UPDATED).withPosition(position),
+                objectToJsonObjectConverter.convert(CivilFeesUpdated.civilFeesUpdated()
+                        .withFeeId(randomUUID())
+                        .withFeeType("INITIAL")
+                        .withFeeStatus(feeStatus)
+                        .withPaymentReference("PAY-1")
+                        .build()));
+    }
+}
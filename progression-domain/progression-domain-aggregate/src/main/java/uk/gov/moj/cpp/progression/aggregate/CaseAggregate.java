@@ -214,6 +214,7 @@ import uk.gov.moj.cpp.progression.aggregate.rules.DartsRetentionPolicyHelper;
 import uk.gov.moj.cpp.progression.aggregate.rules.HearingInfo;
 import uk.gov.moj.cpp.progression.aggregate.rules.RetentionPolicy;
 import uk.gov.moj.cpp.progression.aggregate.rules.RetentionPolicyType;
+import uk.gov.moj.cpp.progression.aggregate.snapshot.CompressedAggregateSnapshot;
 import uk.gov.moj.cpp.progression.command.UpdateMatchedDefendantCustodialInformation;
 import uk.gov.moj.cpp.progression.command.handler.HandleOnlinePleaDocumentCreation;
 import uk.gov.moj.cpp.progression.domain.CaseToUnlink;
@@ -279,6 +280,7 @@ import uk.gov.moj.cpp.progression.plea.json.schemas.PleadOnlinePcqVisited;
 import uk.gov.moj.cpp.progression.plea.json.schemas.PleasAllocationDetails;
 import uk.gov.moj.cpp.progression.plea.json.schemas.TemplateType;
 
+import java.io.ObjectStreamException;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
@@ -4242,4 +4244,8 @@ public class CaseAggregate implements Aggregate {
         return newReference;
     }
 
+    private Object writeReplace() throws ObjectStreamException {
+        return CompressedAggregateSnapshot.replace(this);
+    }
+
 }
@@ -0,0 +1,135 @@
+package uk.gov.moj.cpp.progression.aggregate.snapshot;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.joining;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Structural fingerprint of the serialised state of an aggregate class: the name and generic type
+ * of every non-static, non-transient field in the class hierarchy, and of every field of the
+ * classes those fields are declared with, down through the whole graph of application classes the
+ * aggregate holds. Any such field being added, removed, renamed or retyped changes the
+ * fingerprint, so a snapshot taken by an older build is discarded even when the serialVersionUID
+ * was not bumped.
+ *
+ * <p>The walk follows declared field types and their type arguments only; JDK classes are taken
+ * as they are. State held through a field declared as a wider type than the object it refers to,
+ * such as {@code Object} or an interface, is covered by the serialVersionUID of that object alone.
+ */
+public class AggregateStateFingerprint {
+
+    private static final Map<Class<?>, String> FINGERPRINTS = new ConcurrentHashMap<>();
+
+    private static final String[] PLATFORM_PACKAGES = {"java.", "javax.", "jdk.", "sun.", "com.sun."};
+
+    private AggregateStateFingerprint() {
+        //no initialisation
+    }
+
+    public static String of(final Class<?> aggregateClass) {
+        return FINGERPRINTS.computeIfAbsent(aggregateClass, AggregateStateFingerprint::calculate);
+    }
+
+    private static String calculate(final Class<?> aggregateClass) {
+        final String state = stateOf(aggregateClass);
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(state.getBytes(UTF_8)));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available to fingerprint " + aggregateClass.getName(), e);
+        }
+    }
+
+    /**
+     * Every field in the state graph of the aggregate class, sorted, as the fingerprint is taken
+     * of it.
+     */
+    static String stateOf(final Class<?> aggregateClass) {
+        final List<String> fields = new ArrayList<>();
+        final Set<Class<?>> visited = new HashSet<>();
+        final Deque<Class<?>> toVisit = new ArrayDeque<>();
+        visited.add(aggregateClass);
+        toVisit.add(aggregateClass);
+
+        while (!toVisit.isEmpty()) {
+            final Class<?> stateClass = toVisit.poll();
+            for (Class<?> type = stateClass; type != null && type != Object.class; type = type.getSuperclass()) {
+                for (final Field field : type.getDeclaredFields()) {
+                    final int modifiers = field.getModifiers();
+                    if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers)) {
+                        fields.add(type.getName() + "." + field.getName() + ":" + field.getGenericType().getTypeName());
+                        final Set<Class<?>> referenced = new HashSet<>();
+                        collectClasses(field.getGenericType(), referenced, new HashSet<>());
+                        referenced.stream()
+                                .filter(AggregateStateFingerprint::isApplicationState)
+                                .filter(visited::add)
+                                .forEach(toVisit::add);
+                    }
+                }
+            }
+        }
+
+        return fields.stream().sorted().collect(joining(";"));
+    }
+
+    private static void collectClasses(final Type type, final Set<Class<?>> classes, final Set<Type> seen) {
+        if (!seen.add(type)) {
+            return;
+        }
+        if (type instanceof Class) {
+            final Class<?> typeClass = (Class<?>) type;
+            if (typeClass.isArray()) {
+                collectClasses(typeClass.getComponentType(), classes, seen);
+            } else {
+                classes.add(typeClass);
+            }
+        } else if (type instanceof ParameterizedType) {
+            final ParameterizedType parameterizedType = (ParameterizedType) type;
+            collectClasses(parameterizedType.getRawType(), classes, seen);
+            for (final Type typeArgument : parameterizedType.getActualTypeArguments()) {
+                collectClasses(typeArgument, classes, seen);
+            }
+        } else if (type instanceof GenericArrayType) {
+            collectClasses(((GenericArrayType) type).getGenericComponentType(), classes, seen);
+        } else if (type instanceof WildcardType) {
+            for (final Type bound : ((WildcardType) type).getUpperBounds()) {
+                collectClasses(bound, classes, seen);
+            }
+        } else if (type instanceof TypeVariable) {
+            for (final Type bound : ((TypeVariable<?>) type).getBounds()) {
+                collectClasses(bound, classes, seen);
+            }
+        }
+    }
+
+    private static boolean isApplicationState(final Class<?> type) {
+        if (type.isPrimitive() || type.isEnum()) {
+            return false;
+        }
+        final String name = type.getName();
+        for (final String platformPackage : PLATFORM_PACKAGES) {
+            if (name.startsWith(platformPackage)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,131 @@
+package uk.gov.moj.cpp.progression.aggregate.snapshot;
+
+import static java.lang.String.format;
+
+import uk.gov.justice.domain.aggregate.Aggregate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.io.WriteAbortedException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compact, versioned serialised form of an aggregate. Aggregates that return this from their
+ * {@code writeReplace} are written to the aggregate snapshot store as a gzipped block of their own
+ * default serialised state, stamped with the {@link AggregateStateFingerprint} of the aggregate
+ * class. Only writes made inside {@link #compressingSnapshots(Runnable)} are compressed; any other
+ * serialisation of the aggregate gets its default serialised form.
+ *
+ * <p>On read the fingerprint is checked against the aggregate class currently deployed. A mismatch
+ * fails deserialisation with an {@link InvalidObjectException}, which the snapshot service treats
+ * as an aggregate change: the stale snapshot is removed and the aggregate is rebuilt from the full
+ * event stream, then snapshotted again at the next threshold.
+ */
+public class CompressedAggregateSnapshot implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ThreadLocal<Boolean> COMPRESSING = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final Class<? extends Aggregate> aggregateClass;
+    private final String stateFingerprint;
+    private final byte[] compressedState;
+
+    private CompressedAggregateSnapshot(final Class<? extends Aggregate> aggregateClass, final String stateFingerprint, final byte[] compressedState) {
+        this.aggregateClass = aggregateClass;
+        this.stateFingerprint = stateFingerprint;
+        this.compressedState = compressedState;
+    }
+
+    /**
+     * Runs {@code snapshotWrite} with every aggregate it serialises written as a compressed
+     * snapshot. To be wrapped around the aggregate snapshot store only.
+     */
+    public static void compressingSnapshots(final Runnable snapshotWrite) {
+        final Boolean compressing = COMPRESSING.get();
+        COMPRESSING.set(Boolean.TRUE);
+        try {
+            snapshotWrite.run();
+        } finally {
+            COMPRESSING.set(compressing);
+        }
+    }
+
+    /**
+     * To be called from the {@code writeReplace} method of an aggregate. Returns the aggregate
+     * itself outside of {@link #compressingSnapshots(Runnable)}, and while its own state is being
+     * written, so that the default serialised form is what ends up inside the compressed block.
+     */
+    public static Object replace(final Aggregate aggregate) throws ObjectStreamException {
+        if (!COMPRESSING.get()) {
+            return aggregate;
+        }
+
+        COMPRESSING.set(Boolean.FALSE);
+        try {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (final ObjectOutputStream objectOutputStream = new ObjectOutputStream(new GZIPOutputStream(bytes))) {
+                objectOutputStream.writeObject(aggregate);
+            }
+            return new CompressedAggregateSnapshot(aggregate.getClass(), AggregateStateFingerprint.of(aggregate.getClass()), bytes.toByteArray());
+        } catch (final IOException e) {
+            throw new WriteAbortedException(format("Failed to write snapshot of %s", aggregate.getClass().getName()), e);
+        } finally {
+            COMPRESSING.set(Boolean.TRUE);
+        }
+    }
+
+    public Class<? extends Aggregate> getAggregateClass() {
+        return aggregateClass;
+    }
+
+    public String getStateFingerprint() {
+        return stateFingerprint;
+    }
+
+    public int getCompressedSize() {
+        return compressedState.length;
+    }
+
+    private Object readResolve() throws ObjectStreamException {
+        if (!AggregateStateFingerprint.of(aggregateClass).equals(stateFingerprint)) {
+            throw new InvalidObjectException(format("Snapshot of %s was taken from a different version of the aggregate and must be rebuilt", aggregateClass.getName()));
+        }
+
+        try (final ObjectInputStream objectInputStream = new AggregateObjectInputStream(new GZIPInputStream(new ByteArrayInputStream(compressedState)), aggregateClass.getClassLoader())) {
+            return aggregateClass.cast(objectInputStream.readObject());
+        } catch (final IOException | ClassNotFoundException | ClassCastException e) {
+            final InvalidObjectException invalidObjectException = new InvalidObjectException(format("Failed to read snapshot of %s", aggregateClass.getName()));
+            invalidObjectException.initCause(e);
+            throw invalidObjectException;
+        }
+    }
+
+    private static class AggregateObjectInputStream extends ObjectInputStream {
+
+        private final ClassLoader classLoader;
+
+        AggregateObjectInputStream(final InputStream inputStream, final ClassLoader classLoader) throws IOException {
+            super(inputStream);
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        protected Class<?> resolveClass(final ObjectStreamClass objectStreamClass) throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(objectStreamClass.getName(), false, classLoader);
+            } catch (final ClassNotFoundException e) {
+                return super.resolveClass(objectStreamClass);
+            }
+        }
+    }
+}
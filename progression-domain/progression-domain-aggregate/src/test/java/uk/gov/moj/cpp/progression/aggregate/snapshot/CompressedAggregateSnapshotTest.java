@@ -0,0 +1,145 @@
+package uk.gov.moj.cpp.progression.aggregate.snapshot;
+
+import static java.util.Collections.singletonList;
+import static java.util.UUID.randomUUID;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static uk.gov.justice.core.courts.Defendant.defendant;
+import static uk.gov.justice.core.courts.Offence.offence;
+import static uk.gov.justice.core.courts.ProsecutionCase.prosecutionCase;
+import static uk.gov.justice.core.courts.ProsecutionCaseCreated.prosecutionCaseCreated;
+import static uk.gov.justice.core.courts.ProsecutionCaseIdentifier.prosecutionCaseIdentifier;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import uk.gov.justice.core.courts.Defendant;
+import uk.gov.justice.core.courts.Offence;
+import uk.gov.justice.core.courts.ProsecutionCase;
+import uk.gov.moj.cpp.progression.aggregate.CaseAggregate;
+import uk.gov.moj.cpp.progression.aggregate.GroupCaseAggregate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamException;
+import java.util.UUID;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.jupiter.api.Test;
+
+public class CompressedAggregateSnapshotTest {
+
+    @Test
+    public void shouldRestoreCaseAggregateStateFromCompressedSnapshot() {
+        final UUID caseId = randomUUID();
+        final UUID defendantId = randomUUID();
+        final CaseAggregate caseAggregate = caseAggregateWithCase(caseId, defendantId);
+
+        final byte[] bytes = snapshot(caseAggregate);
+        final CaseAggregate restored = (CaseAggregate) SerializationUtils.deserialize(bytes);
+
+        assertThat(restored.getProsecutionCase().getId(), is(caseId));
+        assertThat(restored.getProsecutionCase().getDefendants().get(0).getId(), is(defendantId));
+        assertThat(restored.getDefendantProceedingConcluded(), is(caseAggregate.getDefendantProceedingConcluded()));
+    }
+
+    @Test
+    public void shouldWriteCaseAggregateAsCompressedSnapshot() throws Exception {
+        final CaseAggregate caseAggregate = caseAggregateWithCase(randomUUID(), randomUUID());
+
+        final CompressedAggregateSnapshot snapshot = compressedSnapshotOf(caseAggregate);
+
+        assertThat(snapshot.getAggregateClass(), is(CaseAggregate.class));
+        assertThat(snapshot.getStateFingerprint(), is(AggregateStateFingerprint.of(CaseAggregate.class)));
+        assertThat(snapshot.getCompressedSize(), greaterThan(0));
+    }
+
+    @Test
+    public void shouldRejectSnapshotTakenFromDifferentVersionOfAggregate() throws Exception {
+        final CompressedAggregateSnapshot snapshot = compressedSnapshotOf(caseAggregateWithCase(randomUUID(), randomUUID()));
+        setField(snapshot, "stateFingerprint", "fingerprint-of-an-older-build");
+
+        final byte[] bytes = serialise(snapshot);
+
+        assertThrows(InvalidObjectException.class, () -> deserialise(bytes));
+    }
+
+    @Test
+    public void shouldWriteCaseAggregateInItsDefaultFormOutsideOfTheSnapshotStore() throws Exception {
+        final CaseAggregate caseAggregate = caseAggregateWithCase(randomUUID(), randomUUID());
+
+        assertThat(CompressedAggregateSnapshot.replace(caseAggregate), is(sameInstance(caseAggregate)));
+        assertThat(deserialise(serialise(caseAggregate)), instanceOf(CaseAggregate.class));
+    }
+
+    @Test
+    public void shouldFingerprintTheFieldsOfTheClassesTheAggregateHolds() {
+        final String state = AggregateStateFingerprint.stateOf(CaseAggregate.class);
+
+        assertThat(state, containsString(ProsecutionCase.class.getName() + ".defendants:"));
+        assertThat(state, containsString(Defendant.class.getName() + ".offences:"));
+        assertThat(state, containsString(Offence.class.getName() + ".id:java.util.UUID"));
+    }
+
+    @Test
+    public void shouldGiveDifferentFingerprintsForDifferentAggregateStates() {
+        assertThat(AggregateStateFingerprint.of(CaseAggregate.class).equals(AggregateStateFingerprint.of(GroupCaseAggregate.class)), is(false));
+        assertThat(AggregateStateFingerprint.of(CaseAggregate.class), is(AggregateStateFingerprint.of(CaseAggregate.class)));
+    }
+
+    private static CaseAggregate caseAggregateWithCase(final UUID caseId, final UUID defendantId) {
+        final ProsecutionCase prosecutionCase = prosecutionCase()
+                .withId(caseId)
+                .withProsecutionCaseIdentifier(prosecutionCaseIdentifier().withCaseURN("URN123").build())
+                .withDefendants(singletonList(defendant()
+                        .withId(defendantId)
+                        .withProsecutionCaseId(caseId)
+                        .withOffences(singletonList(offence().withId(randomUUID()).withProceedingsConcluded(false).build()))
+                        .build()))
+                .build();
+
+        final CaseAggregate caseAggregate = new CaseAggregate();
+        caseAggregate.apply(prosecutionCaseCreated().withProsecutionCase(prosecutionCase).build());
+        return caseAggregate;
+    }
+
+    private static byte[] snapshot(final CaseAggregate caseAggregate) {
+        final byte[][] bytes = new byte[1][];
+        CompressedAggregateSnapshot.compressingSnapshots(() -> bytes[0] = SerializationUtils.serialize(caseAggregate));
+        return bytes[0];
+    }
+
+    private static CompressedAggregateSnapshot compressedSnapshotOf(final CaseAggregate caseAggregate) {
+        final Object[] written = new Object[1];
+        CompressedAggregateSnapshot.compressingSnapshots(() -> {
+            try {
+                written[0] = CompressedAggregateSnapshot.replace(caseAggregate);
+            } catch (final ObjectStreamException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(written[0], instanceOf(CompressedAggregateSnapshot.class));
+        return (CompressedAggregateSnapshot) written[0];
+    }
+
+    private static byte[] serialise(final Object object) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream objectOutputStream = new ObjectOutputStream(bytes)) {
+            objectOutputStream.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialise(final byte[] bytes) throws IOException, ClassNotFoundException {
+        try (final ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return objectInputStream.readObject();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package uk.gov.moj.cpp.progression.domain.helper;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+
+/**
+ * The {@code compressedHearing} of progression.event.prosecution-cases-resulted-v3 and
+ * progression.event.applications-resulted-v2, the gzipped hearing json in base64, which those
+ * events carry in place of the {@code hearing} of the versions before them.
+ */
+public class CompressedHearingPayload {
+
+    public static final String COMPRESSED_HEARING = "compressedHearing";
+
+    private CompressedHearingPayload() {
+
+    }
+
+    public static String compress(final String hearing) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final Writer writer = new OutputStreamWriter(new GZIPOutputStream(bytes), UTF_8)) {
+            writer.write(hearing);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    public static JsonObject decompress(final String compressedHearing) {
+        final byte[] bytes = Base64.getDecoder().decode(compressedHearing);
+        try (final JsonReader reader = Json.createReader(new InputStreamReader(new GZIPInputStream(new ByteArrayInputStream(bytes)), UTF_8))) {
+            return reader.readObject();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package uk.gov.moj.cpp.progression.domain.pojo;
 import static java.util.Optional.empty;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @SuppressWarnings("PMD.BeanMembersShouldSerialize")
@@ -12,13 +13,22 @@ public class SearchCriteria {
     private final UUID caseId;
     private final Optional<String> sectionId;
     private final Optional<String> documentName;
+    private final Optional<Set<String>> mimeTypes;
+    private final Optional<Set<String>> documentTypeIds;
 
 
     public SearchCriteria(final Optional<UUID> defendantId, final UUID caseId, final Optional<String> sectionId, final Optional<String> documentName) {
+        this(defendantId, caseId, sectionId, documentName, empty(), empty());
+    }
+
+    public SearchCriteria(final Optional<UUID> defendantId, final UUID caseId, final Optional<String> sectionId, final Optional<String> documentName,
+                          final Optional<Set<String>> mimeTypes, final Optional<Set<String>> documentTypeIds) {
         this.defendantId = defendantId;
         this.caseId = caseId;
         this.sectionId = sectionId;
         this.documentName = documentName;
+        this.mimeTypes = mimeTypes;
+        this.documentTypeIds = documentTypeIds;
     }
 
     public Optional<UUID> getDefendantId() {
@@ -37,6 +47,14 @@ public class SearchCriteria {
         return documentName;
     }
 
+    public Optional<Set<String>> getMimeTypes() {
+        return mimeTypes;
+    }
+
+    public Optional<Set<String>> getDocumentTypeIds() {
+        return documentTypeIds;
+    }
+
     public static Builder searchCriteria() {
         return new Builder();
     }
@@ -55,12 +73,14 @@ public class SearchCriteria {
         return java.util.Objects.equals(this.defendantId, that.defendantId) &&
                 java.util.Objects.equals(this.caseId, that.caseId) &&
                 java.util.Objects.equals(this.sectionId, that.sectionId) &&
-                java.util.Objects.equals(this.documentName, that.documentName);
+                java.util.Objects.equals(this.documentName, that.documentName) &&
+                java.util.Objects.equals(this.mimeTypes, that.mimeTypes) &&
+                java.util.Objects.equals(this.documentTypeIds, that.documentTypeIds);
     }
 
     @Override
     public int hashCode() {
-        return java.util.Objects.hash(defendantId, caseId, sectionId, documentName);
+        return java.util.Objects.hash(defendantId, caseId, sectionId, documentName, mimeTypes, documentTypeIds);
     }
 
     @Override
@@ -69,7 +89,9 @@ public class SearchCriteria {
                 "defendantId='" + defendantId + "'," +
                 "caseId='" + caseId + "'," +
                 "sectionId='" + sectionId + "'," +
-                "documentName='" + documentName + "'" +
+                "documentName='" + documentName + "'," +
+                "mimeTypes='" + mimeTypes + "'," +
+                "documentTypeIds='" + documentTypeIds + "'" +
                 "}";
     }
 
@@ -78,6 +100,8 @@ public class SearchCriteria {
         private Optional<UUID> defendantId = empty();
         private Optional<String> sectionId = empty();
         private Optional<String> documentName = empty();
+        private Optional<Set<String>> mimeTypes = empty();
+        private Optional<Set<String>> documentTypeIds = empty();
         private UUID caseId;
 
         public Builder withDefendantId(final Optional<UUID> defendantId) {
@@ -100,17 +124,28 @@ public class SearchCriteria {
             return this;
         }
 
+        public Builder withMimeTypes(final Optional<Set<String>> mimeTypes) {
+            this.mimeTypes = mimeTypes;
+            return this;
+        }
+
+        public Builder withDocumentTypeIds(final Optional<Set<String>> documentTypeIds) {
+            this.documentTypeIds = documentTypeIds;
+            return this;
+        }
 
         public Builder withValuesFrom(final SearchCriteria searchCriteria) {
             this.caseId = searchCriteria.getCaseId();
             this.defendantId = searchCriteria.getDefendantId();
             this.sectionId = searchCriteria.getSectionId();
             this.documentName = searchCriteria.getDocumentName();
+            this.mimeTypes = searchCriteria.getMimeTypes();
+            this.documentTypeIds = searchCriteria.getDocumentTypeIds();
             return this;
         }
 
         public SearchCriteria build() {
-            return new SearchCriteria(defendantId, caseId, sectionId, documentName);
+            return new SearchCriteria(defendantId, caseId, sectionId, documentName, mimeTypes, documentTypeIds);
         }
     }
 
@@ -0,0 +1,39 @@
+package uk.gov.moj.cpp.progression.domain.helper;
+
+import static javax.json.Json.createArrayBuilder;
+import static javax.json.Json.createObjectBuilder;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+
+import org.junit.jupiter.api.Test;
+
+public class CompressedHearingPayloadTest {
+
+    @Test
+    public void shouldDecompressACompressedHearingBackToTheHearing() {
+        final JsonObject hearing = hearingWithCases(50);
+
+        final String compressedHearing = CompressedHearingPayload.compress(hearing.toString());
+
+        assertThat(CompressedHearingPayload.decompress(compressedHearing), is(hearing));
+        assertThat(compressedHearing.length(), is(lessThan(hearing.toString().length())));
+    }
+
+    private static JsonObject hearingWithCases(final int caseCount) {
+        final JsonArrayBuilder prosecutionCases = createArrayBuilder();
+        for (int index = 0; index < caseCount; index++) {
+            prosecutionCases.add(createObjectBuilder()
+                    .add("id", "case-" + index)
+                    .add("caseStatus", "ACTIVE")
+                    .add("defendants", createArrayBuilder().add(createObjectBuilder().add("id", "defendant-" + index))));
+        }
+        return createObjectBuilder()
+                .add("id", "hearing")
+                .add("prosecutionCases", prosecutionCases)
+                .build();
+    }
+}
@@ -1,5 +1,7 @@
 package uk.gov.justice.services;
 
+import static uk.gov.justice.services.EventPayloadConverter.eventPayloadConverter;
+
 import uk.gov.justice.core.courts.ApplicationReferredToBoxwork;
 import uk.gov.justice.core.courts.CourtApplication;
 import uk.gov.justice.services.transformer.BaseCourtApplicationTransformer;
@@ -11,18 +13,14 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
-import javax.json.JsonObject;
-
-
 @SuppressWarnings("squid:S2629")
 public class ApplicationReferredToBoxworkTransformer extends BaseCourtApplicationTransformer {
 
     @Override
     public Object transform(final Object input) {
 
-        final JsonObject jsonObject = new ObjectToJsonObjectConverter(objectMapper).convert(input);
         final ApplicationReferredToBoxwork courtApplicationStatusChanged =
-                new JsonObjectToObjectConverter(objectMapper).convert(jsonObject, ApplicationReferredToBoxwork.class);
+                eventPayloadConverter().convert(input, ApplicationReferredToBoxwork.class);
         final CourtApplication courtApplication = courtApplicationStatusChanged.getApplication();
         final Map<UUID, CaseDetails> caseDocumentsMap = new HashMap<>();
         transformCourtApplicationStatusChange(courtApplication, caseDocumentsMap);
@@ -2,6 +2,7 @@ package uk.gov.justice.services;
 
 import static java.util.Objects.nonNull;
 import static java.util.stream.Collectors.toList;
+import static uk.gov.justice.services.EventPayloadConverter.eventPayloadConverter;
 
 import uk.gov.justice.core.courts.CaseHearingDetailsUpdatedInUnifiedSearch;
 import uk.gov.justice.core.courts.CourtApplication;
@@ -19,8 +20,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
-import javax.json.JsonObject;
-
 import org.apache.commons.collections.CollectionUtils;
 
 public class CaseHearingDetailsUpdatedInUnifiedSearchTransformer extends BaseCourtApplicationTransformer {
@@ -30,9 +29,8 @@ public class CaseHearingDetailsUpdatedInUnifiedSearchTransformer extends BaseCou
     @Override
     public Object transform(final Object input) {
 
-        final JsonObject jsonObject = new ObjectToJsonObjectConverter(objectMapper).convert(input);
         final CaseHearingDetailsUpdatedInUnifiedSearch laaCaseHearingDetailsUpdatedInUnifiedSearch =
-                new JsonObjectToObjectConverter(objectMapper).convert(jsonObject, CaseHearingDetailsUpdatedInUnifiedSearch.class);
+                eventPayloadConverter().convert(input, CaseHearingDetailsUpdatedInUnifiedSearch.class);
 
         final Hearing hearing = laaCaseHearingDetailsUpdatedInUnifiedSearch.getHearing();
         final List<ProsecutionCase> prosecutionCases = hearing.getProsecutionCases();
@@ -1,5 +1,7 @@
 package uk.gov.justice.services;
 
+import static uk.gov.justice.services.EventPayloadConverter.eventPayloadConverter;
+
 import uk.gov.justice.core.courts.CourtApplication;
 import uk.gov.justice.core.courts.CourtApplicationCreated;
 import uk.gov.justice.services.transformer.BaseCourtApplicationTransformer;
@@ -11,7 +13,6 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
-import javax.json.JsonObject;
 
 @SuppressWarnings("squid:S2629")
 public class CourtApplicationCreatedTransformer extends BaseCourtApplicationTransformer {
@@ -19,10 +20,8 @@ public class CourtApplicationCreatedTransformer extends BaseCourtApplicationTran
     @Override
     public Object transform(final Object input) {
 
-        final JsonObject jsonObject = new ObjectToJsonObjectConverter(objectMapper).convert(input);
-
         final CourtApplicationCreated courtApplicationCreated =
-                new JsonObjectToObjectConverter(objectMapper).convert(jsonObject, CourtApplicationCreated.class);
+                eventPayloadConverter().convert(input, CourtApplicationCreated.class);
 
         final CourtApplication courtApplication = courtApplicationCreated.getCourtApplication();
         final Map<UUID, CaseDetails> caseDocumentsMap = new HashMap<>();
@@ -1,8 +1,9 @@
 package uk.gov.justice.services;
 
+import static uk.gov.justice.services.EventPayloadConverter.eventPayloadConverter;
+
 import uk.gov.justice.core.courts.Defendant;
 import uk.gov.justice.core.courts.DefendantsAddedToCourtProceedings;
-import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
 import uk.gov.justice.services.unifiedsearch.client.domain.CaseDetails;
 import uk.gov.justice.services.unifiedsearch.client.domain.Party;
 
@@ -13,10 +14,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
-import javax.json.JsonObject;
-
 import com.bazaarvoice.jolt.Transform;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 public class DefendantsAddedToCourtProceedingTransformer implements Transform {
 
@@ -24,15 +22,11 @@ public class DefendantsAddedToCourtProceedingTransformer implements Transform {
     public static final String ACTIVE = "ACTIVE";
     private DomainToIndexMapper domainToIndexMapper = new DomainToIndexMapper();
 
-    private ObjectMapper objectMapper = new ObjectMapperProducer().objectMapper();
-
     @Override
     public Object transform(final Object input) {
 
-        final JsonObject jsonObject = new ObjectToJsonObjectConverter(objectMapper).convert(input);
-
         final DefendantsAddedToCourtProceedings defendantsAddedToCourtProceedings =
-                new JsonObjectToObjectConverter(objectMapper).convert(jsonObject, DefendantsAddedToCourtProceedings.class);
+                eventPayloadConverter().convert(input, DefendantsAddedToCourtProceedings.class);
 
         final Map<UUID, CaseDetails> caseDocumentsMap = new HashMap<>();
 
@@ -2,6 +2,7 @@ package uk.gov.justice.services;
 
 import static java.util.Objects.nonNull;
 import static java.util.stream.Collectors.toList;
+import static uk.gov.justice.services.EventPayloadConverter.eventPayloadConverter;
 
 import uk.gov.justice.core.courts.CourtApplication;
 import uk.gov.justice.core.courts.Defendant;
@@ -19,8 +20,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
-import javax.json.JsonObject;
-
 import org.apache.commons.collections.CollectionUtils;
 import uk.gov.justice.services.unifiedsearch.client.domain.Party;
 
@@ -32,9 +31,8 @@ public class DefendantsListingStatusChangedV2Transformer extends BaseCourtApplic
     @Override
     public Object transform(final Object input) {
 
-        final JsonObject jsonObject = new ObjectToJsonObjectConverter(objectMapper).convert(input);
         final ProsecutionCaseDefendantListingStatusChangedV2 listingStatusChanged =
-                new JsonObjectToObjectConverter(objectMapper).convert(jsonObject, ProsecutionCaseDefendantListingStatusChangedV2.class);
+                eventPayloadConverter().convert(input, ProsecutionCaseDefendantListingStatusChangedV2.class);
 
         final Hearing hearing = listingStatusChanged.getHearing();
         final List<ProsecutionCase> prosecutionCases = hearing.getProsecutionCases();
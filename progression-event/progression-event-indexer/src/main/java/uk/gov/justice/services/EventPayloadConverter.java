@@ -0,0 +1,43 @@
+package uk.gov.justice.services;
+
+import static java.lang.String.format;
+
+import uk.gov.justice.services.common.converter.exception.ConverterException;
+import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Converts the payload handed to a transformer by the indexer straight into its typed event. The
+ * payload is read from the parsed map without writing it out as json text and reading it back into
+ * a {@link javax.json.JsonObject} first. The transformers are created by the indexer rather than
+ * CDI, so a single instance and its configured {@link ObjectMapper} are shared by all of them.
+ */
+public class EventPayloadConverter {
+
+    private static final EventPayloadConverter INSTANCE = new EventPayloadConverter(new ObjectMapperProducer().objectMapper());
+
+    private final ObjectMapper objectMapper;
+
+    EventPayloadConverter(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public static EventPayloadConverter eventPayloadConverter() {
+        return INSTANCE;
+    }
+
+    public <T> T convert(final Object payload, final Class<T> eventType) {
+        final T event;
+        try {
+            event = objectMapper.convertValue(payload, eventType);
+        } catch (final IllegalArgumentException e) {
+            throw new IllegalArgumentException(format("Error while converting payload to %s", eventType.getName()), e);
+        }
+
+        if (event == null) {
+            throw new ConverterException(format("Failed to convert payload to %s", eventType.getName()));
+        }
+        return event;
+    }
+}
@@ -1,12 +1,12 @@
 package uk.gov.justice.services;
 
 import static java.util.Objects.nonNull;
+import static uk.gov.justice.services.EventPayloadConverter.eventPayloadConverter;
 
 import uk.gov.justice.core.courts.Defendant;
 import uk.gov.justice.core.courts.HearingConfirmedCaseStatusUpdated;
 import uk.gov.justice.core.courts.ProsecutionCase;
 import uk.gov.justice.core.courts.Prosecutor;
-import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
 import uk.gov.justice.services.unifiedsearch.client.domain.CaseDetails;
 import uk.gov.justice.services.unifiedsearch.client.domain.Party;
 
@@ -14,25 +14,18 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
-import javax.json.JsonObject;
-
 import com.bazaarvoice.jolt.Transform;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 public class HearingConfirmedCaseStatusUpdatedTransformer implements Transform {
 
     public static final String PROSECUTION = "PROSECUTION";
     private DomainToIndexMapper domainToIndexMapper = new DomainToIndexMapper();
 
-    private ObjectMapper objectMapper = new ObjectMapperProducer().objectMapper();
-
     @Override
     public Object transform(final Object input) {
 
-        final JsonObject jsonObject = new ObjectToJsonObjectConverter(objectMapper).convert(input);
-
         final HearingConfirmedCaseStatusUpdated prosecutionCaseCreated =
-                new JsonObjectToObjectConverter(objectMapper).convert(jsonObject, HearingConfirmedCaseStatusUpdated.class);
+                eventPayloadConverter().convert(input, HearingConfirmedCaseStatusUpdated.class);
         final CaseDetails caseDetails = new CaseDetails();
         final ProsecutionCase prosecutionCase = prosecutionCaseCreated.getProsecutionCase();
 
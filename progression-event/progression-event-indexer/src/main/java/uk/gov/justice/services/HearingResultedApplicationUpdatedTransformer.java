@@ -1,5 +1,7 @@
 package uk.gov.justice.services;
 
+import static uk.gov.justice.services.EventPayloadConverter.eventPayloadConverter;
+
 import uk.gov.justice.core.courts.CourtApplication;
 import uk.gov.justice.core.courts.HearingResultedApplicationUpdated;
 import uk.gov.justice.services.transformer.BaseCourtApplicationTransformer;
@@ -11,17 +13,14 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
-import javax.json.JsonObject;
 
 @SuppressWarnings("squid:S2629")
 public class HearingResultedApplicationUpdatedTransformer extends BaseCourtApplicationTransformer {
 
     @Override
     public Object transform(final Object input) {
-        final JsonObject jsonObject = new ObjectToJsonObjectConverter(objectMapper).convert(input);
-
         final HearingResultedApplicationUpdated courtApplicationCreated =
-                new JsonObjectToObjectConverter(objectMapper).convert(jsonObject, HearingResultedApplicationUpdated.class);
+                eventPayloadConverter().convert(input, HearingResultedApplicationUpdated.class);
 
         final CourtApplication courtApplication = courtApplicationCreated.getCourtApplication();
         return  createCaseDocumentsFromCourtApplication(courtApplication);
@@ -1,12 +1,12 @@
 package uk.gov.justice.services;
 
 import static java.util.Objects.nonNull;
+import static uk.gov.justice.services.EventPayloadConverter.eventPayloadConverter;
 
 import uk.gov.justice.core.courts.Defendant;
 import uk.gov.justice.core.courts.HearingResultedCaseUpdated;
 import uk.gov.justice.core.courts.ProsecutionCase;
 import uk.gov.justice.core.courts.Prosecutor;
-import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
 import uk.gov.justice.services.unifiedsearch.client.domain.CaseDetails;
 import uk.gov.justice.services.unifiedsearch.client.domain.Party;
 
@@ -17,27 +17,20 @@ import java.util.Objects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.json.JsonObject;
-
 import com.bazaarvoice.jolt.Transform;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 @SuppressWarnings("squid:S2629")
 public class HearingResultedCaseUpdatedTransformer implements Transform {
 
     public static final String PROSECUTION = "PROSECUTION";
     private DomainToIndexMapper domainToIndexMapper = new DomainToIndexMapper();
-
-    private ObjectMapper objectMapper = new ObjectMapperProducer().objectMapper();
     private static final Logger LOGGER = LoggerFactory.getLogger(HearingResultedCaseUpdatedTransformer.class);
 
     @Override
     public Object transform(final Object input) {
 
-        final JsonObject jsonObject = new ObjectToJsonObjectConverter(objectMapper).convert(input);
-
         final HearingResultedCaseUpdated prosecutionCaseCreated =
-                new JsonObjectToObjectConverter(objectMapper).convert(jsonObject, HearingResultedCaseUpdated.class);
+                eventPayloadConverter().convert(input, HearingResultedCaseUpdated.class);
         final CaseDetails caseDetails = new CaseDetails();
         final ProsecutionCase prosecutionCase = prosecutionCaseCreated.getProsecutionCase();
 
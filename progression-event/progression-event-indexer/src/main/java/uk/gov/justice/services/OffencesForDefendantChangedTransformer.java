@@ -1,12 +1,13 @@
 package uk.gov.justice.services;
 
+import static uk.gov.justice.services.EventPayloadConverter.eventPayloadConverter;
+
 import uk.gov.justice.core.courts.Defendant;
 import uk.gov.justice.core.courts.Offence;
 import uk.gov.justice.progression.courts.AddedOffences;
 import uk.gov.justice.progression.courts.DeletedOffences;
 import uk.gov.justice.progression.courts.OffencesForDefendantChanged;
 import uk.gov.justice.progression.courts.UpdatedOffences;
-import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
 import uk.gov.justice.services.unifiedsearch.client.domain.CaseDetails;
 import uk.gov.justice.services.unifiedsearch.client.domain.Party;
 
@@ -15,10 +16,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-import javax.json.JsonObject;
-
 import com.bazaarvoice.jolt.Transform;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 public class OffencesForDefendantChangedTransformer implements Transform {
 
@@ -26,14 +24,10 @@ public class OffencesForDefendantChangedTransformer implements Transform {
     List<Defendant> defendantList = new ArrayList<>();
 
     private DomainToIndexMapper domainToIndexMapper = new DomainToIndexMapper();
-    private ObjectMapper objectMapper = new ObjectMapperProducer().objectMapper();
-
     @Override
     public Object transform(final Object input) {
-        final JsonObject jsonObject = new ObjectToJsonObjectConverter(objectMapper).convert(input);
-
         final OffencesForDefendantChanged offencesForDefendantChanged =
-                new JsonObjectToObjectConverter(objectMapper).convert(jsonObject, OffencesForDefendantChanged.class);
+                eventPayloadConverter().convert(input, OffencesForDefendantChanged.class);
         final List<AddedOffences> addedOffences = offencesForDefendantChanged.getAddedOffences();
         final List<UpdatedOffences> updatedOffences = offencesForDefendantChanged.getUpdatedOffences();
         final List<DeletedOffences> deletedOffences = offencesForDefendantChanged.getDeletedOffences();
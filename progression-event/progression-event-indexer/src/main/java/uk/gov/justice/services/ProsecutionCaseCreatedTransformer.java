@@ -1,12 +1,12 @@
 package uk.gov.justice.services;
 
 import static java.util.Objects.nonNull;
+import static uk.gov.justice.services.EventPayloadConverter.eventPayloadConverter;
 
 import uk.gov.justice.core.courts.Defendant;
 import uk.gov.justice.core.courts.ProsecutionCase;
 import uk.gov.justice.core.courts.ProsecutionCaseCreated;
 import uk.gov.justice.core.courts.Prosecutor;
-import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
 import uk.gov.justice.services.unifiedsearch.client.domain.CaseDetails;
 import uk.gov.justice.services.unifiedsearch.client.domain.Party;
 
@@ -15,21 +15,16 @@ import java.util.List;
 import java.util.UUID;
 
 import com.bazaarvoice.jolt.Transform;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 public class ProsecutionCaseCreatedTransformer implements Transform {
 
     private final DomainToIndexMapper domainToIndexMapper = new DomainToIndexMapper();
 
-    private final ObjectMapper objectMapper = new ObjectMapperProducer().objectMapper();
-
     @Override
     public Object transform(final Object input) {
 
         final ProsecutionCaseCreated prosecutionCaseCreated =
-                new JsonObjectToObjectConverter(objectMapper)
-                        .convert(new ObjectToJsonObjectConverter(objectMapper)
-                                .convert(input), ProsecutionCaseCreated.class);
+                eventPayloadConverter().convert(input, ProsecutionCaseCreated.class);
 
         final CaseDetails caseDetails = new CaseDetails();
         final ProsecutionCase prosecutionCase = prosecutionCaseCreated.getProsecutionCase();
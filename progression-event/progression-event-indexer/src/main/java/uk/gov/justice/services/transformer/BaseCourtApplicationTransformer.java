@@ -15,7 +15,6 @@ import uk.gov.justice.core.courts.LinkType;
 import uk.gov.justice.services.ApplicationMapper;
 import uk.gov.justice.services.CaseDetailsMapper;
 import uk.gov.justice.services.PartiesMapper;
-import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
 import uk.gov.justice.services.unifiedsearch.client.domain.Application;
 import uk.gov.justice.services.unifiedsearch.client.domain.CaseDetails;
 import uk.gov.justice.services.unifiedsearch.client.domain.Hearing;
@@ -28,7 +27,6 @@ import java.util.Map;
 import java.util.UUID;
 
 import com.bazaarvoice.jolt.Transform;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.collections.CollectionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,8 +38,6 @@ public abstract class BaseCourtApplicationTransformer implements Transform {
     public static final String ACTIVE = "ACTIVE";
     private static final Logger LOGGER = LoggerFactory.getLogger(BaseCourtApplicationTransformer.class);
 
-    protected ObjectMapper objectMapper = new ObjectMapperProducer().objectMapper();
-
     private ApplicationMapper applicationMapper = new ApplicationMapper();
 
     protected PartiesMapper partiesMapper = new PartiesMapper();
@@ -0,0 +1,65 @@
+package uk.gov.justice.services;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static uk.gov.justice.services.EventPayloadConverter.eventPayloadConverter;
+import static uk.gov.moj.cpp.indexer.jolt.verificationHelpers.JsonHelper.readJson;
+
+import uk.gov.justice.core.courts.HearingResultedCaseUpdated;
+import uk.gov.justice.core.courts.ProsecutionCaseCreated;
+import uk.gov.justice.services.common.converter.exception.ConverterException;
+import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
+
+import java.io.ByteArrayInputStream;
+import java.util.Map;
+
+import javax.json.JsonObject;
+
+import com.bazaarvoice.jolt.JsonUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+public class EventPayloadConverterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapperProducer().objectMapper();
+
+    private final ObjectToJsonObjectConverter objectToJsonObjectConverter = new ObjectToJsonObjectConverter(objectMapper);
+
+    private final JsonObjectToObjectConverter jsonObjectToObjectConverter = new JsonObjectToObjectConverter(objectMapper);
+
+    @ParameterizedTest
+    @CsvSource({
+            "progression.event.prosecution-case-created-with-plea.json, uk.gov.justice.core.courts.ProsecutionCaseCreated",
+            "progression.event.prosecution-case-defendant-listing-status-changed.json, uk.gov.justice.core.courts.ProsecutionCaseDefendantListingStatusChanged",
+            "progression.event.hearing-resulted-case-updated-multiple-defendant-offence.json, uk.gov.justice.core.courts.HearingResultedCaseUpdated"
+    })
+    public void shouldConvertPayloadToTheSameEventAsTheJsonObjectRoundTrip(final String fileName, final Class<?> eventType) {
+        final Map<String, Object> input = payload(fileName);
+
+        final Object expected = jsonObjectToObjectConverter.convert(objectToJsonObjectConverter.convert(input), eventType);
+        final Object event = eventPayloadConverter().convert(input, eventType);
+
+        assertThat(event.getClass().equals(eventType), is(true));
+        assertThat(objectToJsonObjectConverter.convert(event), is(objectToJsonObjectConverter.convert(expected)));
+    }
+
+    @Test
+    public void shouldRejectPayloadThatCannotBeReadAsTheEvent() {
+        final Map<String, Object> input = Map.of("prosecutionCase", "not a prosecution case");
+
+        assertThrows(IllegalArgumentException.class, () -> eventPayloadConverter().convert(input, ProsecutionCaseCreated.class));
+    }
+
+    @Test
+    public void shouldRejectMissingPayload() {
+        assertThrows(ConverterException.class, () -> eventPayloadConverter().convert(null, HearingResultedCaseUpdated.class));
+    }
+
+    private Map<String, Object> payload(final String fileName) {
+        final JsonObject inputJson = readJson("/" + fileName);
+        return JsonUtils.jsonToMap(new ByteArrayInputStream(inputJson.toString().getBytes()));
+    }
+}
@@ -0,0 +1,66 @@
+package uk.gov.moj.cpp.progression.event.util;
+
+import uk.gov.justice.core.courts.Hearing;
+import uk.gov.justice.services.common.converter.JsonObjectToObjectConverter;
+import uk.gov.justice.services.common.converter.ObjectToJsonObjectConverter;
+import uk.gov.moj.cpp.prosecutioncase.persistence.entity.HearingEntity;
+import uk.gov.moj.cpp.prosecutioncase.persistence.repository.HearingRepository;
+
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.json.Json;
+import javax.json.JsonReader;
+
+/**
+ * Hearings read and changed while a listener handles a single event. Each hearing payload is
+ * decoded the first time it is loaded and the same {@link Hearing} is returned for every later
+ * load, so changes made by one step are seen by the next. Changed hearings are serialised and
+ * saved once, in the order they were first changed, when the unit of work is flushed at the end
+ * of the event.
+ */
+public class HearingUnitOfWork {
+
+    private final HearingRepository hearingRepository;
+    private final JsonObjectToObjectConverter jsonObjectConverter;
+    private final ObjectToJsonObjectConverter objectToJsonObjectConverter;
+
+    private final Map<UUID, Hearing> hearings = new HashMap<>();
+    private final Map<UUID, HearingEntity> changedEntities = new LinkedHashMap<>();
+
+    public HearingUnitOfWork(final HearingRepository hearingRepository,
+                             final JsonObjectToObjectConverter jsonObjectConverter,
+                             final ObjectToJsonObjectConverter objectToJsonObjectConverter) {
+        this.hearingRepository = hearingRepository;
+        this.jsonObjectConverter = jsonObjectConverter;
+        this.objectToJsonObjectConverter = objectToJsonObjectConverter;
+    }
+
+    public Hearing load(final HearingEntity hearingEntity) {
+        return hearings.computeIfAbsent(hearingEntity.getHearingId(), hearingId -> decode(hearingEntity));
+    }
+
+    public void update(final HearingEntity hearingEntity, final Hearing hearing) {
+        hearings.put(hearingEntity.getHearingId(), hearing);
+        changedEntities.putIfAbsent(hearingEntity.getHearingId(), hearingEntity);
+    }
+
+    public int flush() {
+        changedEntities.forEach((hearingId, hearingEntity) -> {
+            hearingEntity.setPayload(objectToJsonObjectConverter.convert(hearings.get(hearingId)).toString());
+            hearingRepository.save(hearingEntity);
+        });
+        final int flushed = changedEntities.size();
+        changedEntities.clear();
+        return flushed;
+    }
+
+    private Hearing decode(final HearingEntity hearingEntity) {
+        try (final JsonReader jsonReader = Json.createReader(new StringReader(hearingEntity.getPayload()))) {
+            return jsonObjectConverter.convert(jsonReader.readObject(), Hearing.class);
+        }
+    }
+}
@@ -27,12 +27,12 @@ import uk.gov.justice.services.common.converter.ObjectToJsonObjectConverter;
 import uk.gov.justice.services.core.annotation.Handles;
 import uk.gov.justice.services.core.annotation.ServiceComponent;
 import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.progression.event.util.HearingUnitOfWork;
 import uk.gov.moj.cpp.prosecutioncase.persistence.entity.CaseDefendantHearingEntity;
 import uk.gov.moj.cpp.prosecutioncase.persistence.entity.HearingEntity;
 import uk.gov.moj.cpp.prosecutioncase.persistence.repository.CaseDefendantHearingRepository;
 import uk.gov.moj.cpp.prosecutioncase.persistence.repository.HearingRepository;
 
-import java.io.StringReader;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -48,9 +48,6 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.inject.Inject;
-import javax.json.Json;
-import javax.json.JsonObject;
-import javax.json.JsonReader;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -73,15 +70,6 @@ public class HearingResultEventListener {
     @Inject
     private CaseDefendantHearingRepository caseDefendantHearingRepository;
 
-    private static JsonObject jsonFromString(String jsonObjectStr) {
-
-        final JsonReader jsonReader = Json.createReader(new StringReader(jsonObjectStr));
-        final JsonObject object = jsonReader.readObject();
-        jsonReader.close();
-
-        return object;
-    }
-
     @Handles("progression.event.hearing-resulted")
     public void updateHearingResult(final JsonEnvelope event) {
         if (LOGGER.isDebugEnabled()) {
@@ -111,37 +99,38 @@ public class HearingResultEventListener {
         if(isNull(currentHearingEntity)){
             return;
         }
-        final JsonObject currentHearingJson = jsonFromString(currentHearingEntity.getPayload());
-        final Hearing originalCurrentHearing = jsonObjectConverter.convert(currentHearingJson, Hearing.class);
+        final HearingUnitOfWork unitOfWork = new HearingUnitOfWork(hearingRepository, jsonObjectConverter, objectToJsonObjectConverter);
+        final Hearing originalCurrentHearing = unitOfWork.load(currentHearingEntity);
         final Hearing updatedHearing = dedupAllReportingRestrictions(getUpdatedHearingForResulted(updatedHearingResulted.getHearing(), originalCurrentHearing, updatedHearingResulted.getHearingDay()));
         if(updatedHearing.getProsecutionCases() != null) {
             updatedHearing.getProsecutionCases().stream().forEach(c -> deDupAllOffencesForProsecutionCase(c));
         }
-        final String resultedHearingPayload = objectToJsonObjectConverter.convert(updatedHearing).toString();
-        currentHearingEntity.setPayload(resultedHearingPayload);
         currentHearingEntity.setListingStatus(HearingListingStatus.HEARING_RESULTED);
         currentHearingEntity.setSharedTime(hearingResulted.getSharedTime());
-        hearingRepository.save(currentHearingEntity);
+        unitOfWork.update(currentHearingEntity, updatedHearing);
         LOGGER.info("Hearing: {} has been updated with listing status {}", currentHearingEntity.getHearingId(), HearingListingStatus.HEARING_RESULTED);
 
         //TO deal with setting of case and defendant proceeding flag for future hearing.
+        //findByCaseId returns a row per defendant, so each hearing is only updated the first time it is seen.
+        final Set<UUID> visitedHearingIds = new HashSet<>();
         final List<ProsecutionCase> prosecutionCases = ofNullable(updatedHearing.getProsecutionCases()).orElse(new ArrayList<>());
         for (final ProsecutionCase prosecutionCase : prosecutionCases) {
             final List<CaseDefendantHearingEntity> caseDefendantEntities = caseDefendantHearingRepository.findByCaseId(prosecutionCase.getId());
             for (final CaseDefendantHearingEntity caseDefendantHearingEntity : caseDefendantEntities) {
                 final HearingEntity originalHearingEntity = caseDefendantHearingEntity.getHearing();
-                final JsonObject hearingJson = jsonFromString(originalHearingEntity.getPayload());
-                final Hearing originalHearing = jsonObjectConverter.convert(hearingJson, Hearing.class);
+                if (!visitedHearingIds.add(originalHearingEntity.getHearingId())) {
+                    continue;
+                }
+                final Hearing originalHearing = unitOfWork.load(originalHearingEntity);
                 final Boolean hasSharedResults = originalHearing.getHasSharedResults();
                 if (FALSE.equals(hasSharedResults)) {
-                    final Hearing updatedNonResultedHearing = getUpdatedHearingForNonResulted(originalHearing, updatedHearingResulted.getHearing());
-                    final String payload = objectToJsonObjectConverter.convert(updatedNonResultedHearing).toString();
-                    originalHearingEntity.setPayload(payload);
-                    hearingRepository.save(originalHearingEntity);
+                    unitOfWork.update(originalHearingEntity, getUpdatedHearingForNonResulted(originalHearing, updatedHearingResulted.getHearing()));
                     LOGGER.info("Original hearing without shared results: {} has been updated.", originalHearingEntity.getHearingId());
                 }
             }
         }
+
+        unitOfWork.flush();
     }
 
     public static List<CourtApplication> dedupAllCourtApplications(final List<CourtApplication> courtApplications) {
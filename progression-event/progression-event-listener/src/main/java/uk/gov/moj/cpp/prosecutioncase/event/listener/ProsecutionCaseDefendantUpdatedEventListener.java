@@ -6,6 +6,10 @@ import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
 import static org.apache.commons.collections.CollectionUtils.isNotEmpty;
 import static uk.gov.justice.services.core.annotation.Component.EVENT_LISTENER;
+import static uk.gov.moj.cpp.prosecutioncase.event.listener.ProsecutionCasePayloadPatch.defendantAt;
+import static uk.gov.moj.cpp.prosecutioncase.event.listener.ProsecutionCasePayloadPatch.indexOfDefendant;
+import static uk.gov.moj.cpp.prosecutioncase.event.listener.ProsecutionCasePayloadPatch.replaceDefendant;
+import static uk.gov.moj.cpp.prosecutioncase.event.listener.ProsecutionCasePayloadPatch.withoutDefendants;
 import static uk.gov.moj.cpp.progression.util.ReportingRestrictionHelper.dedupAllReportingRestrictions;
 import static uk.gov.moj.cpp.progression.util.ReportingRestrictionHelper.dedupAllReportingRestrictionsForDefendants;
 
@@ -93,18 +97,23 @@ public class ProsecutionCaseDefendantUpdatedEventListener {
         final DefendantUpdate defendantUpdate = prosecutionCaseDefendantUpdated.getDefendant();
         final ProsecutionCaseEntity prosecutionCaseEntity = repository.findByCaseId(defendantUpdate.getProsecutionCaseId());
         final JsonObject prosecutionCaseJson = jsonFromString(prosecutionCaseEntity.getPayload());
-        final ProsecutionCase prosecutionCase = jsonObjectConverter.convert(prosecutionCaseJson, ProsecutionCase.class);
-        final Optional<Defendant> originDefendant = prosecutionCase.getDefendants().stream().filter(d -> d.getId().equals(defendantUpdate.getId())).findFirst();
-
-        if (originDefendant.isPresent()) {
-            final Defendant updatedDefendant = updateDefendant(originDefendant.get(), defendantUpdate);
-            filterDuplicateOffencesById(updatedDefendant.getOffences());
-            prosecutionCase.getDefendants().remove(originDefendant.get());
-            prosecutionCase.getDefendants().add(updatedDefendant);
+
+        final int defendantIndex = indexOfDefendant(prosecutionCaseJson, defendantUpdate.getId());
+        if (defendantIndex < 0) {
+            final ProsecutionCase prosecutionCase = jsonObjectConverter.convert(prosecutionCaseJson, ProsecutionCase.class);
+            repository.save(getProsecutionCaseEntity(prosecutionCase));
+            updateSearchable(prosecutionCase);
+            return;
         }
 
-        repository.save(getProsecutionCaseEntity(prosecutionCase));
-        updateSearchable(prosecutionCase);
+        // Only the updated defendant is read and written back; the rest of the payload is kept as it is.
+        final Defendant originDefendant = jsonObjectConverter.convert(defendantAt(prosecutionCaseJson, defendantIndex), Defendant.class);
+        final Defendant updatedDefendant = updateDefendant(originDefendant, defendantUpdate);
+        filterDuplicateOffencesById(updatedDefendant.getOffences());
+        final JsonObject updatedProsecutionCaseJson = replaceDefendant(prosecutionCaseJson, defendantIndex, objectToJsonObjectConverter.convert(updatedDefendant));
+
+        repository.save(getProsecutionCaseEntity(prosecutionCaseEntity, updatedProsecutionCaseJson));
+        searchProsecutionCase.makeSearchable(jsonObjectConverter.convert(withoutDefendants(prosecutionCaseJson), ProsecutionCase.class), updatedDefendant);
     }
 
     @Handles("progression.event.hearing-resulted-case-updated")
@@ -568,6 +577,14 @@ public class ProsecutionCaseDefendantUpdatedEventListener {
         return pCaseEntity;
     }
 
+    private ProsecutionCaseEntity getProsecutionCaseEntity(final ProsecutionCaseEntity prosecutionCaseEntity, final JsonObject payload) {
+        final ProsecutionCaseEntity pCaseEntity = new ProsecutionCaseEntity();
+        pCaseEntity.setCaseId(prosecutionCaseEntity.getCaseId());
+        pCaseEntity.setGroupId(prosecutionCaseEntity.getGroupId());
+        pCaseEntity.setPayload(payload.toString());
+        return pCaseEntity;
+    }
+
     private HearingEntity prepareHearingEntity(final Hearing hearing, final HearingEntity hearingEntity) {
         final HearingEntity entity = new HearingEntity();
         entity.setHearingId(hearing.getId());
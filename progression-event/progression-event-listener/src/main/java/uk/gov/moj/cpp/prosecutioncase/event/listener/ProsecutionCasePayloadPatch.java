@@ -0,0 +1,89 @@
+package uk.gov.moj.cpp.prosecutioncase.event.listener;
+
+import static javax.json.Json.createArrayBuilder;
+import static javax.json.Json.createObjectBuilder;
+
+import java.util.UUID;
+
+import javax.json.JsonArray;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonValue;
+
+/**
+ * Edits to a stored prosecution case payload that touch a single defendant. The rest of the
+ * payload is carried across as the json it was read as, so an update to one defendant does not
+ * have to read every defendant and offence of the case into objects and write them out again.
+ */
+public class ProsecutionCasePayloadPatch {
+
+    static final String DEFENDANTS = "defendants";
+    private static final String ID = "id";
+
+    private ProsecutionCasePayloadPatch() {
+
+    }
+
+    /**
+     * Position of the defendant in the payload's defendants, or -1 when the case has no such
+     * defendant.
+     */
+    public static int indexOfDefendant(final JsonObject prosecutionCase, final UUID defendantId) {
+        final JsonArray defendants = prosecutionCase.getJsonArray(DEFENDANTS);
+        if (defendants == null) {
+            return -1;
+        }
+        final String id = defendantId.toString();
+        for (int index = 0; index < defendants.size(); index++) {
+            final JsonValue defendant = defendants.get(index);
+            if (defendant.getValueType() == JsonValue.ValueType.OBJECT && id.equals(((JsonObject) defendant).getString(ID, null))) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    public static JsonObject defendantAt(final JsonObject prosecutionCase, final int index) {
+        return prosecutionCase.getJsonArray(DEFENDANTS).getJsonObject(index);
+    }
+
+    /**
+     * The payload with the defendant at {@code index} taken out and {@code defendant} added after
+     * the remaining defendants, which is where rebuilding the case with the updated defendant
+     * puts it.
+     */
+    public static JsonObject replaceDefendant(final JsonObject prosecutionCase, final int index, final JsonObject defendant) {
+        final JsonArray defendants = prosecutionCase.getJsonArray(DEFENDANTS);
+        final JsonArrayBuilder patchedDefendants = createArrayBuilder();
+        for (int position = 0; position < defendants.size(); position++) {
+            if (position != index) {
+                patchedDefendants.add(defendants.get(position));
+            }
+        }
+        patchedDefendants.add(defendant);
+
+        final JsonObjectBuilder patched = createObjectBuilder();
+        prosecutionCase.forEach((name, value) -> {
+            if (DEFENDANTS.equals(name)) {
+                patched.add(name, patchedDefendants);
+            } else {
+                patched.add(name, value);
+            }
+        });
+        return patched.build();
+    }
+
+    /**
+     * The case level fields of the payload, without its defendants.
+     */
+    public static JsonObject withoutDefendants(final JsonObject prosecutionCase) {
+        final JsonObjectBuilder caseFields = createObjectBuilder();
+        prosecutionCase.forEach((name, value) -> {
+            if (!DEFENDANTS.equals(name)) {
+                caseFields.add(name, value);
+            }
+        });
+        return caseFields.build();
+    }
+}
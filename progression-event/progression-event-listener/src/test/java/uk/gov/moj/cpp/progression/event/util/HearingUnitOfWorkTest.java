@@ -0,0 +1,85 @@
+package uk.gov.moj.cpp.progression.event.util;
+
+import static java.util.UUID.randomUUID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import uk.gov.justice.core.courts.Hearing;
+import uk.gov.justice.services.common.converter.JsonObjectToObjectConverter;
+import uk.gov.justice.services.common.converter.ObjectToJsonObjectConverter;
+import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
+import uk.gov.moj.cpp.prosecutioncase.persistence.entity.HearingEntity;
+import uk.gov.moj.cpp.prosecutioncase.persistence.repository.HearingRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class HearingUnitOfWorkTest {
+
+    @Mock
+    private HearingRepository hearingRepository;
+
+    @Spy
+    private JsonObjectToObjectConverter jsonObjectToObjectConverter;
+
+    @Spy
+    private ObjectToJsonObjectConverter objectToJsonObjectConverter;
+
+    private HearingUnitOfWork unitOfWork;
+
+    @BeforeEach
+    public void setup() {
+        setField(this.jsonObjectToObjectConverter, "objectMapper", new ObjectMapperProducer().objectMapper());
+        setField(this.objectToJsonObjectConverter, "mapper", new ObjectMapperProducer().objectMapper());
+        unitOfWork = new HearingUnitOfWork(hearingRepository, jsonObjectToObjectConverter, objectToJsonObjectConverter);
+    }
+
+    @Test
+    public void shouldDecodeEachHearingOnce() {
+        final HearingEntity hearingEntity = hearingEntity(Hearing.hearing().withId(randomUUID()).withHasSharedResults(false).build());
+
+        final Hearing first = unitOfWork.load(hearingEntity);
+        final Hearing second = unitOfWork.load(hearingEntity);
+
+        assertThat(second, sameInstance(first));
+        verify(jsonObjectToObjectConverter, times(1)).convert(any(), eq(Hearing.class));
+        assertThat(unitOfWork.flush(), is(0));
+        verify(hearingRepository, never()).save(hearingEntity);
+    }
+
+    @Test
+    public void shouldSaveEachChangedHearingOnceWithItsLatestState() {
+        final HearingEntity hearingEntity = hearingEntity(Hearing.hearing().withId(randomUUID()).withHasSharedResults(false).build());
+        final Hearing original = unitOfWork.load(hearingEntity);
+
+        unitOfWork.update(hearingEntity, Hearing.hearing().withValuesFrom(original).withIsBoxHearing(true).build());
+        final Hearing changed = unitOfWork.load(hearingEntity);
+        unitOfWork.update(hearingEntity, Hearing.hearing().withValuesFrom(changed).withHasSharedResults(true).build());
+
+        assertThat(unitOfWork.flush(), is(1));
+
+        verify(hearingRepository, times(1)).save(hearingEntity);
+        final Hearing saved = new HearingUnitOfWork(hearingRepository, jsonObjectToObjectConverter, objectToJsonObjectConverter).load(hearingEntity);
+        assertThat(saved.getIsBoxHearing(), is(true));
+        assertThat(saved.getHasSharedResults(), is(true));
+    }
+
+    private HearingEntity hearingEntity(final Hearing hearing) {
+        final HearingEntity hearingEntity = new HearingEntity();
+        hearingEntity.setHearingId(hearing.getId());
+        hearingEntity.setPayload(objectToJsonObjectConverter.convert(hearing).toString());
+        return hearingEntity;
+    }
+}
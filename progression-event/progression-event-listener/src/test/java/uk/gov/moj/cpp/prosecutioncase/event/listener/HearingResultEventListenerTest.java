@@ -232,7 +232,7 @@ public class HearingResultEventListenerTest {
                 objectToJsonObjectConverter.convert(hearingResulted)));
 
 
-        verify(this.hearingRepository, times(3)).save(hearingEntityArgumentCaptor.capture());
+        verify(this.hearingRepository, times(2)).save(hearingEntityArgumentCaptor.capture());
 
         List<HearingEntity> savedHearingEntities = hearingEntityArgumentCaptor.getAllValues();
 
@@ -135,6 +135,54 @@ public class ProsecutionCaseDefendantUpdatedEventListenerTest {
         assertThat(updatedProsecutionCaseEntity.getCaseId(), is(prosecutionCaseId));
     }
 
+    @Test
+    public void shouldOnlyRewriteTheUpdatedDefendantOfTheProsecutionCase() {
+        final ProsecutionCase singleDefendantCase = getProsecutionCase(prosecutionCaseId, defendantId, masterDefendantId);
+        final Defendant otherDefendant = Defendant.defendant()
+                .withId(randomUUID())
+                .withMasterDefendantId(randomUUID())
+                .withProsecutionCaseId(prosecutionCaseId)
+                .withOffences(singletonList(Offence.offence().withId(randomUUID()).build()))
+                .build();
+        final ProsecutionCase prosecutionCase = ProsecutionCase.prosecutionCase()
+                .withValuesFrom(singleDefendantCase)
+                .withDefendants(Arrays.asList(singleDefendantCase.getDefendants().get(0), otherDefendant))
+                .build();
+        final String eventPayload = FileUtil.getPayload("json/prosecution-case-defendant-updated.json")
+                .replace("PROSECUTION_CASE_ID", prosecutionCaseId.toString())
+                .replace("DEFENDANT_ID", defendantId.toString())
+                .replace("HEARING_LANGUAGE_NEEDS", hearingLanguage)
+                .replace("POLICE_BAIL_STATUS_ID", policeBailStatusId.toString())
+                .replace("POLICE_BAIL_STATUS_DESC", policeBailStatusDesc)
+                .replace("POLICE_BAIL_CONDITIONS", policeBailConditions);
+
+        final JsonObject storedPayload = objectToJsonObjectConverter.convert(prosecutionCase);
+        final ProsecutionCaseEntity prosecutionCaseEntity = new ProsecutionCaseEntity();
+        prosecutionCaseEntity.setCaseId(prosecutionCaseId);
+        prosecutionCaseEntity.setPayload(storedPayload.toString());
+
+        when(jsonEnvelope.payloadAsJsonObject()).thenReturn(stringToJsonObjectConverter.convert(eventPayload));
+        when(prosecutionCaseRepository.findByCaseId(prosecutionCaseId)).thenReturn(prosecutionCaseEntity);
+
+        prosecutionCaseDefendantUpdatedEventListener.processProsecutionCaseDefendantUpdated(jsonEnvelope);
+
+        verify(prosecutionCaseRepository).save(argumentCaptor.capture());
+        final JsonObject payload = stringToJsonObjectConverter.convert(argumentCaptor.getValue().getPayload());
+        final JsonArray defendants = payload.getJsonArray("defendants");
+        assertThat(defendants.size(), is(2));
+        assertThat(defendants.getJsonObject(0), is(storedPayload.getJsonArray("defendants").getJsonObject(1)));
+        assertThat(defendants.getJsonObject(1).getString("id"), is(defendantId.toString()));
+        assertThat(defendants.getJsonObject(1).getJsonObject("personDefendant").getString("policeBailConditions"), is(policeBailConditions));
+        assertThat(payload.getString("statementOfFacts"), is(storedPayload.getString("statementOfFacts")));
+
+        final ArgumentCaptor<ProsecutionCase> searchCaseCaptor = forClass(ProsecutionCase.class);
+        final ArgumentCaptor<Defendant> searchDefendantCaptor = forClass(Defendant.class);
+        verify(searchCase).makeSearchable(searchCaseCaptor.capture(), searchDefendantCaptor.capture());
+        assertThat(searchCaseCaptor.getValue().getId(), is(prosecutionCaseId));
+        assertThat(searchCaseCaptor.getValue().getProsecutionCaseIdentifier().getCaseURN(), is("123"));
+        assertThat(searchDefendantCaptor.getValue().getId(), is(defendantId));
+    }
+
     @Test
     public void shouldProcessProsecutionCaseUpdated() {
         final ProsecutionCase prosecutionCase = getProsecutionCase(prosecutionCaseId, defendantId, defendantId);
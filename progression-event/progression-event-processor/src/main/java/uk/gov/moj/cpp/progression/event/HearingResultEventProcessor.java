@@ -8,6 +8,8 @@ import static javax.json.Json.createObjectBuilder;
 import static org.apache.commons.collections.CollectionUtils.isNotEmpty;
 import static uk.gov.justice.services.core.annotation.Component.EVENT_PROCESSOR;
 import static uk.gov.justice.services.core.enveloper.Enveloper.envelop;
+import static uk.gov.moj.cpp.progression.domain.helper.CompressedHearingPayload.COMPRESSED_HEARING;
+import static uk.gov.moj.cpp.progression.domain.helper.CompressedHearingPayload.decompress;
 import static uk.gov.moj.cpp.progression.processor.utils.RetryHelper.retryHelper;
 
 import uk.gov.justice.core.courts.CommittingCourt;
@@ -172,7 +174,16 @@ public class HearingResultEventProcessor {
     @Handles("progression.event.applications-resulted")
     public void processHandleApplicationsResulted(final JsonEnvelope event) {
         final ApplicationsResulted applicationsResulted = jsonObjectToObjectConverter.convert(event.payloadAsJsonObject(), ApplicationsResulted.class);
-        final Hearing hearing = applicationsResulted.getHearing();
+        updateResultedApplications(event, applicationsResulted.getHearing());
+    }
+
+    @Handles("progression.event.applications-resulted-v2")
+    public void processHandleApplicationsResultedV2(final JsonEnvelope event) {
+        final Hearing hearing = jsonObjectToObjectConverter.convert(decompress(event.payloadAsJsonObject().getString(COMPRESSED_HEARING)), Hearing.class);
+        updateResultedApplications(event, hearing);
+    }
+
+    private void updateResultedApplications(final JsonEnvelope event, final Hearing hearing) {
         LOGGER.info("Hearing contains applications resulted for hearing id :: {}", hearing.getId());
         hearing.getCourtApplications().forEach(courtApplication -> {
             final JsonObjectBuilder payloadBuilder = createObjectBuilder().add("courtApplication", objectToJsonObjectConverter.convert(courtApplication));
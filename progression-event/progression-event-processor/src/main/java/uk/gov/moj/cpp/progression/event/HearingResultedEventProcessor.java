@@ -59,6 +59,8 @@ import static javax.json.Json.createObjectBuilder;
 import static org.apache.commons.collections.CollectionUtils.isEmpty;
 import static org.apache.commons.collections.CollectionUtils.isNotEmpty;
 import static uk.gov.justice.services.core.annotation.Component.EVENT_PROCESSOR;
+import static uk.gov.moj.cpp.progression.domain.helper.CompressedHearingPayload.COMPRESSED_HEARING;
+import static uk.gov.moj.cpp.progression.domain.helper.CompressedHearingPayload.decompress;
 
 @ServiceComponent(EVENT_PROCESSOR)
 public class HearingResultedEventProcessor {
@@ -136,8 +138,16 @@ public class HearingResultedEventProcessor {
     @Handles("progression.event.prosecution-cases-resulted-v2")
     public void handleProsecutionCasesResultedV2(final JsonEnvelope event) {
         final ProsecutionCasesResultedV2 prosecutionCasesResulted = jsonObjectToObjectConverter.convert(event.payloadAsJsonObject(), ProsecutionCasesResultedV2.class);
-        final Hearing hearing = prosecutionCasesResulted.getHearing();
+        updateResultedCases(event, prosecutionCasesResulted.getHearing());
+    }
+
+    @Handles("progression.event.prosecution-cases-resulted-v3")
+    public void handleProsecutionCasesResultedV3(final JsonEnvelope event) {
+        final Hearing hearing = jsonObjectToObjectConverter.convert(decompress(event.payloadAsJsonObject().getString(COMPRESSED_HEARING)), Hearing.class);
+        updateResultedCases(event, hearing);
+    }
 
+    private void updateResultedCases(final JsonEnvelope event, final Hearing hearing) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Sending commands to update cases following hearing results shared for hearing id: {}", hearing.getId());
         }
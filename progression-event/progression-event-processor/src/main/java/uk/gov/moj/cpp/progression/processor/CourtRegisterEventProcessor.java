@@ -16,6 +16,7 @@ import uk.gov.justice.services.fileservice.api.FileStorer;
 import uk.gov.justice.services.messaging.Envelope;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.moj.cpp.progression.service.ApplicationParameters;
+import uk.gov.moj.cpp.progression.service.CourtRegisterGenerationService;
 import uk.gov.moj.cpp.progression.service.NotificationNotifyService;
 
 import java.io.ByteArrayInputStream;
@@ -67,6 +68,9 @@ public class CourtRegisterEventProcessor {
     @Inject
     private Sender sender;
 
+    @Inject
+    private CourtRegisterGenerationService courtRegisterGenerationService;
+
     private static final String FIELD_COURT_CENTRE_ID = "courtCentreId";
     private static final String FIELD_REGISTER_DATE = "registerDate";
 
@@ -89,6 +93,11 @@ public class CourtRegisterEventProcessor {
 
     }
 
+    @Handles("progression.event.court-register-generation-requested")
+    public void startCourtRegisterGeneration(final JsonEnvelope envelope) {
+        courtRegisterGenerationService.startCourtRegisterGeneration(envelope);
+    }
+
     @Handles("progression.event.court-register-notified")
     public void notifyCourt(final JsonEnvelope envelope) {
         final JsonObject payload = envelope.payloadAsJsonObject();
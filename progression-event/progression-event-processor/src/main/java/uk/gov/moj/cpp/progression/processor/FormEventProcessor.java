@@ -44,6 +44,7 @@ import uk.gov.moj.cpp.progression.service.UsersGroupService;
 
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -239,6 +240,7 @@ public class FormEventProcessor {
 
             final JsonArrayBuilder pleasBuilder = createArrayBuilder();
             final JsonObjectBuilder defendantSubjectBuilder = createObjectBuilder();
+            final List<JsonObject> notifications = new ArrayList<>();
 
             if (nonNull(formDefendantsArray) && nonNull(defendants)) {
                 for (final JsonObject formDefendant : formDefendantsArray.getValuesAs(JsonObject.class)) {
@@ -252,8 +254,9 @@ public class FormEventProcessor {
                                 .findAny();
                     }
                     final Optional<JsonObject> matchedFormDefendantFromData = anyDefendantData;
-                    defendants.forEach(caseDefendant -> notifyPerDefendant(prosecutionCaseIdentifier, pleasBuilder, defendantSubjectBuilder, formDefendant, finalOtherLinkedCases, caseDefendant, matchedFormDefendantFromData));
+                    defendants.forEach(caseDefendant -> notifyPerDefendant(prosecutionCaseIdentifier, pleasBuilder, defendantSubjectBuilder, formDefendant, finalOtherLinkedCases, caseDefendant, matchedFormDefendantFromData, notifications));
                 }
+                sendNotifications(notifications);
             } else {
                 LOGGER.info("BCM Notification not send due to absence of defendant information");
             }
@@ -262,7 +265,7 @@ public class FormEventProcessor {
         }
     }
 
-    private void notifyPerDefendant(final ProsecutionCaseIdentifier prosecutionCaseIdentifier, final JsonArrayBuilder pleasBuilder, final JsonObjectBuilder defendantSubjectBuilder, final JsonObject formDefendant, final String finalOtherLinkedCases, final Defendant caseDefendant, final Optional<JsonObject> matchedFormDefendantFromData) {
+    private void notifyPerDefendant(final ProsecutionCaseIdentifier prosecutionCaseIdentifier, final JsonArrayBuilder pleasBuilder, final JsonObjectBuilder defendantSubjectBuilder, final JsonObject formDefendant, final String finalOtherLinkedCases, final Defendant caseDefendant, final Optional<JsonObject> matchedFormDefendantFromData, final List<JsonObject> notifications) {
         final UUID defendantId = caseDefendant.getId();
         LOGGER.info("Fetching details for defendant id : {}", defendantId);
         final String asn = nonNull(caseDefendant.getPersonDefendant()) ? caseDefendant.getPersonDefendant().getArrestSummonsNumber() : null;
@@ -288,12 +291,17 @@ public class FormEventProcessor {
             final JsonArray pleas = pleasBuilder.build();
 
             if (!pleas.isEmpty()) {
-                final JsonObject jsonObject = buildBcmNotificationPayload(prosecutionCaseIdentifier, defendantSubjectBuilder, pleas, finalOtherLinkedCases, defendantFromData);
-                cpsApiService.sendNotification(jsonObject);
+                notifications.add(buildBcmNotificationPayload(prosecutionCaseIdentifier, defendantSubjectBuilder, pleas, finalOtherLinkedCases, defendantFromData));
             }
         }
     }
 
+    private void sendNotifications(final List<JsonObject> notifications) {
+        if (!notifications.isEmpty()) {
+            cpsApiService.sendNotifications(notifications);
+        }
+    }
+
     private JsonObject buildBcmNotificationPayload(final ProsecutionCaseIdentifier prosecutionCaseIdentifier, final JsonObjectBuilder defendantSubjectBuilder,
                                                    final JsonArray pleas, final String linkedCases, final JsonObject defendantFromData) {
         LOGGER.info("Build BcmNotification Payload");
@@ -446,6 +454,7 @@ public class FormEventProcessor {
 
             final JsonArrayBuilder pleasBuilder = createArrayBuilder();
             final JsonObjectBuilder defendantSubjectBuilder = createObjectBuilder();
+            final List<JsonObject> notifications = new ArrayList<>();
 
             if (nonNull(formDataDefendantsArray) && nonNull(defendants)) {
                 for (final JsonObject formDefendant : formDataDefendantsArray.getValuesAs(JsonObject.class)) {
@@ -479,10 +488,8 @@ public class FormEventProcessor {
                                 final JsonArray pleas = pleasBuilder.build();
 
                                 if (!pleas.isEmpty()) {
-                                    final JsonObject jsonObject = buildBcmNotificationPayload(prosecutionCaseIdentifier, defendantSubjectBuilder, pleas,
-                                            finalOtherLinkedCases, formDefendant);
-
-                                    cpsApiService.sendNotification(jsonObject);
+                                    notifications.add(buildBcmNotificationPayload(prosecutionCaseIdentifier, defendantSubjectBuilder, pleas,
+                                            finalOtherLinkedCases, formDefendant));
                                 }
                             } else {
                                 LOGGER.info("BCM Notification not send due to absence of offence information");
@@ -490,6 +497,7 @@ public class FormEventProcessor {
                         }
                     });
                 }
+                sendNotifications(notifications);
             } else {
                 LOGGER.info("BCM Notification not send due to absence of defendant information");
             }
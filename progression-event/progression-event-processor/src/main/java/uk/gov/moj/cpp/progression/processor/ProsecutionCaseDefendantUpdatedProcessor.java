@@ -44,7 +44,9 @@ import uk.gov.moj.cpp.progression.value.object.HearingVO;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -69,6 +71,8 @@ public class ProsecutionCaseDefendantUpdatedProcessor {
 
     protected static final String PUBLIC_CASE_DEFENDANT_CHANGED = "public.progression.case-defendant-changed";
     protected static final String COMMAND_UPDATE_DEFENDANT_FOR_HEARING = "progression.command.update-defendant-for-hearing";
+    protected static final String COMMAND_UPDATE_DEFENDANT_FOR_HEARINGS = "progression.command.update-defendant-for-hearings";
+    private static final int MAX_HEARINGS_PER_COMMAND = 50;
     private static final Logger LOGGER = LoggerFactory.getLogger(ProsecutionCaseDefendantUpdatedProcessor.class.getCanonicalName());
     private static final String HEARING_ID = "hearingId";
     private static final String CPS_FLAG = "cpsFlag";
@@ -127,8 +131,7 @@ public class ProsecutionCaseDefendantUpdatedProcessor {
                         .withName(PUBLIC_CASE_DEFENDANT_CHANGED)
                         .withMetadataFrom(jsonEnvelope));
         if (nonNull(hearingIds)) {
-            hearingIds.stream().collect(Collectors.toSet()).forEach(hearingId ->
-                    sendDefendantUpdate(jsonEnvelope, defendant, hearingId));
+            sendDefendantUpdates(jsonEnvelope, defendant, new ArrayList<>(new LinkedHashSet<>(hearingIds)));
         }
 
         final Optional<JsonObject> prosecutionCaseOptional = progressionService.getProsecutionCaseDetailById(jsonEnvelope, defendant.getProsecutionCaseId().toString());
@@ -387,6 +390,31 @@ public class ProsecutionCaseDefendantUpdatedProcessor {
         return defendantVO;
     }
 
+    /**
+     * A defendant on a case listed in several hearings is updated in each of them by one command per
+     * {@value #MAX_HEARINGS_PER_COMMAND} hearings, so the hearing streams are appended to together
+     * rather than by a command round trip per hearing.
+     */
+    private void sendDefendantUpdates(final JsonEnvelope envelope, final DefendantUpdate defendantUpdate, final List<UUID> hearingIds) {
+        if (hearingIds.size() == 1) {
+            sendDefendantUpdate(envelope, defendantUpdate, hearingIds.get(0));
+            return;
+        }
+        for (int from = 0; from < hearingIds.size(); from += MAX_HEARINGS_PER_COMMAND) {
+            final JsonArrayBuilder hearingIdsBuilder = Json.createArrayBuilder();
+            hearingIds.subList(from, Math.min(from + MAX_HEARINGS_PER_COMMAND, hearingIds.size()))
+                    .forEach(hearingId -> hearingIdsBuilder.add(hearingId.toString()));
+            final JsonObject updateDefendantPayload = createObjectBuilder()
+                    .add(DEFENDANT, objectToJsonObjectConverter.convert(defendantUpdate))
+                    .add(HEARING_IDS, hearingIdsBuilder)
+                    .build();
+            sender.send(
+                    Enveloper.envelop(updateDefendantPayload)
+                            .withName(COMMAND_UPDATE_DEFENDANT_FOR_HEARINGS)
+                            .withMetadataFrom(envelope));
+        }
+    }
+
     private void sendDefendantUpdate(final JsonEnvelope envelope, final DefendantUpdate defendantUpdate, final UUID hearingId) {
         final JsonObject updateDefendantPayload = createObjectBuilder()
                 .add(DEFENDANT, objectToJsonObjectConverter.convert(defendantUpdate))
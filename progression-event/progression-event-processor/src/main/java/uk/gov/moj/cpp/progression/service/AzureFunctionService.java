@@ -20,6 +20,7 @@ public class AzureFunctionService {
     private static final String HTTPS = "https://";
     private static final Logger LOGGER = LoggerFactory.getLogger(AzureFunctionService.class.getName());
 
+    @Inject
     private HttpConnectionHelper httpConnectionHelper;
 
     @Inject
@@ -29,7 +30,6 @@ public class AzureFunctionService {
     private ApplicationParameters applicationParameters;
 
     public AzureFunctionService() {
-        this.httpConnectionHelper = new HttpConnectionHelper();
     }
 
     public AzureFunctionService(final HttpConnectionHelper httpConnectionHelper, final ApplicationParameters applicationParameters, final RestClientService restClientService) {
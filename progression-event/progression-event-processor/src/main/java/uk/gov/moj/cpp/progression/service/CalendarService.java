@@ -1,41 +1,117 @@
 package uk.gov.moj.cpp.progression.service;
 
-import static java.time.DayOfWeek.SATURDAY;
-import static java.time.DayOfWeek.SUNDAY;
+import static java.lang.Long.parseLong;
 
+import uk.gov.justice.services.common.configuration.Value;
 import uk.gov.justice.services.core.requester.Requester;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
-import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Working day arithmetic against the public holidays held by referencedata. Each division has a
+ * {@link WorkingDayCalendar} running from a month before today to several years ahead, loaded on
+ * first use and reloaded once it is older than the refresh interval. Dates the calendar does not
+ * cover are answered from a calendar loaded for just that request.
+ */
+@ApplicationScoped
 public class CalendarService {
 
     public static final String ENGLAND_AND_WALES_DIVISION = "england-and-wales";
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(CalendarService.class);
+
+    private static final long DEFAULT_YEARS_AHEAD = 2;
+    private static final long DEFAULT_REFRESH_HOURS = 24;
+    private static final int DAYS_BEHIND = 31;
+    private static final int LOOKUP_MARGIN_DAYS = 30;
+
     @Inject
     private RefDataService referenceDataService;
 
+    @Inject
+    @Value(key = "progression.calendar.yearsAhead", defaultValue = "2")
+    private String yearsAhead;
+
+    @Inject
+    @Value(key = "progression.calendar.refreshHours", defaultValue = "24")
+    private String refreshHours;
+
+    private final Map<String, WorkingDayCalendar> calendars = new ConcurrentHashMap<>();
+    private Clock clock = Clock.systemDefaultZone();
+
     public LocalDate plusWorkingDays(final LocalDate date, final Long numberOfDays, final Requester requester) {
-        final List<LocalDate> publicHolidaysList = referenceDataService.getPublicHolidays(ENGLAND_AND_WALES_DIVISION, date, date.plusDays(30), requester);
+        final WorkingDayCalendar calendar = getCalendar(ENGLAND_AND_WALES_DIVISION, requester);
+        if (calendar.covers(date, numberOfDays)) {
+            return calendar.plusWorkingDays(date, numberOfDays);
+        }
+        return loadCalendarFor(ENGLAND_AND_WALES_DIVISION, date, numberOfDays, requester).plusWorkingDays(date, numberOfDays);
+    }
+
+    public WorkingDayCalendar getCalendar(final String division, final Requester requester) {
+        final Instant now = clock.instant();
+        final WorkingDayCalendar cached = calendars.get(division);
+        if (cached != null && !isDue(cached, now)) {
+            return cached;
+        }
+        return calendars.compute(division, (key, current) -> current != null && !isDue(current, now) ? current : reload(division, current, now, requester));
+    }
 
-        LocalDate adjustedLocalDate = date;
-        for (int count = 0; count < numberOfDays; count++) {
-            adjustedLocalDate = getAdjustedWorkingDate(adjustedLocalDate.plusDays(1), publicHolidaysList);
+    public void invalidateAll() {
+        calendars.clear();
+    }
+
+    private WorkingDayCalendar reload(final String division, final WorkingDayCalendar current, final Instant now, final Requester requester) {
+        final LocalDate today = LocalDate.now(clock);
+        final LocalDate firstDate = today.minusDays(DAYS_BEHIND);
+        final LocalDate lastDate = today.plusYears(configured(yearsAhead, DEFAULT_YEARS_AHEAD));
+        try {
+            final WorkingDayCalendar calendar = new WorkingDayCalendar(firstDate, lastDate,
+                    referenceDataService.getPublicHolidays(division, firstDate, lastDate, requester), now);
+            LOGGER.info("Loaded {} working day calendar from {} to {}", division, firstDate, lastDate);
+            return calendar;
+        } catch (final RuntimeException e) {
+            if (current == null) {
+                throw e;
+            }
+            LOGGER.warn("Unable to reload {} working day calendar, keeping the one loaded at {}", division, current.getLoadedAt(), e);
+            return current;
         }
-        return adjustedLocalDate;
     }
 
-    private LocalDate getAdjustedWorkingDate(final LocalDate localDate, final List<LocalDate> publicHolidays) {
-        LocalDate adjustedLocalDate = localDate;
-        while (isDateOnAWeekend(adjustedLocalDate) || publicHolidays.contains(adjustedLocalDate)) {
-            adjustedLocalDate = adjustedLocalDate.plusDays(1);
+    /**
+     * Loads a calendar that runs far enough past {@code date} for {@code numberOfDays} working
+     * days, allowing for weekends and a margin of holidays, and widens it until it does.
+     */
+    private WorkingDayCalendar loadCalendarFor(final String division, final LocalDate date, final long numberOfDays, final Requester requester) {
+        long span = numberOfDays * 7 / 5 + LOOKUP_MARGIN_DAYS;
+        while (true) {
+            final LocalDate lastDate = date.plusDays(span);
+            final WorkingDayCalendar calendar = new WorkingDayCalendar(date, lastDate,
+                    referenceDataService.getPublicHolidays(division, date, lastDate, requester), clock.instant());
+            if (calendar.covers(date, numberOfDays)) {
+                return calendar;
+            }
+            span *= 2;
         }
-        return adjustedLocalDate;
     }
 
-    private boolean isDateOnAWeekend(final LocalDate localDate) {
-        return localDate.getDayOfWeek() == SUNDAY || localDate.getDayOfWeek() == SATURDAY;
+    private boolean isDue(final WorkingDayCalendar calendar, final Instant now) {
+        final Duration refreshInterval = Duration.ofHours(configured(refreshHours, DEFAULT_REFRESH_HOURS));
+        return !now.isBefore(calendar.getLoadedAt().plus(refreshInterval));
+    }
+
+    private static long configured(final String value, final long defaultValue) {
+        return value == null ? defaultValue : parseLong(value);
     }
 }
@@ -0,0 +1,157 @@
+package uk.gov.moj.cpp.progression.service;
+
+import static java.util.UUID.randomUUID;
+import static javax.json.Json.createArrayBuilder;
+import static javax.json.Json.createObjectBuilder;
+import static uk.gov.justice.services.core.annotation.Component.EVENT_PROCESSOR;
+import static uk.gov.justice.services.messaging.Envelope.metadataFrom;
+import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
+import static uk.gov.moj.cpp.jobstore.api.task.ExecutionStatus.STARTED;
+import static uk.gov.moj.cpp.progression.task.Task.GENERATE_COURT_REGISTERS;
+
+import uk.gov.justice.services.common.configuration.Value;
+import uk.gov.justice.services.common.util.UtcClock;
+import uk.gov.justice.services.core.annotation.ServiceComponent;
+import uk.gov.justice.services.core.requester.Requester;
+import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.jobstore.api.ExecutionService;
+import uk.gov.moj.cpp.jobstore.api.task.ExecutionInfo;
+import uk.gov.moj.cpp.jobstore.persistence.Priority;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import javax.inject.Inject;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Starts the jobs that generate the court registers of a court register generation run. The
+ * registers are shared round robin between at most {@code courtRegisterGenerationParallelism}
+ * jobs. Each job requests its next register only once the previous one has no recorded requests
+ * left, or has been waiting longer than {@code courtRegisterGenerationTimeoutSeconds}, so a run
+ * never has more than that many registers being generated at once however many court centres it
+ * covers.
+ */
+public class CourtRegisterGenerationService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CourtRegisterGenerationService.class);
+
+    public static final String GENERATE_COURT_REGISTER_FOR_COURT_CENTRE = "progression.command.generate-court-register-for-court-centre";
+    public static final String METADATA = "metadata";
+    public static final String GENERATION_ID = "generationId";
+    public static final String JOB = "job";
+    public static final String SYSTEM_GENERATED = "systemGenerated";
+    public static final String COURT_REGISTERS = "courtRegisters";
+    public static final String COURT_REGISTER_COUNT = "courtRegisterCount";
+    public static final String GENERATED_COUNT = "generatedCount";
+    public static final String STARTED_AT = "startedAt";
+    public static final String PENDING_COURT_REGISTER = "pendingCourtRegister";
+    public static final String PENDING_SINCE = "pendingSince";
+    public static final String COURT_CENTRE_ID = "courtCentreId";
+    public static final String REGISTER_DATE = "registerDate";
+
+    private static final String QUERY_RECORDED_COURT_REGISTER_DOCUMENT_REQUESTS = "progression.query.recorded-court-register-document-requests";
+    private static final String FIELD_COURT_REGISTER_DOCUMENT_REQUESTS = "courtRegisterDocumentRequests";
+    private static final String FIELD_PAGE_SIZE = "pageSize";
+
+    private static final int DEFAULT_PARALLELISM = 4;
+    private static final long DEFAULT_POLL_SECONDS = 5;
+    private static final long DEFAULT_TIMEOUT_SECONDS = 600;
+
+    @Inject
+    private UtcClock utcClock;
+
+    @Inject
+    private ExecutionService executionService;
+
+    @Inject
+    @ServiceComponent(EVENT_PROCESSOR)
+    private Requester requester;
+
+    @Inject
+    @Value(key = "courtRegisterGenerationParallelism", defaultValue = "4")
+    private String courtRegisterGenerationParallelism;
+
+    @Inject
+    @Value(key = "courtRegisterGenerationPollSeconds", defaultValue = "5")
+    private String courtRegisterGenerationPollSeconds;
+
+    @Inject
+    @Value(key = "courtRegisterGenerationTimeoutSeconds", defaultValue = "600")
+    private String courtRegisterGenerationTimeoutSeconds;
+
+    public void startCourtRegisterGeneration(final JsonEnvelope envelope) {
+        final JsonObject payload = envelope.payloadAsJsonObject();
+        final List<JsonObject> courtRegisters = payload.getJsonArray(COURT_REGISTERS).getValuesAs(JsonObject.class);
+        final String generationId = envelope.metadata().streamId().map(Object::toString).orElseGet(() -> envelope.metadata().id().toString());
+        final JsonObject metadata = metadataFrom(envelope.metadata()).withName(GENERATE_COURT_REGISTER_FOR_COURT_CENTRE).build().asJsonObject();
+        final ZonedDateTime startedAt = utcClock.now();
+
+        final int jobs = Math.min(getParallelism(), courtRegisters.size());
+        for (int job = 0; job < jobs; job++) {
+            final JsonArrayBuilder jobCourtRegisters = createArrayBuilder();
+            int courtRegisterCount = 0;
+            for (int i = job; i < courtRegisters.size(); i += jobs) {
+                jobCourtRegisters.add(courtRegisters.get(i));
+                courtRegisterCount++;
+            }
+
+            final JsonObject jobData = createObjectBuilder()
+                    .add(METADATA, metadata)
+                    .add(GENERATION_ID, generationId)
+                    .add(JOB, job + 1)
+                    .add(SYSTEM_GENERATED, payload.getBoolean(SYSTEM_GENERATED, false))
+                    .add(COURT_REGISTERS, jobCourtRegisters)
+                    .add(COURT_REGISTER_COUNT, courtRegisterCount)
+                    .add(GENERATED_COUNT, 0)
+                    .add(STARTED_AT, startedAt.toString())
+                    .build();
+
+            executionService.executeWith(new ExecutionInfo(jobData, GENERATE_COURT_REGISTERS.getTaskName(), startedAt, STARTED, Priority.MEDIUM));
+        }
+
+        LOGGER.info("Court register generation {} started for {} court registers in {} jobs", generationId, courtRegisters.size(), jobs);
+    }
+
+    /**
+     * Whether the register still has recorded requests, that is whether the requests have not yet
+     * been marked generated by the court register generated event of its command.
+     */
+    public boolean isCourtRegisterPending(final JsonObject metadata, final JsonObject courtRegister) {
+        final JsonEnvelope query = envelopeFrom(
+                metadataFrom(metadata).withId(randomUUID()).withName(QUERY_RECORDED_COURT_REGISTER_DOCUMENT_REQUESTS),
+                createObjectBuilder()
+                        .add(COURT_CENTRE_ID, courtRegister.getString(COURT_CENTRE_ID))
+                        .add(REGISTER_DATE, courtRegister.getString(REGISTER_DATE))
+                        .add(FIELD_PAGE_SIZE, 1)
+                        .build());
+        return !requester.requestAsAdmin(query).payloadAsJsonObject().getJsonArray(FIELD_COURT_REGISTER_DOCUMENT_REQUESTS).isEmpty();
+    }
+
+    public Duration getPollInterval() {
+        return Duration.ofSeconds(getPositiveSeconds(courtRegisterGenerationPollSeconds, DEFAULT_POLL_SECONDS));
+    }
+
+    public Duration getTimeout() {
+        return Duration.ofSeconds(getPositiveSeconds(courtRegisterGenerationTimeoutSeconds, DEFAULT_TIMEOUT_SECONDS));
+    }
+
+    private static long getPositiveSeconds(final String seconds, final long defaultSeconds) {
+        return Optional.ofNullable(seconds)
+                .map(Long::valueOf)
+                .filter(value -> value > 0)
+                .orElse(defaultSeconds);
+    }
+
+    private int getParallelism() {
+        return Optional.ofNullable(courtRegisterGenerationParallelism)
+                .map(Integer::valueOf)
+                .filter(parallelism -> parallelism > 0)
+                .orElse(DEFAULT_PARALLELISM);
+    }
+}
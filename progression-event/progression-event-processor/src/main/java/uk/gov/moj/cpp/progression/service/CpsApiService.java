@@ -8,17 +8,20 @@ import static org.slf4j.LoggerFactory.getLogger;
 import uk.gov.justice.services.common.configuration.Value;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import javax.inject.Inject;
 import javax.json.JsonObject;
 
 import org.apache.http.HttpEntity;
-import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.HttpResponse;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.methods.RequestBuilder;
 import org.apache.http.entity.mime.HttpMultipartMode;
-import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.util.EntityUtils;
 import org.slf4j.Logger;
 
@@ -36,9 +39,25 @@ public class CpsApiService {
     @Value(key = "subscription.key", defaultValue = "3674a16507104b749a76b29b6c837352")
     private String subscriptionKey;
 
-    private final HttpClientWrapper httpClientWrapper = new HttpClientWrapper();
+    @Inject
+    private HttpClientWrapper httpClientWrapper;
+
+    /**
+     * Sends the notifications together on the shared http client and returns once all of them have
+     * completed, so the calling thread waits for the slowest call rather than for each call in turn.
+     */
+    public void sendNotifications(final List<JsonObject> payloads) {
+        final CompletableFuture<?>[] notifications = payloads.stream()
+                .map(payload -> httpClientWrapper.executeAsync(notificationRequest(payload), CpsApiService::handleResponse))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(notifications).join();
+        } catch (CompletionException ex) {
+            throw new RuntimeException(ex.getCause());
+        }
+    }
 
-    public void sendNotification(final JsonObject payload) {
+    private HttpUriRequest notificationRequest(final JsonObject payload) {
         LOGGER.info(String.format("Sending bcm notification to CPS with payload %s", bcmNotificationUrl));
         final HttpEntity data = create()
                 .setMode(HttpMultipartMode.BROWSER_COMPATIBLE)
@@ -52,21 +71,18 @@ public class CpsApiService {
 
         LOGGER.info(String.format("CPS JSON Payload : %s", payload));
         LOGGER.info(String.format("Executing request : %s", request.getRequestLine()));
+        return request;
+    }
 
-        try (final CloseableHttpClient httpClient = httpClientWrapper.createHttpClient();
-             final CloseableHttpResponse response = httpClient.execute(request)) {
-
-            final int statusCode = response.getStatusLine().getStatusCode();
-            final String messageBody = EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8);
-            if (statusCode != SC_OK) {
-                LOGGER.info("Call to CPS notification endpoint failed with http status code : " + statusCode +
-                        ", : response body :  " + messageBody);
-            } else {
-                LOGGER.info(String.format("Call to CPS notification endpoint successful with http status code : %s and payload : %s", statusCode, messageBody));
-            }
-        } catch (Exception ex) {
-            throw new RuntimeException(ex);
+    private static Integer handleResponse(final HttpResponse response) throws IOException {
+        final int statusCode = response.getStatusLine().getStatusCode();
+        final String messageBody = EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8);
+        if (statusCode != SC_OK) {
+            LOGGER.info("Call to CPS notification endpoint failed with http status code : " + statusCode +
+                    ", : response body :  " + messageBody);
+        } else {
+            LOGGER.info(String.format("Call to CPS notification endpoint successful with http status code : %s and payload : %s", statusCode, messageBody));
         }
-
+        return statusCode;
     }
-}
\ No newline at end of file
+}
@@ -1,30 +1,176 @@
 package uk.gov.moj.cpp.progression.service;
 
+import static java.lang.Integer.parseInt;
+import static java.lang.Long.parseLong;
+import static java.lang.System.currentTimeMillis;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static uk.gov.moj.cpp.progression.service.OutboundHttpMetrics.destinationOf;
+
+import uk.gov.justice.services.common.configuration.Value;
 import uk.gov.moj.cpp.progression.service.exception.SecureConnectionException;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
 import java.security.KeyManagementException;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
+import java.util.concurrent.CompletableFuture;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.annotation.Resource;
+import javax.enterprise.concurrent.ManagedExecutorService;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
 import javax.net.ssl.SSLContext;
 
+import org.apache.http.HttpHost;
+import org.apache.http.client.ResponseHandler;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.routing.HttpRoute;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.conn.ssl.TrustStrategy;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
 import org.apache.http.ssl.SSLContexts;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Holds the http client shared by the outbound integrations of the event processor. Connections
+ * are pooled per destination and kept alive between calls, and every call is bounded by the
+ * configured connect, lease and socket timeouts. A pooled connection is reused while the remote end
+ * keeps it alive, up to the configured keep-alive, and is never used past its time to live.
+ * {@link #executeAsync} runs the call on the container managed executor so the calling thread can
+ * start several calls and wait for them together rather than one after another.
+ */
+@ApplicationScoped
 public class HttpClientWrapper {
     private static final Logger LOGGER = LoggerFactory.getLogger(HttpClientWrapper.class);
+    private static final String HTTPS = "https";
+
+    @Inject
+    @Value(key = "outboundHttp.maxConnections", defaultValue = "100")
+    private String maxConnections;
+
+    @Inject
+    @Value(key = "outboundHttp.maxConnectionsPerDestination", defaultValue = "20")
+    private String maxConnectionsPerDestination;
+
+    @Inject
+    @Value(key = "outboundHttp.connectTimeoutMillis", defaultValue = "5000")
+    private String connectTimeoutMillis;
+
+    @Inject
+    @Value(key = "outboundHttp.connectionRequestTimeoutMillis", defaultValue = "5000")
+    private String connectionRequestTimeoutMillis;
+
+    @Inject
+    @Value(key = "outboundHttp.socketTimeoutMillis", defaultValue = "30000")
+    private String socketTimeoutMillis;
+
+    @Inject
+    @Value(key = "outboundHttp.keepAliveMillis", defaultValue = "30000")
+    private String keepAliveMillis;
+
+    @Inject
+    @Value(key = "outboundHttp.connectionTimeToLiveMillis", defaultValue = "300000")
+    private String connectionTimeToLiveMillis;
+
+    @Inject
+    private OutboundHttpMetrics outboundHttpMetrics;
+
+    @Resource
+    private ManagedExecutorService managedExecutorService;
+
+    private PoolingHttpClientConnectionManager connectionManager;
+
+    private CloseableHttpClient httpClient;
+
+    @PostConstruct
+    public void createHttpClient() {
+        connectionManager = new PoolingHttpClientConnectionManager(parseLong(connectionTimeToLiveMillis), MILLISECONDS);
+        connectionManager.setMaxTotal(parseInt(maxConnections));
+        connectionManager.setDefaultMaxPerRoute(parseInt(maxConnectionsPerDestination));
+
+        final RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(parseInt(connectTimeoutMillis))
+                .setConnectionRequestTimeout(parseInt(connectionRequestTimeoutMillis))
+                .setSocketTimeout(parseInt(socketTimeoutMillis))
+                .build();
+
+        httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy(keepAliveStrategy(parseLong(keepAliveMillis)))
+                .evictExpiredConnections()
+                .evictIdleConnections(parseLong(keepAliveMillis), MILLISECONDS)
+                .build();
+    }
+
+    @PreDestroy
+    public void close() {
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            LOGGER.warn("Unable to close outbound http client", e);
+        }
+    }
+
+    /**
+     * Executes the request on the shared client. The response is passed to the handler and its
+     * connection returned to the pool before this method returns.
+     */
+    public <T> T execute(final HttpUriRequest request, final ResponseHandler<T> responseHandler) throws IOException {
+        final String destination = destinationOf(request.getURI());
+        final long start = currentTimeMillis();
+        try {
+            return httpClient.execute(request, response -> {
+                outboundHttpMetrics.recordResponse(destination, response.getStatusLine().getStatusCode(), currentTimeMillis() - start, poolStats(request));
+                return responseHandler.handleResponse(response);
+            });
+        } catch (IOException | RuntimeException e) {
+            outboundHttpMetrics.recordFailure(destination, currentTimeMillis() - start, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Executes the request on the shared client from the container managed executor. The returned
+     * future completes with the handler's result, or exceptionally with an
+     * {@link UncheckedIOException} when the call fails.
+     */
+    public <T> CompletableFuture<T> executeAsync(final HttpUriRequest request, final ResponseHandler<T> responseHandler) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return execute(request, responseHandler);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, managedExecutorService);
+    }
+
+    private PoolStats poolStats(final HttpUriRequest request) {
+        final URI uri = request.getURI();
+        final boolean secure = HTTPS.equalsIgnoreCase(uri.getScheme());
+        final int port = uri.getPort() == -1 ? (secure ? 443 : 80) : uri.getPort();
+        return connectionManager.getStats(new HttpRoute(new HttpHost(uri.getHost(), port, uri.getScheme()), null, secure));
+    }
 
-    public CloseableHttpClient createHttpClient() {
-        return HttpClients.createDefault();
+    private static ConnectionKeepAliveStrategy keepAliveStrategy(final long defaultKeepAliveMillis) {
+        return (response, context) -> {
+            final long keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return keepAlive > 0 ? Math.min(keepAlive, defaultKeepAliveMillis) : defaultKeepAliveMillis;
+        };
     }
 
     public CloseableHttpClient createSecureHttpClient() {
@@ -0,0 +1,36 @@
+package uk.gov.moj.cpp.progression.service;
+
+import java.net.URI;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.apache.http.pool.PoolStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Latency and connection pool usage of the outbound http calls made by this node. Each call is
+ * logged with its destination (scheme, host and port); the figures are not published anywhere
+ * else.
+ */
+@ApplicationScoped
+public class OutboundHttpMetrics {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboundHttpMetrics.class);
+
+    public void recordResponse(final String destination, final int status, final long elapsedMillis, final PoolStats poolStats) {
+        LOGGER.info("Outbound call to {} returned {} in {} ms, pool {}", destination, status, elapsedMillis, poolStats);
+    }
+
+    public void recordResponse(final String destination, final int status, final long elapsedMillis) {
+        LOGGER.info("Outbound call to {} returned {} in {} ms", destination, status, elapsedMillis);
+    }
+
+    public void recordFailure(final String destination, final long elapsedMillis, final Throwable cause) {
+        LOGGER.warn("Outbound call to {} failed after {} ms: {}", destination, elapsedMillis, cause.getMessage());
+    }
+
+    public static String destinationOf(final URI uri) {
+        return uri.getScheme() + "://" + uri.getHost() + (uri.getPort() == -1 ? "" : ":" + uri.getPort());
+    }
+}
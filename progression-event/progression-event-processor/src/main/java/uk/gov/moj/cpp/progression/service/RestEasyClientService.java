@@ -1,9 +1,15 @@
 package uk.gov.moj.cpp.progression.service;
 
+import static java.lang.Integer.parseInt;
+import static java.lang.Long.parseLong;
+import static java.lang.System.currentTimeMillis;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static javax.ws.rs.core.HttpHeaders.ACCEPT;
+import static uk.gov.moj.cpp.progression.service.OutboundHttpMetrics.destinationOf;
 
 import uk.gov.justice.services.common.configuration.Value;
 
+import java.net.URI;
 import java.util.Map;
 
 import javax.annotation.PostConstruct;
@@ -29,19 +35,56 @@ public class RestEasyClientService {
     @Value(key = "restEasyClientConnectionPoolSize", defaultValue = "10")
     private String restEasyClientConnectionPoolSize;
 
+    @Inject
+    @Value(key = "outboundHttp.maxConnectionsPerDestination", defaultValue = "20")
+    private String maxConnectionsPerDestination;
+
+    @Inject
+    @Value(key = "outboundHttp.connectTimeoutMillis", defaultValue = "5000")
+    private String connectTimeoutMillis;
+
+    @Inject
+    @Value(key = "outboundHttp.connectionRequestTimeoutMillis", defaultValue = "5000")
+    private String connectionRequestTimeoutMillis;
+
+    @Inject
+    @Value(key = "outboundHttp.socketTimeoutMillis", defaultValue = "30000")
+    private String socketTimeoutMillis;
+
+    @Inject
+    @Value(key = "outboundHttp.connectionTimeToLiveMillis", defaultValue = "300000")
+    private String connectionTimeToLiveMillis;
+
+    @Inject
+    private OutboundHttpMetrics outboundHttpMetrics;
+
     ResteasyClient client;
 
     @PostConstruct
     public void createClient() {
         client = new ResteasyClientBuilderImpl().disableTrustManager()
-                .connectionPoolSize(Integer.parseInt(restEasyClientConnectionPoolSize))
+                .connectionPoolSize(parseInt(restEasyClientConnectionPoolSize))
+                .maxPooledPerRoute(parseInt(maxConnectionsPerDestination))
+                .connectTimeout(parseLong(connectTimeoutMillis), MILLISECONDS)
+                .connectionCheckoutTimeout(parseLong(connectionRequestTimeoutMillis), MILLISECONDS)
+                .readTimeout(parseLong(socketTimeoutMillis), MILLISECONDS)
+                .connectionTTL(parseLong(connectionTimeToLiveMillis), MILLISECONDS)
                 .build();
     }
 
     public Response post(final String url, final String payload, final String key) {
-        final Invocation.Builder request = this.client.target(url).request();
-        request.headers(new MultivaluedHashMap(getHeaders(key)));
-        return request.post(Entity.json(payload));
+        final String destination = destinationOf(URI.create(url));
+        final long start = currentTimeMillis();
+        try {
+            final Invocation.Builder request = this.client.target(url).request();
+            request.headers(new MultivaluedHashMap(getHeaders(key)));
+            final Response response = request.post(Entity.json(payload));
+            outboundHttpMetrics.recordResponse(destination, response.getStatus(), currentTimeMillis() - start);
+            return response;
+        } catch (RuntimeException e) {
+            outboundHttpMetrics.recordFailure(destination, currentTimeMillis() - start, e);
+            throw e;
+        }
     }
 
     private Map<String, String> getHeaders(final String subscriptionKey) {
@@ -0,0 +1,123 @@
+package uk.gov.moj.cpp.progression.service;
+
+import static java.time.DayOfWeek.SATURDAY;
+import static java.time.DayOfWeek.SUNDAY;
+import static java.time.temporal.ChronoUnit.DAYS;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Working days between two dates, inclusive, for one division. Weekends and the public holidays
+ * the calendar is built with are not working days. Each day is numbered by the working days before
+ * it, so adding working days to a date covered by the calendar is two array lookups rather than a
+ * walk through the days in between.
+ */
+public class WorkingDayCalendar {
+
+    private final LocalDate firstDate;
+    private final LocalDate lastDate;
+    private final Instant loadedAt;
+
+    /**
+     * Working days before each day of the calendar; the last element is the total.
+     */
+    private final int[] workingDaysBefore;
+
+    /**
+     * Day of the calendar on which each working day falls, in order.
+     */
+    private final int[] workingDays;
+
+    public WorkingDayCalendar(final LocalDate firstDate, final LocalDate lastDate, final Collection<LocalDate> publicHolidays, final Instant loadedAt) {
+        if (lastDate.isBefore(firstDate)) {
+            throw new IllegalArgumentException(String.format("Calendar cannot end on %s before it starts on %s", lastDate, firstDate));
+        }
+        this.firstDate = firstDate;
+        this.lastDate = lastDate;
+        this.loadedAt = loadedAt;
+
+        final int dayCount = (int) DAYS.between(firstDate, lastDate) + 1;
+        final boolean[] holidays = new boolean[dayCount];
+        for (final LocalDate publicHoliday : publicHolidays) {
+            if (covers(publicHoliday)) {
+                holidays[dayOf(publicHoliday)] = true;
+            }
+        }
+
+        workingDaysBefore = new int[dayCount + 1];
+        final int[] working = new int[dayCount];
+        int workingDayCount = 0;
+        DayOfWeek dayOfWeek = firstDate.getDayOfWeek();
+        for (int day = 0; day < dayCount; day++) {
+            workingDaysBefore[day] = workingDayCount;
+            if (dayOfWeek != SATURDAY && dayOfWeek != SUNDAY && !holidays[day]) {
+                working[workingDayCount++] = day;
+            }
+            dayOfWeek = dayOfWeek.plus(1);
+        }
+        workingDaysBefore[dayCount] = workingDayCount;
+        workingDays = Arrays.copyOf(working, workingDayCount);
+    }
+
+    public LocalDate getFirstDate() {
+        return firstDate;
+    }
+
+    public LocalDate getLastDate() {
+        return lastDate;
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    /**
+     * Whether {@link #plusWorkingDays} can answer for the date and number of days from this
+     * calendar alone.
+     */
+    public boolean covers(final LocalDate date, final long numberOfDays) {
+        return covers(date) && (numberOfDays <= 0 || targetWorkingDay(date, numberOfDays) < workingDays.length);
+    }
+
+    public boolean isWorkingDay(final LocalDate date) {
+        checkCovered(date);
+        final int day = dayOf(date);
+        return workingDaysBefore[day + 1] > workingDaysBefore[day];
+    }
+
+    /**
+     * The date {@code numberOfDays} working days after {@code date}. The date itself is returned
+     * when no working days are added, whether or not it is a working day.
+     */
+    public LocalDate plusWorkingDays(final LocalDate date, final long numberOfDays) {
+        if (!covers(date, numberOfDays)) {
+            throw new IllegalArgumentException(String.format("Calendar from %s to %s does not cover %s plus %s working days", firstDate, lastDate, date, numberOfDays));
+        }
+        if (numberOfDays <= 0) {
+            return date;
+        }
+        return firstDate.plusDays(workingDays[(int) targetWorkingDay(date, numberOfDays)]);
+    }
+
+    private long targetWorkingDay(final LocalDate date, final long numberOfDays) {
+        return workingDaysBefore[dayOf(date) + 1] + numberOfDays - 1;
+    }
+
+    private boolean covers(final LocalDate date) {
+        return !date.isBefore(firstDate) && !date.isAfter(lastDate);
+    }
+
+    private void checkCovered(final LocalDate date) {
+        if (!covers(date)) {
+            throw new IllegalArgumentException(String.format("Calendar from %s to %s does not cover %s", firstDate, lastDate, date));
+        }
+    }
+
+    private int dayOf(final LocalDate date) {
+        return (int) DAYS.between(firstDate, date);
+    }
+}
@@ -0,0 +1,144 @@
+package uk.gov.moj.cpp.progression.task;
+
+import static java.util.UUID.randomUUID;
+import static javax.json.Json.createArrayBuilder;
+import static javax.json.Json.createObjectBuilder;
+import static uk.gov.justice.services.messaging.Envelope.envelopeFrom;
+import static uk.gov.justice.services.messaging.Envelope.metadataFrom;
+import static uk.gov.moj.cpp.jobstore.api.task.ExecutionInfo.executionInfo;
+import static uk.gov.moj.cpp.jobstore.api.task.ExecutionStatus.COMPLETED;
+import static uk.gov.moj.cpp.jobstore.api.task.ExecutionStatus.INPROGRESS;
+import static uk.gov.moj.cpp.progression.service.CourtRegisterGenerationService.COURT_CENTRE_ID;
+import static uk.gov.moj.cpp.progression.service.CourtRegisterGenerationService.COURT_REGISTERS;
+import static uk.gov.moj.cpp.progression.service.CourtRegisterGenerationService.COURT_REGISTER_COUNT;
+import static uk.gov.moj.cpp.progression.service.CourtRegisterGenerationService.GENERATED_COUNT;
+import static uk.gov.moj.cpp.progression.service.CourtRegisterGenerationService.GENERATION_ID;
+import static uk.gov.moj.cpp.progression.service.CourtRegisterGenerationService.JOB;
+import static uk.gov.moj.cpp.progression.service.CourtRegisterGenerationService.METADATA;
+import static uk.gov.moj.cpp.progression.service.CourtRegisterGenerationService.PENDING_COURT_REGISTER;
+import static uk.gov.moj.cpp.progression.service.CourtRegisterGenerationService.PENDING_SINCE;
+import static uk.gov.moj.cpp.progression.service.CourtRegisterGenerationService.REGISTER_DATE;
+import static uk.gov.moj.cpp.progression.service.CourtRegisterGenerationService.STARTED_AT;
+import static uk.gov.moj.cpp.progression.service.CourtRegisterGenerationService.SYSTEM_GENERATED;
+import static uk.gov.moj.cpp.progression.task.Task.TaskNames.GENERATE_COURT_REGISTERS_TASK;
+
+import uk.gov.justice.services.common.util.UtcClock;
+import uk.gov.justice.services.core.annotation.FrameworkComponent;
+import uk.gov.justice.services.core.sender.Sender;
+import uk.gov.moj.cpp.jobstore.api.task.ExecutableTask;
+import uk.gov.moj.cpp.jobstore.api.task.ExecutionInfo;
+import uk.gov.moj.cpp.progression.service.CourtRegisterGenerationService;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Generates the court registers of a court register generation job one after another. Each run
+ * first checks the register requested by the previous run: while it still has recorded requests
+ * the job is run again after the poll interval, and once it has none it is counted as generated.
+ * The next register is then requested and the job checkpointed with the registers that are left,
+ * so a job that is interrupted carries on from the register it was waiting for rather than
+ * starting the run again. A register still pending after the timeout is logged and left behind,
+ * to be picked up by the next run as its requests are still recorded.
+ */
+@uk.gov.moj.cpp.jobstore.api.annotation.Task(GENERATE_COURT_REGISTERS_TASK)
+@ApplicationScoped
+public class GenerateCourtRegistersTask implements ExecutableTask {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenerateCourtRegistersTask.class);
+
+    @Inject
+    private UtcClock utcClock;
+
+    @Inject
+    @FrameworkComponent("EVENT_PROCESSOR")
+    private Sender sender;
+
+    @Inject
+    private CourtRegisterGenerationService courtRegisterGenerationService;
+
+    @Override
+    public ExecutionInfo execute(final ExecutionInfo executionInfo) {
+        final JsonObject jobData = executionInfo.getJobData();
+        final ZonedDateTime now = utcClock.now();
+        final long elapsedMillis = Duration.between(ZonedDateTime.parse(jobData.getString(STARTED_AT)), now).toMillis();
+        int generatedCount = jobData.getInt(GENERATED_COUNT);
+
+        final JsonObject pendingCourtRegister = jobData.getJsonObject(PENDING_COURT_REGISTER);
+        if (pendingCourtRegister != null) {
+            final boolean pending = courtRegisterGenerationService.isCourtRegisterPending(jobData.getJsonObject(METADATA), pendingCourtRegister);
+            final ZonedDateTime pendingSince = ZonedDateTime.parse(jobData.getString(PENDING_SINCE));
+            if (pending && now.isBefore(pendingSince.plus(courtRegisterGenerationService.getTimeout()))) {
+                return waitFor(jobData, now);
+            }
+
+            if (pending) {
+                LOGGER.warn("Court register generation {} job {}: court register of court centre {} on {} still not generated after {}, moving on",
+                        jobData.getString(GENERATION_ID), jobData.getInt(JOB), pendingCourtRegister.getString(COURT_CENTRE_ID), pendingCourtRegister.getString(REGISTER_DATE),
+                        courtRegisterGenerationService.getTimeout());
+            } else {
+                generatedCount++;
+                LOGGER.info("Court register generation {} job {}: generated court register of court centre {} on {}, {} of {} after {} ms",
+                        jobData.getString(GENERATION_ID), jobData.getInt(JOB), pendingCourtRegister.getString(COURT_CENTRE_ID), pendingCourtRegister.getString(REGISTER_DATE),
+                        generatedCount, jobData.getInt(COURT_REGISTER_COUNT), elapsedMillis);
+            }
+        }
+
+        final List<JsonObject> courtRegisters = jobData.getJsonArray(COURT_REGISTERS).getValuesAs(JsonObject.class);
+        if (courtRegisters.isEmpty()) {
+            LOGGER.info("Court register generation {} job {} completed, generated {} of {} court registers in {} ms",
+                    jobData.getString(GENERATION_ID), jobData.getInt(JOB), generatedCount, jobData.getInt(COURT_REGISTER_COUNT), elapsedMillis);
+            return executionInfo()
+                    .withExecutionStatus(COMPLETED)
+                    .build();
+        }
+
+        final JsonObject courtRegister = courtRegisters.get(0);
+        sender.send(envelopeFrom(
+                metadataFrom(jobData.getJsonObject(METADATA)).withId(randomUUID()),
+                createObjectBuilder()
+                        .add(COURT_CENTRE_ID, courtRegister.getString(COURT_CENTRE_ID))
+                        .add(REGISTER_DATE, courtRegister.getString(REGISTER_DATE))
+                        .add(SYSTEM_GENERATED, jobData.getBoolean(SYSTEM_GENERATED, false))
+                        .build()));
+
+        return waitFor(checkpoint(jobData, courtRegisters.subList(1, courtRegisters.size()), generatedCount, courtRegister, now), now);
+    }
+
+    private ExecutionInfo waitFor(final JsonObject jobData, final ZonedDateTime now) {
+        return executionInfo()
+                .withJobData(jobData)
+                .withNextTask(GENERATE_COURT_REGISTERS_TASK)
+                .withNextTaskStartTime(now.plus(courtRegisterGenerationService.getPollInterval()))
+                .withExecutionStatus(INPROGRESS)
+                .build();
+    }
+
+    private static JsonObject checkpoint(final JsonObject jobData, final List<JsonObject> remainingCourtRegisters, final int generatedCount,
+                                         final JsonObject pendingCourtRegister, final ZonedDateTime pendingSince) {
+        final JsonArrayBuilder courtRegisters = createArrayBuilder();
+        remainingCourtRegisters.forEach(courtRegisters::add);
+
+        final JsonObjectBuilder checkpoint = createObjectBuilder();
+        jobData.forEach((name, value) -> {
+            if (!COURT_REGISTERS.equals(name) && !GENERATED_COUNT.equals(name) && !PENDING_COURT_REGISTER.equals(name) && !PENDING_SINCE.equals(name)) {
+                checkpoint.add(name, value);
+            }
+        });
+        return checkpoint
+                .add(COURT_REGISTERS, courtRegisters)
+                .add(GENERATED_COUNT, generatedCount)
+                .add(PENDING_COURT_REGISTER, pendingCourtRegister)
+                .add(PENDING_SINCE, pendingSince.toString())
+                .build();
+    }
+}
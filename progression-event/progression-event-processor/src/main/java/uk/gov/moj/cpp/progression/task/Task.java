@@ -1,10 +1,12 @@
 package uk.gov.moj.cpp.progression.task;
 
+import static uk.gov.moj.cpp.progression.task.Task.TaskNames.GENERATE_COURT_REGISTERS_TASK;
 import static uk.gov.moj.cpp.progression.task.Task.TaskNames.GENERATE_OPA_NOTICE_TASK;
 import static uk.gov.moj.cpp.progression.task.Task.TaskNames.RETRY_ADD_DEFENDANT_TO_CASE_TASK;
 
 public enum Task {
 
+    GENERATE_COURT_REGISTERS(GENERATE_COURT_REGISTERS_TASK),
     GENERATE_OPA_NOTICE(GENERATE_OPA_NOTICE_TASK),
     RETRY_ADD_DEFENDANT_TO_CASE(RETRY_ADD_DEFENDANT_TO_CASE_TASK);
 
@@ -19,6 +21,7 @@ public enum Task {
     }
 
     public static class TaskNames {
+        public static final String GENERATE_COURT_REGISTERS_TASK = "generate-court-registers";
         public static final String GENERATE_OPA_NOTICE_TASK = "generate-opa-notice-notice";
         public static final String RETRY_ADD_DEFENDANT_TO_CASE_TASK = "retry-add-defendant-to-case";
         private TaskNames() {
@@ -34,6 +34,7 @@ import static uk.gov.justice.progression.courts.ApplicationsResulted.application
 import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
 import static uk.gov.justice.services.messaging.JsonEnvelope.metadataBuilder;
 import static uk.gov.justice.services.test.utils.core.messaging.MetadataBuilderFactory.metadataWithRandomUUID;
+import static uk.gov.moj.cpp.progression.domain.helper.CompressedHearingPayload.COMPRESSED_HEARING;
 import static uk.gov.moj.cpp.progression.service.RefDataService.REFERENCEDATA_GET_ALL_RESULT_DEFINITIONS;
 import static uk.gov.moj.cpp.progression.utils.FileUtil.getPayload;
 import static uk.gov.moj.cpp.progression.utils.FileUtil.jsonFromString;
@@ -83,6 +84,7 @@ import uk.gov.justice.services.messaging.MetadataBuilder;
 import uk.gov.justice.services.messaging.spi.DefaultEnvelope;
 import uk.gov.justice.services.test.utils.core.messaging.MetadataBuilderFactory;
 import uk.gov.moj.cpp.progression.converter.SeedingHearingConverter;
+import uk.gov.moj.cpp.progression.domain.helper.CompressedHearingPayload;
 import uk.gov.moj.cpp.progression.domain.pojo.PrisonCustodySuite;
 import uk.gov.moj.cpp.progression.exception.LaaAzureApimInvocationException;
 import uk.gov.moj.cpp.progression.helper.CustodialEstablishmentUpdateHelper;
@@ -477,6 +479,26 @@ public class HearingResultEventProcessorTest {
     }
 
 
+    @Test
+    public void shouldProcessHandleApplicationsResultedV2() {
+        final ApplicationsResulted applicationsResulted = buildApplicationsResulted(false, false);
+        final JsonObject compressedPayload = createObjectBuilder()
+                .add(COMPRESSED_HEARING, CompressedHearingPayload.compress(objectToJsonObjectConverter.convert(applicationsResulted.getHearing()).toString()))
+                .build();
+        final JsonEnvelope event = envelopeFrom(
+                metadataWithRandomUUID("progression.event.applications-resulted-v2"),
+                compressedPayload);
+
+        eventProcessor.processHandleApplicationsResultedV2(event);
+
+        verify(this.sender).send(this.envelopeArgumentCaptor2.capture());
+        final List<Envelope<?>> allValues = envelopeArgumentCaptor2.getAllValues();
+        assertThat(allValues.size(), is(1));
+        assertThat(allValues.get(0).metadata().name(), equalTo("progression.command.hearing-resulted-update-application"));
+        assertThat(((JsonObject) allValues.get(0).payload()).getJsonObject("courtApplication").getString("id"),
+                is(applicationsResulted.getHearing().getCourtApplications().get(0).getId().toString()));
+    }
+
     @Test
     public void shouldProcessHandleApplicationsResultedAndShouldCallLaaApiWhenProceedingsConcludedWithOffenceLevelLAAReference() {
         final ApplicationsResulted applicationsResulted = buildApplicationsResulted(true, true);
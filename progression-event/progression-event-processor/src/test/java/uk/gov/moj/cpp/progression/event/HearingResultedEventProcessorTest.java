@@ -15,6 +15,7 @@ import static org.mockito.Mockito.when;
 import static uk.gov.justice.core.courts.ProsecutionCase.prosecutionCase;
 import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
 import static uk.gov.justice.services.test.utils.core.messaging.MetadataBuilderFactory.metadataWithRandomUUID;
+import static uk.gov.moj.cpp.progression.domain.helper.CompressedHearingPayload.COMPRESSED_HEARING;
 
 import uk.gov.justice.core.courts.CourtApplication;
 import uk.gov.justice.core.courts.CourtApplicationCase;
@@ -61,6 +62,7 @@ import uk.gov.justice.services.messaging.Envelope;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.justice.services.test.utils.core.random.DateGenerator;
 import uk.gov.justice.services.test.utils.core.random.ZonedDateTimeGenerator;
+import uk.gov.moj.cpp.progression.domain.helper.CompressedHearingPayload;
 import uk.gov.moj.cpp.progression.helper.HearingResultUnscheduledListingHelper;
 import uk.gov.moj.cpp.progression.helper.SummonsHelper;
 import uk.gov.moj.cpp.progression.helper.UnscheduledCourtHearingListTransformer;
@@ -309,6 +311,34 @@ public class HearingResultedEventProcessorTest {
         assertThat(hearingDaysTimeCaptor.getValue().get(0).getSittingDay().toInstant().truncatedTo(ChronoUnit.MILLIS), CoreMatchers.is(hearingDateTime.toInstant().truncatedTo(ChronoUnit.MILLIS)));
     }
 
+    @Test
+    public void shouldDecompressTheHearingOfProsecutionCasesResultedV3() {
+        final UUID caseId = UUID.randomUUID();
+        final Hearing hearing = Hearing.hearing()
+                .withId(randomUUID())
+                .withJurisdictionType(JurisdictionType.MAGISTRATES)
+                .withProsecutionCases(singletonList(ProsecutionCase.prosecutionCase().withId(caseId).withDefendants(singletonList(Defendant.defendant().build())).build()))
+                .build();
+        final JsonObject hearingJson = objectToJsonObjectConverter.convert(hearing);
+        final JsonObject compressedPayload = Json.createObjectBuilder()
+                .add(COMPRESSED_HEARING, CompressedHearingPayload.compress(hearingJson.toString()))
+                .add("hearingDay", "2026-10-18")
+                .build();
+
+        final JsonEnvelope event = envelopeFrom(
+                metadataWithRandomUUID("progression.event.prosecution-cases-resulted-v3"),
+                compressedPayload);
+        when(jsonObjectToObjectConverter.convert(hearingJson, Hearing.class)).thenReturn(hearing);
+
+        this.eventProcessor.handleProsecutionCasesResultedV3(event);
+
+        verify(progressionService).updateCase(eq(event), prosecutionCaseArgumentCaptor.capture(),
+                courtApplicationsArgumentCaptor.capture(), defendantJudicialResultArgumentCaptor.capture(),
+                courtCentreArgumentCaptor.capture(), hearingIdCaptor.capture(), hearingDaysTimeCaptor.capture(), hearingTypeCaptor.capture(), jurisdictionTypeCaptor.capture(), isBoxHearingCaptor.capture());
+        assertThat(prosecutionCaseArgumentCaptor.getValue().getId(), is(caseId));
+        assertThat(hearingIdCaptor.getValue(), is(hearing.getId()));
+    }
+
     @Test
     public void shouldCreateNextHearingsInListingAndUpdateStatus() {
         final UUID seedingHearingId = randomUUID();
@@ -0,0 +1,64 @@
+package uk.gov.moj.cpp.progression.helper;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import uk.gov.justice.services.common.http.HeaderConstants;
+import uk.gov.moj.cpp.progression.service.HttpClientWrapper;
+
+import java.io.IOException;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.StatusLine;
+import org.apache.http.client.ResponseHandler;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.util.EntityUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class HttpConnectionHelperTest {
+
+    private static final String URL = "https://azure.example/api/setCaseEjected";
+
+    @Mock
+    private HttpClientWrapper httpClientWrapper;
+
+    @Mock
+    private HttpResponse response;
+
+    @Mock
+    private StatusLine statusLine;
+
+    @InjectMocks
+    private HttpConnectionHelper httpConnectionHelper;
+
+    @Captor
+    private ArgumentCaptor<HttpPost> postCaptor;
+
+    @Test
+    public void shouldPostJsonPayloadOnTheSharedClientAndReturnTheStatusCode() throws IOException {
+        when(response.getStatusLine()).thenReturn(statusLine);
+        when(statusLine.getStatusCode()).thenReturn(HttpStatus.SC_ACCEPTED);
+        when(httpClientWrapper.execute(postCaptor.capture(), any())).thenAnswer(invocation -> invocation.<ResponseHandler<Integer>>getArgument(1).handleResponse(response));
+
+        final Integer responseCode = httpConnectionHelper.getResponseCode(URL, "{\"caseId\":\"1\"}");
+
+        assertThat(responseCode, is(HttpStatus.SC_ACCEPTED));
+        final HttpPost post = postCaptor.getValue();
+        assertThat(post.getURI().toString(), is(URL));
+        assertThat(post.getFirstHeader("content-type").getValue(), is("application/json"));
+        assertThat(post.getFirstHeader(HeaderConstants.USER_ID), is(notNullValue()));
+        assertThat(EntityUtils.toString(post.getEntity(), UTF_8), is("{\"caseId\":\"1\"}"));
+    }
+}
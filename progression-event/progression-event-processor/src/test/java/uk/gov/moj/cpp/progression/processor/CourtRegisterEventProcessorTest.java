@@ -26,6 +26,7 @@ import uk.gov.justice.services.messaging.Envelope;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.justice.services.test.utils.core.messaging.MetadataBuilderFactory;
 import uk.gov.moj.cpp.progression.service.ApplicationParameters;
+import uk.gov.moj.cpp.progression.service.CourtRegisterGenerationService;
 import uk.gov.moj.cpp.progression.service.MaterialService;
 import uk.gov.moj.cpp.progression.service.NotificationNotifyService;
 import uk.gov.moj.cpp.system.documentgenerator.client.DocumentGeneratorClient;
@@ -92,6 +93,9 @@ public class CourtRegisterEventProcessorTest {
     @Mock
     private Sender sender;
 
+    @Mock
+    private CourtRegisterGenerationService courtRegisterGenerationService;
+
     @BeforeEach
     public void setup() {
         setField(this.objectToJsonObjectConverter, "mapper", new ObjectMapperProducer().objectMapper());
@@ -133,6 +137,17 @@ public class CourtRegisterEventProcessorTest {
         assertThat(objectToJsonObjectConverter.convert(captor.getValue().payload()).getString("payloadFileServiceId"), is(fileId.toString()));
     }
 
+    @Test
+    public void shouldStartCourtRegisterGeneration() {
+        final JsonEnvelope event = envelopeFrom(
+                MetadataBuilderFactory.metadataWithRandomUUID("progression.event.court-register-generation-requested"),
+                Json.createObjectBuilder().add("courtRegisters", Json.createArrayBuilder()).build());
+
+        courtRegisterEventProcessor.startCourtRegisterGeneration(event);
+
+        verify(courtRegisterGenerationService).startCourtRegisterGeneration(event);
+    }
+
     @Test
     public void shouldNotifyCourt() {
         final JsonArrayBuilder recipientJsonArray = Json.createArrayBuilder();
@@ -10,6 +10,7 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.times;
@@ -783,7 +784,7 @@ public class FormEventProcessorTest {
         when(jsonObjectToObjectConverter.convert(any(), any())).thenReturn(prosecutionCase1);
 
         formEventProcessor.formCreated(requestEnvelope);
-        verify(cpsApiService, times(1)).sendNotification(any());
+        verify(cpsApiService, times(1)).sendNotifications(argThat(notifications -> notifications.size() == 1));
     }
 
     @Test
@@ -850,7 +851,7 @@ public class FormEventProcessorTest {
                 .build();
 
         formEventProcessor.formCreated(requestEnvelope);
-        verify(cpsApiService, times(0)).sendNotification(any());
+        verify(cpsApiService, times(0)).sendNotifications(any());
     }
 
     @Test
@@ -947,8 +948,7 @@ public class FormEventProcessorTest {
         when(jsonObjectToObjectConverter.convert(any(), any())).thenReturn(prosecutionCase1);
 
         formEventProcessor.formUpdated(requestEnvelope);
-        final ArgumentCaptor<JsonObject> payload = ArgumentCaptor.forClass(JsonObject.class);
-        verify(cpsApiService, times(1)).sendNotification(payload.capture());
+        verify(cpsApiService, times(1)).sendNotifications(argThat(notifications -> notifications.size() == 1));
     }
 
     @Test
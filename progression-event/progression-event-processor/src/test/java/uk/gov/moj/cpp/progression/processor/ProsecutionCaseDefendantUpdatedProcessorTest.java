@@ -52,9 +52,11 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import javax.json.Json;
 import javax.json.JsonObject;
+import javax.json.JsonString;
 
 import com.google.common.io.Resources;
 import org.junit.jupiter.api.BeforeEach;
@@ -383,14 +385,14 @@ public class ProsecutionCaseDefendantUpdatedProcessorTest {
         this.eventProcessor.handleProsecutionCaseDefendantUpdatedEvent(jsonEnvelope);
 
         //Then
-        verify(sender, times(4)).send(envelopeArgumentCaptor.capture());
+        verify(sender, times(2)).send(envelopeArgumentCaptor.capture());
 
         final List<Envelope<JsonObject>> envelopes = envelopeArgumentCaptor.getAllValues();
 
         assertThat(envelopes.get(0).metadata().name(), is("public.progression.case-defendant-changed"));
-        assertThat(envelopes.get(1).metadata().name(), is("progression.command.update-defendant-for-hearing"));
-        assertThat(envelopes.get(2).metadata().name(), is("progression.command.update-defendant-for-hearing"));
-        assertThat(envelopes.get(3).metadata().name(), is("progression.command.update-defendant-for-hearing"));
+        assertThat(envelopes.get(1).metadata().name(), is("progression.command.update-defendant-for-hearings"));
+        assertThat(envelopes.get(1).payload().getJsonArray("hearingIds").getValuesAs(JsonString.class).stream().map(JsonString::getString).collect(Collectors.toList()),
+                is(asList(hearingId1.toString(), hearingId2.toString(), hearingId3.toString())));
     }
 
     @Test
@@ -5,11 +5,18 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+import static uk.gov.moj.cpp.progression.service.CalendarService.ENGLAND_AND_WALES_DIVISION;
 
 import uk.gov.justice.services.core.requester.Requester;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -52,6 +59,58 @@ public class CalendarServiceTest {
         assertThat(result, is(LocalDate.parse("2023-10-27")));
     }
 
+    @Test
+    public void shouldLoadTheCalendarOnceAndReuseItUntilTheRefreshInterval() {
+        setClock("2023-10-20T09:00:00Z");
+
+        assertThat(calendarService.plusWorkingDays(LocalDate.parse("2023-11-01"), 3L, requester), is(LocalDate.parse("2023-11-08")));
+        assertThat(calendarService.plusWorkingDays(LocalDate.parse("2023-10-23"), 4L, requester), is(LocalDate.parse("2023-10-27")));
+        setClock("2023-10-21T08:59:59Z");
+        assertThat(calendarService.plusWorkingDays(LocalDate.parse("2023-11-02"), 1L, requester), is(LocalDate.parse("2023-11-07")));
+
+        verify(referenceDataService).getPublicHolidays(ENGLAND_AND_WALES_DIVISION, LocalDate.parse("2023-09-19"), LocalDate.parse("2025-10-20"), requester);
+    }
+
+    @Test
+    public void shouldReloadTheCalendarOnceTheRefreshIntervalHasPassed() {
+        setClock("2023-10-20T09:00:00Z");
+        calendarService.plusWorkingDays(LocalDate.parse("2023-10-23"), 4L, requester);
+
+        setClock("2023-10-21T09:00:00Z");
+        calendarService.plusWorkingDays(LocalDate.parse("2023-10-23"), 4L, requester);
+
+        verify(referenceDataService).getPublicHolidays(ENGLAND_AND_WALES_DIVISION, LocalDate.parse("2023-09-19"), LocalDate.parse("2025-10-20"), requester);
+        verify(referenceDataService).getPublicHolidays(ENGLAND_AND_WALES_DIVISION, LocalDate.parse("2023-09-20"), LocalDate.parse("2025-10-21"), requester);
+    }
+
+    @Test
+    public void shouldKeepTheLoadedCalendarWhenReloadingFails() {
+        setClock("2023-10-20T09:00:00Z");
+        calendarService.plusWorkingDays(LocalDate.parse("2023-10-23"), 4L, requester);
+        when(referenceDataService.getPublicHolidays(anyString(), any(), any(), any())).thenThrow(new IllegalStateException("referencedata unavailable"));
+
+        setClock("2023-10-22T09:00:00Z");
+        final LocalDate result = calendarService.plusWorkingDays(LocalDate.parse("2023-11-01"), 3L, requester);
+
+        assertThat(result, is(LocalDate.parse("2023-11-08")));
+        verify(referenceDataService, times(2)).getPublicHolidays(anyString(), any(), any(), any());
+    }
+
+    @Test
+    public void shouldLoadPublicHolidaysForTheWholePeriodOutsideTheCalendar() {
+        setClock("2026-10-20T09:00:00Z");
+
+        final LocalDate result = calendarService.plusWorkingDays(LocalDate.parse("2023-10-23"), 40L, requester);
+
+        assertThat(result, is(LocalDate.parse("2023-12-20")));
+        verify(referenceDataService).getPublicHolidays(ENGLAND_AND_WALES_DIVISION, LocalDate.parse("2026-09-19"), LocalDate.parse("2028-10-20"), requester);
+        verify(referenceDataService).getPublicHolidays(ENGLAND_AND_WALES_DIVISION, LocalDate.parse("2023-10-23"), LocalDate.parse("2024-01-17"), requester);
+    }
+
+    private void setClock(final String instant) {
+        setField(calendarService, "clock", Clock.fixed(Instant.parse(instant), ZoneOffset.UTC));
+    }
+
     private List<LocalDate> getPublicHolidays() {
         final List<LocalDate> publicHolidays = new ArrayList();
         publicHolidays.add(LocalDate.parse("2023-11-03"));
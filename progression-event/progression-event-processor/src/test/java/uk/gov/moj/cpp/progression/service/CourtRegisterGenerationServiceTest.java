@@ -0,0 +1,172 @@
+package uk.gov.moj.cpp.progression.service;
+
+import static java.util.UUID.randomUUID;
+import static javax.json.Json.createArrayBuilder;
+import static javax.json.Json.createObjectBuilder;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
+import static uk.gov.justice.services.test.utils.core.messaging.MetadataBuilderFactory.metadataWithRandomUUID;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+import static uk.gov.moj.cpp.jobstore.api.task.ExecutionStatus.STARTED;
+import static uk.gov.moj.cpp.progression.service.CourtRegisterGenerationService.GENERATE_COURT_REGISTER_FOR_COURT_CENTRE;
+import static uk.gov.moj.cpp.progression.task.Task.GENERATE_COURT_REGISTERS;
+
+import uk.gov.justice.services.common.util.UtcClock;
+import uk.gov.justice.services.core.requester.Requester;
+import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.moj.cpp.jobstore.api.ExecutionService;
+import uk.gov.moj.cpp.jobstore.api.task.ExecutionInfo;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class CourtRegisterGenerationServiceTest {
+
+    private static final ZonedDateTime NOW = ZonedDateTime.parse("2024-10-25T02:00:00.000Z");
+
+    @Mock
+    private UtcClock utcClock;
+
+    @Mock
+    private ExecutionService executionService;
+
+    @Mock
+    private Requester requester;
+
+    @InjectMocks
+    private CourtRegisterGenerationService courtRegisterGenerationService;
+
+    @Captor
+    private ArgumentCaptor<ExecutionInfo> executionInfoCaptor;
+
+    @Captor
+    private ArgumentCaptor<JsonEnvelope> queryCaptor;
+
+    @Test
+    public void shouldShareTheCourtRegistersBetweenAtMostTheConfiguredNumberOfJobs() {
+        setField(courtRegisterGenerationService, "courtRegisterGenerationParallelism", "2");
+        when(utcClock.now()).thenReturn(NOW);
+        final UUID generationId = randomUUID();
+        final JsonEnvelope event = courtRegisterGenerationRequested(generationId, 3);
+
+        courtRegisterGenerationService.startCourtRegisterGeneration(event);
+
+        verify(executionService, times(2)).executeWith(executionInfoCaptor.capture());
+        final List<ExecutionInfo> jobs = executionInfoCaptor.getAllValues();
+        final List<JsonObject> courtRegisters = event.payloadAsJsonObject().getJsonArray("courtRegisters").getValuesAs(JsonObject.class);
+
+        final JsonObject firstJob = jobs.get(0).getJobData();
+        assertThat(jobs.get(0).getNextTask(), is(GENERATE_COURT_REGISTERS.getTaskName()));
+        assertThat(jobs.get(0).getExecutionStatus(), is(STARTED));
+        assertThat(firstJob.getString("generationId"), is(generationId.toString()));
+        assertThat(firstJob.getInt("job"), is(1));
+        assertThat(firstJob.getBoolean("systemGenerated"), is(true));
+        assertThat(firstJob.getJsonArray("courtRegisters").getValuesAs(JsonObject.class), is(List.of(courtRegisters.get(0), courtRegisters.get(2))));
+        assertThat(firstJob.getInt("courtRegisterCount"), is(2));
+        assertThat(firstJob.getInt("generatedCount"), is(0));
+        assertThat(firstJob.getString("startedAt"), is(NOW.toString()));
+        assertThat(firstJob.getJsonObject("metadata").getString("name"), is(GENERATE_COURT_REGISTER_FOR_COURT_CENTRE));
+
+        final JsonObject secondJob = jobs.get(1).getJobData();
+        assertThat(secondJob.getInt("job"), is(2));
+        assertThat(secondJob.getJsonArray("courtRegisters").getValuesAs(JsonObject.class), is(List.of(courtRegisters.get(1))));
+        assertThat(secondJob.getInt("courtRegisterCount"), is(1));
+    }
+
+    @Test
+    public void shouldStartOneJobPerCourtRegisterWhenThereAreFewerRegistersThanJobs() {
+        when(utcClock.now()).thenReturn(NOW);
+
+        courtRegisterGenerationService.startCourtRegisterGeneration(courtRegisterGenerationRequested(randomUUID(), 2));
+
+        verify(executionService, times(2)).executeWith(executionInfoCaptor.capture());
+        executionInfoCaptor.getAllValues().forEach(job ->
+                assertThat(job.getJobData().getJsonArray("courtRegisters").size(), is(1)));
+    }
+
+    @Test
+    public void shouldTreatACourtRegisterWithRecordedRequestsAsPending() {
+        final UUID courtCentreId = randomUUID();
+        when(requester.requestAsAdmin(any(JsonEnvelope.class))).thenReturn(recordedRequests(createArrayBuilder().add(createObjectBuilder().add("courtRegisterRequestId", randomUUID().toString()))));
+
+        final boolean pending = courtRegisterGenerationService.isCourtRegisterPending(metadata(), courtRegister(courtCentreId));
+
+        assertThat(pending, is(true));
+        verify(requester).requestAsAdmin(queryCaptor.capture());
+        final JsonEnvelope query = queryCaptor.getValue();
+        assertThat(query.metadata().name(), is("progression.query.recorded-court-register-document-requests"));
+        assertThat(query.payloadAsJsonObject().getString("courtCentreId"), is(courtCentreId.toString()));
+        assertThat(query.payloadAsJsonObject().getString("registerDate"), is("2024-10-24"));
+        assertThat(query.payloadAsJsonObject().getInt("pageSize"), is(1));
+    }
+
+    @Test
+    public void shouldTreatACourtRegisterWithoutRecordedRequestsAsGenerated() {
+        when(requester.requestAsAdmin(any(JsonEnvelope.class))).thenReturn(recordedRequests(createArrayBuilder()));
+
+        assertThat(courtRegisterGenerationService.isCourtRegisterPending(metadata(), courtRegister(randomUUID())), is(false));
+    }
+
+    @Test
+    public void shouldFallBackToTheDefaultPollIntervalAndTimeoutForValuesBelowOne() {
+        setField(courtRegisterGenerationService, "courtRegisterGenerationPollSeconds", "0");
+        setField(courtRegisterGenerationService, "courtRegisterGenerationTimeoutSeconds", "-1");
+
+        assertThat(courtRegisterGenerationService.getPollInterval(), is(Duration.ofSeconds(5)));
+        assertThat(courtRegisterGenerationService.getTimeout(), is(Duration.ofSeconds(600)));
+    }
+
+    private static JsonObject metadata() {
+        return createObjectBuilder()
+                .add("id", randomUUID().toString())
+                .add("name", GENERATE_COURT_REGISTER_FOR_COURT_CENTRE)
+                .build();
+    }
+
+    private static JsonObject courtRegister(final UUID courtCentreId) {
+        return createObjectBuilder()
+                .add("courtCentreId", courtCentreId.toString())
+                .add("registerDate", "2024-10-24")
+                .build();
+    }
+
+    private static JsonEnvelope recordedRequests(final JsonArrayBuilder courtRegisterDocumentRequests) {
+        return envelopeFrom(
+                metadataWithRandomUUID("progression.query.recorded-court-register-document-requests"),
+                createObjectBuilder().add("courtRegisterDocumentRequests", courtRegisterDocumentRequests).build());
+    }
+
+    private static JsonEnvelope courtRegisterGenerationRequested(final UUID generationId, final int courtRegisterCount) {
+        final JsonArrayBuilder courtRegisters = createArrayBuilder();
+        for (int i = 0; i < courtRegisterCount; i++) {
+            courtRegisters.add(createObjectBuilder()
+                    .add("courtCentreId", randomUUID().toString())
+                    .add("registerDate", "2024-10-24"));
+        }
+        return envelopeFrom(
+                metadataWithRandomUUID("progression.event.court-register-generation-requested").withStreamId(generationId),
+                createObjectBuilder()
+                        .add("courtRegisters", courtRegisters)
+                        .add("systemGenerated", true)
+                        .build());
+    }
+}
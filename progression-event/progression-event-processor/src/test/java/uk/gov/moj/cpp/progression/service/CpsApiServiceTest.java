@@ -0,0 +1,78 @@
+package uk.gov.moj.cpp.progression.service;
+
+import static java.util.Arrays.asList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static javax.json.Json.createObjectBuilder;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.http.client.methods.HttpUriRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class CpsApiServiceTest {
+
+    private static final String BCM_NOTIFICATION_URL = "https://cps.example/CPS/v1/notification/bcm-notification";
+    private static final String SUBSCRIPTION_KEY = "subscriptionKey";
+
+    @Mock
+    private HttpClientWrapper httpClientWrapper;
+
+    @InjectMocks
+    private CpsApiService cpsApiService;
+
+    @Captor
+    private ArgumentCaptor<HttpUriRequest> requestCaptor;
+
+    @BeforeEach
+    public void setUp() {
+        setField(cpsApiService, "bcmNotificationUrl", BCM_NOTIFICATION_URL);
+        setField(cpsApiService, "subscriptionKey", SUBSCRIPTION_KEY);
+    }
+
+    @Test
+    public void shouldPostEveryNotificationBeforeReturning() {
+        when(httpClientWrapper.<Integer>executeAsync(any(), any())).thenReturn(completedFuture(200));
+
+        cpsApiService.sendNotifications(asList(createObjectBuilder().add("id", "1").build(), createObjectBuilder().add("id", "2").build()));
+
+        verify(httpClientWrapper, times(2)).executeAsync(requestCaptor.capture(), any());
+        final List<HttpUriRequest> requests = requestCaptor.getAllValues();
+        for (final HttpUriRequest request : requests) {
+            assertThat(request.getMethod(), is("POST"));
+            assertThat(request.getURI().toString(), is(BCM_NOTIFICATION_URL));
+            assertThat(request.getFirstHeader("Ocp-Apim-Subscription-Key").getValue(), is(SUBSCRIPTION_KEY));
+        }
+    }
+
+    @Test
+    public void shouldFailWhenAnyNotificationFails() {
+        final CompletableFuture<Integer> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new UncheckedIOException(new IOException("Connection refused")));
+        when(httpClientWrapper.<Integer>executeAsync(any(), any())).thenReturn(completedFuture(200), failed);
+
+        final RuntimeException failure = assertThrows(RuntimeException.class,
+                () -> cpsApiService.sendNotifications(asList(createObjectBuilder().build(), createObjectBuilder().build())));
+
+        assertThat(failure.getCause(), instanceOf(UncheckedIOException.class));
+    }
+}
@@ -0,0 +1,119 @@
+package uk.gov.moj.cpp.progression.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import javax.enterprise.concurrent.ManagedExecutorService;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.util.EntityUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class HttpClientWrapperTest {
+
+    private static final byte[] BODY = "notified".getBytes(UTF_8);
+
+    @Mock
+    private OutboundHttpMetrics outboundHttpMetrics;
+
+    @Mock
+    private ManagedExecutorService managedExecutorService;
+
+    private final HttpClientWrapper httpClientWrapper = new HttpClientWrapper();
+
+    private HttpServer server;
+
+    private String destination;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/notification", exchange -> {
+            exchange.sendResponseHeaders(202, BODY.length);
+            try (final OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(BODY);
+            }
+        });
+        server.start();
+        destination = "http://localhost:" + server.getAddress().getPort();
+
+        setField(httpClientWrapper, "maxConnections", "10");
+        setField(httpClientWrapper, "maxConnectionsPerDestination", "2");
+        setField(httpClientWrapper, "connectTimeoutMillis", "1000");
+        setField(httpClientWrapper, "connectionRequestTimeoutMillis", "1000");
+        setField(httpClientWrapper, "socketTimeoutMillis", "1000");
+        setField(httpClientWrapper, "keepAliveMillis", "30000");
+        setField(httpClientWrapper, "connectionTimeToLiveMillis", "300000");
+        setField(httpClientWrapper, "outboundHttpMetrics", outboundHttpMetrics);
+        setField(httpClientWrapper, "managedExecutorService", managedExecutorService);
+        httpClientWrapper.createHttpClient();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        httpClientWrapper.close();
+        server.stop(0);
+    }
+
+    @Test
+    public void shouldExecuteRequestAndRecordTheResponseOfItsDestination() throws IOException {
+        final String body = httpClientWrapper.execute(new HttpGet(destination + "/notification"), response -> EntityUtils.toString(response.getEntity(), UTF_8));
+
+        assertThat(body, is("notified"));
+        verify(outboundHttpMetrics).recordResponse(eq(destination), eq(202), anyLong(), any());
+    }
+
+    @Test
+    public void shouldExecuteRequestOnTheManagedExecutor() {
+        runOnNewThread();
+
+        final CompletableFuture<Integer> status = httpClientWrapper.executeAsync(new HttpGet(destination + "/notification"),
+                response -> response.getStatusLine().getStatusCode());
+
+        assertThat(status.join(), is(202));
+        verify(managedExecutorService).execute(any());
+    }
+
+    @Test
+    public void shouldCompleteExceptionallyAndRecordTheFailureWhenTheDestinationIsUnreachable() {
+        runOnNewThread();
+        server.stop(0);
+
+        final CompletableFuture<Integer> status = httpClientWrapper.executeAsync(new HttpGet(destination + "/notification"),
+                response -> response.getStatusLine().getStatusCode());
+
+        final CompletionException failure = assertThrows(CompletionException.class, status::join);
+        assertThat(failure.getCause(), instanceOf(UncheckedIOException.class));
+        verify(outboundHttpMetrics).recordFailure(eq(destination), anyLong(), any(IOException.class));
+    }
+
+    private void runOnNewThread() {
+        doAnswer(invocation -> {
+            new Thread(invocation.<Runnable>getArgument(0)).start();
+            return null;
+        }).when(managedExecutorService).execute(any());
+    }
+}
@@ -0,0 +1,18 @@
+package uk.gov.moj.cpp.progression.service;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static uk.gov.moj.cpp.progression.service.OutboundHttpMetrics.destinationOf;
+
+import java.net.URI;
+
+import org.junit.jupiter.api.Test;
+
+public class OutboundHttpMetricsTest {
+
+    @Test
+    public void shouldIdentifyDestinationBySchemeHostAndPort() {
+        assertThat(destinationOf(URI.create("https://cps.example/CPS/v1/nowsapi?x=1")), is("https://cps.example"));
+        assertThat(destinationOf(URI.create("http://localhost:8080/notification-cms/v1/transformAndSendCms")), is("http://localhost:8080"));
+    }
+}
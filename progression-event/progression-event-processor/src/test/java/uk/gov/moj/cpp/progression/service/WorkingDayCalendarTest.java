@@ -0,0 +1,40 @@
+package uk.gov.moj.cpp.progression.service;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+public class WorkingDayCalendarTest {
+
+    private final WorkingDayCalendar calendar = new WorkingDayCalendar(LocalDate.parse("2023-10-01"), LocalDate.parse("2023-12-31"),
+            asList(LocalDate.parse("2023-11-03"), LocalDate.parse("2023-11-06"), LocalDate.parse("2023-12-25"), LocalDate.parse("2023-12-26"), LocalDate.parse("2024-01-01")),
+            Instant.EPOCH);
+
+    @Test
+    public void shouldSkipWeekendsAndPublicHolidays() {
+        assertThat(calendar.plusWorkingDays(LocalDate.parse("2023-11-01"), 3L), is(LocalDate.parse("2023-11-08")));
+        assertThat(calendar.plusWorkingDays(LocalDate.parse("2023-12-22"), 1L), is(LocalDate.parse("2023-12-27")));
+        assertThat(calendar.isWorkingDay(LocalDate.parse("2023-11-06")), is(false));
+        assertThat(calendar.isWorkingDay(LocalDate.parse("2023-11-07")), is(true));
+    }
+
+    @Test
+    public void shouldStartFromTheNextWorkingDayWhenTheDateIsNotAWorkingDay() {
+        assertThat(calendar.plusWorkingDays(LocalDate.parse("2023-11-04"), 1L), is(LocalDate.parse("2023-11-07")));
+        assertThat(calendar.plusWorkingDays(LocalDate.parse("2023-11-04"), 0L), is(LocalDate.parse("2023-11-04")));
+    }
+
+    @Test
+    public void shouldOnlyCoverWorkingDaysWithinTheCalendar() {
+        assertThat(calendar.covers(LocalDate.parse("2023-12-28"), 1L), is(true));
+        assertThat(calendar.covers(LocalDate.parse("2023-12-28"), 2L), is(false));
+        assertThat(calendar.covers(LocalDate.parse("2023-09-30"), 1L), is(false));
+        assertThrows(IllegalArgumentException.class, () -> calendar.plusWorkingDays(LocalDate.parse("2023-12-28"), 2L));
+    }
+}
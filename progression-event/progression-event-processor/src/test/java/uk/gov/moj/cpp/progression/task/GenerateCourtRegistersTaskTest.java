@@ -0,0 +1,191 @@
+package uk.gov.moj.cpp.progression.task;
+
+import static java.util.UUID.randomUUID;
+import static javax.json.Json.createArrayBuilder;
+import static javax.json.Json.createObjectBuilder;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.moj.cpp.jobstore.api.task.ExecutionStatus.COMPLETED;
+import static uk.gov.moj.cpp.jobstore.api.task.ExecutionStatus.INPROGRESS;
+import static uk.gov.moj.cpp.jobstore.api.task.ExecutionStatus.STARTED;
+import static uk.gov.moj.cpp.jobstore.persistence.Priority.MEDIUM;
+import static uk.gov.moj.cpp.progression.task.Task.GENERATE_COURT_REGISTERS;
+import static uk.gov.moj.cpp.progression.task.Task.TaskNames.GENERATE_COURT_REGISTERS_TASK;
+
+import uk.gov.justice.services.common.util.UtcClock;
+import uk.gov.justice.services.core.sender.Sender;
+import uk.gov.justice.services.messaging.Envelope;
+import uk.gov.moj.cpp.jobstore.api.task.ExecutionInfo;
+import uk.gov.moj.cpp.progression.service.CourtRegisterGenerationService;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class GenerateCourtRegistersTaskTest {
+
+    private static final String GENERATE_COURT_REGISTER_FOR_COURT_CENTRE = "progression.command.generate-court-register-for-court-centre";
+    private static final ZonedDateTime STARTED_AT = ZonedDateTime.parse("2024-10-25T02:00:00.000Z");
+    private static final ZonedDateTime NOW = STARTED_AT.plusSeconds(5);
+    private static final Duration POLL_INTERVAL = Duration.ofSeconds(5);
+    private static final Duration TIMEOUT = Duration.ofMinutes(10);
+    private static final UUID FIRST_COURT_CENTRE_ID = randomUUID();
+    private static final UUID SECOND_COURT_CENTRE_ID = randomUUID();
+
+    @Mock
+    private UtcClock utcClock;
+
+    @Mock
+    private Sender sender;
+
+    @Mock
+    private CourtRegisterGenerationService courtRegisterGenerationService;
+
+    @InjectMocks
+    private GenerateCourtRegistersTask generateCourtRegistersTask;
+
+    @Captor
+    private ArgumentCaptor<Envelope<JsonObject>> envelopeCaptor;
+
+    @BeforeEach
+    public void setup() {
+        when(utcClock.now()).thenReturn(NOW);
+    }
+
+    @Test
+    void shouldRequestTheFirstCourtRegisterAndWaitForItBeforeTheNext() {
+        when(courtRegisterGenerationService.getPollInterval()).thenReturn(POLL_INTERVAL);
+        final JsonObject jobData = jobData(0, null, FIRST_COURT_CENTRE_ID, SECOND_COURT_CENTRE_ID).build();
+
+        final ExecutionInfo response = generateCourtRegistersTask.execute(new ExecutionInfo(jobData, GENERATE_COURT_REGISTERS.getTaskName(), STARTED_AT, STARTED, MEDIUM));
+
+        verify(courtRegisterGenerationService, never()).isCourtRegisterPending(any(), any());
+        verify(sender).send(envelopeCaptor.capture());
+        final Envelope<JsonObject> command = envelopeCaptor.getValue();
+        assertThat(command.metadata().name(), is(GENERATE_COURT_REGISTER_FOR_COURT_CENTRE));
+        assertThat(command.metadata().id(), is(not(UUID.fromString(jobData.getJsonObject("metadata").getString("id")))));
+        assertThat(command.payload().getString("courtCentreId"), is(FIRST_COURT_CENTRE_ID.toString()));
+        assertThat(command.payload().getString("registerDate"), is("2024-10-24"));
+        assertThat(command.payload().getBoolean("systemGenerated"), is(true));
+
+        assertThat(response.getExecutionStatus(), is(INPROGRESS));
+        assertThat(response.getNextTask(), is(GENERATE_COURT_REGISTERS_TASK));
+        assertThat(response.getNextTaskStartTime(), is(NOW.plus(POLL_INTERVAL)));
+        final JsonObject checkpoint = response.getJobData();
+        assertThat(checkpoint.getJsonArray("courtRegisters").size(), is(1));
+        assertThat(checkpoint.getJsonArray("courtRegisters").getJsonObject(0).getString("courtCentreId"), is(SECOND_COURT_CENTRE_ID.toString()));
+        assertThat(checkpoint.getJsonObject("pendingCourtRegister").getString("courtCentreId"), is(FIRST_COURT_CENTRE_ID.toString()));
+        assertThat(checkpoint.getString("pendingSince"), is(NOW.toString()));
+        assertThat(checkpoint.getInt("generatedCount"), is(0));
+        assertThat(checkpoint.getInt("courtRegisterCount"), is(2));
+        assertThat(checkpoint.getString("generationId"), is(jobData.getString("generationId")));
+        assertThat(checkpoint.getJsonObject("metadata"), is(jobData.getJsonObject("metadata")));
+    }
+
+    @Test
+    void shouldWaitWhileThePendingCourtRegisterStillHasRecordedRequests() {
+        when(courtRegisterGenerationService.getPollInterval()).thenReturn(POLL_INTERVAL);
+        when(courtRegisterGenerationService.getTimeout()).thenReturn(TIMEOUT);
+        final JsonObject jobData = jobData(0, FIRST_COURT_CENTRE_ID, SECOND_COURT_CENTRE_ID).build();
+        when(courtRegisterGenerationService.isCourtRegisterPending(jobData.getJsonObject("metadata"), jobData.getJsonObject("pendingCourtRegister"))).thenReturn(true);
+
+        final ExecutionInfo response = generateCourtRegistersTask.execute(new ExecutionInfo(jobData, GENERATE_COURT_REGISTERS.getTaskName(), STARTED_AT, INPROGRESS, MEDIUM));
+
+        verify(sender, never()).send(any());
+        assertThat(response.getExecutionStatus(), is(INPROGRESS));
+        assertThat(response.getNextTaskStartTime(), is(NOW.plus(POLL_INTERVAL)));
+        assertThat(response.getJobData(), is(jobData));
+    }
+
+    @Test
+    void shouldCountTheGeneratedCourtRegisterAndRequestTheNext() {
+        when(courtRegisterGenerationService.getPollInterval()).thenReturn(POLL_INTERVAL);
+        final JsonObject jobData = jobData(0, FIRST_COURT_CENTRE_ID, SECOND_COURT_CENTRE_ID).build();
+        when(courtRegisterGenerationService.isCourtRegisterPending(jobData.getJsonObject("metadata"), jobData.getJsonObject("pendingCourtRegister"))).thenReturn(false);
+
+        final ExecutionInfo response = generateCourtRegistersTask.execute(new ExecutionInfo(jobData, GENERATE_COURT_REGISTERS.getTaskName(), STARTED_AT, INPROGRESS, MEDIUM));
+
+        verify(sender).send(envelopeCaptor.capture());
+        assertThat(envelopeCaptor.getValue().payload().getString("courtCentreId"), is(SECOND_COURT_CENTRE_ID.toString()));
+        final JsonObject checkpoint = response.getJobData();
+        assertThat(checkpoint.getJsonArray("courtRegisters").size(), is(0));
+        assertThat(checkpoint.getJsonObject("pendingCourtRegister").getString("courtCentreId"), is(SECOND_COURT_CENTRE_ID.toString()));
+        assertThat(checkpoint.getInt("generatedCount"), is(1));
+        assertThat(response.getExecutionStatus(), is(INPROGRESS));
+    }
+
+    @Test
+    void shouldMoveOnFromACourtRegisterStillPendingAfterTheTimeout() {
+        when(courtRegisterGenerationService.getPollInterval()).thenReturn(POLL_INTERVAL);
+        when(courtRegisterGenerationService.getTimeout()).thenReturn(TIMEOUT);
+        final JsonObject jobData = jobData(0, FIRST_COURT_CENTRE_ID, SECOND_COURT_CENTRE_ID)
+                .add("pendingSince", NOW.minus(TIMEOUT).toString())
+                .build();
+        when(courtRegisterGenerationService.isCourtRegisterPending(jobData.getJsonObject("metadata"), jobData.getJsonObject("pendingCourtRegister"))).thenReturn(true);
+
+        final ExecutionInfo response = generateCourtRegistersTask.execute(new ExecutionInfo(jobData, GENERATE_COURT_REGISTERS.getTaskName(), STARTED_AT, INPROGRESS, MEDIUM));
+
+        verify(sender).send(envelopeCaptor.capture());
+        assertThat(envelopeCaptor.getValue().payload().getString("courtCentreId"), is(SECOND_COURT_CENTRE_ID.toString()));
+        assertThat(response.getJobData().getInt("generatedCount"), is(0));
+    }
+
+    @Test
+    void shouldCompleteTheJobOnceItsLastCourtRegisterIsGenerated() {
+        final JsonObject jobData = jobData(1, SECOND_COURT_CENTRE_ID).build();
+        when(courtRegisterGenerationService.isCourtRegisterPending(jobData.getJsonObject("metadata"), jobData.getJsonObject("pendingCourtRegister"))).thenReturn(false);
+
+        final ExecutionInfo response = generateCourtRegistersTask.execute(new ExecutionInfo(jobData, GENERATE_COURT_REGISTERS.getTaskName(), STARTED_AT, INPROGRESS, MEDIUM));
+
+        verify(sender, never()).send(any());
+        assertThat(response.getExecutionStatus(), is(COMPLETED));
+    }
+
+    private static JsonObjectBuilder jobData(final int generatedCount, final UUID pendingCourtCentreId, final UUID... courtCentreIds) {
+        final JsonArrayBuilder courtRegisters = createArrayBuilder();
+        for (final UUID courtCentreId : courtCentreIds) {
+            courtRegisters.add(courtRegister(courtCentreId));
+        }
+        final JsonObjectBuilder jobData = createObjectBuilder()
+                .add("metadata", createObjectBuilder()
+                        .add("id", randomUUID().toString())
+                        .add("name", GENERATE_COURT_REGISTER_FOR_COURT_CENTRE))
+                .add("generationId", randomUUID().toString())
+                .add("job", 1)
+                .add("systemGenerated", true)
+                .add("courtRegisters", courtRegisters)
+                .add("courtRegisterCount", generatedCount + courtCentreIds.length + (pendingCourtCentreId == null ? 0 : 1))
+                .add("generatedCount", generatedCount)
+                .add("startedAt", STARTED_AT.toString());
+        if (pendingCourtCentreId != null) {
+            jobData.add("pendingCourtRegister", courtRegister(pendingCourtCentreId))
+                    .add("pendingSince", STARTED_AT.toString());
+        }
+        return jobData;
+    }
+
+    private static JsonObjectBuilder courtRegister(final UUID courtCentreId) {
+        return createObjectBuilder()
+                .add("courtCentreId", courtCentreId.toString())
+                .add("registerDate", "2024-10-24");
+    }
+}
@@ -1,6 +1,7 @@
 package uk.gov.moj.cpp.progression.eventprocessorstore.persistence.repository;
 
 import static java.lang.String.format;
+import static java.lang.System.nanoTime;
 import static uk.gov.justice.services.common.converter.ZonedDateTimes.toSqlTimestamp;
 
 import uk.gov.justice.services.jdbc.persistence.DefaultJdbcDataSourceProvider;
@@ -11,6 +12,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -28,7 +30,8 @@ public class NotificationInfoJdbcRepository {
     private final String EVENT_PROCESSOR_STORE_JNDI_NAME = "java:/app/progression-event-processor/DS.progression.eventprocessorstore";
     private final String NOTIFICATION_INFO_INSERT_QUERY = "INSERT INTO notification_info (notification_id, notification_type, payload, process_name, processed_timestamp, status) VALUES (?, ?, ?, ?, ?, ?)";
     private final String NOTIFICATION_INFO_QUERY = "SELECT * FROM notification_info WHERE notification_id = ?";
-    private final String NOTIFICATION_INFO_DELETE_QUERY = "DELETE FROM notification_info where status = ? AND processed_timestamp <= ?";
+    private final String NOTIFICATION_INFO_DELETE_QUERY = "DELETE FROM notification_info WHERE notification_id IN " +
+            "(SELECT notification_id FROM notification_info WHERE status = ? AND processed_timestamp <= ? LIMIT ?)";
     private final String NOTIFICATION_INFO_UPDATE_QUERY = "UPDATE notification_info SET processed_timestamp = ?, status = ? WHERE notification_id = ?";
 
     @Inject
@@ -97,12 +100,31 @@ public class NotificationInfoJdbcRepository {
         }
     }
 
-    public void deleteNotifications(final String status, final ZonedDateTime cutoffDate) {
+    /**
+     * Deletes the notifications with the given status processed on or before the cutoff date,
+     * {@code chunkSize} rows per statement. Each chunk is a separate statement so that, outside
+     * of a transaction, its row locks are released before the next one starts. Stops once a chunk
+     * deletes fewer rows than asked for or {@code maxDuration} has passed, and returns the number
+     * of rows deleted; anything left is picked up by the next purge.
+     */
+    public int deleteNotifications(final String status, final ZonedDateTime cutoffDate, final int chunkSize, final Duration maxDuration) {
+        final long deadline = nanoTime() + maxDuration.toNanos();
+        int deleted = 0;
+        int chunkDeleted;
+        do {
+            chunkDeleted = deleteNotificationsChunk(status, cutoffDate, chunkSize);
+            deleted += chunkDeleted;
+        } while (chunkDeleted == chunkSize && nanoTime() < deadline);
+        return deleted;
+    }
+
+    private int deleteNotificationsChunk(final String status, final ZonedDateTime cutoffDate, final int chunkSize) {
         try (final Connection connection = dataSource.getConnection();
              final PreparedStatement ps = connection.prepareStatement(NOTIFICATION_INFO_DELETE_QUERY)) {
             ps.setString(1, status);
             ps.setTimestamp(2, toSqlTimestamp(cutoffDate));
-            ps.executeUpdate();
+            ps.setInt(3, chunkSize);
+            return ps.executeUpdate();
         } catch (final SQLException e) {
             throw new NotificationInfoJdbcException(format("Exception while deleting: %s", NOTIFICATION_INFO_DELETE_QUERY), e);
         }
@@ -121,6 +143,4 @@ public class NotificationInfoJdbcRepository {
             throw new NotificationInfoJdbcException(format("Exception while updating: %s", NOTIFICATION_INFO_UPDATE_QUERY), e);
         }
     }
-
-
 }
\ No newline at end of file
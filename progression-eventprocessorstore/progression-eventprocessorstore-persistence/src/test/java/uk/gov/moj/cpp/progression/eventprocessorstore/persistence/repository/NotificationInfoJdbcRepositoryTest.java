@@ -16,6 +16,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.Optional;
 import java.util.UUID;
@@ -96,11 +97,27 @@ public class NotificationInfoJdbcRepositoryTest {
     }
 
     @Test
-    public void shouldDeleteNotifications() throws SQLException {
-        when(connection.prepareStatement(anyString())).thenReturn(mock(PreparedStatement.class));
+    public void shouldDeleteNotificationsInChunksUntilAChunkIsNotFull() throws SQLException {
+        final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeUpdate()).thenReturn(100, 100, 40);
+
+        final int deleted = repository.deleteNotifications("PROCESSED", ZonedDateTime.now(), 100, Duration.ofMinutes(1));
+
+        assertEquals(240, deleted);
+        verify(connection, times(3)).prepareStatement(anyString());
+        verify(preparedStatement, times(3)).setInt(3, 100);
+    }
+
+    @Test
+    public void shouldStopDeletingNotificationsOnceTheTimeIsUp() throws SQLException {
+        final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeUpdate()).thenReturn(100);
 
-        repository.deleteNotifications("PROCESSED", ZonedDateTime.now());
+        final int deleted = repository.deleteNotifications("PROCESSED", ZonedDateTime.now(), 100, Duration.ZERO);
 
+        assertEquals(100, deleted);
         verify(connection, times(1)).prepareStatement(anyString());
     }
 }
\ No newline at end of file
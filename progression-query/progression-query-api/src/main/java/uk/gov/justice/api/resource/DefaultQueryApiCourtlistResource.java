@@ -6,9 +6,11 @@ import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
 import static javax.ws.rs.core.Response.Status.FORBIDDEN;
 import static javax.ws.rs.core.Response.Status.OK;
 import static javax.ws.rs.core.Response.status;
+import static uk.gov.justice.api.resource.service.RenderedDocumentCache.documentKey;
 import static uk.gov.justice.services.core.interceptor.InterceptorContext.interceptorContextWithInput;
 
 import uk.gov.moj.cpp.progression.query.api.service.CourtlistQueryService;
+import uk.gov.justice.api.resource.service.RenderedDocumentCache;
 import uk.gov.justice.api.resource.service.StagingPubHubService;
 import uk.gov.justice.services.adapter.rest.mapping.ActionMapper;
 import uk.gov.justice.services.core.annotation.Adapter;
@@ -86,6 +88,9 @@ public class DefaultQueryApiCourtlistResource implements QueryApiCourtlistResour
     @Inject
     private StagingPubHubService stagingPubHubService;
 
+    @Inject
+    private RenderedDocumentCache renderedDocumentCache;
+
     @Override
     public Response getCourtlist(final String courtCentreId, final String courtRoomId, final String listId,
                                  final String startDate, final String endDate, final boolean restricted, final UUID userId) {
@@ -127,13 +132,13 @@ public class DefaultQueryApiCourtlistResource implements QueryApiCourtlistResour
             final Optional<InputStream> documentInputStream;
             Response.ResponseBuilder responseBuilder;
             if (USHERS_CROWN.equalsIgnoreCase(listType) || USHERS_MAGISTRATE.equalsIgnoreCase(listType)) {
-                documentInputStream = getWordDocument(payload, templateName, systemUser);
+                documentInputStream = getWordDocument(payload, templateName, listType, systemUser);
                 responseBuilder = status(OK)
                         .entity(documentInputStream.get())
                         .header(CONTENT_TYPE, WORD_MIME_TYPE)
                         .header(CONTENT_DISPOSITION, WORD_DISPOSITION);
             } else {
-                documentInputStream = getPdfDocument(payload, templateName, systemUser);
+                documentInputStream = getPdfDocument(payload, templateName, listType, systemUser);
                 responseBuilder = status(OK)
                         .entity(documentInputStream.get())
                         .header(CONTENT_TYPE, PDF_MIME_TYPE)
@@ -144,11 +149,13 @@ public class DefaultQueryApiCourtlistResource implements QueryApiCourtlistResour
     }
 
 
-    private Optional<InputStream> getPdfDocument(final JsonObject payload, final String templateName, final UUID systemUser) {
+    private Optional<InputStream> getPdfDocument(final JsonObject payload, final String templateName, final String listType, final UUID systemUser) {
         final byte[] resultOrderAsByteArray;
         try {
-            LOGGER.info("Calling document generation with Court List payload: {}, systemUser: {}", payload, systemUser);
-            resultOrderAsByteArray = documentGeneratorClientProducer.documentGeneratorClient().generatePdfDocument(payload, templateName, systemUser);
+            resultOrderAsByteArray = renderedDocumentCache.get(documentKey(listType, templateName, payload), () -> {
+                LOGGER.info("Calling document generation with Court List payload: {}, systemUser: {}", payload, systemUser);
+                return documentGeneratorClientProducer.documentGeneratorClient().generatePdfDocument(payload, templateName, systemUser);
+            });
             return of(new ByteArrayInputStream(resultOrderAsByteArray));
 
         } catch (IOException e) {
@@ -157,11 +164,13 @@ public class DefaultQueryApiCourtlistResource implements QueryApiCourtlistResour
         }
     }
 
-    private Optional<InputStream> getWordDocument(final JsonObject payload, final String templateName, final UUID systemUser) {
+    private Optional<InputStream> getWordDocument(final JsonObject payload, final String templateName, final String listType, final UUID systemUser) {
         final byte[] resultOrderAsByteArray;
         try {
-            LOGGER.info("Calling document generation with UsersList payload: {}, systemUser: {}", payload, systemUser);
-            resultOrderAsByteArray = documentGeneratorClientProducer.documentGeneratorClient().generateWordDocument(payload, templateName, systemUser);
+            resultOrderAsByteArray = renderedDocumentCache.get(documentKey(listType, templateName, payload), () -> {
+                LOGGER.info("Calling document generation with UsersList payload: {}, systemUser: {}", payload, systemUser);
+                return documentGeneratorClientProducer.documentGeneratorClient().generateWordDocument(payload, templateName, systemUser);
+            });
             return of(new ByteArrayInputStream(resultOrderAsByteArray));
 
         } catch (IOException e) {
@@ -0,0 +1,151 @@
+package uk.gov.justice.api.resource.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Optional.ofNullable;
+
+import uk.gov.justice.services.common.configuration.Value;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.json.JsonObject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Documents rendered by the document generator, keyed by a hash of the list type, template name and
+ * payload they were rendered from. The same payload always renders the same document, so an entry
+ * never goes stale; a list that has changed produces a different payload and so a different key.
+ *
+ * <p>The cache is held in memory only, since court lists carry personal data that must not be
+ * written to local disk. It is bounded by the total size of the cached documents and evicts the
+ * least recently used first; an evicted document is rendered again on its next request. Concurrent
+ * requests for a document that is not cached wait for a single rendering. Cached documents are
+ * shared between requests and must be treated as read only.
+ */
+@ApplicationScoped
+public class RenderedDocumentCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RenderedDocumentCache.class);
+
+    private static final long DEFAULT_MAX_BYTES = 256L * 1024 * 1024;
+
+    @Inject
+    @Value(key = "progression.courtlist.documentCache.maxBytes", defaultValue = "268435456")
+    private String maxBytes;
+
+    private final Map<String, byte[]> documents = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, CompletableFuture<byte[]>> rendering = new ConcurrentHashMap<>();
+    private long cachedBytes;
+
+    @FunctionalInterface
+    public interface DocumentRenderer {
+        byte[] render() throws IOException;
+    }
+
+    public static String documentKey(final String listType, final String templateName, final JsonObject payload) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(String.valueOf(listType).getBytes(UTF_8));
+            digest.update((byte) 0);
+            digest.update(String.valueOf(templateName).getBytes(UTF_8));
+            digest.update((byte) 0);
+            digest.update(payload.toString().getBytes(UTF_8));
+            final StringBuilder key = new StringBuilder(64);
+            for (final byte b : digest.digest()) {
+                key.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return key.toString();
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public byte[] get(final String key, final DocumentRenderer renderer) throws IOException {
+        final byte[] cached = lookup(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final CompletableFuture<byte[]> rendered = new CompletableFuture<>();
+        final CompletableFuture<byte[]> inProgress = rendering.putIfAbsent(key, rendered);
+        if (inProgress != null) {
+            return join(inProgress);
+        }
+
+        try {
+            final byte[] document = renderer.render();
+            put(key, document);
+            rendered.complete(document);
+            return document;
+        } catch (final IOException | RuntimeException e) {
+            rendered.completeExceptionally(e);
+            throw e;
+        } finally {
+            rendering.remove(key, rendered);
+        }
+    }
+
+    synchronized int size() {
+        return documents.size();
+    }
+
+    private synchronized byte[] lookup(final String key) {
+        return documents.get(key);
+    }
+
+    private synchronized void put(final String key, final byte[] document) {
+        final long maxCachedBytes = configured(maxBytes, DEFAULT_MAX_BYTES);
+        if (document.length > maxCachedBytes) {
+            return;
+        }
+
+        final byte[] replaced = documents.put(key, document);
+        cachedBytes += document.length;
+        if (replaced != null) {
+            cachedBytes -= replaced.length;
+        }
+
+        int evicted = 0;
+        final Iterator<Map.Entry<String, byte[]>> leastRecentlyUsed = documents.entrySet().iterator();
+        while (cachedBytes > maxCachedBytes && leastRecentlyUsed.hasNext()) {
+            cachedBytes -= leastRecentlyUsed.next().getValue().length;
+            leastRecentlyUsed.remove();
+            evicted++;
+        }
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Rendered document cache size={} bytes={} evicted={}", documents.size(), cachedBytes, evicted);
+        }
+    }
+
+    private static long configured(final String value, final long defaultValue) {
+        return ofNullable(value)
+                .map(Long::valueOf)
+                .orElse(defaultValue);
+    }
+
+    private static byte[] join(final CompletableFuture<byte[]> document) throws IOException {
+        try {
+            return document.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package uk.gov.justice.api.resource.utils;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Size and build time of the court extracts generated by this node. Each extract is logged at info;
+ * the figures are not published anywhere else.
+ */
+@ApplicationScoped
+public class CourtExtractMetrics {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CourtExtractMetrics.class);
+
+    public void record(final String extractType, final int hearingCount, final long payloadSize, final long largestHearingSize, final long buildMillis) {
+        LOGGER.info("Built {} court extract with {} hearings in {} ms, payload {} bytes, largest hearing {} bytes",
+                extractType, hearingCount, buildMillis, payloadSize, largestHearingSize);
+    }
+}
@@ -1,6 +1,8 @@
 package uk.gov.justice.api.resource.utils;
 
 import static java.lang.Boolean.TRUE;
+import static java.lang.Integer.parseInt;
+import static java.lang.System.currentTimeMillis;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Comparator.comparing;
@@ -9,6 +11,7 @@ import static java.util.Objects.nonNull;
 import static java.util.Optional.ofNullable;
 import static java.util.UUID.fromString;
 import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toMap;
 
 import static java.util.stream.Collectors.toList;
 import static org.apache.commons.collections.CollectionUtils.isEmpty;
@@ -21,7 +24,6 @@ import static uk.gov.justice.api.resource.utils.JudicialResultTransformer.getDel
 import static uk.gov.justice.api.resource.utils.JudicialResultTransformer.getDeletedDefendantResultsWithAmendments;
 import static uk.gov.justice.api.resource.utils.OffenceTransformer.toOffences;
 import static uk.gov.justice.api.resource.utils.ResultAmendmentHelper.extractAmendmentsDueToSlipRule;
-import static uk.gov.justice.api.resource.utils.ResultAmendmentHelper.getResultDefinitionsInSlipRuleAmendments;
 import static uk.gov.justice.api.resource.utils.TransformationHelper.getHearingsSortedByHearingDaysAsc;
 import static uk.gov.justice.api.resource.DefaultQueryApiProsecutioncasesCaseIdDefendantsDefendantIdExtractTemplateResource.RECORD_SHEET;
 import static uk.gov.justice.core.courts.HearingListingStatus.HEARING_RESULTED;
@@ -37,8 +39,8 @@ import uk.gov.justice.api.resource.service.DefenceQueryService;
 import uk.gov.justice.api.resource.service.HearingQueryService;
 import uk.gov.justice.api.resource.service.ListingQueryService;
 import uk.gov.justice.api.resource.service.ReferenceDataService;
-import uk.gov.justice.api.resource.utils.payload.PleaValueDescriptionBuilder;
-import uk.gov.justice.api.resource.utils.payload.ResultTextFlagBuilder;
+import uk.gov.justice.api.resource.utils.payload.CourtExtractPayloadBuilder;
+import uk.gov.justice.api.resource.utils.payload.CourtExtractPayloadBuilder.CourtExtractPayload;
 import uk.gov.justice.core.courts.Address;
 import uk.gov.justice.core.courts.ApplicantCounsel;
 import uk.gov.justice.core.courts.AssociatedDefenceOrganisation;
@@ -100,10 +102,10 @@ import uk.gov.justice.progression.courts.exract.ProsecutionCounsels;
 import uk.gov.justice.progression.courts.exract.PublishingCourt;
 import uk.gov.justice.progression.courts.exract.Representation;
 import uk.gov.justice.progression.courts.exract.RespondentRepresentation;
+import uk.gov.justice.services.common.configuration.Value;
 import uk.gov.justice.services.common.converter.StringToJsonObjectConverter;
 import uk.gov.moj.cpp.listing.domain.Hearing;
 import uk.gov.justice.services.common.converter.JsonObjectToObjectConverter;
-import uk.gov.justice.services.common.converter.ObjectToJsonObjectConverter;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.moj.cpp.progression.query.view.service.HearingService;
 import uk.gov.moj.cpp.prosecutioncase.persistence.entity.HearingEntity;
@@ -118,6 +120,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -129,6 +132,8 @@ import java.util.function.BiPredicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.annotation.Resource;
+import javax.enterprise.concurrent.ManagedExecutorService;
 import javax.inject.Inject;
 import javax.json.JsonObject;
 
@@ -150,7 +155,6 @@ public class CourtExtractTransformer {
     public static final String CATEGORY_INTERMEDIARY = "I";
     public static final String RD_GROUP_COMMITTED_TO_CC = "CommittedToCC";
     public static final String RD_GROUP_SENT_TO_CC = "SentToCC";
-    private static final String SLIPRULE_AMENDMENT_REASON_CODE = "EO";
     public static final String CERTIFICATE_OF_CONVICTION = "CertificateOfConviction";
     public static final String CERTIFICATE_OF_ACQUITTAL = "CertificateOfAcquittal";
     public static final String AFTER_TRIAL_ON_INDICTMENT = "After trial on indictment";
@@ -158,6 +162,7 @@ public class CourtExtractTransformer {
     public static final String FOUND_TO_BE_IN_BREACH_OF_AN_ORDER_MADE_BY = "Found to be in breach of an order made by";
     private static final String DEFENDANT_LEVEL = "D";
     private static final String OFFENCE_LEVEL = "O";
+    private static final int DEFAULT_PREFETCH_PARALLELISM = 8;
 
 
     @Inject
@@ -181,18 +186,23 @@ public class CourtExtractTransformer {
     private HearingService hearingService;
 
     @Inject
-    private PleaValueDescriptionBuilder pleaValueDescriptionBuilder;
+    private CourtExtractPayloadBuilder courtExtractPayloadBuilder;
     @Inject
-    private ResultTextFlagBuilder resultTextFlagBuilder;
+    private CourtExtractMetrics courtExtractMetrics;
     @Inject
     private JsonObjectToObjectConverter jsonObjectToObjectConverter;
     @Inject
-    private ObjectToJsonObjectConverter objectToJsonObjectConverter;
-    @Inject
     private StringToJsonObjectConverter stringToJsonObjectConverter;
     @Inject
     private HearingRepository hearingRepository;
 
+    @Inject
+    @Value(key = "progression.courtExtract.prefetchParallelism", defaultValue = "8")
+    private String courtExtractPrefetchParallelism;
+
+    @Resource
+    private ManagedExecutorService managedExecutorService;
+
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CourtExtractTransformer.class);
     private static final Comparator<? super uk.gov.justice.progression.courts.exract.Offences> crownOffencesSortComparator = (offence1, offence2) -> {
@@ -219,19 +229,19 @@ public class CourtExtractTransformer {
     };
 
     public JsonObject getTransformedPayload(final JsonEnvelope document, final String defendantId, final String extractType, final List<String> hearingIdList, final UUID userId) throws IOException {
-        final JsonObject payload = transformToTemplateConvert(document.payloadAsJsonObject(), defendantId, extractType, hearingIdList, userId);
-        JsonObject newPayload = pleaValueDescriptionBuilder.rebuildPleaWithDescription(payload);
-        return resultTextFlagBuilder.rebuildWithResultTextFlag(newPayload);
+        final long startTime = currentTimeMillis();
+        final CourtExtractRequested courtExtractRequested = transformToTemplateConvert(document.payloadAsJsonObject(), defendantId, extractType, hearingIdList, userId);
+        final CourtExtractPayload courtExtractPayload = courtExtractPayloadBuilder.build(courtExtractRequested);
+        courtExtractMetrics.record(extractType, courtExtractPayload.getHearingCount(), courtExtractPayload.getSize(),
+                courtExtractPayload.getLargestHearingSize(), currentTimeMillis() - startTime);
+        return courtExtractPayload.getPayload();
     }
 
-    private JsonObject transformToTemplateConvert(final JsonObject jsonObject, final String defendantId, final String extractType, final List<String> hearingIdList, final UUID userId) {
+    private CourtExtractRequested transformToTemplateConvert(final JsonObject jsonObject, final String defendantId, final String extractType, final List<String> hearingIdList, final UUID userId) {
         final GetHearingsAtAGlance hearingsAtAGlance = jsonObjectToObjectConverter.convert(jsonObject.getJsonObject("hearingsAtAGlance"), GetHearingsAtAGlance.class);
         final ProsecutionCase prosecutionCase = jsonObjectToObjectConverter.convert(jsonObject.getJsonObject("prosecutionCase"), ProsecutionCase.class);
 
-        final CourtExtractRequested courtExtractRequested = getCourtExtractRequested(hearingsAtAGlance, defendantId, extractType, hearingIdList, userId, prosecutionCase);
-
-        final JsonObject result = objectToJsonObjectConverter.convert(courtExtractRequested);
-        return result;
+        return getCourtExtractRequested(hearingsAtAGlance, defendantId, extractType, hearingIdList, userId, prosecutionCase);
     }
 
     public CourtExtractRequested getCourtExtractRequested(final GetHearingsAtAGlance hearingsAtAGlance, final String defendantId, final String extractType, final List<String> selectedHearingIdList, final UUID userId, final ProsecutionCase prosecutionCase) {
@@ -425,8 +435,9 @@ public class CourtExtractTransformer {
         final UUID masterDefendantId = caseDefendant.getMasterDefendantId();
 
         final Hearings latestHearing = hearingsList.size() > 1 ? transformationHelper.getLatestHearings(hearingsList) : hearingsList.get(0);
+        final ExtractRemoteData remoteData = createRemoteData(userId);
 
-        courtExtract.withDefendant(transformDefendants(latestHearing.getDefendants(), defendantId, masterDefendantId, userId, defendantBuilder, hearingsList, caseDefendant, hearingsAtAGlance, extractType, linkedApplicationsDefendantIds));
+        courtExtract.withDefendant(transformDefendants(latestHearing.getDefendants(), defendantId, masterDefendantId, remoteData, defendantBuilder, hearingsList, caseDefendant, hearingsAtAGlance, extractType, linkedApplicationsDefendantIds));
 
         courtExtract.withPublishingCourt(transformCourtCentre(latestHearing, userId, defendantId));
 
@@ -441,7 +452,7 @@ public class CourtExtractTransformer {
         courtExtract.withReferralReason(getReferralReason(hearingsAtAGlance.getHearings()));
     }
 
-    private List<CourtApplications> transformCourtApplications(final List<CourtApplication> caseCourtApplications, final Hearings hearings, final Map<UUID, List<Amendments>> resultIdSlipRuleAmendmentsMap, final UUID masterDefendantId, final UUID userId) {
+    private List<CourtApplications> transformCourtApplications(final List<CourtApplication> caseCourtApplications, final Hearings hearings, final Map<UUID, List<Amendments>> resultIdSlipRuleAmendmentsMap, final UUID masterDefendantId, final ExtractRemoteData remoteData) {
         final List<CourtApplication> applicationsExtractList = new ArrayList<>();
 
         caseCourtApplications.forEach(app -> getResultedApplication(app, hearings, masterDefendantId).ifPresent(resultedApplication ->
@@ -461,51 +472,51 @@ public class CourtExtractTransformer {
                         .withConvictionDate(ca.getConvictionDate())
                         .withPlea(ca.getPlea())
                         .withCourtOrders(transformCourtOrders(ca.getCourtOrder(), null, resultIdSlipRuleAmendmentsMap))
-                        .withCourtApplicationCases(getCourtApplicationCases(ca, hearings, resultIdSlipRuleAmendmentsMap, masterDefendantId, userId))
+                        .withCourtApplicationCases(getCourtApplicationCases(ca, hearings, resultIdSlipRuleAmendmentsMap, masterDefendantId, remoteData))
                         .build()).toList();
     }
 
-    private List<CourtApplicationCases> getCourtApplicationCases(final CourtApplication courtApplication, final Hearings hearings, final Map<UUID, List<Amendments>> resultIdSlipRuleAmendmentsMap, final UUID masterDefendantId, final UUID userId) {
+    private List<CourtApplicationCases> getCourtApplicationCases(final CourtApplication courtApplication, final Hearings hearings, final Map<UUID, List<Amendments>> resultIdSlipRuleAmendmentsMap, final UUID masterDefendantId, final ExtractRemoteData remoteData) {
         return Optional.ofNullable(courtApplication.getCourtApplicationCases()).stream().flatMap(Collection::stream)
                 .map(c -> CourtApplicationCases.courtApplicationCases()
                         .withCaseStatus(c.getCaseStatus())
                         .withProsecutionCaseId(c.getProsecutionCaseId())
                         .withIsSJP(c.getIsSJP())
-                        .withOffences(getCourtApplicationCasesOffences(c.getOffences(), hearings, resultIdSlipRuleAmendmentsMap, masterDefendantId, userId))
+                        .withOffences(getCourtApplicationCasesOffences(c.getOffences(), hearings, resultIdSlipRuleAmendmentsMap, masterDefendantId, remoteData))
                         .build())
                 .toList();
 
     }
 
-    private List<CourtApplicationCases> getCourtApplicationCases(final CourtApplication courtApplication, final uk.gov.justice.core.courts.Hearing hearing, final Map<UUID, List<Amendments>> resultIdSlipRuleAmendmentsMap) {
+    private List<CourtApplicationCases> getCourtApplicationCases(final CourtApplication courtApplication, final uk.gov.justice.core.courts.Hearing hearing, final Map<UUID, List<Amendments>> resultIdSlipRuleAmendmentsMap, final ExtractRemoteData remoteData) {
         return Optional.ofNullable(courtApplication.getCourtApplicationCases()).stream().flatMap(Collection::stream)
                 .map(c -> CourtApplicationCases.courtApplicationCases()
                         .withCaseStatus(c.getCaseStatus())
                         .withProsecutionCaseId(c.getProsecutionCaseId())
                         .withIsSJP(c.getIsSJP())
-                        .withOffences(getCourtApplicationCasesOffences(c.getOffences(), hearing, resultIdSlipRuleAmendmentsMap))
+                        .withOffences(getCourtApplicationCasesOffences(c.getOffences(), hearing, resultIdSlipRuleAmendmentsMap, remoteData))
                         .build())
                 .toList();
 
     }
 
-    private List<uk.gov.justice.progression.courts.exract.Offences> getCourtApplicationCasesOffences(final List<Offence> offences, final Hearings hearings, final Map<UUID, List<Amendments>> resultIdSlipRuleAmendmentsMap, final UUID masterDefendantId, final UUID userId) {
+    private List<uk.gov.justice.progression.courts.exract.Offences> getCourtApplicationCasesOffences(final List<Offence> offences, final Hearings hearings, final Map<UUID, List<Amendments>> resultIdSlipRuleAmendmentsMap, final UUID masterDefendantId, final ExtractRemoteData remoteData) {
         if (CollectionUtils.isNotEmpty(offences)) {
-            final Map<UUID, CommittedForSentence> offenceCommittedForSentenceMap = getUuidCommittedForSentenceMap(hearings.getId(), masterDefendantId, userId, List.of(hearings));
-            return transformOffenceForCourtApplicationCases(offences, hearings.getId(), offenceCommittedForSentenceMap, hearings.getJurisdictionType(), resultIdSlipRuleAmendmentsMap);
+            final Map<UUID, CommittedForSentence> offenceCommittedForSentenceMap = getUuidCommittedForSentenceMap(hearings.getId(), masterDefendantId, remoteData, List.of(hearings));
+            return transformOffenceForCourtApplicationCases(offences, hearings.getId(), offenceCommittedForSentenceMap, hearings.getJurisdictionType(), resultIdSlipRuleAmendmentsMap, remoteData.getGuiltyPleaTypes());
         }
         return Collections.emptyList();
     }
 
-    private List<uk.gov.justice.progression.courts.exract.Offences> getCourtApplicationCasesOffences(final List<Offence> offences, final uk.gov.justice.core.courts.Hearing hearing, final Map<UUID, List<Amendments>> resultIdSlipRuleAmendmentsMap) {
+    private List<uk.gov.justice.progression.courts.exract.Offences> getCourtApplicationCasesOffences(final List<Offence> offences, final uk.gov.justice.core.courts.Hearing hearing, final Map<UUID, List<Amendments>> resultIdSlipRuleAmendmentsMap, final ExtractRemoteData remoteData) {
         if (CollectionUtils.isNotEmpty(offences)) {
-            return transformOffenceForCourtApplicationCases(offences, hearing.getId(), emptyMap(), hearing.getJurisdictionType(), resultIdSlipRuleAmendmentsMap);
+            return transformOffenceForCourtApplicationCases(offences, hearing.getId(), emptyMap(), hearing.getJurisdictionType(), resultIdSlipRuleAmendmentsMap, remoteData.getGuiltyPleaTypes());
         }
         return Collections.emptyList();
     }
 
 
-    private List<CourtApplications> transformCourtApplications(final List<CourtApplication> caseCourtApplications, final uk.gov.justice.core.courts.Hearing hearing, final Map<UUID, List<Amendments>> resultIdSlipRuleAmendmentsMap, final List<uk.gov.justice.progression.courts.exract.Hearings> extractHearings) {
+    private List<CourtApplications> transformCourtApplications(final List<CourtApplication> caseCourtApplications, final uk.gov.justice.core.courts.Hearing hearing, final Map<UUID, List<Amendments>> resultIdSlipRuleAmendmentsMap, final List<uk.gov.justice.progression.courts.exract.Hearings> extractHearings, final ExtractRemoteData remoteData) {
 
         return Optional.ofNullable(caseCourtApplications).stream().flatMap(Collection::stream)
                 .map(ca -> CourtApplications.courtApplications()
@@ -519,7 +530,7 @@ public class CourtExtractTransformer {
                         .withApplicationLegislation(ca.getType().getLegislation())
                         .withConvictionDate(ca.getConvictionDate())
                         .withPlea(ca.getPlea())
-                        .withCourtApplicationCases(getCourtApplicationCases(ca, hearing, resultIdSlipRuleAmendmentsMap))
+                        .withCourtApplicationCases(getCourtApplicationCases(ca, hearing, resultIdSlipRuleAmendmentsMap, remoteData))
                         .withCourtOrders(transformCourtOrders(ca.getCourtOrder(), extractHearings, resultIdSlipRuleAmendmentsMap))
                         .build()).toList();
     }
@@ -765,7 +776,7 @@ public class CourtExtractTransformer {
     }
 
     @SuppressWarnings("squid:S3776")
-    private Defendant transformDefendants(final List<Defendants> defendantsList, final UUID defendantId, final UUID masterDefendantId, final UUID userId, final Defendant.Builder defendantBuilder,
+    private Defendant transformDefendants(final List<Defendants> defendantsList, final UUID defendantId, final UUID masterDefendantId, final ExtractRemoteData remoteData, final Defendant.Builder defendantBuilder,
                                           final List<Hearings> hearingsList, final uk.gov.justice.core.courts.Defendant caseDefendant, GetHearingsAtAGlance hearingsAtAGlance, final String extractType,
                                           final List<UUID> linkedApplicationDefendantIds) {
 
@@ -780,9 +791,11 @@ public class CourtExtractTransformer {
             defendantBuilder.withAge(defendant.getAge());
             defendantBuilder.withLegalAidStatus(defendant.getLegalAidStatus());
             List<AttendanceDayAndType> attendanceDays = new ArrayList<>(transformAttendanceDayAndTypes(transformDefendantAttendanceDay(hearingsList, defendant)));
-            final List<uk.gov.justice.progression.courts.exract.Hearings> extractHearings = new ArrayList<>(getExtractHearings(masterDefendantId, userId, hearingsList, hearingsAtAGlance, extractType, defendant, linkedApplicationDefendantIds));
+            final List<Hearings> extractableHearings = getExtractableHearings(hearingsList, extractType);
+            prefetchRemoteData(remoteData, extractableHearings, defendant, extractType, linkedApplicationDefendantIds);
+            final List<uk.gov.justice.progression.courts.exract.Hearings> extractHearings = new ArrayList<>(getExtractHearings(masterDefendantId, remoteData, extractableHearings, hearingsAtAGlance, extractType, defendant, linkedApplicationDefendantIds));
             if (hearingsList.stream().anyMatch(hearings -> Boolean.FALSE.equals(hearings.getIsApplicationHearing()))) {
-                final List<uk.gov.justice.progression.courts.exract.Hearings> extractApplicationHearingsWhichNotInHearingAtAGlance = getExtractApplicationHearings(defendant, masterDefendantId, userId, hearingsAtAGlance, extractHearings, linkedApplicationDefendantIds);
+                final List<uk.gov.justice.progression.courts.exract.Hearings> extractApplicationHearingsWhichNotInHearingAtAGlance = getExtractApplicationHearings(defendant, masterDefendantId, remoteData, hearingsAtAGlance, extractHearings, linkedApplicationDefendantIds);
                 addApplicationHearingsToExtractHearing(extractApplicationHearingsWhichNotInHearingAtAGlance, extractHearings);
                 attendanceDays.addAll(extractHearings.stream().map(uk.gov.justice.progression.courts.exract.Hearings::getAttendanceDays).flatMap(Collection::stream).toList());
             }
@@ -796,12 +809,12 @@ public class CourtExtractTransformer {
             defendantBuilder.withResults(transformJudicialResults(hearingsList, masterDefendantId, defendantId, hearingsAtAGlance, linkedApplicationDefendantIds));
             //used for certificates generation
 
-            buildAssociatedOrganisation(defendantId, userId, defendantBuilder, caseDefendant, defendant);
+            buildAssociatedOrganisation(defendantId, remoteData.getUserId(), defendantBuilder, caseDefendant, defendant);
             if (CERTIFICATE_OF_CONVICTION.equals(extractType) && isNotEmpty(sortedHearings)) {
-                buildHearingsForConvictionCertificate(defendantBuilder, sortedHearings);
+                buildHearingsForConvictionCertificate(defendantBuilder, sortedHearings, remoteData.getGuiltyPleaTypes());
             }
             if (CERTIFICATE_OF_ACQUITTAL.equals(extractType) && isNotEmpty(sortedHearings)) {
-                buildHearingsForAcquittalCertificate(defendantBuilder, sortedHearings);
+                buildHearingsForAcquittalCertificate(defendantBuilder, sortedHearings, remoteData.getGuiltyPleaTypes());
             }
             return handlePersonDefendantDetails(caseDefendant, defendantBuilder);
         }
@@ -877,7 +890,7 @@ public class CourtExtractTransformer {
         extractHearings.addAll(extractApplicationHearingsWhichNotInHearingAtAGlance);
     }
 
-    private List<uk.gov.justice.progression.courts.exract.Hearings> getExtractApplicationHearings(final Defendants defendant, final UUID masterDefendantId, final UUID userId, final GetHearingsAtAGlance hearingsAtAGlance, final List<uk.gov.justice.progression.courts.exract.Hearings> extractHearings,  final List<UUID> linkedApplicationDefendantIds) {
+    private List<uk.gov.justice.progression.courts.exract.Hearings> getExtractApplicationHearings(final Defendants defendant, final UUID masterDefendantId, final ExtractRemoteData remoteData, final GetHearingsAtAGlance hearingsAtAGlance, final List<uk.gov.justice.progression.courts.exract.Hearings> extractHearings,  final List<UUID> linkedApplicationDefendantIds) {
         final List<uk.gov.justice.progression.courts.exract.Hearings> extractApplicationHearings = new ArrayList<>();
         final List<CourtApplication> courtApplications = ofNullable(hearingsAtAGlance.getCourtApplications()).stream().flatMap(Collection::stream)
                 .filter(courtApplication -> nonNull(courtApplication.getSubject()) && nonNull(courtApplication.getSubject().getMasterDefendant()))
@@ -909,7 +922,7 @@ public class CourtExtractTransformer {
                         !courtApplication.getSubject().getMasterDefendant().getMasterDefendantId().equals(masterDefendantId));
                 h.getCourtApplications().removeIf(courtApplication -> !hasClonedOffences(courtApplication, extractHearings));
             }
-            extractApplicationHearings.add(getExtractHearingFromLinkedApplicationHearing(defendant, userId, h, h.getCourtApplications(), extractHearings, masterDefendantId, linkedApplicationDefendantIds));
+            extractApplicationHearings.add(getExtractHearingFromLinkedApplicationHearing(defendant, remoteData, h, h.getCourtApplications(), extractHearings, masterDefendantId, linkedApplicationDefendantIds));
         });
         return extractApplicationHearings;
 
@@ -972,22 +985,52 @@ public class CourtExtractTransformer {
         return defendantBuilder.build();
     }
 
-    private List<uk.gov.justice.progression.courts.exract.Hearings> getExtractHearings(final UUID masterDefendantId, final UUID userId, final List<Hearings> hearingsList, final GetHearingsAtAGlance hearingsAtAGlance, final String extractType, final Defendants defendant, final List<UUID> linkedApplicationDefendantIds) {
+    private static List<Hearings> getExtractableHearings(final List<Hearings> hearingsList, final String extractType) {
         return hearingsList.stream()
                 .filter(h -> h.getIsBoxHearing() == null || !h.getIsBoxHearing())
                 .filter(h -> (!CERTIFICATE_OF_CONVICTION.equals(extractType) && !CERTIFICATE_OF_ACQUITTAL.equals(extractType))
                         || HEARING_RESULTED.equals(h.getHearingListingStatus()))
-                .map(h -> getExtractHearing(defendant, masterDefendantId, userId, h, hearingsAtAGlance, extractType, linkedApplicationDefendantIds))
                 .toList();
     }
 
+    private List<uk.gov.justice.progression.courts.exract.Hearings> getExtractHearings(final UUID masterDefendantId, final ExtractRemoteData remoteData, final List<Hearings> extractableHearings, final GetHearingsAtAGlance hearingsAtAGlance, final String extractType, final Defendants defendant, final List<UUID> linkedApplicationDefendantIds) {
+        return extractableHearings.stream()
+                .map(h -> getExtractHearing(defendant, masterDefendantId, remoteData, h, hearingsAtAGlance, extractType, linkedApplicationDefendantIds))
+                .toList();
+    }
+
+    /**
+     * Fetches, all at once, the listing hearings and draft results that building the extract
+     * hearings below will ask for one hearing at a time.
+     */
+    private static void prefetchRemoteData(final ExtractRemoteData remoteData, final List<Hearings> extractableHearings, final Defendants defendant,
+                                           final String extractType, final List<UUID> linkedApplicationDefendantIds) {
+        final List<UUID> listingHearingIds = extractableHearings.stream()
+                .filter(h -> isNotEmpty(getDefendantOffences(h, defendant.getId(), linkedApplicationDefendantIds)))
+                .map(Hearings::getId)
+                .toList();
+        final Map<UUID, List<LocalDate>> draftResultHearingDays = COURT_EXTRACT.equals(extractType)
+                ? extractableHearings.stream().collect(toMap(Hearings::getId, CourtExtractTransformer::getHearingDayList, (first, second) -> first, LinkedHashMap::new))
+                : emptyMap();
+        remoteData.prefetch(listingHearingIds, draftResultHearingDays);
+    }
 
-    private void buildHearingsForConvictionCertificate(final Defendant.Builder defendantBuilder, final List<uk.gov.justice.progression.courts.exract.Hearings> sortedHearings) {
+    private static List<LocalDate> getHearingDayList(final Hearings hearing) {
+        return hearing.getHearingDays().stream().map(hd -> hd.getSittingDay().toLocalDate()).collect(toList());
+    }
+
+    private ExtractRemoteData createRemoteData(final UUID userId) {
+        final int parallelism = courtExtractPrefetchParallelism == null ? DEFAULT_PREFETCH_PARALLELISM : parseInt(courtExtractPrefetchParallelism);
+        return new ExtractRemoteData(userId, listingQueryService, hearingQueryService, referenceDataService, managedExecutorService, parallelism);
+    }
+
+
+    private void buildHearingsForConvictionCertificate(final Defendant.Builder defendantBuilder, final List<uk.gov.justice.progression.courts.exract.Hearings> sortedHearings, final Set<String> guiltyPleaTypes) {
         List<uk.gov.justice.progression.courts.exract.Hearings> updateHearingWithConvictedData = new ArrayList<>();
         // Sort offences within each hearing by conviction date
         for (uk.gov.justice.progression.courts.exract.Hearings hearing : sortedHearings) {
             final List<ConvictedOffencesDetails> convictedOffencesList = new ArrayList<>();
-            buildConvictedCaseOffences(hearing, convictedOffencesList);
+            buildConvictedCaseOffences(hearing, convictedOffencesList, guiltyPleaTypes);
             buildConvictedCourtOrderOffences(hearing, convictedOffencesList);
             updateHearingWithConvictedData.add(uk.gov.justice.progression.courts.exract.Hearings.hearings().withValuesFrom(hearing)
                     .withConvictedOffencesDetails(convictedOffencesList).build());
@@ -998,13 +1041,13 @@ public class CourtExtractTransformer {
         }
     }
 
-    private void buildHearingsForAcquittalCertificate(final Defendant.Builder defendantBuilder, final List<uk.gov.justice.progression.courts.exract.Hearings> sortedHearings) {
+    private void buildHearingsForAcquittalCertificate(final Defendant.Builder defendantBuilder, final List<uk.gov.justice.progression.courts.exract.Hearings> sortedHearings, final Set<String> guiltyPleaTypes) {
         List<uk.gov.justice.progression.courts.exract.Hearings> updateHearingWithAcquittedData = new ArrayList<>();
         // Sort offences within each hearing by Acquittal date
         for (uk.gov.justice.progression.courts.exract.Hearings hearing : sortedHearings) {
             final List<AquittedOffencesDetails> aquittedOffencesDetails = new ArrayList<>();
             if (isNotEmpty(hearing.getOffences())) {
-                buildAcquittedCaseOffences(hearing, aquittedOffencesDetails);
+                buildAcquittedCaseOffences(hearing, aquittedOffencesDetails, guiltyPleaTypes);
                 updateHearingWithAcquittedData.add(uk.gov.justice.progression.courts.exract.Hearings.hearings().withValuesFrom(hearing)
                         .withAquittedOffencesDetails(aquittedOffencesDetails).build());
             }
@@ -1014,12 +1057,12 @@ public class CourtExtractTransformer {
         }
     }
 
-    private void buildConvictedCaseOffences(final uk.gov.justice.progression.courts.exract.Hearings hearing, final List<ConvictedOffencesDetails> convictedOffencesList) {
+    private void buildConvictedCaseOffences(final uk.gov.justice.progression.courts.exract.Hearings hearing, final List<ConvictedOffencesDetails> convictedOffencesList, final Set<String> guiltyPleaTypes) {
         if (isNotEmpty(hearing.getOffences())) {
             final Comparator<? super uk.gov.justice.progression.courts.exract.Offences> offencesSorted = getOffencesComparator(hearing);
             final Map<LocalDate, List<uk.gov.justice.progression.courts.exract.Offences>> groupedOffencesForCOC = getOffencesByConvictionDate(hearing.getOffences(), offencesSorted);
             groupedOffencesForCOC.forEach((convictionDate, offencesList) -> {
-                final String dataVariation = getDataVariation(offencesList);
+                final String dataVariation = getDataVariation(offencesList, guiltyPleaTypes);
                 ConvictedOffencesDetails.Builder convictedOffencesGroup = ConvictedOffencesDetails.convictedOffencesDetails()
                         .withConvictionDate(convictionDate)
                         .withDataVariation(dataVariation)
@@ -1040,11 +1083,11 @@ public class CourtExtractTransformer {
                 .orElse("");
     }
 
-    private void buildAcquittedCaseOffences(final uk.gov.justice.progression.courts.exract.Hearings hearing, final List<AquittedOffencesDetails> aquittedOffencesList) {
+    private void buildAcquittedCaseOffences(final uk.gov.justice.progression.courts.exract.Hearings hearing, final List<AquittedOffencesDetails> aquittedOffencesList, final Set<String> guiltyPleaTypes) {
         final Comparator<? super uk.gov.justice.progression.courts.exract.Offences> offencesSorted = getOffencesComparator(hearing);
         final Map<LocalDate, List<uk.gov.justice.progression.courts.exract.Offences>> groupedOffencesForCOA = getOffencesByAquittalDate(hearing.getOffences(), offencesSorted);
         groupedOffencesForCOA.forEach((aquittalDate, offencesList) -> {
-            final String dataVariation = getDataVariation(offencesList);
+            final String dataVariation = getDataVariation(offencesList, guiltyPleaTypes);
             AquittedOffencesDetails.Builder aquittedOffencesGroup = AquittedOffencesDetails.aquittedOffencesDetails()
                     .withAquittalDate(aquittalDate)
                     .withDataVariation(dataVariation)
@@ -1075,9 +1118,8 @@ public class CourtExtractTransformer {
         return jurisdictionType == JurisdictionType.CROWN ? crownOffencesSortComparator : magsOffencesSortComparator;
     }
 
-    private String getDataVariation(final List<uk.gov.justice.progression.courts.exract.Offences> offencesList) {
+    private String getDataVariation(final List<uk.gov.justice.progression.courts.exract.Offences> offencesList, final Set<String> guiltyPleaTypes) {
         String dataVariation = null;
-        final Set<String> guiltyPleaTypes = referenceDataService.retrieveGuiltyPleaTypes();
         if (!getGuiltyVerdicts(offencesList).isEmpty()) {
             dataVariation = AFTER_TRIAL_ON_INDICTMENT;
         } else if (!getGuiltyPleas(offencesList, guiltyPleaTypes).isEmpty() || !getIndicatedGuiltyPleas(offencesList).isEmpty()) {
@@ -1381,15 +1423,15 @@ public class CourtExtractTransformer {
         );
     }
 
-    private List<uk.gov.justice.progression.courts.exract.Offences> transformOffence(final Hearings hearings, final UUID defendantId, final UUID userId,
+    private List<uk.gov.justice.progression.courts.exract.Offences> transformOffence(final Hearings hearings, final UUID defendantId, final ExtractRemoteData remoteData,
                                                                                      final List<Hearings> hearingsList, final Map<UUID, List<Amendments>> resultIdSlipRuleAmendmentsMap,
                                                                                      final List<UUID> linkedApplicationDefendantIds) {
         final List<uk.gov.justice.progression.courts.exract.Offences> offences = new ArrayList<>();
 
         final List<Offences> defendantOffences = getDefendantOffences(hearings, defendantId, linkedApplicationDefendantIds);
         if (isNotEmpty(defendantOffences)) {
-            final Map<UUID, CommittedForSentence> offenceCommittedForSentenceMap = getUuidCommittedForSentenceMap(hearings.getId(), defendantId, userId, hearingsList);
-            offences.addAll(transformOffence(defendantOffences, hearings.getId(), offenceCommittedForSentenceMap, hearings.getJurisdictionType(), resultIdSlipRuleAmendmentsMap));
+            final Map<UUID, CommittedForSentence> offenceCommittedForSentenceMap = getUuidCommittedForSentenceMap(hearings.getId(), defendantId, remoteData, hearingsList);
+            offences.addAll(transformOffence(defendantOffences, hearings.getId(), offenceCommittedForSentenceMap, hearings.getJurisdictionType(), resultIdSlipRuleAmendmentsMap, remoteData.getGuiltyPleaTypes()));
         }
         return offences;
     }
@@ -1404,20 +1446,20 @@ public class CourtExtractTransformer {
                 .toList();
     }
 
-    private Map<UUID, CommittedForSentence> getUuidCommittedForSentenceMap(final UUID hearingId, final UUID defendantId, final UUID userId, final List<Hearings> hearingsList) {
-        final Hearing hearingFromListing = listingQueryService.searchHearing(userId, hearingId);
+    private Map<UUID, CommittedForSentence> getUuidCommittedForSentenceMap(final UUID hearingId, final UUID defendantId, final ExtractRemoteData remoteData, final List<Hearings> hearingsList) {
+        final Hearing hearingFromListing = remoteData.searchHearing(hearingId);
         final List<Offences> offencesFromSeedingHearings = courtExtractHelper.getOffencesFromSeedingHearings(defendantId, hearingFromListing, hearingsList);
-        final List<ResultDefinition> filteredResultDefinitions = getResultDefinitionsCommittedToCCOrSentToCC(userId, getResultDefinitionIds(offencesFromSeedingHearings));
+        final List<ResultDefinition> filteredResultDefinitions = getResultDefinitionsCommittedToCCOrSentToCC(remoteData, getResultDefinitionIds(offencesFromSeedingHearings));
 
         return courtExtractHelper.getOffencesResultedWithCommittedForSentence(defendantId, hearingFromListing, hearingsList, filteredResultDefinitions);
     }
 
 
-    private List<ResultDefinition> getResultDefinitionsCommittedToCCOrSentToCC(final UUID userId, final List<UUID> uuids) {
+    private List<ResultDefinition> getResultDefinitionsCommittedToCCOrSentToCC(final ExtractRemoteData remoteData, final List<UUID> uuids) {
         if (isEmpty(uuids)) {
             return emptyList();
         }
-        return referenceDataService.getResultDefinitionsByIds(userId, uuids)
+        return remoteData.getResultDefinitionsByIds(uuids)
                 .stream()
                 .filter(rd -> nonNull(rd.getCategory()) && CATEGORY_INTERMEDIARY.equals(rd.getCategory()))
                 .filter(rd -> nonNull(rd.getResultDefinitionGroup()) && (RD_GROUP_COMMITTED_TO_CC.equals(rd.getResultDefinitionGroup()) || RD_GROUP_SENT_TO_CC.equals(rd.getResultDefinitionGroup())))
@@ -1489,8 +1531,13 @@ public class CourtExtractTransformer {
     protected List<uk.gov.justice.progression.courts.exract.Offences> transformOffence(final List<Offences> offences, final UUID hearingId,
                                                                                        final Map<UUID, CommittedForSentence> offenceCommittedForSentenceMap,
                                                                                        final JurisdictionType jurisdictionType, final Map<UUID, List<Amendments>> resultIdSlipRuleAmendmentsMap) {
+        return transformOffence(offences, hearingId, offenceCommittedForSentenceMap, jurisdictionType, resultIdSlipRuleAmendmentsMap, referenceDataService.retrieveGuiltyPleaTypes());
+    }
 
-        final Set<String> guiltyPleaTypes = referenceDataService.retrieveGuiltyPleaTypes();
+    private List<uk.gov.justice.progression.courts.exract.Offences> transformOffence(final List<Offences> offences, final UUID hearingId,
+                                                                                     final Map<UUID, CommittedForSentence> offenceCommittedForSentenceMap,
+                                                                                     final JurisdictionType jurisdictionType, final Map<UUID, List<Amendments>> resultIdSlipRuleAmendmentsMap,
+                                                                                     final Set<String> guiltyPleaTypes) {
         final List<uk.gov.justice.progression.courts.exract.Offences> offencesList = offences.stream()
                 .map(o -> {
                     final List<JudicialResult> resultList = transformResults(filterOutResultDefinitionsNotToBeShownInCourtExtract(o.getJudicialResults(), hearingId));
@@ -1518,9 +1565,8 @@ public class CourtExtractTransformer {
 
     protected List<uk.gov.justice.progression.courts.exract.Offences> transformOffenceForCourtApplicationCases(final List<uk.gov.justice.core.courts.Offence> offences, final UUID hearingId,
                                                                                                                final Map<UUID, CommittedForSentence> offenceCommittedForSentenceMap,
-                                                                                                               final JurisdictionType jurisdictionType, final Map<UUID, List<Amendments>> resultIdSlipRuleAmendmentsMap) {
-
-        final Set<String> guiltyPleaTypes = referenceDataService.retrieveGuiltyPleaTypes();
+                                                                                                               final JurisdictionType jurisdictionType, final Map<UUID, List<Amendments>> resultIdSlipRuleAmendmentsMap,
+                                                                                                               final Set<String> guiltyPleaTypes) {
         final List<uk.gov.justice.progression.courts.exract.Offences> offencesList = offences.stream()
                 .map(o -> {
                     final List<JudicialResult> resultList = Optional.ofNullable(transformResults(filterOutResultDefinitionsNotToBeShownInCourtExtract(o.getJudicialResults(), hearingId))).stream().flatMap(Collection::stream)
@@ -1552,7 +1598,7 @@ public class CourtExtractTransformer {
         return judicialResults;
     }
 
-    private uk.gov.justice.progression.courts.exract.Hearings getExtractHearing(final Defendants defendant, final UUID masterDefendantId, final UUID userId, final Hearings hearing, final GetHearingsAtAGlance hearingsAtAGlance, final String extractType, final List<UUID> linkedApplicationDefendantIds) {
+    private uk.gov.justice.progression.courts.exract.Hearings getExtractHearing(final Defendants defendant, final UUID masterDefendantId, final ExtractRemoteData remoteData, final Hearings hearing, final GetHearingsAtAGlance hearingsAtAGlance, final String extractType, final List<UUID> linkedApplicationDefendantIds) {
         final uk.gov.justice.progression.courts.exract.Hearings.Builder hearingBuilder = uk.gov.justice.progression.courts.exract.Hearings.hearings()
                 .withHearingDays(transformationHelper.transformHearingDays(hearing.getHearingDays()))
                 .withId(hearing.getId())
@@ -1561,10 +1607,10 @@ public class CourtExtractTransformer {
                 .withReportingRestrictionReason(hearing.getReportingRestrictionReason())
                 .withType(hearing.getType().getDescription());
 
-        final Map<UUID, List<Amendments>> resultIdSlipRuleAmendmentsMap = COURT_EXTRACT.equals(extractType) ? getResultIdAmendmentListMap(hearing, userId) : emptyMap();
+        final Map<UUID, List<Amendments>> resultIdSlipRuleAmendmentsMap = COURT_EXTRACT.equals(extractType) ? getResultIdAmendmentListMap(hearing, remoteData) : emptyMap();
 
         if (isNotEmpty(hearingsAtAGlance.getCourtApplications())) {
-            List<CourtApplications> courtApplications = transformCourtApplications(hearingsAtAGlance.getCourtApplications(), hearing, resultIdSlipRuleAmendmentsMap, masterDefendantId, userId);
+            List<CourtApplications> courtApplications = transformCourtApplications(hearingsAtAGlance.getCourtApplications(), hearing, resultIdSlipRuleAmendmentsMap, masterDefendantId, remoteData);
             hearingBuilder.withCourtApplications(courtApplications);
             if (!courtApplications.isEmpty()) {
                 hearingBuilder.withAuthorisedLegalAdvisors(courtExtractHelper.getApplicationAuthorisedLegalAdvisors(courtApplications));
@@ -1585,7 +1631,7 @@ public class CourtExtractTransformer {
             hearingBuilder.withCrownCourtDecisions(crownCourtDecisions);
         }
 
-        final List<uk.gov.justice.progression.courts.exract.Offences> offences = transformOffence(hearing, defendant.getId(), userId, hearingsAtAGlance.getHearings(), resultIdSlipRuleAmendmentsMap, linkedApplicationDefendantIds);
+        final List<uk.gov.justice.progression.courts.exract.Offences> offences = transformOffence(hearing, defendant.getId(), remoteData, hearingsAtAGlance.getHearings(), resultIdSlipRuleAmendmentsMap, linkedApplicationDefendantIds);
 
         final boolean proceedingsConcluded = offences.stream()
                 .allMatch(offence1 -> TRUE.equals(offence1.getProceedingsConcluded()));
@@ -1610,7 +1656,7 @@ public class CourtExtractTransformer {
         return hearingBuilder.build();
     }
 
-    private uk.gov.justice.progression.courts.exract.Hearings getExtractHearingFromLinkedApplicationHearing(final Defendants defendant, final UUID userId, final uk.gov.justice.core.courts.Hearing hearing, final List<CourtApplication> courtApplications, final List<uk.gov.justice.progression.courts.exract.Hearings> extractHearings, final UUID masterDefendantId, final List<UUID> linkedApplicationDefendantIds) {
+    private uk.gov.justice.progression.courts.exract.Hearings getExtractHearingFromLinkedApplicationHearing(final Defendants defendant, final ExtractRemoteData remoteData, final uk.gov.justice.core.courts.Hearing hearing, final List<CourtApplication> courtApplications, final List<uk.gov.justice.progression.courts.exract.Hearings> extractHearings, final UUID masterDefendantId, final List<UUID> linkedApplicationDefendantIds) {
         final uk.gov.justice.progression.courts.exract.Hearings.Builder hearingBuilder = uk.gov.justice.progression.courts.exract.Hearings.hearings()
                 .withHearingDays(transformationHelper.transformHearingDays(hearing.getHearingDays()))
                 .withId(hearing.getId())
@@ -1619,10 +1665,10 @@ public class CourtExtractTransformer {
                 .withReportingRestrictionReason(hearing.getReportingRestrictionReason())
                 .withType(hearing.getType().getDescription());
 
-        final Map<UUID, List<Amendments>> resultIdSlipRuleAmendmentsMap = getResultIdAmendmentListMapForLinkedApplication(hearing, userId, extractHearings);
+        final Map<UUID, List<Amendments>> resultIdSlipRuleAmendmentsMap = getResultIdAmendmentListMapForLinkedApplication(hearing, remoteData, extractHearings);
 
 
-        List<CourtApplications> courtApplicationsList = transformCourtApplications(courtApplications, hearing, resultIdSlipRuleAmendmentsMap, extractHearings);
+        List<CourtApplications> courtApplicationsList = transformCourtApplications(courtApplications, hearing, resultIdSlipRuleAmendmentsMap, extractHearings, remoteData);
         hearingBuilder.withCourtApplications(courtApplicationsList);
 
         if (nonNull(hearing.getProsecutionCounsels())) {
@@ -1667,28 +1713,21 @@ public class CourtExtractTransformer {
                 .toList();
     }
 
-    private Map<UUID, List<Amendments>> getResultIdAmendmentListMapForLinkedApplication(final uk.gov.justice.core.courts.Hearing hearing, final UUID userId, final List<uk.gov.justice.progression.courts.exract.Hearings> extractHearings) {
+    private Map<UUID, List<Amendments>> getResultIdAmendmentListMapForLinkedApplication(final uk.gov.justice.core.courts.Hearing hearing, final ExtractRemoteData remoteData, final List<uk.gov.justice.progression.courts.exract.Hearings> extractHearings) {
         final List<LocalDate> hearingDayList = hearing.getHearingDays().stream().map(hd -> hd.getSittingDay().toLocalDate()).toList();
-        final List<DraftResultsWrapper> defendantResultsWithAmendments = hearingQueryService.getDraftResultsWithAmendments(userId, hearing.getId(), hearingDayList);
-        final UUID slipRuleReasonId = referenceDataService.getAmendmentReasonId(userId, SLIPRULE_AMENDMENT_REASON_CODE);
+        final List<DraftResultsWrapper> defendantResultsWithAmendments = remoteData.getDraftResultsWithAmendments(hearing.getId(), hearingDayList);
+        final UUID slipRuleReasonId = remoteData.getSlipRuleAmendmentReasonId();
 
-        final List<UUID> resultDefinitionsInSlipRule = getResultDefinitionsInSlipRuleAmendments(defendantResultsWithAmendments, slipRuleReasonId);
-        final List<ResultDefinition> slipRuleResultDefinitionList = isNotEmpty(resultDefinitionsInSlipRule)
-                ? referenceDataService.getResultDefinitionsByIds(userId, resultDefinitionsInSlipRule)
-                : emptyList();
+        final List<ResultDefinition> slipRuleResultDefinitionList = remoteData.getSlipRuleResultDefinitions(defendantResultsWithAmendments);
         return extractAmendmentsDueToSlipRule(defendantResultsWithAmendments, slipRuleResultDefinitionList, slipRuleReasonId);
 
     }
 
-    private Map<UUID, List<Amendments>> getResultIdAmendmentListMap(final Hearings hearing, final UUID userId) {
-        final List<LocalDate> hearingDayList = hearing.getHearingDays().stream().map(hd -> hd.getSittingDay().toLocalDate()).collect(toList());
-        final List<DraftResultsWrapper> defendantResultsWithAmendments = hearingQueryService.getDraftResultsWithAmendments(userId, hearing.getId(), hearingDayList);
-        final UUID slipRuleReasonId = referenceDataService.getAmendmentReasonId(userId, SLIPRULE_AMENDMENT_REASON_CODE);
+    private Map<UUID, List<Amendments>> getResultIdAmendmentListMap(final Hearings hearing, final ExtractRemoteData remoteData) {
+        final List<DraftResultsWrapper> defendantResultsWithAmendments = remoteData.getDraftResultsWithAmendments(hearing.getId(), getHearingDayList(hearing));
+        final UUID slipRuleReasonId = remoteData.getSlipRuleAmendmentReasonId();
 
-        final List<UUID> resultDefinitionsInSlipRule = getResultDefinitionsInSlipRuleAmendments(defendantResultsWithAmendments, slipRuleReasonId);
-        final List<ResultDefinition> slipRuleResultDefinitionList = isNotEmpty(resultDefinitionsInSlipRule)
-                ? referenceDataService.getResultDefinitionsByIds(userId, resultDefinitionsInSlipRule)
-                : emptyList();
+        final List<ResultDefinition> slipRuleResultDefinitionList = remoteData.getSlipRuleResultDefinitions(defendantResultsWithAmendments);
         return extractAmendmentsDueToSlipRule(defendantResultsWithAmendments, slipRuleResultDefinitionList, slipRuleReasonId);
     }
 
@@ -0,0 +1,184 @@
+package uk.gov.justice.api.resource.utils;
+
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.CompletableFuture.runAsync;
+import static org.apache.commons.collections.CollectionUtils.isEmpty;
+import static uk.gov.justice.api.resource.utils.ResultAmendmentHelper.getResultDefinitionsInSlipRuleAmendments;
+
+import uk.gov.justice.api.resource.dto.DraftResultsWrapper;
+import uk.gov.justice.api.resource.dto.ResultDefinition;
+import uk.gov.justice.api.resource.service.HearingQueryService;
+import uk.gov.justice.api.resource.service.ListingQueryService;
+import uk.gov.justice.api.resource.service.ReferenceDataService;
+import uk.gov.moj.cpp.listing.domain.Hearing;
+
+import java.time.LocalDate;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The remote data one court extract is built from: the listing hearing and the draft results of
+ * each hearing on the extract, the result definitions they refer to, and the guilty plea types and
+ * slip rule amendment reason, which are the same for every hearing. Each lookup is made at most
+ * once per extract and shared by every part of the extract that needs it; draft results are looked
+ * up once per hearing and set of hearing days.
+ *
+ * <p>{@link #prefetch} makes the lookups for all of the extract's hearings up front, spread over at
+ * most {@code parallelism} lanes of the executor, so the extract waits for roughly one round trip
+ * rather than one per lookup. A prefetch that fails is dropped and made again, and its failure
+ * reported, when the extract asks for it. Anything not prefetched is looked up when first asked for.
+ */
+public class ExtractRemoteData {
+
+    static final String SLIPRULE_AMENDMENT_REASON_CODE = "EO";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExtractRemoteData.class);
+
+    private static final String GUILTY_PLEA_TYPES = "guiltyPleaTypes";
+
+    private final UUID userId;
+    private final ListingQueryService listingQueryService;
+    private final HearingQueryService hearingQueryService;
+    private final ReferenceDataService referenceDataService;
+    private final Executor executor;
+    private final int parallelism;
+
+    private final Map<String, CompletableFuture<Set<String>>> guiltyPleaTypes = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<UUID>> amendmentReasonIds = new ConcurrentHashMap<>();
+    private final Map<UUID, CompletableFuture<Hearing>> listingHearings = new ConcurrentHashMap<>();
+    private final Map<Map.Entry<UUID, List<LocalDate>>, CompletableFuture<List<DraftResultsWrapper>>> draftResults = new ConcurrentHashMap<>();
+    private final Map<List<UUID>, CompletableFuture<List<ResultDefinition>>> resultDefinitions = new ConcurrentHashMap<>();
+
+    /**
+     * @param executor runs the prefetch lanes; when {@code null} the prefetch runs on the calling
+     *                 thread
+     */
+    public ExtractRemoteData(final UUID userId, final ListingQueryService listingQueryService, final HearingQueryService hearingQueryService,
+                             final ReferenceDataService referenceDataService, final Executor executor, final int parallelism) {
+        this.userId = userId;
+        this.listingQueryService = listingQueryService;
+        this.hearingQueryService = hearingQueryService;
+        this.referenceDataService = referenceDataService;
+        this.executor = executor;
+        this.parallelism = parallelism;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public Set<String> getGuiltyPleaTypes() {
+        return memoised(guiltyPleaTypes, GUILTY_PLEA_TYPES, referenceDataService::retrieveGuiltyPleaTypes);
+    }
+
+    public UUID getSlipRuleAmendmentReasonId() {
+        return memoised(amendmentReasonIds, SLIPRULE_AMENDMENT_REASON_CODE, () -> referenceDataService.getAmendmentReasonId(userId, SLIPRULE_AMENDMENT_REASON_CODE));
+    }
+
+    public Hearing searchHearing(final UUID hearingId) {
+        return memoised(listingHearings, hearingId, () -> listingQueryService.searchHearing(userId, hearingId));
+    }
+
+    public List<DraftResultsWrapper> getDraftResultsWithAmendments(final UUID hearingId, final List<LocalDate> hearingDays) {
+        final List<LocalDate> days = hearingDays == null ? null : new ArrayList<>(hearingDays);
+        return memoised(draftResults, new SimpleImmutableEntry<>(hearingId, days), () -> hearingQueryService.getDraftResultsWithAmendments(userId, hearingId, hearingDays));
+    }
+
+    public List<ResultDefinition> getResultDefinitionsByIds(final List<UUID> resultDefinitionIds) {
+        return memoised(resultDefinitions, new ArrayList<>(resultDefinitionIds), () -> referenceDataService.getResultDefinitionsByIds(userId, resultDefinitionIds));
+    }
+
+    /**
+     * The result definitions of the results amended under the slip rule in the hearing's draft
+     * results, or an empty list when there are none.
+     */
+    public List<ResultDefinition> getSlipRuleResultDefinitions(final List<DraftResultsWrapper> draftResultsWithAmendments) {
+        final List<UUID> resultDefinitionIds = getResultDefinitionsInSlipRuleAmendments(draftResultsWithAmendments, getSlipRuleAmendmentReasonId());
+        return isEmpty(resultDefinitionIds) ? emptyList() : getResultDefinitionsByIds(resultDefinitionIds);
+    }
+
+    /**
+     * Looks up the guilty plea types, the listing hearing of each of {@code listingHearingIds} and
+     * the draft results, with the slip rule amendment reason and the result definitions of any slip
+     * rule amendments, of each of the hearings in {@code draftResultHearingDays}, and returns once
+     * every lookup has finished.
+     */
+    public void prefetch(final Collection<UUID> listingHearingIds, final Map<UUID, List<LocalDate>> draftResultHearingDays) {
+        final List<Runnable> lookups = new ArrayList<>();
+        lookups.add(this::getGuiltyPleaTypes);
+        if (!draftResultHearingDays.isEmpty()) {
+            lookups.add(this::getSlipRuleAmendmentReasonId);
+        }
+        new LinkedHashSet<>(listingHearingIds).forEach(hearingId -> lookups.add(() -> searchHearing(hearingId)));
+        draftResultHearingDays.forEach((hearingId, hearingDays) ->
+                lookups.add(() -> getSlipRuleResultDefinitions(getDraftResultsWithAmendments(hearingId, hearingDays))));
+
+        final int lanes = Math.min(parallelism, lookups.size());
+        if (executor == null || lanes <= 1) {
+            lookups.forEach(ExtractRemoteData::runPrefetch);
+        } else {
+            final CompletableFuture<?>[] futures = IntStream.range(0, lanes)
+                    .mapToObj(lane -> runAsync(() -> runLane(lookups, lane, lanes), executor))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(futures).join();
+        }
+    }
+
+    private static void runLane(final List<Runnable> lookups, final int lane, final int lanes) {
+        for (int i = lane; i < lookups.size(); i += lanes) {
+            runPrefetch(lookups.get(i));
+        }
+    }
+
+    private static void runPrefetch(final Runnable lookup) {
+        try {
+            lookup.run();
+        } catch (final RuntimeException e) {
+            LOGGER.warn("Court extract prefetch failed, it will be made again when needed", e);
+        }
+    }
+
+    private static <K, V> V memoised(final Map<K, CompletableFuture<V>> values, final K key, final Supplier<V> lookup) {
+        final CompletableFuture<V> looked = new CompletableFuture<>();
+        final CompletableFuture<V> existing = values.putIfAbsent(key, looked);
+        if (existing != null) {
+            return join(existing);
+        }
+
+        try {
+            final V value = lookup.get();
+            looked.complete(value);
+            return value;
+        } catch (final RuntimeException e) {
+            values.remove(key, looked);
+            looked.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static <V> V join(final CompletableFuture<V> value) {
+        try {
+            return value.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
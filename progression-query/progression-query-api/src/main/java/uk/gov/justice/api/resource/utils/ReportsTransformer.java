@@ -1,12 +1,14 @@
 package uk.gov.justice.api.resource.utils;
 
 import static java.lang.Boolean.TRUE;
+import static java.lang.Integer.parseInt;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.UUID.fromString;
 import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toMap;
 
 import static java.util.stream.Collectors.toList;
 import static org.apache.commons.collections.CollectionUtils.isEmpty;
@@ -19,7 +21,6 @@ import static uk.gov.justice.api.resource.utils.JudicialResultTransformer.getDel
 import static uk.gov.justice.api.resource.utils.JudicialResultTransformer.getDeletedDefendantResultsWithAmendments;
 import static uk.gov.justice.api.resource.utils.OffenceTransformer.toOffences;
 import static uk.gov.justice.api.resource.utils.ResultAmendmentHelper.extractAmendmentsDueToSlipRule;
-import static uk.gov.justice.api.resource.utils.ResultAmendmentHelper.getResultDefinitionsInSlipRuleAmendments;
 import static uk.gov.justice.api.resource.utils.TransformationHelper.getHearingsSortedByHearingDaysAsc;
 import static uk.gov.justice.api.resource.DefaultQueryApiProsecutioncasesCaseIdDefendantsDefendantIdExtractTemplateResource.RECORD_SHEET;
 import static uk.gov.justice.core.courts.HearingListingStatus.HEARING_RESULTED;
@@ -85,6 +86,7 @@ import uk.gov.justice.progression.courts.exract.Representation;
 import uk.gov.justice.progression.courts.exract.RespondentRepresentation;
 import uk.gov.moj.cpp.listing.domain.Hearing;
 import uk.gov.justice.services.common.converter.JsonObjectToObjectConverter;
+import uk.gov.justice.services.common.configuration.Value;
 import uk.gov.justice.services.common.converter.ObjectToJsonObjectConverter;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 
@@ -95,6 +97,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -106,6 +109,8 @@ import java.util.function.BiPredicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.annotation.Resource;
+import javax.enterprise.concurrent.ManagedExecutorService;
 import javax.inject.Inject;
 import javax.json.JsonObject;
 
@@ -125,12 +130,12 @@ public class ReportsTransformer {
     public static final String CATEGORY_INTERMEDIARY = "I";
     public static final String RD_GROUP_COMMITTED_TO_CC = "CommittedToCC";
     public static final String RD_GROUP_SENT_TO_CC = "SentToCC";
-    private static final String SLIPRULE_AMENDMENT_REASON_CODE = "EO";
     public static final String CERTIFICATE_OF_CONVICTION = "CertificateOfConviction";
     public static final String CERTIFICATE_OF_ACQUITTAL = "CertificateOfAcquittal";
     public static final String AFTER_TRIAL_ON_INDICTMENT = "After trial on indictment";
     public static final String GUILTY_PLEA = "Following guilty plea";
     public static final String FOUND_TO_BE_IN_BREACH_OF_AN_ORDER_MADE_BY = "Found to be in breach of an order made by";
+    private static final int DEFAULT_PREFETCH_PARALLELISM = 8;
 
     @Inject
     TransformationHelper transformationHelper;
@@ -158,6 +163,13 @@ public class ReportsTransformer {
     @Inject
     private ObjectToJsonObjectConverter objectToJsonObjectConverter;
 
+    @Inject
+    @Value(key = "progression.courtExtract.prefetchParallelism", defaultValue = "8")
+    private String courtExtractPrefetchParallelism;
+
+    @Resource
+    private ManagedExecutorService managedExecutorService;
+
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ReportsTransformer.class);
     private static final Comparator<? super uk.gov.justice.progression.courts.exract.Offences> crownOffencesSortComparator = (offence1, offence2) -> {
@@ -349,8 +361,9 @@ public class ReportsTransformer {
         final UUID masterDefendantId = caseDefendant.getMasterDefendantId();
 
         final Hearings latestHearing = hearingsList.size() > 1 ? transformationHelper.getLatestHearings(hearingsList) : hearingsList.get(0);
+        final ExtractRemoteData remoteData = createRemoteData(userId);
 
-        courtExtract.withDefendant(transformDefendants(latestHearing.getDefendants(), defendantId, masterDefendantId, userId, defendantBuilder, hearingsList, caseDefendant, hearingsAtAGlance, extractType));
+        courtExtract.withDefendant(transformDefendants(latestHearing.getDefendants(), defendantId, masterDefendantId, remoteData, defendantBuilder, hearingsList, caseDefendant, hearingsAtAGlance, extractType));
 
         courtExtract.withPublishingCourt(transformCourtCentre(latestHearing, userId, defendantId));
 
@@ -570,7 +583,7 @@ public class ReportsTransformer {
     }
 
     @SuppressWarnings("squid:S3776")
-    private Defendant transformDefendants(final List<Defendants> defendantsList, final UUID defendantId, final UUID masterDefendantId, final UUID userId, final Defendant.Builder defendantBuilder,
+    private Defendant transformDefendants(final List<Defendants> defendantsList, final UUID defendantId, final UUID masterDefendantId, final ExtractRemoteData remoteData, final Defendant.Builder defendantBuilder,
                                           final List<Hearings> hearingsList, final uk.gov.justice.core.courts.Defendant caseDefendant, GetHearingsAtAGlance hearingsAtAGlance, final String extractType) {
 
         final Optional<Defendants> defendants = defendantsList.stream().filter(d -> d.getId().equals(defendantId) || d.getMasterDefendantId().equals(masterDefendantId)).findFirst();
@@ -581,7 +594,9 @@ public class ReportsTransformer {
             defendantBuilder.withLegalAidStatus(defendant.getLegalAidStatus());
             defendantBuilder.withAddress(toAddress(defendant.getAddress()));
 
-            final List<uk.gov.justice.progression.courts.exract.Hearings> extractHearings = getExtractHearings(masterDefendantId, userId, hearingsList, hearingsAtAGlance, extractType, defendant);
+            final List<Hearings> extractableHearings = getExtractableHearings(hearingsList, extractType);
+            prefetchRemoteData(remoteData, extractableHearings, defendant, extractType);
+            final List<uk.gov.justice.progression.courts.exract.Hearings> extractHearings = getExtractHearings(masterDefendantId, remoteData, extractableHearings, hearingsAtAGlance, extractType, defendant);
 
             List<uk.gov.justice.progression.courts.exract.Hearings> sortedHearings = getHearingsSortedByHearingDaysAsc(extractHearings);
             defendantBuilder.withHearings(sortedHearings);
@@ -591,7 +606,7 @@ public class ReportsTransformer {
             //used for certificates generation
 
             if (nonNull(caseDefendant.getAssociatedDefenceOrganisation())) {
-                final List<AssociatedDefenceOrganisation> associatedOrganisations = defenceQueryService.getAllAssociatedOrganisations(userId, defendantId.toString());
+                final List<AssociatedDefenceOrganisation> associatedOrganisations = defenceQueryService.getAllAssociatedOrganisations(remoteData.getUserId(), defendantId.toString());
                 defendantBuilder.withAssociatedDefenceOrganisations(associatedOrganisations);
             } else {
                 if (nonNull(caseDefendant.getDefenceOrganisation())) {
@@ -603,10 +618,10 @@ public class ReportsTransformer {
                 }
             }
             if (CERTIFICATE_OF_CONVICTION.equals(extractType) && isNotEmpty(sortedHearings)) {
-                buildHearingsForConvictionCertificate(defendantBuilder, sortedHearings);
+                buildHearingsForConvictionCertificate(defendantBuilder, sortedHearings, remoteData.getGuiltyPleaTypes());
             }
             if (CERTIFICATE_OF_ACQUITTAL.equals(extractType) && isNotEmpty(sortedHearings)) {
-                buildHearingsForAcquittalCertificate(defendantBuilder, sortedHearings);
+                buildHearingsForAcquittalCertificate(defendantBuilder, sortedHearings, remoteData.getGuiltyPleaTypes());
             }
             return handlePersonDefendantDetails(caseDefendant, defendantBuilder);
         }
@@ -638,22 +653,51 @@ public class ReportsTransformer {
         return defendantBuilder.build();
     }
 
-    private List<uk.gov.justice.progression.courts.exract.Hearings> getExtractHearings(final UUID masterDefendantId, final UUID userId, final List<Hearings> hearingsList, final GetHearingsAtAGlance hearingsAtAGlance, final String extractType, final Defendants defendant) {
+    private static List<Hearings> getExtractableHearings(final List<Hearings> hearingsList, final String extractType) {
         return hearingsList.stream()
                 .filter(h -> h.getIsBoxHearing() == null || !h.getIsBoxHearing())
                 .filter(h -> (!CERTIFICATE_OF_CONVICTION.equals(extractType) && !CERTIFICATE_OF_ACQUITTAL.equals(extractType))
                         || HEARING_RESULTED.equals(h.getHearingListingStatus()))
-                .map(h -> getExtractHearing(defendant, masterDefendantId, userId, h, hearingsAtAGlance, extractType))
                 .toList();
     }
 
+    private List<uk.gov.justice.progression.courts.exract.Hearings> getExtractHearings(final UUID masterDefendantId, final ExtractRemoteData remoteData, final List<Hearings> extractableHearings, final GetHearingsAtAGlance hearingsAtAGlance, final String extractType, final Defendants defendant) {
+        return extractableHearings.stream()
+                .map(h -> getExtractHearing(defendant, masterDefendantId, remoteData, h, hearingsAtAGlance, extractType))
+                .toList();
+    }
+
+    /**
+     * Fetches, all at once, the listing hearings and draft results that building the extract
+     * hearings below will ask for one hearing at a time.
+     */
+    private static void prefetchRemoteData(final ExtractRemoteData remoteData, final List<Hearings> extractableHearings, final Defendants defendant, final String extractType) {
+        final List<UUID> listingHearingIds = extractableHearings.stream()
+                .filter(h -> isNotEmpty(getDefendantOffences(h, defendant.getId())))
+                .map(Hearings::getId)
+                .toList();
+        final Map<UUID, List<LocalDate>> draftResultHearingDays = COURT_EXTRACT.equals(extractType)
+                ? extractableHearings.stream().collect(toMap(Hearings::getId, ReportsTransformer::getHearingDayList, (first, second) -> first, LinkedHashMap::new))
+                : emptyMap();
+        remoteData.prefetch(listingHearingIds, draftResultHearingDays);
+    }
+
+    private static List<LocalDate> getHearingDayList(final Hearings hearing) {
+        return hearing.getHearingDays().stream().map(hd -> hd.getSittingDay().toLocalDate()).collect(toList());
+    }
 
-    private void buildHearingsForConvictionCertificate(final Defendant.Builder defendantBuilder, final List<uk.gov.justice.progression.courts.exract.Hearings> sortedHearings) {
+    private ExtractRemoteData createRemoteData(final UUID userId) {
+        final int parallelism = courtExtractPrefetchParallelism == null ? DEFAULT_PREFETCH_PARALLELISM : parseInt(courtExtractPrefetchParallelism);
+        return new ExtractRemoteData(userId, listingQueryService, hearingQueryService, referenceDataService, managedExecutorService, parallelism);
+    }
+
+
+    private void buildHearingsForConvictionCertificate(final Defendant.Builder defendantBuilder, final List<uk.gov.justice.progression.courts.exract.Hearings> sortedHearings, final Set<String> guiltyPleaTypes) {
         List<uk.gov.justice.progression.courts.exract.Hearings> updateHearingWithConvictedData = new ArrayList<>();
         // Sort offences within each hearing by conviction date
         for (uk.gov.justice.progression.courts.exract.Hearings hearing : sortedHearings) {
             final List<ConvictedOffencesDetails> convictedOffencesList = new ArrayList<>();
-            buildConvictedCaseOffences(hearing, convictedOffencesList);
+            buildConvictedCaseOffences(hearing, convictedOffencesList, guiltyPleaTypes);
             buildConvictedCourtOrderOffences(hearing, convictedOffencesList);
             updateHearingWithConvictedData.add(uk.gov.justice.progression.courts.exract.Hearings.hearings().withValuesFrom(hearing)
                     .withConvictedOffencesDetails(convictedOffencesList).build());
@@ -664,13 +708,13 @@ public class ReportsTransformer {
         }
     }
 
-    private void buildHearingsForAcquittalCertificate(final Defendant.Builder defendantBuilder, final List<uk.gov.justice.progression.courts.exract.Hearings> sortedHearings) {
+    private void buildHearingsForAcquittalCertificate(final Defendant.Builder defendantBuilder, final List<uk.gov.justice.progression.courts.exract.Hearings> sortedHearings, final Set<String> guiltyPleaTypes) {
         List<uk.gov.justice.progression.courts.exract.Hearings> updateHearingWithAcquittedData = new ArrayList<>();
         // Sort offences within each hearing by Acquittal date
         for (uk.gov.justice.progression.courts.exract.Hearings hearing : sortedHearings) {
             final List<AquittedOffencesDetails> aquittedOffencesDetails = new ArrayList<>();
             if (isNotEmpty(hearing.getOffences())) {
-                buildAcquittedCaseOffences(hearing, aquittedOffencesDetails);
+                buildAcquittedCaseOffences(hearing, aquittedOffencesDetails, guiltyPleaTypes);
                 updateHearingWithAcquittedData.add(uk.gov.justice.progression.courts.exract.Hearings.hearings().withValuesFrom(hearing)
                         .withAquittedOffencesDetails(aquittedOffencesDetails).build());
             }
@@ -680,12 +724,12 @@ public class ReportsTransformer {
         }
     }
 
-    private void buildConvictedCaseOffences(final uk.gov.justice.progression.courts.exract.Hearings hearing, final List<ConvictedOffencesDetails> convictedOffencesList) {
+    private void buildConvictedCaseOffences(final uk.gov.justice.progression.courts.exract.Hearings hearing, final List<ConvictedOffencesDetails> convictedOffencesList, final Set<String> guiltyPleaTypes) {
         if(isNotEmpty(hearing.getOffences())) {
             final Comparator<? super uk.gov.justice.progression.courts.exract.Offences> offencesSorted = getOffencesComparator(hearing);
             final Map<LocalDate, List<uk.gov.justice.progression.courts.exract.Offences>> groupedOffencesForCOC = getOffencesByConvictionDate(hearing.getOffences(), offencesSorted);
             groupedOffencesForCOC.forEach((convictionDate, offencesList) -> {
-                final String dataVariation = getDataVariation(offencesList);
+                final String dataVariation = getDataVariation(offencesList, guiltyPleaTypes);
                 ConvictedOffencesDetails.Builder convictedOffencesGroup = ConvictedOffencesDetails.convictedOffencesDetails()
                         .withConvictionDate(convictionDate)
                         .withDataVariation(dataVariation)
@@ -706,11 +750,11 @@ public class ReportsTransformer {
                 .orElse("");
     }
 
-    private void buildAcquittedCaseOffences(final uk.gov.justice.progression.courts.exract.Hearings hearing, final List<AquittedOffencesDetails> aquittedOffencesList) {
+    private void buildAcquittedCaseOffences(final uk.gov.justice.progression.courts.exract.Hearings hearing, final List<AquittedOffencesDetails> aquittedOffencesList, final Set<String> guiltyPleaTypes) {
         final Comparator<? super uk.gov.justice.progression.courts.exract.Offences> offencesSorted = getOffencesComparator(hearing);
         final Map<LocalDate, List<uk.gov.justice.progression.courts.exract.Offences>> groupedOffencesForCOA = getOffencesByAquittalDate(hearing.getOffences(), offencesSorted);
         groupedOffencesForCOA.forEach((aquittalDate, offencesList) -> {
-            final String dataVariation = getDataVariation(offencesList);
+            final String dataVariation = getDataVariation(offencesList, guiltyPleaTypes);
             AquittedOffencesDetails.Builder aquittedOffencesGroup = AquittedOffencesDetails.aquittedOffencesDetails()
                     .withAquittalDate(aquittalDate)
                     .withDataVariation(dataVariation)
@@ -741,9 +785,8 @@ public class ReportsTransformer {
         return jurisdictionType == JurisdictionType.CROWN ? crownOffencesSortComparator : magsOffencesSortComparator;
     }
 
-    private String getDataVariation(final List<uk.gov.justice.progression.courts.exract.Offences> offencesList) {
+    private String getDataVariation(final List<uk.gov.justice.progression.courts.exract.Offences> offencesList, final Set<String> guiltyPleaTypes) {
         String dataVariation = null;
-        final Set<String> guiltyPleaTypes = referenceDataService.retrieveGuiltyPleaTypes();
         if (!getGuiltyVerdicts(offencesList).isEmpty()) {
             dataVariation = AFTER_TRIAL_ON_INDICTMENT;
         } else if (!getGuiltyPleas(offencesList, guiltyPleaTypes).isEmpty() || !getIndicatedGuiltyPleas(offencesList).isEmpty()) {
@@ -918,14 +961,14 @@ public class ReportsTransformer {
         );
     }
 
-    private List<uk.gov.justice.progression.courts.exract.Offences> transformOffence(final Hearings hearings, final UUID defendantId, final UUID userId,
+    private List<uk.gov.justice.progression.courts.exract.Offences> transformOffence(final Hearings hearings, final UUID defendantId, final ExtractRemoteData remoteData,
                                                                                      final List<Hearings> hearingsList, final Map<UUID, List<Amendments>> resultIdSlipRuleAmendmentsMap) {
         final List<uk.gov.justice.progression.courts.exract.Offences> offences = new ArrayList<>();
 
         final List<Offences> defendantOffences = getDefendantOffences(hearings, defendantId);
         if (isNotEmpty(defendantOffences)) {
-            final Map<UUID, CommittedForSentence> offenceCommittedForSentenceMap = getUuidCommittedForSentenceMap(hearings, defendantId, userId, hearingsList);
-            offences.addAll(transformOffence(defendantOffences, hearings.getId(), offenceCommittedForSentenceMap, hearings.getJurisdictionType(), resultIdSlipRuleAmendmentsMap));
+            final Map<UUID, CommittedForSentence> offenceCommittedForSentenceMap = getUuidCommittedForSentenceMap(hearings, defendantId, remoteData, hearingsList);
+            offences.addAll(transformOffence(defendantOffences, hearings.getId(), offenceCommittedForSentenceMap, hearings.getJurisdictionType(), resultIdSlipRuleAmendmentsMap, remoteData.getGuiltyPleaTypes()));
         }
         return offences;
     }
@@ -939,19 +982,19 @@ public class ReportsTransformer {
                 .toList();
     }
 
-    private Map<UUID, CommittedForSentence> getUuidCommittedForSentenceMap(final Hearings hearings, final UUID defendantId, final UUID userId, final List<Hearings> hearingsList) {
-        final Hearing hearingFromListing = listingQueryService.searchHearing(userId, hearings.getId());
+    private Map<UUID, CommittedForSentence> getUuidCommittedForSentenceMap(final Hearings hearings, final UUID defendantId, final ExtractRemoteData remoteData, final List<Hearings> hearingsList) {
+        final Hearing hearingFromListing = remoteData.searchHearing(hearings.getId());
         final List<Offences> offencesFromSeedingHearings = courtExtractHelper.getOffencesFromSeedingHearings(defendantId, hearingFromListing, hearingsList);
-        final List<ResultDefinition> filteredResultDefinitions = getResultDefinitionsCommittedToCCOrSentToCC(userId, getResultDefinitionIds(offencesFromSeedingHearings));
+        final List<ResultDefinition> filteredResultDefinitions = getResultDefinitionsCommittedToCCOrSentToCC(remoteData, getResultDefinitionIds(offencesFromSeedingHearings));
 
         return courtExtractHelper.getOffencesResultedWithCommittedForSentence(defendantId, hearingFromListing, hearingsList, filteredResultDefinitions);
     }
 
-    private List<ResultDefinition> getResultDefinitionsCommittedToCCOrSentToCC(final UUID userId, final List<UUID> uuids) {
+    private List<ResultDefinition> getResultDefinitionsCommittedToCCOrSentToCC(final ExtractRemoteData remoteData, final List<UUID> uuids) {
         if (isEmpty(uuids)) {
             return emptyList();
         }
-        return referenceDataService.getResultDefinitionsByIds(userId, uuids)
+        return remoteData.getResultDefinitionsByIds(uuids)
                 .stream()
                 .filter(rd -> nonNull(rd.getCategory()) && CATEGORY_INTERMEDIARY.equals(rd.getCategory()))
                 .filter(rd -> nonNull(rd.getResultDefinitionGroup()) && (RD_GROUP_COMMITTED_TO_CC.equals(rd.getResultDefinitionGroup()) || RD_GROUP_SENT_TO_CC.equals(rd.getResultDefinitionGroup())))
@@ -1005,8 +1048,13 @@ public class ReportsTransformer {
     protected List<uk.gov.justice.progression.courts.exract.Offences> transformOffence(final List<Offences> offences, final UUID hearingId,
                                                                                        final Map<UUID, CommittedForSentence> offenceCommittedForSentenceMap,
                                                                                        final JurisdictionType jurisdictionType, final Map<UUID, List<Amendments>> resultIdSlipRuleAmendmentsMap) {
+        return transformOffence(offences, hearingId, offenceCommittedForSentenceMap, jurisdictionType, resultIdSlipRuleAmendmentsMap, referenceDataService.retrieveGuiltyPleaTypes());
+    }
 
-        final Set<String> guiltyPleaTypes = referenceDataService.retrieveGuiltyPleaTypes();
+    private List<uk.gov.justice.progression.courts.exract.Offences> transformOffence(final List<Offences> offences, final UUID hearingId,
+                                                                                     final Map<UUID, CommittedForSentence> offenceCommittedForSentenceMap,
+                                                                                     final JurisdictionType jurisdictionType, final Map<UUID, List<Amendments>> resultIdSlipRuleAmendmentsMap,
+                                                                                     final Set<String> guiltyPleaTypes) {
         final List<uk.gov.justice.progression.courts.exract.Offences> offencesList = offences.stream()
                 .map(o -> {
                     final List<JudicialResult> resultList = transformResults(filterOutResultDefinitionsNotToBeShownInCourtExtract(o, hearingId));
@@ -1035,7 +1083,7 @@ public class ReportsTransformer {
         return judicialResults;
     }
 
-    private uk.gov.justice.progression.courts.exract.Hearings getExtractHearing(final Defendants defendant, final UUID masterDefendantId, final UUID userId, final Hearings hearing, final GetHearingsAtAGlance hearingsAtAGlance, final String extractType) {
+    private uk.gov.justice.progression.courts.exract.Hearings getExtractHearing(final Defendants defendant, final UUID masterDefendantId, final ExtractRemoteData remoteData, final Hearings hearing, final GetHearingsAtAGlance hearingsAtAGlance, final String extractType) {
         final uk.gov.justice.progression.courts.exract.Hearings.Builder hearingBuilder = uk.gov.justice.progression.courts.exract.Hearings.hearings()
                 .withHearingDays(transformationHelper.transformHearingDays(hearing.getHearingDays()))
                 .withId(hearing.getId())
@@ -1044,7 +1092,7 @@ public class ReportsTransformer {
                 .withReportingRestrictionReason(hearing.getReportingRestrictionReason())
                 .withType(hearing.getType().getDescription());
 
-        final Map<UUID, List<Amendments>> resultIdSlipRuleAmendmentsMap = COURT_EXTRACT.equals(extractType) ? getResultIdAmendmentListMap(hearing, userId) : emptyMap();
+        final Map<UUID, List<Amendments>> resultIdSlipRuleAmendmentsMap = COURT_EXTRACT.equals(extractType) ? getResultIdAmendmentListMap(hearing, remoteData) : emptyMap();
 
         if (isNotEmpty(hearingsAtAGlance.getCourtApplications())) {
             hearingBuilder.withCourtApplications(transformCourtApplications(hearingsAtAGlance.getCourtApplications(), hearing, resultIdSlipRuleAmendmentsMap));
@@ -1064,7 +1112,7 @@ public class ReportsTransformer {
             hearingBuilder.withCrownCourtDecisions(crownCourtDecisions);
         }
 
-        final List<uk.gov.justice.progression.courts.exract.Offences> offences = transformOffence(hearing, defendant.getId(), userId, hearingsAtAGlance.getHearings(), resultIdSlipRuleAmendmentsMap);
+        final List<uk.gov.justice.progression.courts.exract.Offences> offences = transformOffence(hearing, defendant.getId(), remoteData, hearingsAtAGlance.getHearings(), resultIdSlipRuleAmendmentsMap);
 
         final boolean proceedingsConcluded = offences.stream()
                 .allMatch(offence1 -> TRUE.equals(offence1.getProceedingsConcluded()));
@@ -1099,15 +1147,11 @@ public class ReportsTransformer {
                 .toList();
     }
 
-    private Map<UUID, List<Amendments>> getResultIdAmendmentListMap(final Hearings hearing, final UUID userId) {
-        final List<LocalDate> hearingDayList = hearing.getHearingDays().stream().map(hd -> hd.getSittingDay().toLocalDate()).collect(toList());
-        final List<DraftResultsWrapper> defendantResultsWithAmendments = hearingQueryService.getDraftResultsWithAmendments(userId, hearing.getId(), hearingDayList);
-        final UUID slipRuleReasonId = referenceDataService.getAmendmentReasonId(userId, SLIPRULE_AMENDMENT_REASON_CODE);
+    private Map<UUID, List<Amendments>> getResultIdAmendmentListMap(final Hearings hearing, final ExtractRemoteData remoteData) {
+        final List<DraftResultsWrapper> defendantResultsWithAmendments = remoteData.getDraftResultsWithAmendments(hearing.getId(), getHearingDayList(hearing));
+        final UUID slipRuleReasonId = remoteData.getSlipRuleAmendmentReasonId();
 
-        final List<UUID> resultDefinitionsInSlipRule = getResultDefinitionsInSlipRuleAmendments(defendantResultsWithAmendments, slipRuleReasonId);
-        final List<ResultDefinition> slipRuleResultDefinitionList = isNotEmpty(resultDefinitionsInSlipRule)
-                ? referenceDataService.getResultDefinitionsByIds(userId, resultDefinitionsInSlipRule)
-                : emptyList();
+        final List<ResultDefinition> slipRuleResultDefinitionList = remoteData.getSlipRuleResultDefinitions(defendantResultsWithAmendments);
         return extractAmendmentsDueToSlipRule(defendantResultsWithAmendments, slipRuleResultDefinitionList, slipRuleReasonId);
     }
 
@@ -0,0 +1,136 @@
+package uk.gov.justice.api.resource.utils.payload;
+
+import static java.util.Objects.isNull;
+import static javax.json.Json.createArrayBuilder;
+import static javax.json.Json.createObjectBuilder;
+
+import uk.gov.justice.progression.courts.exract.CourtExtractRequested;
+import uk.gov.justice.progression.courts.exract.Defendant;
+import uk.gov.justice.progression.courts.exract.Hearings;
+import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+import javax.inject.Inject;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Builds the document generator payload for a court extract one hearing at a time. Each hearing is
+ * converted to json, given its plea descriptions and appended to the payload before the next one
+ * is started, so the intermediate copies made on the way never hold more than a single hearing.
+ * The payload is the same as converting the whole extract and then applying
+ * {@link PleaValueDescriptionBuilder} and {@link ResultTextFlagBuilder} to it.
+ */
+public class CourtExtractPayloadBuilder {
+
+    private static final String DEFENDANT = "defendant";
+    private static final String HEARINGS = "hearings";
+
+    private final ObjectMapper objectMapper = new ObjectMapperProducer().objectMapper();
+
+    @Inject
+    private PleaValueDescriptionBuilder pleaValueDescriptionBuilder;
+
+    @Inject
+    private ResultTextFlagBuilder resultTextFlagBuilder;
+
+    public CourtExtractPayload build(final CourtExtractRequested courtExtractRequested) throws IOException {
+        final Defendant defendant = courtExtractRequested.getDefendant();
+        final CourtExtractRequested extractWithoutHearings = isNull(defendant) ? courtExtractRequested : CourtExtractRequested.courtExtractRequested()
+                .withValuesFrom(courtExtractRequested)
+                .withDefendant(Defendant.defendant().withValuesFrom(defendant).withHearings(null).build())
+                .build();
+
+        final JsonNode extractNode = objectMapper.valueToTree(extractWithoutHearings);
+        resultTextFlagBuilder.addResultTextFlags(extractNode.path(DEFENDANT));
+        final JsonObject extract = objectMapper.treeToValue(extractNode, JsonObject.class);
+        final CountingOutputStream size = new CountingOutputStream();
+        objectMapper.writeValue(size, extractNode);
+
+        if (isNull(defendant) || isNull(defendant.getHearings())) {
+            return new CourtExtractPayload(extract, size.getCount(), 0, 0);
+        }
+
+        final Map<String, String> pleaTypeDescriptions = pleaValueDescriptionBuilder.retrievePleaTypeDescriptions();
+        final JsonArrayBuilder hearings = createArrayBuilder();
+        long largestHearingSize = 0;
+        for (final Hearings hearing : defendant.getHearings()) {
+            final JsonNode hearingNode = objectMapper.valueToTree(hearing);
+            pleaValueDescriptionBuilder.addPleaDescriptions(hearingNode, pleaTypeDescriptions);
+            hearings.add(objectMapper.treeToValue(hearingNode, JsonObject.class));
+
+            final long sizeBefore = size.getCount();
+            objectMapper.writeValue(size, hearingNode);
+            largestHearingSize = Math.max(largestHearingSize, size.getCount() - sizeBefore);
+        }
+
+        final JsonObject payload = createObjectBuilder(extract)
+                .add(DEFENDANT, createObjectBuilder(extract.getJsonObject(DEFENDANT)).add(HEARINGS, hearings))
+                .build();
+        return new CourtExtractPayload(payload, size.getCount(), defendant.getHearings().size(), largestHearingSize);
+    }
+
+    public static class CourtExtractPayload {
+
+        private final JsonObject payload;
+        private final long size;
+        private final int hearingCount;
+        private final long largestHearingSize;
+
+        public CourtExtractPayload(final JsonObject payload, final long size, final int hearingCount, final long largestHearingSize) {
+            this.payload = payload;
+            this.size = size;
+            this.hearingCount = hearingCount;
+            this.largestHearingSize = largestHearingSize;
+        }
+
+        public JsonObject getPayload() {
+            return payload;
+        }
+
+        /**
+         * Approximate size of the payload in bytes when serialised.
+         */
+        public long getSize() {
+            return size;
+        }
+
+        public int getHearingCount() {
+            return hearingCount;
+        }
+
+        public long getLargestHearingSize() {
+            return largestHearingSize;
+        }
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(final int b) {
+            count++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            count += len;
+        }
+
+        @Override
+        public void close() {
+            // writeValue closes the target; the count must remain readable afterwards
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+}
@@ -38,42 +38,48 @@ public class PleaValueDescriptionBuilder {
     private Requester requester;
 
     public JsonObject rebuildPleaWithDescription(final JsonObject payload) throws IOException {
-        final Map<String, String> pleaTypeDescriptions = referenceDataService.retrievePleaTypeDescriptions();
+        final Map<String, String> pleaTypeDescriptions = retrievePleaTypeDescriptions();
         final ObjectMapper objectMapper = new ObjectMapperProducer().objectMapper();
         final JsonNode jsonNode = objectMapper.valueToTree(payload);
-        jsonNode.path(DEFENDANT).path(HEARINGS).forEach(hearing ->
-                hearing.path(OFFENCES).forEach(offence ->
-                        offence.path(PLEAS).forEach(plea -> {
-                                    ((ObjectNode) plea).put(DESCRIPTION, pleaTypeDescriptions.get(plea.get(PLEA_VALUE).asText()));
-                                }
-                        )
-                ));
+        jsonNode.path(DEFENDANT).path(HEARINGS).forEach(hearing -> addPleaDescriptions(hearing, pleaTypeDescriptions));
+
+        return objectMapper.treeToValue(jsonNode, JsonObject.class);
+    }
 
-        jsonNode.path(DEFENDANT).path(HEARINGS).forEach(hearing ->
-                hearing.path(COURT_APPLICATIONS).forEach(courtApplication ->
-                        courtApplication.path(COURT_ORDERS).path(COURT_ORDER_OFFENCES).forEach(courtOrderOffence -> {
-                            if (courtOrderOffence.has(PLEA)){
-                                final ObjectNode plea = (ObjectNode) courtOrderOffence.path(PLEA);
-                                plea.put(DESCRIPTION, pleaTypeDescriptions.get(plea.get(PLEA_VALUE).asText()));
-                            }
-                        })
+    public Map<String, String> retrievePleaTypeDescriptions() {
+        return referenceDataService.retrievePleaTypeDescriptions();
+    }
+
+    /**
+     * Adds the plea descriptions to a single extract hearing, so that an extract can be rebuilt one
+     * hearing at a time.
+     */
+    public void addPleaDescriptions(final JsonNode hearing, final Map<String, String> pleaTypeDescriptions) {
+        hearing.path(OFFENCES).forEach(offence ->
+                offence.path(PLEAS).forEach(plea -> {
+                            ((ObjectNode) plea).put(DESCRIPTION, pleaTypeDescriptions.get(plea.get(PLEA_VALUE).asText()));
+                        }
                 ));
 
-        jsonNode.path(DEFENDANT).path(HEARINGS).forEach(hearing ->
-                hearing.path(COURT_APPLICATIONS).forEach(courtApplication ->
-                        courtApplication.path(COURT_APPLICATION_CASES).forEach(courtApplicationCase ->
-                                courtApplicationCase.path(OFFENCES).forEach(offence ->
-                                        offence.path(PLEAS).forEach(pleaNode -> {
-                                            if (pleaNode.has(PLEA_VALUE)) {
-                                                final ObjectNode plea = (ObjectNode) pleaNode;
-                                                plea.put(DESCRIPTION, pleaTypeDescriptions.get(plea.get(PLEA_VALUE).asText()));
-                                            }
-                                        })
-                                )
+        hearing.path(COURT_APPLICATIONS).forEach(courtApplication ->
+                courtApplication.path(COURT_ORDERS).path(COURT_ORDER_OFFENCES).forEach(courtOrderOffence -> {
+                    if (courtOrderOffence.has(PLEA)){
+                        final ObjectNode plea = (ObjectNode) courtOrderOffence.path(PLEA);
+                        plea.put(DESCRIPTION, pleaTypeDescriptions.get(plea.get(PLEA_VALUE).asText()));
+                    }
+                }));
+
+        hearing.path(COURT_APPLICATIONS).forEach(courtApplication ->
+                courtApplication.path(COURT_APPLICATION_CASES).forEach(courtApplicationCase ->
+                        courtApplicationCase.path(OFFENCES).forEach(offence ->
+                                offence.path(PLEAS).forEach(pleaNode -> {
+                                    if (pleaNode.has(PLEA_VALUE)) {
+                                        final ObjectNode plea = (ObjectNode) pleaNode;
+                                        plea.put(DESCRIPTION, pleaTypeDescriptions.get(plea.get(PLEA_VALUE).asText()));
+                                    }
+                                })
                         )
                 )
         );
-
-        return objectMapper.treeToValue(jsonNode, JsonObject.class);
     }
 }
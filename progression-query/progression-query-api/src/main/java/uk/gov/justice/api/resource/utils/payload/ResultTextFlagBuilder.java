@@ -22,17 +22,25 @@ public class ResultTextFlagBuilder {
     public JsonObject rebuildWithResultTextFlag(final JsonObject payload) throws IOException {
         final ObjectMapper objectMapper = new ObjectMapperProducer().objectMapper();
         final JsonNode jsonNode = objectMapper.valueToTree(payload);
-        jsonNode.path("defendant").path("offences").forEach(offence ->
+        addResultTextFlags(jsonNode.path("defendant"));
+
+        return objectMapper.treeToValue(jsonNode, JsonObject.class);
+    }
+
+    /**
+     * Sets the result text flags on the offences and results of an extract defendant, leaving its
+     * hearings untouched.
+     */
+    public void addResultTextFlags(final JsonNode defendant) {
+        defendant.path("offences").forEach(offence ->
                 offence.path("results").forEach(result ->
                         ((ObjectNode)result).put(RESULT_TEXT, isUseResultText(Optional.ofNullable(result.get(RESULT_TEXT)).map(text -> text.asText("NA")).orElse("NA")))
                 )
         );
 
-        jsonNode.path("defendant").path("results").forEach(result ->
+        defendant.path("results").forEach(result ->
                         ((ObjectNode)result).put(RESULT_TEXT, isUseResultText(Optional.ofNullable(result.get(RESULT_TEXT)).map(text -> text.asText("NA")).orElse("NA")))
         );
-
-        return objectMapper.treeToValue(jsonNode, JsonObject.class);
     }
 
     private String isUseResultText(final String resultText){
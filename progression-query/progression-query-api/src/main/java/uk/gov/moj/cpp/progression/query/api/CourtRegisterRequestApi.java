@@ -28,4 +28,14 @@ public class CourtRegisterRequestApi {
     public JsonEnvelope getCourtRegisterDocumentByRequestDate(final JsonEnvelope query) {
         return courtRegisterDocumentRequestQueryView.getCourtRegistersByRequestDate(query);
     }
+
+    @Handles("progression.query.recorded-court-registers")
+    public JsonEnvelope getRecordedCourtRegisters(final JsonEnvelope query) {
+        return courtRegisterDocumentRequestQueryView.getRecordedCourtRegisters(query);
+    }
+
+    @Handles("progression.query.recorded-court-register-document-requests")
+    public JsonEnvelope getRecordedCourtRegisterDocumentRequests(final JsonEnvelope query) {
+        return courtRegisterDocumentRequestQueryView.getRecordedCourtRegisterRequests(query);
+    }
 }
@@ -0,0 +1,76 @@
+package uk.gov.moj.cpp.progression.query.api.accesscontrol;
+
+import static java.lang.String.format;
+import static uk.gov.justice.services.core.annotation.Component.QUERY_API;
+
+import uk.gov.justice.services.common.configuration.Value;
+import uk.gov.justice.services.core.accesscontrol.AccessControlService;
+import uk.gov.justice.services.core.accesscontrol.AccessControlViolation;
+import uk.gov.justice.services.messaging.JsonEnvelope;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.annotation.Priority;
+import javax.decorator.Decorator;
+import javax.decorator.Delegate;
+import javax.enterprise.inject.Any;
+import javax.inject.Inject;
+import javax.interceptor.Interceptor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decides access to the query actions in the {@link GroupAccessIndex} from the user's cached
+ * groups, without starting a Drools session. Every other action, any request without a user and
+ * any request whose groups cannot be looked up goes to the Drools rules as before. The fast path
+ * is turned off by setting {@code progression.accesscontrol.groupIndex.enabled} to false.
+ */
+@Decorator
+@Priority(Interceptor.Priority.APPLICATION)
+public class GroupAccessControlServiceDecorator implements AccessControlService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GroupAccessControlServiceDecorator.class);
+
+    @Inject
+    @Delegate
+    @Any
+    private AccessControlService accessControlService;
+
+    @Inject
+    private GroupAccessIndex groupAccessIndex;
+
+    @Inject
+    private UserGroupsCache userGroupsCache;
+
+    @Inject
+    @Value(key = "progression.accesscontrol.groupIndex.enabled", defaultValue = "true")
+    private String enabled;
+
+    @Override
+    public Optional<AccessControlViolation> checkAccessControl(final String component, final JsonEnvelope jsonEnvelope) {
+        final String actionName = jsonEnvelope.metadata().name();
+        final Optional<String> userId = jsonEnvelope.metadata().userId();
+        if (!QUERY_API.equals(component) || !isEnabled() || !userId.isPresent() || !groupAccessIndex.isIndexed(actionName)) {
+            return accessControlService.checkAccessControl(component, jsonEnvelope);
+        }
+
+        final boolean allowed;
+        try {
+            allowed = groupAccessIndex.isAllowed(actionName, userGroupsCache.getGroupNames(UUID.fromString(userId.get())));
+        } catch (final RuntimeException e) {
+            LOGGER.warn("Unable to look up the groups of user {}, checking access to {} with the access control rules", userId.get(), actionName, e);
+            return accessControlService.checkAccessControl(component, jsonEnvelope);
+        }
+
+        if (allowed) {
+            return Optional.empty();
+        }
+        return Optional.of(new AccessControlViolation(format("User %s is not a member of any group allowed %s", userId.get(), actionName)));
+    }
+
+    private boolean isEnabled() {
+        return enabled == null || Boolean.parseBoolean(enabled.trim());
+    }
+}
@@ -0,0 +1,145 @@
+package uk.gov.moj.cpp.progression.query.api.accesscontrol;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.disjoint;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Collections.unmodifiableSet;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The groups allowed each query action whose access control rules are all plain group membership
+ * checks, compiled from {@code query-access-control.drl} at startup. A rule is a plain group check
+ * when it has exactly the form
+ *
+ * <pre>
+ *   when
+ *     $outcome: Outcome();
+ *     $action: Action(name == "...");
+ *     eval(userAndGroupProvider.isMemberOfAnyOfTheSuppliedGroups($action, "...", ...))
+ *   then
+ *     $outcome.setSuccess(true);
+ * </pre>
+ *
+ * <p>Any one rule passing allows the action, so an action with several such rules is allowed the
+ * groups of all of them. An action with any other kind of rule is left out and stays with Drools,
+ * as is every action when the rules contain one that does not name its action.
+ */
+@ApplicationScoped
+public class GroupAccessIndex {
+
+    static final String QUERY_ACCESS_CONTROL_RULES = "uk/gov/moj/cpp/progression/query/api/accesscontrol/query-access-control.drl";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GroupAccessIndex.class);
+
+    private static final Pattern RULE = Pattern.compile("(?ms)^rule\\s+\"[^\"]*\"(.*?)^end\\b");
+    private static final Pattern GROUP_ONLY_RULE = Pattern.compile("\\s*when"
+            + "\\s+\\$outcome\\s*:\\s*Outcome\\(\\s*\\)\\s*;?"
+            + "\\s*\\$action\\s*:\\s*Action\\(\\s*name\\s*==\\s*\"([^\"]+)\"\\s*\\)\\s*;?"
+            + "\\s*eval\\(\\s*userAndGroupProvider\\.isMemberOfAnyOfTheSuppliedGroups\\(\\s*\\$action\\s*((?:,\\s*\"[^\"]*\"\\s*)+)\\)\\s*\\)\\s*;?"
+            + "\\s*then\\s+\\$outcome\\.setSuccess\\(\\s*true\\s*\\)\\s*;?\\s*");
+    private static final Pattern ACTION = Pattern.compile("Action\\(([^)]*)\\)");
+    private static final Pattern ACTION_NAME = Pattern.compile("\\s*name\\s*==\\s*\"([^\"]+)\"\\s*");
+    private static final Pattern QUOTED = Pattern.compile("\"([^\"]*)\"");
+
+    private Map<String, Set<String>> allowedGroups = emptyMap();
+
+    @PostConstruct
+    public void compile() {
+        allowedGroups = compile(readRules(QUERY_ACCESS_CONTROL_RULES));
+        LOGGER.info("Compiled group access index for {} query actions", allowedGroups.size());
+    }
+
+    public boolean isIndexed(final String actionName) {
+        return allowedGroups.containsKey(actionName);
+    }
+
+    public Optional<Set<String>> getAllowedGroups(final String actionName) {
+        return Optional.ofNullable(allowedGroups.get(actionName));
+    }
+
+    public Set<String> getActionNames() {
+        return allowedGroups.keySet();
+    }
+
+    /**
+     * Whether a member of {@code userGroups} is allowed the action, which must be indexed.
+     */
+    public boolean isAllowed(final String actionName, final Collection<String> userGroups) {
+        return !disjoint(allowedGroups.get(actionName), userGroups);
+    }
+
+    static Map<String, Set<String>> compile(final String rules) {
+        final Map<String, Set<String>> groupsByAction = new HashMap<>();
+        final Set<String> complexActions = new HashSet<>();
+
+        final Matcher rule = RULE.matcher(rules);
+        while (rule.find()) {
+            final Matcher groupOnly = GROUP_ONLY_RULE.matcher(rule.group(1));
+            if (groupOnly.matches()) {
+                groupsByAction.computeIfAbsent(groupOnly.group(1), actionName -> new LinkedHashSet<>())
+                        .addAll(quoted(groupOnly.group(2)));
+            } else if (!addActionNames(rule.group(1), complexActions)) {
+                LOGGER.warn("Access control rule does not name its action, every query action is left to Drools");
+                return emptyMap();
+            }
+        }
+
+        groupsByAction.keySet().removeAll(complexActions);
+        final Map<String, Set<String>> index = new HashMap<>();
+        groupsByAction.forEach((actionName, groups) -> index.put(actionName, unmodifiableSet(groups)));
+        return unmodifiableMap(index);
+    }
+
+    private static boolean addActionNames(final String rule, final Set<String> actionNames) {
+        final Matcher action = ACTION.matcher(rule);
+        boolean named = false;
+        while (action.find()) {
+            final Matcher actionName = ACTION_NAME.matcher(action.group(1));
+            if (!actionName.matches()) {
+                return false;
+            }
+            actionNames.add(actionName.group(1));
+            named = true;
+        }
+        return named;
+    }
+
+    private static Set<String> quoted(final String values) {
+        final Set<String> quoted = new LinkedHashSet<>();
+        final Matcher value = QUOTED.matcher(values);
+        while (value.find()) {
+            quoted.add(value.group(1));
+        }
+        return quoted;
+    }
+
+    private static String readRules(final String resource) {
+        try (final InputStream rules = GroupAccessIndex.class.getClassLoader().getResourceAsStream(resource)) {
+            if (rules == null) {
+                throw new IllegalStateException("Access control rules not found: " + resource);
+            }
+            return new String(rules.readAllBytes(), UTF_8);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
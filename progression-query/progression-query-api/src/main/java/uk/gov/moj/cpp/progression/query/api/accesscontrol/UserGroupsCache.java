@@ -0,0 +1,89 @@
+package uk.gov.moj.cpp.progression.query.api.accesscontrol;
+
+import static java.util.Collections.unmodifiableSet;
+import static java.util.Optional.ofNullable;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import uk.gov.justice.api.resource.service.UsersAndGroupsService;
+import uk.gov.justice.services.common.configuration.Value;
+import uk.gov.moj.cpp.progression.query.view.UserGroupsDetails;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+/**
+ * The names of the groups each user is a member of, as looked up from usersgroups, kept for
+ * {@code progression.accesscontrol.userGroupsCache.ttlSeconds} so that a user's run of queries
+ * costs one lookup rather than one per query. A change to a user's groups is seen once their
+ * entry has expired.
+ */
+@ApplicationScoped
+public class UserGroupsCache {
+
+    private static final long DEFAULT_TTL_SECONDS = 30;
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    @Inject
+    private UsersAndGroupsService usersAndGroupsService;
+
+    @Inject
+    @Value(key = "progression.accesscontrol.userGroupsCache.ttlSeconds", defaultValue = "30")
+    private String ttlSeconds;
+
+    private final Map<UUID, UserGroups> userGroups = new ConcurrentHashMap<>();
+
+    public Set<String> getGroupNames(final UUID userId) {
+        final long now = System.nanoTime();
+        final UserGroups cached = userGroups.get(userId);
+        if (cached != null && cached.isLiveAt(now)) {
+            return cached.groupNames;
+        }
+
+        final Set<String> groupNames = new LinkedHashSet<>();
+        usersAndGroupsService.getUserGroups(userId).stream()
+                .map(UserGroupsDetails::getGroupName)
+                .forEach(groupNames::add);
+
+        if (userGroups.size() >= PURGE_THRESHOLD) {
+            userGroups.values().removeIf(entry -> !entry.isLiveAt(now));
+        }
+        final UserGroups looked = new UserGroups(unmodifiableSet(groupNames), now + SECONDS.toNanos(ttlSeconds()));
+        userGroups.put(userId, looked);
+        return looked.groupNames;
+    }
+
+    public void evict(final UUID userId) {
+        userGroups.remove(userId);
+    }
+
+    public int size() {
+        return userGroups.size();
+    }
+
+    private long ttlSeconds() {
+        return ofNullable(ttlSeconds)
+                .map(Long::valueOf)
+                .orElse(DEFAULT_TTL_SECONDS);
+    }
+
+    private static class UserGroups {
+
+        private final Set<String> groupNames;
+        private final long expiresAt;
+
+        UserGroups(final Set<String> groupNames, final long expiresAt) {
+            this.groupNames = groupNames;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isLiveAt(final long now) {
+            return now - expiresAt < 0;
+        }
+    }
+}
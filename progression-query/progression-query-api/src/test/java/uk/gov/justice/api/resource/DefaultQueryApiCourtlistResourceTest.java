@@ -15,6 +15,7 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static java.util.Optional.of;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.hamcrest.MockitoHamcrest.argThat;
@@ -32,6 +33,7 @@ import static uk.gov.justice.services.test.utils.core.random.RandomGenerator.STR
 
 import uk.gov.justice.services.core.interceptor.InterceptorChainProcessor;
 import uk.gov.moj.cpp.progression.query.api.service.CourtlistQueryService;
+import uk.gov.justice.api.resource.service.RenderedDocumentCache;
 import uk.gov.justice.api.resource.service.StagingPubHubService;
 import uk.gov.justice.api.resource.utils.FileUtil;
 import uk.gov.justice.services.core.requester.Requester;
@@ -58,6 +60,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 /**
@@ -97,6 +100,9 @@ public class DefaultQueryApiCourtlistResourceTest {
     @Mock
     private DocumentGeneratorClient documentGeneratorClient;
 
+    @Spy
+    private RenderedDocumentCache renderedDocumentCache = new RenderedDocumentCache();
+
     @InjectMocks
     private DefaultQueryApiCourtlistResource defaultQueryApiCourtlistResource;
 
@@ -190,6 +196,33 @@ public class DefaultQueryApiCourtlistResourceTest {
         assertEquals(expectedJson, jsonObjectArgumentCaptor.getValue());
     }
 
+    @Test
+    public void shouldRenderTheSameCourtListOnceForRepeatedDownloads() throws IOException {
+        final String pdfContent = "PDF Content";
+        final JsonEnvelope interceptorResponse = envelopeFrom(metadataWithRandomUUID(COURT_LIST_QUERY_NAME),
+                FileUtil.jsonFromPath("stub-data/progression.search.court.list.json"));
+
+        when(serviceContextSystemUserProvider.getContextSystemUserId()).thenReturn(Optional.of(systemUserId));
+        when(courtlistQueryService.buildCourtlistQueryEnvelope(any(), any(), any(), any(), any(), anyBoolean(), any(), any()))
+                .thenReturn(envelopeFrom(metadataWithRandomUUID(COURT_LIST_QUERY_NAME), FileUtil.jsonFromPath("stub-data/progression.search.court.list.json")));
+        when(interceptorChainProcessor.process(any())).thenReturn(of(interceptorResponse));
+        when(courtlistQueryService.buildEnrichedPayload(interceptorResponse))
+                .thenReturn(FileUtil.jsonFromPath("stub-data/stagingpubhub.command.publish-standard-list.json"));
+        when(documentGeneratorClientProducer.documentGeneratorClient()).thenReturn(documentGeneratorClient);
+        when(documentGeneratorClient.generatePdfDocument(eq(interceptorResponse.payloadAsJsonObject()), anyString(), eq(systemUserId)))
+                .thenReturn(pdfContent.getBytes());
+
+        final Response first = defaultQueryApiCourtlistResource
+                .getCourtlist(courtCentreId.toString(), courtRoomId.toString(), listId.toString(), startDate, endDate, false, userId);
+        final Response second = defaultQueryApiCourtlistResource
+                .getCourtlist(courtCentreId.toString(), courtRoomId.toString(), listId.toString(), startDate, endDate, false, userId);
+
+        assertThat(IOUtils.toByteArray((InputStream) first.getEntity()), is(pdfContent.getBytes()));
+        assertThat(IOUtils.toByteArray((InputStream) second.getEntity()), is(pdfContent.getBytes()));
+        verify(documentGeneratorClient).generatePdfDocument(any(), anyString(), eq(systemUserId));
+        verify(stagingPubHubService, times(2)).publishStandardList(any(), eq(userId));
+    }
+
     @Test
     public void shouldOverrideGeneratedDefaultAdapterClass() {
         assertThat(defaultQueryApiCourtlistResource.getClass().getName(),
@@ -0,0 +1,94 @@
+package uk.gov.justice.api.resource.service;
+
+import static javax.json.Json.createObjectBuilder;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static uk.gov.justice.api.resource.service.RenderedDocumentCache.documentKey;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.json.JsonObject;
+
+import org.junit.jupiter.api.Test;
+
+public class RenderedDocumentCacheTest {
+
+    private static final JsonObject PAYLOAD = createObjectBuilder().add("listId", "PUBLIC").build();
+
+    private final RenderedDocumentCache renderedDocumentCache = new RenderedDocumentCache();
+
+    @Test
+    public void shouldRenderOnceForTheSameKey() throws IOException {
+        final AtomicInteger renderings = new AtomicInteger();
+        final String key = documentKey("PUBLIC", "PublicCourtList", PAYLOAD);
+
+        final byte[] first = renderedDocumentCache.get(key, () -> render(renderings, "document"));
+        final byte[] second = renderedDocumentCache.get(key, () -> render(renderings, "document"));
+
+        assertThat(second, is(first));
+        assertThat(renderings.get(), is(1));
+    }
+
+    @Test
+    public void shouldKeyDocumentsByListTypeTemplateAndPayload() {
+        final String key = documentKey("PUBLIC", "PublicCourtList", PAYLOAD);
+
+        assertThat(documentKey("PUBLIC", "PublicCourtList", createObjectBuilder().add("listId", "PUBLIC").build()), is(key));
+        assertThat(documentKey("BENCH", "PublicCourtList", PAYLOAD), is(not(key)));
+        assertThat(documentKey("PUBLIC", "UshersCrownCourtList", PAYLOAD), is(not(key)));
+        assertThat(documentKey("PUBLIC", "PublicCourtList", createObjectBuilder().add("listId", "BENCH").build()), is(not(key)));
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedDocumentsOverTheSizeBound() throws IOException {
+        setField(renderedDocumentCache, "maxBytes", "10");
+        final AtomicInteger renderings = new AtomicInteger();
+
+        renderedDocumentCache.get("first", () -> render(renderings, "12345"));
+        renderedDocumentCache.get("second", () -> render(renderings, "12345"));
+        renderedDocumentCache.get("first", () -> render(renderings, "12345"));
+        renderedDocumentCache.get("third", () -> render(renderings, "12345"));
+        renderedDocumentCache.get("first", () -> render(renderings, "12345"));
+
+        assertThat(renderings.get(), is(3));
+        assertThat(renderedDocumentCache.size(), is(2));
+
+        renderedDocumentCache.get("second", () -> render(renderings, "12345"));
+
+        assertThat(renderings.get(), is(4));
+    }
+
+    @Test
+    public void shouldNotCacheDocumentsLargerThanTheSizeBound() throws IOException {
+        setField(renderedDocumentCache, "maxBytes", "4");
+        final AtomicInteger renderings = new AtomicInteger();
+
+        renderedDocumentCache.get("first", () -> render(renderings, "12345"));
+        renderedDocumentCache.get("first", () -> render(renderings, "12345"));
+
+        assertThat(renderings.get(), is(2));
+        assertThat(renderedDocumentCache.size(), is(0));
+    }
+
+    @Test
+    public void shouldNotCacheFailedRenderings() throws IOException {
+        final AtomicInteger renderings = new AtomicInteger();
+
+        assertThrows(IOException.class, () -> renderedDocumentCache.get("first", () -> {
+            throw new IOException("Document generator unavailable");
+        }));
+        final byte[] document = renderedDocumentCache.get("first", () -> render(renderings, "document"));
+
+        assertThat(new String(document), is("document"));
+        assertThat(renderings.get(), is(1));
+    }
+
+    private static byte[] render(final AtomicInteger renderings, final String content) {
+        renderings.incrementAndGet();
+        return content.getBytes();
+    }
+}
@@ -40,8 +40,7 @@ import uk.gov.justice.api.resource.service.DefenceQueryService;
 import uk.gov.justice.api.resource.service.HearingQueryService;
 import uk.gov.justice.api.resource.service.ListingQueryService;
 import uk.gov.justice.api.resource.service.ReferenceDataService;
-import uk.gov.justice.api.resource.utils.payload.PleaValueDescriptionBuilder;
-import uk.gov.justice.api.resource.utils.payload.ResultTextFlagBuilder;
+import uk.gov.justice.api.resource.utils.payload.CourtExtractPayloadBuilder;
 import uk.gov.justice.api.resource.service.UsersAndGroupsService;
 import uk.gov.justice.core.courts.Address;
 import uk.gov.justice.core.courts.AllocationDecision;
@@ -255,7 +254,7 @@ public class CourtExtractTransformerTest {
     private final StringToJsonObjectConverter stringToJsonObjectConverter = new StringToJsonObjectConverter();
 
     @Mock
-    private PleaValueDescriptionBuilder pleaValueDescriptionBuilder;
+    private CourtExtractPayloadBuilder courtExtractPayloadBuilder;
 
     @Mock
     private HearingRepository hearingRepository;
@@ -264,7 +263,7 @@ public class CourtExtractTransformerTest {
     private HearingService hearingService;
 
     @Mock
-    private ResultTextFlagBuilder resultTextFlagBuilder;
+    private CourtExtractMetrics courtExtractMetrics;
     private ObjectToJsonObjectConverter objectToJsonObjectConverter = new ObjectToJsonObjectConverter(new ObjectMapperProducer().objectMapper());
 
 
@@ -280,10 +279,9 @@ public class CourtExtractTransformerTest {
         setField(this.target, "referenceDataService", referenceDataService);
         setField(this.target, "defenceQueryService", defenceQueryService);
         setField(this.target, "hearingQueryService", hearingQueryService);
-        setField(this.target, "pleaValueDescriptionBuilder", pleaValueDescriptionBuilder);
-        setField(this.target, "resultTextFlagBuilder", resultTextFlagBuilder);
+        setField(this.target, "courtExtractPayloadBuilder", courtExtractPayloadBuilder);
+        setField(this.target, "courtExtractMetrics", courtExtractMetrics);
         setField(this.target, "jsonObjectToObjectConverter", jsonObjectToObjectConverter);
-        setField(this.target, "objectToJsonObjectConverter", objectToJsonObjectConverter);
         setField(this.target, "hearingRepository", hearingRepository);
         setField(this.target, "hearingService", hearingService);
         setField(this.target, "stringToJsonObjectConverter", stringToJsonObjectConverter);
@@ -0,0 +1,150 @@
+package uk.gov.justice.api.resource.utils;
+
+import static java.util.Collections.emptyList;
+import static java.util.UUID.randomUUID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.api.resource.utils.ExtractRemoteData.SLIPRULE_AMENDMENT_REASON_CODE;
+
+import uk.gov.justice.api.resource.dto.DraftResultsWrapper;
+import uk.gov.justice.api.resource.service.HearingQueryService;
+import uk.gov.justice.api.resource.service.ListingQueryService;
+import uk.gov.justice.api.resource.service.ReferenceDataService;
+import uk.gov.moj.cpp.listing.domain.Hearing;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ExtractRemoteDataTest {
+
+    private static final UUID USER_ID = randomUUID();
+
+    @Mock
+    private ListingQueryService listingQueryService;
+
+    @Mock
+    private HearingQueryService hearingQueryService;
+
+    @Mock
+    private ReferenceDataService referenceDataService;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldLookUpEachRemoteValueOncePerExtract() {
+        final ExtractRemoteData remoteData = new ExtractRemoteData(USER_ID, listingQueryService, hearingQueryService, referenceDataService, null, 1);
+        final UUID hearingId = randomUUID();
+        final Hearing hearing = mock(Hearing.class);
+        when(listingQueryService.searchHearing(USER_ID, hearingId)).thenReturn(hearing);
+        when(referenceDataService.retrieveGuiltyPleaTypes()).thenReturn(Set.of("GUILTY"));
+
+        assertThat(remoteData.searchHearing(hearingId), is(sameInstance(hearing)));
+        assertThat(remoteData.searchHearing(hearingId), is(sameInstance(hearing)));
+        assertThat(remoteData.getGuiltyPleaTypes(), is(Set.of("GUILTY")));
+        assertThat(remoteData.getGuiltyPleaTypes(), is(Set.of("GUILTY")));
+
+        verify(listingQueryService, times(1)).searchHearing(USER_ID, hearingId);
+        verify(referenceDataService, times(1)).retrieveGuiltyPleaTypes();
+    }
+
+    @Test
+    public void shouldLookUpDraftResultsOncePerHearingAndHearingDays() {
+        final ExtractRemoteData remoteData = new ExtractRemoteData(USER_ID, listingQueryService, hearingQueryService, referenceDataService, null, 1);
+        final UUID hearingId = randomUUID();
+        final List<LocalDate> firstDay = List.of(LocalDate.of(2024, 1, 1));
+        final List<LocalDate> bothDays = List.of(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 2));
+        final List<DraftResultsWrapper> firstDayResults = List.of(mock(DraftResultsWrapper.class));
+        final List<DraftResultsWrapper> bothDaysResults = List.of(mock(DraftResultsWrapper.class), mock(DraftResultsWrapper.class));
+        when(hearingQueryService.getDraftResultsWithAmendments(USER_ID, hearingId, firstDay)).thenReturn(firstDayResults);
+        when(hearingQueryService.getDraftResultsWithAmendments(USER_ID, hearingId, bothDays)).thenReturn(bothDaysResults);
+
+        assertThat(remoteData.getDraftResultsWithAmendments(hearingId, firstDay), is(sameInstance(firstDayResults)));
+        assertThat(remoteData.getDraftResultsWithAmendments(hearingId, bothDays), is(sameInstance(bothDaysResults)));
+        assertThat(remoteData.getDraftResultsWithAmendments(hearingId, new ArrayList<>(firstDay)), is(sameInstance(firstDayResults)));
+
+        verify(hearingQueryService, times(1)).getDraftResultsWithAmendments(USER_ID, hearingId, firstDay);
+        verify(hearingQueryService, times(1)).getDraftResultsWithAmendments(USER_ID, hearingId, bothDays);
+    }
+
+    @Test
+    public void shouldPrefetchEveryHearingOfTheExtractConcurrently() {
+        final ExtractRemoteData remoteData = new ExtractRemoteData(USER_ID, listingQueryService, hearingQueryService, referenceDataService, executor, 4);
+        final UUID firstHearingId = randomUUID();
+        final UUID secondHearingId = randomUUID();
+        final List<LocalDate> hearingDays = List.of(LocalDate.now());
+        final Map<UUID, List<LocalDate>> draftResultHearingDays = new LinkedHashMap<>();
+        draftResultHearingDays.put(firstHearingId, hearingDays);
+        draftResultHearingDays.put(secondHearingId, hearingDays);
+        final UUID slipRuleReasonId = randomUUID();
+        when(referenceDataService.getAmendmentReasonId(USER_ID, SLIPRULE_AMENDMENT_REASON_CODE)).thenReturn(slipRuleReasonId);
+        when(hearingQueryService.getDraftResultsWithAmendments(USER_ID, firstHearingId, hearingDays)).thenReturn(emptyList());
+        when(hearingQueryService.getDraftResultsWithAmendments(USER_ID, secondHearingId, hearingDays)).thenReturn(emptyList());
+
+        remoteData.prefetch(List.of(firstHearingId, secondHearingId, firstHearingId), draftResultHearingDays);
+
+        assertThat(remoteData.getSlipRuleAmendmentReasonId(), is(slipRuleReasonId));
+        assertThat(remoteData.getDraftResultsWithAmendments(firstHearingId, hearingDays), is(emptyList()));
+        assertThat(remoteData.getDraftResultsWithAmendments(secondHearingId, hearingDays), is(emptyList()));
+        remoteData.searchHearing(firstHearingId);
+        remoteData.searchHearing(secondHearingId);
+        remoteData.getGuiltyPleaTypes();
+
+        verify(referenceDataService, times(1)).getAmendmentReasonId(USER_ID, SLIPRULE_AMENDMENT_REASON_CODE);
+        verify(referenceDataService, times(1)).retrieveGuiltyPleaTypes();
+        verify(hearingQueryService, times(1)).getDraftResultsWithAmendments(USER_ID, firstHearingId, hearingDays);
+        verify(hearingQueryService, times(1)).getDraftResultsWithAmendments(USER_ID, secondHearingId, hearingDays);
+        verify(listingQueryService, times(1)).searchHearing(USER_ID, firstHearingId);
+        verify(listingQueryService, times(1)).searchHearing(USER_ID, secondHearingId);
+    }
+
+    @Test
+    public void shouldLookUpAgainWhenThePrefetchFailed() {
+        final ExtractRemoteData remoteData = new ExtractRemoteData(USER_ID, listingQueryService, hearingQueryService, referenceDataService, executor, 4);
+        final UUID hearingId = randomUUID();
+        final Hearing hearing = mock(Hearing.class);
+        when(listingQueryService.searchHearing(USER_ID, hearingId))
+                .thenThrow(new IllegalStateException("Listing unavailable"))
+                .thenReturn(hearing);
+
+        remoteData.prefetch(List.of(hearingId), Map.of());
+
+        assertThat(remoteData.searchHearing(hearingId), is(sameInstance(hearing)));
+        verify(listingQueryService, times(2)).searchHearing(USER_ID, hearingId);
+    }
+
+    @Test
+    public void shouldReportAFailedLookupToTheExtract() {
+        final ExtractRemoteData remoteData = new ExtractRemoteData(USER_ID, listingQueryService, hearingQueryService, referenceDataService, null, 1);
+        final UUID hearingId = randomUUID();
+        when(listingQueryService.searchHearing(USER_ID, hearingId)).thenThrow(new IllegalStateException("Listing unavailable"));
+
+        assertThrows(IllegalStateException.class, () -> remoteData.searchHearing(hearingId));
+        assertThrows(IllegalStateException.class, () -> remoteData.searchHearing(hearingId));
+        verify(listingQueryService, times(2)).searchHearing(USER_ID, hearingId);
+    }
+}
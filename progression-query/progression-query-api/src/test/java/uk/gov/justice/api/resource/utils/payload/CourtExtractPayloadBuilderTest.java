@@ -0,0 +1,81 @@
+package uk.gov.justice.api.resource.utils.payload;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.api.resource.utils.FileUtil.getPayload;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import uk.gov.justice.api.resource.service.ReferenceDataService;
+import uk.gov.justice.api.resource.utils.payload.CourtExtractPayloadBuilder.CourtExtractPayload;
+import uk.gov.justice.progression.courts.exract.CourtExtractRequested;
+import uk.gov.justice.services.common.converter.JsonObjectToObjectConverter;
+import uk.gov.justice.services.common.converter.ObjectToJsonObjectConverter;
+import uk.gov.justice.services.common.converter.StringToJsonObjectConverter;
+import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
+
+import java.util.Map;
+
+import javax.json.JsonObject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class CourtExtractPayloadBuilderTest {
+
+    @Mock
+    private ReferenceDataService referenceDataService;
+
+    @InjectMocks
+    private PleaValueDescriptionBuilder pleaValueDescriptionBuilder;
+
+    private final ResultTextFlagBuilder resultTextFlagBuilder = new ResultTextFlagBuilder();
+
+    private final CourtExtractPayloadBuilder courtExtractPayloadBuilder = new CourtExtractPayloadBuilder();
+
+    private final JsonObjectToObjectConverter jsonObjectToObjectConverter = new JsonObjectToObjectConverter(new ObjectMapperProducer().objectMapper());
+    private final ObjectToJsonObjectConverter objectToJsonObjectConverter = new ObjectToJsonObjectConverter(new ObjectMapperProducer().objectMapper());
+
+    @BeforeEach
+    public void setUp() {
+        setField(courtExtractPayloadBuilder, "pleaValueDescriptionBuilder", pleaValueDescriptionBuilder);
+        setField(courtExtractPayloadBuilder, "resultTextFlagBuilder", resultTextFlagBuilder);
+    }
+
+    @Test
+    public void shouldBuildTheSamePayloadAsConvertingTheWholeExtract() throws Exception {
+        when(referenceDataService.retrievePleaTypeDescriptions()).thenReturn(Map.of("GUILTY", "Guilty"));
+        final CourtExtractRequested courtExtractRequested = jsonObjectToObjectConverter.convert(
+                new StringToJsonObjectConverter().convert(getPayload("court-extract/progression.court-extract-for-application-has-cloned-offences.json")),
+                CourtExtractRequested.class);
+
+        final JsonObject expected = resultTextFlagBuilder.rebuildWithResultTextFlag(
+                pleaValueDescriptionBuilder.rebuildPleaWithDescription(objectToJsonObjectConverter.convert(courtExtractRequested)));
+        final CourtExtractPayload courtExtractPayload = courtExtractPayloadBuilder.build(courtExtractRequested);
+
+        assertThat(courtExtractPayload.getPayload(), is(expected));
+        assertThat(courtExtractPayload.getHearingCount(), is(2));
+        assertThat(courtExtractPayload.getLargestHearingSize(), greaterThan(0L));
+        assertThat(courtExtractPayload.getLargestHearingSize(), lessThan(courtExtractPayload.getSize()));
+    }
+
+    @Test
+    public void shouldBuildPayloadForExtractWithoutDefendant() throws Exception {
+        final CourtExtractRequested courtExtractRequested = CourtExtractRequested.courtExtractRequested()
+                .withExtractType("CrownCourtExtract")
+                .withCaseReference("TFL4359536")
+                .build();
+
+        final CourtExtractPayload courtExtractPayload = courtExtractPayloadBuilder.build(courtExtractRequested);
+
+        assertThat(courtExtractPayload.getPayload(), is(objectToJsonObjectConverter.convert(courtExtractRequested)));
+        assertThat(courtExtractPayload.getHearingCount(), is(0));
+    }
+}
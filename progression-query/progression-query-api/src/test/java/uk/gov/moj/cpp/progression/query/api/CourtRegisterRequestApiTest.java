@@ -53,4 +53,22 @@ public class CourtRegisterRequestApiTest {
         Mockito.verify(courtRegisterDocumentRequestQueryView).getCourtRegistersByRequestDate(response);
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void getRecordedCourtRegisters() {
+        final JsonEnvelope query = JsonEnvelope.envelopeFrom(
+                MetadataBuilderFactory.metadataWithRandomUUID("progression.query.recorded-court-registers"),
+                Json.createObjectBuilder());
+        courtRegisterRequestApi.getRecordedCourtRegisters(query);
+        Mockito.verify(courtRegisterDocumentRequestQueryView).getRecordedCourtRegisters(query);
+    }
+
+    @Test
+    public void getRecordedCourtRegisterDocumentRequests() {
+        final JsonEnvelope query = JsonEnvelope.envelopeFrom(
+                MetadataBuilderFactory.metadataWithRandomUUID("progression.query.recorded-court-register-document-requests"),
+                Json.createObjectBuilder());
+        courtRegisterRequestApi.getRecordedCourtRegisterDocumentRequests(query);
+        Mockito.verify(courtRegisterDocumentRequestQueryView).getRecordedCourtRegisterRequests(query);
+    }
+}
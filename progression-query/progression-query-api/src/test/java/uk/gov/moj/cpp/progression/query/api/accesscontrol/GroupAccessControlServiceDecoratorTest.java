@@ -0,0 +1,118 @@
+package uk.gov.moj.cpp.progression.query.api.accesscontrol;
+
+import static java.util.UUID.randomUUID;
+import static javax.json.Json.createObjectBuilder;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.core.annotation.Component.QUERY_API;
+import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
+import static uk.gov.justice.services.test.utils.core.messaging.MetadataBuilderFactory.metadataWithRandomUUID;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import uk.gov.justice.services.core.accesscontrol.AccessControlService;
+import uk.gov.justice.services.core.accesscontrol.AccessControlViolation;
+import uk.gov.justice.services.messaging.JsonEnvelope;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class GroupAccessControlServiceDecoratorTest {
+
+    private static final String PROSECUTION_CASE = "progression.query.prosecutioncase";
+    private static final String COURT_DOCUMENT = "progression.query.courtdocument";
+    private static final UUID USER_ID = randomUUID();
+
+    @Mock
+    private AccessControlService accessControlService;
+
+    @Mock
+    private UserGroupsCache userGroupsCache;
+
+    private final GroupAccessIndex groupAccessIndex = new GroupAccessIndex();
+
+    @InjectMocks
+    private GroupAccessControlServiceDecorator groupAccessControlServiceDecorator;
+
+    @BeforeEach
+    public void setUp() {
+        groupAccessIndex.compile();
+        setField(groupAccessControlServiceDecorator, "groupAccessIndex", groupAccessIndex);
+    }
+
+    @Test
+    public void shouldAllowAMemberOfAnAllowedGroupWithoutTheRules() {
+        when(userGroupsCache.getGroupNames(USER_ID)).thenReturn(Set.of("Court Clerks"));
+
+        final Optional<AccessControlViolation> violation = groupAccessControlServiceDecorator.checkAccessControl(QUERY_API, envelope(PROSECUTION_CASE, USER_ID));
+
+        assertThat(violation.isPresent(), is(false));
+        verifyNoInteractions(accessControlService);
+    }
+
+    @Test
+    public void shouldRejectAUserWithNoAllowedGroupWithoutTheRules() {
+        when(userGroupsCache.getGroupNames(USER_ID)).thenReturn(Set.of("Not A Group"));
+
+        final Optional<AccessControlViolation> violation = groupAccessControlServiceDecorator.checkAccessControl(QUERY_API, envelope(PROSECUTION_CASE, USER_ID));
+
+        assertThat(violation.isPresent(), is(true));
+        verifyNoInteractions(accessControlService);
+    }
+
+    @Test
+    public void shouldCheckActionsWithOtherRulesWithTheRules() {
+        final JsonEnvelope envelope = envelope(COURT_DOCUMENT, USER_ID);
+        final Optional<AccessControlViolation> violation = Optional.of(new AccessControlViolation("Not allowed"));
+        when(accessControlService.checkAccessControl(QUERY_API, envelope)).thenReturn(violation);
+
+        assertThat(groupAccessControlServiceDecorator.checkAccessControl(QUERY_API, envelope), is(violation));
+        verifyNoInteractions(userGroupsCache);
+    }
+
+    @Test
+    public void shouldCheckRequestsWithoutAUserWithTheRules() {
+        final JsonEnvelope envelope = envelopeFrom(metadataWithRandomUUID(PROSECUTION_CASE), createObjectBuilder().build());
+        when(accessControlService.checkAccessControl(QUERY_API, envelope)).thenReturn(Optional.empty());
+
+        assertThat(groupAccessControlServiceDecorator.checkAccessControl(QUERY_API, envelope).isPresent(), is(false));
+        verifyNoInteractions(userGroupsCache);
+    }
+
+    @Test
+    public void shouldCheckWithTheRulesWhenTheGroupsCannotBeLookedUp() {
+        final JsonEnvelope envelope = envelope(PROSECUTION_CASE, USER_ID);
+        when(userGroupsCache.getGroupNames(USER_ID)).thenThrow(new IllegalStateException("usersgroups unavailable"));
+        when(accessControlService.checkAccessControl(QUERY_API, envelope)).thenReturn(Optional.empty());
+
+        assertThat(groupAccessControlServiceDecorator.checkAccessControl(QUERY_API, envelope).isPresent(), is(false));
+        verify(accessControlService).checkAccessControl(QUERY_API, envelope);
+    }
+
+    @Test
+    public void shouldCheckWithTheRulesWhenTheIndexIsDisabled() {
+        setField(groupAccessControlServiceDecorator, "enabled", "false");
+        final JsonEnvelope envelope = envelope(PROSECUTION_CASE, USER_ID);
+        when(accessControlService.checkAccessControl(QUERY_API, envelope)).thenReturn(Optional.empty());
+
+        groupAccessControlServiceDecorator.checkAccessControl(QUERY_API, envelope);
+
+        verify(accessControlService).checkAccessControl(QUERY_API, envelope);
+        verifyNoInteractions(userGroupsCache);
+    }
+
+    private static JsonEnvelope envelope(final String actionName, final UUID userId) {
+        return envelopeFrom(metadataWithRandomUUID(actionName).withUserId(userId.toString()), createObjectBuilder().build());
+    }
+}
@@ -0,0 +1,119 @@
+package uk.gov.moj.cpp.progression.query.api.accesscontrol;
+
+import static java.lang.String.format;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Answers.RETURNS_DEFAULTS;
+import static org.mockito.Mockito.mock;
+
+import uk.gov.justice.api.resource.service.CourtDocumentProvider;
+import uk.gov.moj.cpp.accesscontrol.common.providers.UserAndGroupProvider;
+import uk.gov.moj.cpp.accesscontrol.drools.Action;
+import uk.gov.moj.cpp.accesscontrol.progression.providers.ProgressionProvider;
+import uk.gov.moj.cpp.accesscontrol.refdata.providers.RbacProvider;
+import uk.gov.moj.cpp.accesscontrol.test.utils.BaseDroolsAccessControlTest;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+
+/**
+ * Checks that the {@link GroupAccessIndex} decides every indexed query action the same as the
+ * access control rules do, for a member of each group named in the rules and for a user in none of
+ * them.
+ */
+public class GroupAccessIndexParityTest extends BaseDroolsAccessControlTest {
+
+    private static final String NOT_A_GROUP = "Not A Group";
+
+    private final GroupAccessIndex groupAccessIndex = new GroupAccessIndex();
+
+    private final UserAndGroupProvider userAndGroupProvider = mock(UserAndGroupProvider.class, this::memberOfAnyOfTheSuppliedGroups);
+
+    private Collection<String> userGroups = emptySet();
+
+    public GroupAccessIndexParityTest() {
+        super("QUERY_API_SESSION");
+    }
+
+    @BeforeEach
+    public void compileIndex() {
+        groupAccessIndex.compile();
+    }
+
+    @Test
+    public void shouldDecideEveryIndexedActionAsTheAccessControlRulesDo() {
+        assertThat(groupAccessIndex.getActionNames().size(), is(greaterThan(0)));
+
+        for (final String actionName : groupAccessIndex.getActionNames()) {
+            for (final Set<String> groups : userGroupsToCheck()) {
+                userGroups = groups;
+                final boolean allowedByRules = isAllowedByRules(actionName);
+                final boolean allowedByIndex = groupAccessIndex.isAllowed(actionName, groups);
+                if (allowedByRules != allowedByIndex) {
+                    throw new AssertionError(format("%s for a member of %s: rules allow %s, index allows %s", actionName, groups, allowedByRules, allowedByIndex));
+                }
+            }
+        }
+    }
+
+    @Override
+    protected Map<Class<?>, Object> getProviderMocks() {
+        return ImmutableMap.<Class<?>, Object>builder()
+                .put(UserAndGroupProvider.class, userAndGroupProvider)
+                .put(ProgressionProvider.class, mock(ProgressionProvider.class))
+                .put(CourtDocumentProvider.class, mock(CourtDocumentProvider.class))
+                .put(RbacProvider.class, mock(RbacProvider.class))
+                .build();
+    }
+
+    private boolean isAllowedByRules(final String actionName) {
+        final Action action = createActionFor(actionName);
+        try {
+            assertSuccessfulOutcome(executeRulesWith(action));
+            return true;
+        } catch (final AssertionError e) {
+            return false;
+        }
+    }
+
+    private List<Set<String>> userGroupsToCheck() {
+        final Set<String> allGroups = new TreeSet<>();
+        groupAccessIndex.getActionNames().forEach(actionName -> allGroups.addAll(groupAccessIndex.getAllowedGroups(actionName).orElse(emptySet())));
+
+        final List<Set<String>> userGroupsToCheck = new ArrayList<>();
+        allGroups.forEach(group -> userGroupsToCheck.add(singleton(group)));
+        userGroupsToCheck.add(singleton(NOT_A_GROUP));
+        userGroupsToCheck.add(emptySet());
+        return userGroupsToCheck;
+    }
+
+    private Object memberOfAnyOfTheSuppliedGroups(final InvocationOnMock invocation) throws Throwable {
+        if (!"isMemberOfAnyOfTheSuppliedGroups".equals(invocation.getMethod().getName())) {
+            return RETURNS_DEFAULTS.answer(invocation);
+        }
+
+        final List<Object> suppliedGroups = new ArrayList<>();
+        for (final Object argument : invocation.getArguments()) {
+            if (argument instanceof String) {
+                suppliedGroups.add(argument);
+            } else if (argument instanceof String[]) {
+                suppliedGroups.addAll(List.of((String[]) argument));
+            } else if (argument instanceof Collection) {
+                suppliedGroups.addAll((Collection<?>) argument);
+            }
+        }
+        return suppliedGroups.stream().anyMatch(userGroups::contains);
+    }
+}
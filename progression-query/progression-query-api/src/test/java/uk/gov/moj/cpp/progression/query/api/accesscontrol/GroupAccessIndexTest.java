@@ -0,0 +1,96 @@
+package uk.gov.moj.cpp.progression.query.api.accesscontrol;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class GroupAccessIndexTest {
+
+    private static final String GROUP_ONLY_RULES = "rule \"Query - first\"\n" +
+            "  when\n" +
+            "    $outcome: Outcome();\n" +
+            "    $action: Action(name == \"progression.query.first\");\n" +
+            "    eval(userAndGroupProvider.isMemberOfAnyOfTheSuppliedGroups($action, \"System Users\",\"Court Clerks\",\n" +
+            "     \"Legal Advisers\"))\n" +
+            "  then\n" +
+            "    $outcome.setSuccess(true);\n" +
+            "end\n" +
+            "\n" +
+            "rule \"Query - first for listing\"\n" +
+            "  when\n" +
+            "    $outcome: Outcome();\n" +
+            "    $action: Action(name == \"progression.query.first\");\n" +
+            "    eval(userAndGroupProvider.isMemberOfAnyOfTheSuppliedGroups($action, \"Listing Officers\"))\n" +
+            "  then\n" +
+            "    $outcome.setSuccess(true);\n" +
+            "end\n";
+
+    private static final String DOCUMENT_RULES = "rule \"Query - second\"\n" +
+            "  when\n" +
+            "    $outcome: Outcome();\n" +
+            "    $action: Action(name == \"progression.query.second\");\n" +
+            "    eval(userAndGroupProvider.isMemberOfAnyOfTheSuppliedGroups($action, \"System Users\"))\n" +
+            "  then\n" +
+            "    $outcome.setSuccess(true);\n" +
+            "end\n" +
+            "\n" +
+            "rule \"Query - second by document type\"\n" +
+            "  when\n" +
+            "    $outcome: Outcome();\n" +
+            "    $action: Action(name == \"progression.query.second\");\n" +
+            "    eval(rbacProvider.isLoggedInUserAllowedToReadDocument(courtDocumentProvider.getDocumentTypeId($action)))\n" +
+            "  then\n" +
+            "    $outcome.setSuccess(true);\n" +
+            "end\n";
+
+    @Test
+    public void shouldIndexTheGroupsOfEveryGroupOnlyRuleOfAnAction() {
+        final Map<String, Set<String>> index = GroupAccessIndex.compile(GROUP_ONLY_RULES);
+
+        assertThat(index, is(aMapWithSize(1)));
+        assertThat(index.get("progression.query.first"), containsInAnyOrder("System Users", "Court Clerks", "Legal Advisers", "Listing Officers"));
+    }
+
+    @Test
+    public void shouldLeaveActionsWithAnyOtherRuleToDrools() {
+        final Map<String, Set<String>> index = GroupAccessIndex.compile(GROUP_ONLY_RULES + DOCUMENT_RULES);
+
+        assertThat(index, hasKey("progression.query.first"));
+        assertThat(index, not(hasKey("progression.query.second")));
+    }
+
+    @Test
+    public void shouldLeaveEveryActionToDroolsWhenARuleDoesNotNameItsAction() {
+        final String anyActionRule = "rule \"Query - any action\"\n" +
+                "  when\n" +
+                "    $outcome: Outcome();\n" +
+                "    $action: Action();\n" +
+                "    eval(userAndGroupProvider.isMemberOfAnyOfTheSuppliedGroups($action, \"Second Line Support\"))\n" +
+                "  then\n" +
+                "    $outcome.setSuccess(true);\n" +
+                "end\n";
+
+        assertThat(GroupAccessIndex.compile(GROUP_ONLY_RULES + anyActionRule), is(aMapWithSize(0)));
+    }
+
+    @Test
+    public void shouldCompileTheQueryAccessControlRules() {
+        final GroupAccessIndex groupAccessIndex = new GroupAccessIndex();
+        groupAccessIndex.compile();
+
+        assertThat(groupAccessIndex.isIndexed("progression.query.prosecutioncase"), is(true));
+        assertThat(groupAccessIndex.isIndexed("progression.query.courtdocument"), is(false));
+        assertThat(groupAccessIndex.isIndexed("progression.query.pet"), is(false));
+        assertThat(groupAccessIndex.isAllowed("progression.query.usergroups-by-material-id", List.of("System Users")), is(true));
+        assertThat(groupAccessIndex.isAllowed("progression.query.usergroups-by-material-id", List.of("Court Clerks")), is(false));
+    }
+}
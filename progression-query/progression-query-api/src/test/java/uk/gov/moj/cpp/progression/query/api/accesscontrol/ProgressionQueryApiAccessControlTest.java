@@ -127,6 +127,26 @@ public class ProgressionQueryApiAccessControlTest extends BaseDroolsAccessContro
         assertFailureOutcomeOnActionForTheSuppliedGroups("progression.query.cases-search-by-material-id", "System Users", "Crown Court Admin", "Listing Officers", "Judiciary", "Case Officer");
     }
 
+    @Test
+    public void shouldAllowUserInAuthorisedGroupToGetRecordedCourtRegisters() {
+        assertSuccessfulOutcomeOnActionForTheSuppliedGroups("progression.query.recorded-court-registers", "System Users");
+    }
+
+    @Test
+    public void shouldNotAllowUserInAuthorisedGroupToGetRecordedCourtRegisters() {
+        assertFailureOutcomeOnActionForTheSuppliedGroups("progression.query.recorded-court-registers", "System Users");
+    }
+
+    @Test
+    public void shouldAllowUserInAuthorisedGroupToGetRecordedCourtRegisterDocumentRequests() {
+        assertSuccessfulOutcomeOnActionForTheSuppliedGroups("progression.query.recorded-court-register-document-requests", "System Users");
+    }
+
+    @Test
+    public void shouldNotAllowUserInAuthorisedGroupToGetRecordedCourtRegisterDocumentRequests() {
+        assertFailureOutcomeOnActionForTheSuppliedGroups("progression.query.recorded-court-register-document-requests", "System Users");
+    }
+
     @Test
     public void shouldAllowUserInAuthorisedGroupToUserGroupsByMaterialId() {
         assertSuccessfulOutcomeOnActionForTheSuppliedGroups("progression.query.usergroups-by-material-id", "System Users");
@@ -0,0 +1,71 @@
+package uk.gov.moj.cpp.progression.query.api.accesscontrol;
+
+import static java.util.UUID.randomUUID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import uk.gov.justice.api.resource.service.UsersAndGroupsService;
+import uk.gov.moj.cpp.progression.query.view.UserGroupsDetails;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class UserGroupsCacheTest {
+
+    private static final UUID USER_ID = randomUUID();
+
+    @Mock
+    private UsersAndGroupsService usersAndGroupsService;
+
+    @InjectMocks
+    private UserGroupsCache userGroupsCache;
+
+    @Test
+    public void shouldLookUpTheGroupsOfAUserOnceWithinTheTtl() {
+        when(usersAndGroupsService.getUserGroups(USER_ID)).thenReturn(List.of(
+                new UserGroupsDetails(randomUUID(), "Court Clerks"),
+                new UserGroupsDetails(randomUUID(), "Legal Advisers")));
+
+        assertThat(userGroupsCache.getGroupNames(USER_ID), containsInAnyOrder("Court Clerks", "Legal Advisers"));
+        assertThat(userGroupsCache.getGroupNames(USER_ID), containsInAnyOrder("Court Clerks", "Legal Advisers"));
+
+        verify(usersAndGroupsService, times(1)).getUserGroups(USER_ID);
+        assertThat(userGroupsCache.size(), is(1));
+    }
+
+    @Test
+    public void shouldLookUpTheGroupsAgainOnceExpired() {
+        setField(userGroupsCache, "ttlSeconds", "0");
+        when(usersAndGroupsService.getUserGroups(USER_ID))
+                .thenReturn(List.of(new UserGroupsDetails(randomUUID(), "Court Clerks")))
+                .thenReturn(List.of(new UserGroupsDetails(randomUUID(), "Listing Officers")));
+
+        assertThat(userGroupsCache.getGroupNames(USER_ID), containsInAnyOrder("Court Clerks"));
+        assertThat(userGroupsCache.getGroupNames(USER_ID), containsInAnyOrder("Listing Officers"));
+
+        verify(usersAndGroupsService, times(2)).getUserGroups(USER_ID);
+    }
+
+    @Test
+    public void shouldLookUpTheGroupsAgainOnceEvicted() {
+        when(usersAndGroupsService.getUserGroups(USER_ID)).thenReturn(List.of(new UserGroupsDetails(randomUUID(), "Court Clerks")));
+
+        userGroupsCache.getGroupNames(USER_ID);
+        userGroupsCache.evict(USER_ID);
+        userGroupsCache.getGroupNames(USER_ID);
+
+        verify(usersAndGroupsService, times(2)).getUserGroups(USER_ID);
+    }
+}
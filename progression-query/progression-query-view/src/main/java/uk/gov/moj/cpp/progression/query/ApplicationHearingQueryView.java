@@ -21,7 +21,6 @@ import uk.gov.justice.services.core.annotation.Handles;
 import uk.gov.justice.services.core.annotation.ServiceComponent;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 
-import uk.gov.moj.cpp.prosecutioncase.persistence.entity.HearingEntity;
 import uk.gov.moj.cpp.prosecutioncase.persistence.entity.ProsecutionCaseEntity;
 import uk.gov.moj.cpp.prosecutioncase.persistence.repository.HearingRepository;
 import uk.gov.moj.cpp.prosecutioncase.persistence.repository.ProsecutionCaseRepository;
@@ -71,8 +70,8 @@ public class ApplicationHearingQueryView {
         final UUID applicationId = fromString(payload.getString("applicationId"));
         final UUID hearingId = fromString(payload.getString("hearingId"));
 
-        final HearingEntity hearingEntity = hearingRepository.findBy(hearingId);
-        final Hearing hearing = jsonObjectToObjectConverter.convert(stringToJsonObjectConverter.convert(hearingEntity.getPayload()), Hearing.class);
+        final String hearingPayload = hearingRepository.findHearingPayloadWithCourtApplication(hearingId, applicationId.toString());
+        final Hearing hearing = jsonObjectToObjectConverter.convert(stringToJsonObjectConverter.convert(hearingPayload), Hearing.class);
 
         final Optional<CourtApplication> optionalCourtApplication = ofNullable(hearing.getCourtApplications()).orElse(Collections.emptyList()).stream()
                 .filter(c -> c.getId().equals(applicationId))
@@ -1,6 +1,7 @@
 package uk.gov.moj.cpp.progression.query;
 
 import static java.lang.Boolean.TRUE;
+import static java.lang.Math.min;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Optional.ofNullable;
@@ -25,9 +26,7 @@ import uk.gov.justice.core.courts.CourtDocument;
 import uk.gov.justice.core.courts.CourtDocumentIndex;
 import uk.gov.justice.core.courts.CourtDocumentSummary;
 import uk.gov.justice.core.courts.CourtdocumentsWithPagination;
-import uk.gov.justice.core.courts.Defendant;
 import uk.gov.justice.core.courts.Material;
-import uk.gov.justice.core.courts.ProsecutionCase;
 import uk.gov.justice.services.common.converter.JsonObjectToObjectConverter;
 import uk.gov.justice.services.common.converter.ObjectToJsonObjectConverter;
 import uk.gov.justice.services.common.converter.StringToJsonObjectConverter;
@@ -55,7 +54,6 @@ import uk.gov.moj.cpp.prosecutioncase.persistence.entity.CourtApplicationEntity;
 import uk.gov.moj.cpp.prosecutioncase.persistence.entity.CourtDocumentEntity;
 import uk.gov.moj.cpp.prosecutioncase.persistence.entity.CourtDocumentIndexEntity;
 import uk.gov.moj.cpp.prosecutioncase.persistence.entity.NotificationStatusEntity;
-import uk.gov.moj.cpp.prosecutioncase.persistence.entity.ProsecutionCaseEntity;
 import uk.gov.moj.cpp.prosecutioncase.persistence.repository.CourtApplicationRepository;
 import uk.gov.moj.cpp.prosecutioncase.persistence.repository.CourtDocumentRepository;
 import uk.gov.moj.cpp.prosecutioncase.persistence.repository.CpsSendNotificationRepository;
@@ -148,6 +146,7 @@ public class CourtDocumentQueryView {
     private static final long DEFAULT_PAGE = 1L;
     public static final String MIME_TYPE_PDF = "application/pdf";
     public static final String MATERIAL_TYPE_PDF = "pdf";
+    private static final Set<String> PDF_MIME_TYPES = Set.of(MATERIAL_TYPE_PDF, MIME_TYPE_PDF);
     private static final String PERMISSIONS = "permissions";
     private static final String CDES_EXCLUDE_NON_CPS_ROLE = "CDES_EXCLUDE_NON_CPS_ROLE";
     private static final String USERSGROUPS_GET_LOGGED_IN_USER_PERMISSIONS = "usersgroups.get-logged-in-user-permissions";
@@ -503,28 +502,28 @@ public class CourtDocumentQueryView {
         final String sortOrder = getString(envelope.payloadAsJsonObject(), SORT_ORDER).orElse(equalsIgnoreCase(sortField, DATE) ? DESC : ASC);
 
 
+        final List<DocumentTypeAccessReferenceData> documentTypeAccessData = getAllDocumentTypeAccess();
+        final List<String> groupNamesForUser = getUserGroupsByUserId(envelope);
+
         final SearchCriteria searchCriteria = SearchCriteria.searchCriteria()
                 .withCaseId(getUUID(envelope.payloadAsJsonObject(), CASE_ID).orElseThrow(() -> new IllegalArgumentException("caseId cannot be empty!")))
                 .withDefendantId(getUUID(envelope.payloadAsJsonObject(), DEFENDANT_ID_SEARCH_PARAM))
                 .withSectionId(getString(envelope.payloadAsJsonObject(), SECTION))
                 .withDocumentName(getString(envelope.payloadAsJsonObject(), DOCUMENT_NAME))
+                .withMimeTypes(Optional.of(PDF_MIME_TYPES))
+                .withDocumentTypeIds(Optional.of(getReadableDocumentTypeIds(documentTypeAccessData, groupNamesForUser)))
                 .build();
 
+        final int page = getLong(envelope.payloadAsJsonObject(), PAGE).orElse(DEFAULT_PAGE).intValue();
+        final int pageSize = getLong(envelope.payloadAsJsonObject(), PAGE_SIZE).orElse(DEFAULT_PAGE_SIZE).intValue();
+        final SortField paginationSortField = SortField.valueFor(sortField).orElse(SortField.DATE);
+        final SortOrder paginationSortOrder = SortOrder.valueFor(sortOrder).orElse(SortOrder.ASC);
 
-        final List<CourtDocumentIndexEntity> courtDocumentIndexEntities = courtDocumentIndexService.getCourtDocumentIndexByCriteria(searchCriteria);
-
-        final List<DocumentTypeAccessReferenceData> documentTypeAccessData = getAllDocumentTypeAccess();
-        final List<String> groupNamesForUser = getUserGroupsByUserId(envelope);
-
-        final List<CourtDocument> courtDocumentList = courtDocumentIndexEntities.stream()
+        final List<CourtDocument> courtDocumentList = courtDocumentIndexService.getCourtDocumentIndexByCriteria(searchCriteria).stream()
                 .map(courtDocumentIndexEntity -> courtDocument(courtDocumentIndexEntity.getCourtDocument()))
-                .filter(courtDocument -> isSearchCriteriaMatching(courtDocument, searchCriteria))
-                .filter(courtDocument -> MATERIAL_TYPE_PDF.equals(courtDocument.getMimeType()) || MIME_TYPE_PDF.equals(courtDocument.getMimeType()))
-                .filter(courtDocument -> isAllowedToAccessDocumentForGivenAction(documentTypeAccessData, courtDocument, groupNamesForUser))
                 .filter(courtDocument -> CollectionUtils.isNotEmpty(courtDocument.getMaterials()))
                 .collect(Collectors.toList());
 
-
         final Set<String> allowedUserGroupsInDocuments = courtDocumentList.stream()
                 .flatMap(cd -> cd.getMaterials() == null ? Stream.empty() : cd.getMaterials().stream())
                 .flatMap(m -> m.getUserGroups() == null ? Stream.empty() : m.getUserGroups().stream())
@@ -544,25 +543,39 @@ public class CourtDocumentQueryView {
 
 
         final List<CourtDocumentSummary> courtDocumentSummaries = filteredMaterialCourtDocuments.stream().map(courtDocument ->
-                courtDocument.getMaterials().stream().map(getCourtDocumentSummary(courtDocument)).findFirst()).filter(Optional::isPresent).map(Optional::get).collect(toList());
-
+                courtDocument.getMaterials().stream().map(getCourtDocumentSummary(courtDocument)).findFirst()).filter(Optional::isPresent).map(Optional::get)
+                .sorted(courtDocumentSummaryOrder(paginationSortField, paginationSortOrder))
+                .collect(toList());
 
+        final int totalRecordCount = courtDocumentSummaries.size();
         final PaginationData paginationData = PaginationData.paginationData()
-                .withPage(getLong(envelope.payloadAsJsonObject(), PAGE).orElse(DEFAULT_PAGE).intValue())
-                .withPageSize(getLong(envelope.payloadAsJsonObject(), PAGE_SIZE).orElse(DEFAULT_PAGE_SIZE).intValue())
-                .withSortField(SortField.valueFor(sortField).orElse(SortField.DATE))
-                .withSortOrder(SortOrder.valueFor(sortOrder).orElse(SortOrder.ASC))
-                .withTotalRecordCount(courtDocumentSummaries.size())
+                .withPage(page)
+                .withPageSize(pageSize)
+                .withSortField(paginationSortField)
+                .withSortOrder(paginationSortOrder)
+                .withTotalRecordCount(totalRecordCount)
                 .build();
         final CourtdocumentsWithPagination result = CourtdocumentsWithPagination.courtdocumentsWithPagination()
                 .withPaginationData(paginationData)
-                .withCourtDocuments(getSortedCourtDocumentSummary(courtDocumentSummaries, paginationData))
+                .withCourtDocuments(courtDocumentSummaries.subList(min((page - 1) * pageSize, totalRecordCount), min(page * pageSize, totalRecordCount)))
                 .build();
 
 
         return envelopeFrom(envelope.metadata(), objectToJsonObjectConverter.convert(result));
     }
 
+    /**
+     * Orders by section description or by the upload time of the first material, with the court
+     * document id breaking ties so that pages do not overlap.
+     */
+    private static Comparator<CourtDocumentSummary> courtDocumentSummaryOrder(final SortField sortField, final SortOrder sortOrder) {
+        final Comparator<CourtDocumentSummary> order = (SortField.SECTION == sortField
+                ? Comparator.comparing(CourtDocumentSummary::getDocumentTypeDescription)
+                : Comparator.comparing((CourtDocumentSummary courtDocumentSummary) -> courtDocumentSummary.getMaterial().getUploadDateTime()))
+                .thenComparing(CourtDocumentSummary::getCourtDocumentId);
+        return SortOrder.ASC == sortOrder ? order : order.reversed();
+    }
+
     private boolean isUserHasNonCPSProsecutorExcludePermission(final JsonEnvelope envelope) {
         final Metadata metadata = metadataFrom(envelope.metadata())
                 .withName(USERSGROUPS_GET_LOGGED_IN_USER_PERMISSIONS).build();
@@ -579,14 +592,6 @@ public class CourtDocumentQueryView {
         return false;
     }
 
-    @SuppressWarnings("squid:S3655")
-    private boolean isSearchCriteriaMatching(final CourtDocument courtDocument, final SearchCriteria searchCriteria) {
-        if (searchCriteria.getDocumentName().isPresent()) {
-            return courtDocument.getName().toLowerCase().startsWith(searchCriteria.getDocumentName().get().toLowerCase());
-        }
-        return true;
-    }
-
     private Function<Material, CourtDocumentSummary> getCourtDocumentSummary(final CourtDocument courtDocument) {
         return material ->
                 CourtDocumentSummary.courtDocumentSummary()
@@ -613,38 +618,6 @@ public class CourtDocumentQueryView {
                 .collect(Collectors.toList());
     }
 
-    private List<CourtDocumentSummary> getSortedCourtDocumentSummary(final List<CourtDocumentSummary> courtDocumentSummaries, final PaginationData paginationData) {
-
-        final List<CourtDocumentSummary> sortedCourtDocumentSummaries;
-        if (SortField.SECTION == paginationData.getSortField()) {
-            if (SortOrder.ASC == paginationData.getSortOrder()) {
-                sortedCourtDocumentSummaries = courtDocumentSummaries.stream()
-                        .sorted(Comparator.comparing(CourtDocumentSummary::getDocumentTypeDescription)).collect(toList());
-            } else {
-                sortedCourtDocumentSummaries = courtDocumentSummaries.stream()
-                        .sorted(Comparator.comparing(CourtDocumentSummary::getDocumentTypeDescription).reversed()).collect(toList());
-            }
-        } else {
-            if (SortOrder.ASC == paginationData.getSortOrder()) {
-                sortedCourtDocumentSummaries = courtDocumentSummaries.stream()
-                        .sorted(Comparator.comparing(courtDocumentSummary -> courtDocumentSummary.getMaterial().getUploadDateTime())).collect(toList());
-            } else {
-                sortedCourtDocumentSummaries = courtDocumentSummaries.stream()
-                        .sorted(Comparator.comparing(courtDocumentSummary -> ((CourtDocumentSummary) courtDocumentSummary).getMaterial().getUploadDateTime()).reversed()).collect(toList());
-            }
-        }
-
-        return sortedCourtDocumentSummaries.subList(getFromIndex(paginationData), getToIndex(paginationData));
-    }
-
-    private int getToIndex(final PaginationData paginationData) {
-        return paginationData.getPage() * paginationData.getPageSize() > paginationData.getTotalRecordCount() ? paginationData.getTotalRecordCount() : paginationData.getPage() * paginationData.getPageSize();
-    }
-
-    private int getFromIndex(final PaginationData paginationData) {
-        return (paginationData.getPage() - 1) * paginationData.getPageSize();
-    }
-
     private boolean isAllowedToAccessDocumentForGivenAction(
             final List<DocumentTypeAccessReferenceData> documentTypeAccessReferenceDataList,
             final CourtDocument courtDocument, final List<String> userGroupsByUserId) {
@@ -677,6 +650,17 @@ public class CourtDocumentQueryView {
     }
 
 
+    private Set<String> getReadableDocumentTypeIds(final List<DocumentTypeAccessReferenceData> documentTypeAccessReferenceDataList,
+                                                   final List<String> userGroupsByUserId) {
+        return documentTypeAccessReferenceDataList.stream()
+                .filter(documentTypeAccess -> nonNull(documentTypeAccess.getId()))
+                .filter(documentTypeAccess -> getListOfValidUserGroup(objectToJsonObjectConverter.convert(documentTypeAccess), READ_USER_ACTION)
+                        .filter(documentTypeAccessGroup -> isUserGroupsMatchesWithRBAC(documentTypeAccessGroup, userGroupsByUserId))
+                        .isPresent())
+                .map(documentTypeAccess -> documentTypeAccess.getId().toString())
+                .collect(Collectors.toSet());
+    }
+
     private boolean isUserGroupsMatchesWithRBAC(final List<String> groupsWithCreateAccess,
                                                 final List<String> userGroupsByUserId) {
         return groupsWithCreateAccess.stream().anyMatch(userGroupsByUserId::contains);
@@ -949,17 +933,14 @@ public class CourtDocumentQueryView {
     }
 
     private List<UUID> retrieveMasterDefendantIdList(final UUID caseId, final UUID defendantId) {
+        if (defendantId == null) {
+            return new ArrayList<>();
+        }
         try {
-            final ProsecutionCaseEntity prosecutionCaseEntity =
-                    prosecutionCaseRepository.findByCaseId(caseId);
-
-            final JsonObject prosecutionCasePayload =
-                    stringToJsonObjectConverter.convert(prosecutionCaseEntity.getPayload());
-            final ProsecutionCase prosecutionCase = jsonObjectToObjectConverter
-                    .convert(prosecutionCasePayload, ProsecutionCase.class);
-            return prosecutionCase.getDefendants().stream()
-                    .filter(d -> d.getId().equals(defendantId))
-                    .map(Defendant::getMasterDefendantId).collect(Collectors.toList());
+            return prosecutionCaseRepository.findMasterDefendantIdsByCaseIdAndDefendantId(caseId, defendantId.toString()).stream()
+                    .filter(Objects::nonNull)
+                    .map(UUID::fromString)
+                    .collect(Collectors.toList());
         } catch (final Exception ex) {
             return new ArrayList<>();
         }
@@ -37,6 +37,11 @@ public class CourtRegisterDocumentRequestQueryView {
     private static final String FIELD_MATERIAL_ID = "materialId";
     private static final String FIELD_COURT_HOUSE = "courtHouse";
     private static final String FIELD_REGISTER_DATE = "registerDate";
+    private static final String FIELD_COURT_CENTRE_ID = "courtCentreId";
+    private static final String FIELD_COURT_REGISTERS = "courtRegisters";
+    private static final String FIELD_PAGE_SIZE = "pageSize";
+    private static final String FIELD_AFTER = "after";
+    private static final int DEFAULT_PAGE_SIZE = 200;
 
     @Inject
     private CourtRegisterRequestRepository courtRegisterRequestRepository;
@@ -63,6 +68,38 @@ public class CourtRegisterDocumentRequestQueryView {
                 jsonObjectBuilder.add(FIELD_COURT_REGISTER_DOCUMENTS, jsonArrayBuilder.build()).build());
     }
 
+    @Handles("progression.query.recorded-court-registers")
+    public JsonEnvelope getRecordedCourtRegisters(final JsonEnvelope envelope) {
+        final JsonArrayBuilder jsonArrayBuilder = Json.createArrayBuilder();
+        courtRegisterRequestRepository.findCourtRegistersWithStatusRecorded()
+                .forEach(courtRegister -> jsonArrayBuilder.add(Json.createObjectBuilder()
+                        .add(FIELD_COURT_CENTRE_ID, courtRegister[0].toString())
+                        .add(FIELD_REGISTER_DATE, courtRegister[1].toString())));
+        return envelopeFrom(envelope.metadata(),
+                Json.createObjectBuilder().add(FIELD_COURT_REGISTERS, jsonArrayBuilder.build()).build());
+    }
+
+    /**
+     * A page of the recorded requests of one court register, following the request id {@code after}
+     * when it is given.
+     */
+    @Handles("progression.query.recorded-court-register-document-requests")
+    public JsonEnvelope getRecordedCourtRegisterRequests(final JsonEnvelope envelope) {
+        final JsonObject payload = envelope.payloadAsJsonObject();
+        final UUID courtCentreId = UUID.fromString(payload.getString(FIELD_COURT_CENTRE_ID));
+        final LocalDate registerDate = LocalDate.parse(payload.getString(FIELD_REGISTER_DATE));
+        final int pageSize = payload.getInt(FIELD_PAGE_SIZE, DEFAULT_PAGE_SIZE);
+
+        final List<CourtRegisterRequestEntity> courtRegisterRequestEntities = JsonObjects.getString(payload, FIELD_AFTER)
+                .map(after -> courtRegisterRequestRepository.findPageAfterByCourtRegisterAndStatusRecorded(courtCentreId, registerDate, UUID.fromString(after), pageSize))
+                .orElseGet(() -> courtRegisterRequestRepository.findFirstPageByCourtRegisterAndStatusRecorded(courtCentreId, registerDate, pageSize));
+
+        final JsonArrayBuilder jsonArrayBuilder = Json.createArrayBuilder();
+        courtRegisterRequestEntities.forEach(i -> jsonArrayBuilder.add(objectToJsonObjectConverter.convert(i)));
+        return envelopeFrom(envelope.metadata(),
+                Json.createObjectBuilder().add(FIELD_COURT_REGISTER_DOCUMENTS, jsonArrayBuilder.build()).build());
+    }
+
     @Handles("progression.query.court-register-document-by-material")
     public JsonEnvelope getCourtRegisterByMaterial(final JsonEnvelope envelope) {
         final UUID materialId = UUID.fromString(envelope.payloadAsJsonObject().getString(FIELD_MATERIAL_ID));
@@ -4,6 +4,7 @@ import static java.time.LocalDate.now;
 import static java.time.Period.between;
 import static java.time.format.DateTimeFormatter.ofPattern;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static java.util.Objects.nonNull;
 import static java.util.Optional.of;
@@ -43,15 +44,13 @@ import uk.gov.justice.core.courts.ProsecutingAuthority;
 import uk.gov.justice.core.courts.ProsecutionCase;
 import uk.gov.justice.core.courts.ProsecutionCounsel;
 import uk.gov.justice.core.courts.ReportingRestriction;
-import uk.gov.justice.services.common.converter.JsonObjectToObjectConverter;
 import uk.gov.justice.services.common.converter.ObjectToJsonObjectConverter;
-import uk.gov.justice.services.common.converter.StringToJsonObjectConverter;
 import uk.gov.justice.services.core.annotation.Component;
 import uk.gov.justice.services.core.annotation.Handles;
 import uk.gov.justice.services.core.annotation.ServiceComponent;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.moj.cpp.progression.query.view.service.ListingService;
-import uk.gov.moj.cpp.prosecutioncase.persistence.entity.ProsecutionCaseEntity;
+import uk.gov.moj.cpp.progression.query.view.service.ParsedPayloadCache;
 import uk.gov.moj.cpp.prosecutioncase.persistence.repository.ProsecutionCaseRepository;
 
 import java.time.LocalDate;
@@ -144,9 +143,7 @@ public class CourtlistQueryView {
     @Inject
     private ProsecutionCaseRepository prosecutionCaseRepository;
     @Inject
-    private StringToJsonObjectConverter stringToJsonObjectConverter;
-    @Inject
-    private JsonObjectToObjectConverter jsonObjectToObjectConverter;
+    private ParsedPayloadCache parsedPayloadCache;
 
     @Handles("progression.search.court.list")
     public JsonEnvelope searchCourtlist(final JsonEnvelope query) {
@@ -159,8 +156,9 @@ public class CourtlistQueryView {
             if (isNotEmpty(hearingIds)) {
                 final Map<UUID, Hearing> hearingsMap = getHearingsMap(hearingIds);
                 if (!hearingsMap.isEmpty()) {
+                    final Map<UUID, ProsecutionCase> prosecutionCasesMap = getProsecutionCasesFromDb(getCaseIds(documentPayload));
                     documentPayload = addLjaInformation(documentPayload, getCourtCentreFromHearingMap(hearingsMap));
-                    documentPayload = addHearingInformation(documentPayload, hearingsMap);
+                    documentPayload = addHearingInformation(documentPayload, hearingsMap, prosecutionCasesMap);
                 }
             }
             return envelopeFrom(query.metadata(), documentPayload);
@@ -203,6 +201,22 @@ public class CourtlistQueryView {
         return emptyList();
     }
 
+    private List<UUID> getCaseIds(final JsonObject listingResponse) {
+        final JsonArray hearings = listingResponse.getJsonArray(HEARING_DATES);
+        if (isNotEmpty(hearings)) {
+            return hearings.stream()
+                    .flatMap(jsonValue -> ((JsonObject) jsonValue).getJsonArray(COURT_ROOMS).stream())
+                    .flatMap(jsonValue -> ((JsonObject) jsonValue).getJsonArray(TIME_SLOTS).stream())
+                    .flatMap(jsonValue -> ((JsonObject) jsonValue).getJsonArray(HEARINGS).stream())
+                    .map(jsonValue -> (JsonObject) jsonValue)
+                    .filter(hearingFromListing -> hearingFromListing.containsKey(CASE_ID))
+                    .map(hearingFromListing -> fromString(hearingFromListing.getString(CASE_ID)))
+                    .distinct()
+                    .collect(toList());
+        }
+        return emptyList();
+    }
+
     private List<UUID> getApplicationOffenceListingNumbers(final JsonObject hearingJson) {
         if (hearingJson.containsKey(APPLICATION_OFFENCES)) {
             return hearingJson.getJsonArray(APPLICATION_OFFENCES).stream()
@@ -213,41 +227,41 @@ public class CourtlistQueryView {
         return emptyList();
     }
 
-    private JsonObject addHearingInformation(JsonObject documentPayload, final Map<UUID, Hearing> hearingsMap) {
+    private JsonObject addHearingInformation(JsonObject documentPayload, final Map<UUID, Hearing> hearingsMap, final Map<UUID, ProsecutionCase> prosecutionCasesMap) {
         final JsonArrayBuilder hearingDatesArray = createArrayBuilder();
 
         documentPayload.getJsonArray(HEARING_DATES).stream()
                 .map(hearingDate -> (JsonObject) hearingDate)
-                .forEach(hearingFromListing -> hearingDatesArray.add(enrichHearingDate(hearingFromListing, hearingsMap)));
+                .forEach(hearingFromListing -> hearingDatesArray.add(enrichHearingDate(hearingFromListing, hearingsMap, prosecutionCasesMap)));
 
         documentPayload = addProperty(documentPayload, HEARING_DATES, hearingDatesArray.build());
         return documentPayload;
     }
 
-    private JsonObject enrichHearingDate(JsonObject hearingFromListing, final Map<UUID, Hearing> hearingsMap) {
+    private JsonObject enrichHearingDate(JsonObject hearingFromListing, final Map<UUID, Hearing> hearingsMap, final Map<UUID, ProsecutionCase> prosecutionCasesMap) {
         final JsonArrayBuilder courtRoomsArray = createArrayBuilder();
 
         hearingFromListing.getJsonArray(COURT_ROOMS).stream()
                 .map(courtRoom -> (JsonObject) courtRoom)
-                .forEach(courtRoomFromListing -> courtRoomsArray.add(enrichCourtRoom(courtRoomFromListing, hearingsMap)));
+                .forEach(courtRoomFromListing -> courtRoomsArray.add(enrichCourtRoom(courtRoomFromListing, hearingsMap, prosecutionCasesMap)));
 
         hearingFromListing = addProperty(hearingFromListing, COURT_ROOMS, courtRoomsArray.build());
         return hearingFromListing;
     }
 
-    private JsonObject enrichCourtRoom(JsonObject courtRoomFromListing, final Map<UUID, Hearing> hearingsMap) {
+    private JsonObject enrichCourtRoom(JsonObject courtRoomFromListing, final Map<UUID, Hearing> hearingsMap, final Map<UUID, ProsecutionCase> prosecutionCasesMap) {
         final JsonArrayBuilder timeSlotsArray = createArrayBuilder();
 
         courtRoomFromListing.getJsonArray(TIME_SLOTS).stream()
                 .map(timeSlot -> (JsonObject) timeSlot)
-                .forEach(timeSlotFromListing -> timeSlotsArray.add(enrichTimeslot(timeSlotFromListing, hearingsMap)));
+                .forEach(timeSlotFromListing -> timeSlotsArray.add(enrichTimeslot(timeSlotFromListing, hearingsMap, prosecutionCasesMap)));
 
         courtRoomFromListing = addProperty(courtRoomFromListing, TIME_SLOTS, timeSlotsArray.build());
         return courtRoomFromListing;
     }
 
 
-    private JsonObject enrichTimeslot(JsonObject timeSlotFromListing, final Map<UUID, Hearing> hearingsMap) {
+    private JsonObject enrichTimeslot(JsonObject timeSlotFromListing, final Map<UUID, Hearing> hearingsMap, final Map<UUID, ProsecutionCase> prosecutionCasesMap) {
         final JsonArrayBuilder hearingsArray = createArrayBuilder();
 
         timeSlotFromListing.getJsonArray(HEARINGS).stream()
@@ -258,7 +272,7 @@ public class CourtlistQueryView {
                     if (nonNull(hearing)) {
                         if (hearingFromListing.containsKey(CASE_ID)) {
                             final UUID caseId = fromString(hearingFromListing.getString(CASE_ID));
-                            hearingsArray.add(enrichHearingFromCase(hearingFromListing, hearing, caseId));
+                            hearingsArray.add(enrichHearingFromCase(hearingFromListing, hearing, caseId, prosecutionCasesMap));
                         } else if (hearingFromListing.containsKey(COURT_APPLICATION_ID)) {
                             final UUID courtApplicationId = fromString(hearingFromListing.getString(COURT_APPLICATION_ID));
                             hearingsArray.add(enrichHearingFromCourtApplication(hearingFromListing, hearing, courtApplicationId));
@@ -270,9 +284,11 @@ public class CourtlistQueryView {
         return timeSlotFromListing;
     }
 
-    private JsonObject enrichHearingFromCase(JsonObject hearingFromListing, final Hearing hearing, final UUID caseId) {
+    private JsonObject enrichHearingFromCase(JsonObject hearingFromListing, final Hearing hearing, final UUID caseId, final Map<UUID, ProsecutionCase> prosecutionCasesMap) {
         //DD-15717: deliberately loading case details from database as the copy of case on hearing object within progression is out of date
-        final List<ProsecutionCase> prosecutionCasesFromViewStore = getProsecutionCaseFromDb(caseId);
+        final List<ProsecutionCase> prosecutionCasesFromViewStore = ofNullable(prosecutionCasesMap.get(caseId))
+                .map(prosecutionCase -> singletonList(prosecutionCase))
+                .orElse(emptyList());
         final List<ProsecutionCase> prosecutionCases = ofNullable(hearing.getProsecutionCases())
                 .map(prosecutionCasesFromHearing -> getProsecutionCaseWithListingNumberInHearings(prosecutionCasesFromViewStore, prosecutionCasesFromHearing))
                 .orElseGet(() -> prosecutionCasesFromViewStore);
@@ -335,11 +351,17 @@ public class CourtlistQueryView {
                 .collect(toList());
     }
 
-    private List<ProsecutionCase> getProsecutionCaseFromDb(final UUID caseId) {
-        final ProsecutionCaseEntity prosecutionCaseEntity = prosecutionCaseRepository.findByCaseId(caseId);
-        final JsonObject prosecutionCaseJson = stringToJsonObjectConverter.convert(prosecutionCaseEntity.getPayload());
-        final ProsecutionCase prosecutionCaseFromDb = jsonObjectToObjectConverter.convert(prosecutionCaseJson, ProsecutionCase.class);
-        return singletonList(prosecutionCaseFromDb);
+    /**
+     * Loads every case referenced by the court list in one query, parsing each payload once so
+     * that the decoded case is shared by all hearings and defendants in the list that use it.
+     */
+    private Map<UUID, ProsecutionCase> getProsecutionCasesFromDb(final List<UUID> caseIds) {
+        if (caseIds.isEmpty()) {
+            return emptyMap();
+        }
+        return prosecutionCaseRepository.findByProsecutionCaseIds(caseIds).stream()
+                .map(parsedPayloadCache::getProsecutionCase)
+                .collect(toMap(ProsecutionCase::getId, prosecutionCase -> prosecutionCase, (first, second) -> first));
     }
 
     private JsonObject enrichHearingFromCourtApplication(JsonObject hearingFromListing, final Hearing hearing, final UUID courtApplicationId) {
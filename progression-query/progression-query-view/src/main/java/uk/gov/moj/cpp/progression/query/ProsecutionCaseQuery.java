@@ -47,6 +47,7 @@ import uk.gov.moj.cpp.progression.query.utils.ResultTextFlagBuilder;
 import uk.gov.moj.cpp.progression.query.view.CaseAtAGlanceHelper;
 import uk.gov.moj.cpp.progression.query.view.service.CotrQueryService;
 import uk.gov.moj.cpp.progression.query.view.service.HearingAtAGlanceService;
+import uk.gov.moj.cpp.progression.query.view.service.ParsedPayloadCache;
 import uk.gov.moj.cpp.progression.query.view.service.ReferenceDataService;
 import uk.gov.moj.cpp.prosecutioncase.persistence.entity.CaseCpsProsecutorEntity;
 import uk.gov.moj.cpp.prosecutioncase.persistence.entity.CourtApplicationCaseEntity;
@@ -113,6 +114,13 @@ public class ProsecutionCaseQuery {
     private static final String FIELD_QUERY = "q";
     private static final String FIELD_CASE_URN = "caseUrn";
     private static final String SEARCH_RESULT = "searchResults";
+    private static final String FIELD_PAGE_SIZE = "pageSize";
+    private static final String FIELD_AFTER = "after";
+    private static final String TOTAL_RESULTS = "totalResults";
+    private static final String NEXT_PAGE_AFTER = "nextPageAfter";
+    private static final long DEFAULT_SEARCH_PAGE_SIZE = 100L;
+    private static final long MAX_SEARCH_PAGE_SIZE = 500L;
+    private static final int MAX_COUNTED_SEARCH_RESULTS = 1000;
     public static final String OLD_PROSECUTION_AUTHORITY_CODE = "oldProsecutionAuthorityCode";
     public static final String HEARINGS_AT_A_GLANCE = "hearingsAtAGlance";
     public static final String PROSECUTION_CASE = "prosecutionCase";
@@ -189,6 +197,9 @@ public class ProsecutionCaseQuery {
     @Inject
     private RelatedReferenceRepository relatedReferenceRepository;
 
+    @Inject
+    private ParsedPayloadCache parsedPayloadCache;
+
     @Handles("progression.query.prosecutioncase-details")
     public JsonEnvelope getProsecutionCaseDetails(final JsonEnvelope envelope) {
         final JsonObjectBuilder jsonObjectBuilder = createObjectBuilder();
@@ -425,8 +436,7 @@ public class ProsecutionCaseQuery {
 
         try {
             final ProsecutionCaseEntity prosecutionCaseEntity = prosecutionCaseRepository.findByCaseId(caseId.get());
-            final JsonObject prosecutionCasePayload = stringToJsonObjectConverter.convert(prosecutionCaseEntity.getPayload());
-            final ProsecutionCase prosecutionCase = jsonObjectToObjectConverter.convert(prosecutionCasePayload, ProsecutionCase.class);
+            final ProsecutionCase prosecutionCase = parsedPayloadCache.getProsecutionCase(prosecutionCaseEntity);
             final List<Hearings> hearingsList = hearingAtAGlanceService.getCaseHearings(caseId.get());
             final CaseAtAGlanceHelper caseAtAGlanceHelper = new CaseAtAGlanceHelper(prosecutionCase, hearingsList, referenceDataService, civilFeeRepository, relatedReferenceRepository);
             final JsonObject caseDetailsJson = objectToJsonObjectConverter.convert(caseAtAGlanceHelper.getCaseDetails());
@@ -637,19 +647,32 @@ public class ProsecutionCaseQuery {
 
     @Handles("progression.query.search-cases")
     public JsonEnvelope searchCase(final JsonEnvelope envelope) {
-        final String searchCriteria = envelope.payloadAsJsonObject().getString(FIELD_QUERY);
+        final JsonObject payload = envelope.payloadAsJsonObject();
+        final String searchCriteria = payload.getString(FIELD_QUERY);
         final JsonObjectBuilder jsonObjectBuilder = createObjectBuilder();
         if (StringUtils.isNotBlank(searchCriteria)) {
-            final List<SearchProsecutionCaseEntity> cases = searchCaseRepository.findBySearchCriteria(prepareSearch
-                    (searchCriteria.toLowerCase()));
-            final JsonArrayBuilder jsonArrayBuilder = Json.createArrayBuilder();
-            cases.forEach(caseEntity ->
-                    jsonArrayBuilder.add(stringToJsonObjectConverter.convert(SearchCaseBuilder.searchCaseBuilder()
-                            .withSearchCaseEntity(caseEntity)
-                            .withDefendantFullName()
-                            .withResultPayload()
-                            .build().getResultPayload())));
-            jsonObjectBuilder.add(SEARCH_RESULT, jsonArrayBuilder.build());
+            final String preparedSearch = prepareSearch(searchCriteria.toLowerCase());
+            final Optional<Long> requestedPageSize = JsonObjects.getLong(payload, FIELD_PAGE_SIZE);
+            final Optional<UUID> after = JsonObjects.getUUID(payload, FIELD_AFTER);
+
+            if (!requestedPageSize.isPresent() && !after.isPresent()) {
+                // callers that do not page still get every match, as before paging was added
+                jsonObjectBuilder.add(SEARCH_RESULT, searchResults(searchCaseRepository.findAllBySearchCriteria(preparedSearch)));
+            } else {
+                final int pageSize = (int) Math.max(1L, Math.min(requestedPageSize.orElse(DEFAULT_SEARCH_PAGE_SIZE), MAX_SEARCH_PAGE_SIZE));
+
+                // one row more than the page size tells us whether there is a next page without counting
+                final List<SearchProsecutionCaseEntity> cases = searchCaseRepository.findPageBySearchCriteria(preparedSearch, after.orElse(null), pageSize + 1);
+                final List<SearchProsecutionCaseEntity> page = cases.size() > pageSize ? cases.subList(0, pageSize) : cases;
+                jsonObjectBuilder.add(SEARCH_RESULT, searchResults(page));
+
+                if (!after.isPresent()) {
+                    jsonObjectBuilder.add(TOTAL_RESULTS, searchCaseRepository.countBySearchCriteria(preparedSearch, MAX_COUNTED_SEARCH_RESULTS));
+                }
+                if (cases.size() > pageSize) {
+                    jsonObjectBuilder.add(NEXT_PAGE_AFTER, page.get(page.size() - 1).getDefendantId().toString());
+                }
+            }
         }
 
         return JsonEnvelope.envelopeFrom(
@@ -657,6 +680,17 @@ public class ProsecutionCaseQuery {
                 jsonObjectBuilder.build());
     }
 
+    private JsonArray searchResults(final List<SearchProsecutionCaseEntity> cases) {
+        final JsonArrayBuilder jsonArrayBuilder = Json.createArrayBuilder();
+        cases.forEach(caseEntity ->
+                jsonArrayBuilder.add(stringToJsonObjectConverter.convert(SearchCaseBuilder.searchCaseBuilder()
+                        .withSearchCaseEntity(caseEntity)
+                        .withDefendantFullName()
+                        .withResultPayload()
+                        .build().getResultPayload())));
+        return jsonArrayBuilder.build();
+    }
+
     @Handles("progression.query.search-cases-by-caseurn")
     public JsonEnvelope searchCaseByCaseUrn(final JsonEnvelope envelope) {
         final JsonObjectBuilder jsonObjectBuilder = createObjectBuilder();
@@ -891,8 +925,7 @@ public class ProsecutionCaseQuery {
     }
 
     private void buildCases(final MatchDefendantCaseHearingEntity matchDefendantCaseHearingEntity, final JsonArrayBuilder casesArrayBuilder, final String statusOfPrimaryCase, final boolean isAllRelatedCases) {
-        final JsonObject prosecutionCaseJson = stringToJsonObjectConverter.convert(matchDefendantCaseHearingEntity.getProsecutionCase().getPayload());
-        final ProsecutionCase prosecutionCase = jsonObjectToObjectConverter.convert(prosecutionCaseJson, ProsecutionCase.class);
+        final ProsecutionCase prosecutionCase = parsedPayloadCache.getProsecutionCase(matchDefendantCaseHearingEntity.getProsecutionCase());
         final String prosecutionCaseStatus = Optional.ofNullable(prosecutionCase.getCaseStatus()).orElse(CASE_STATUS_ACTIVE);
 
         if (isRelatedCaseExcluded(prosecutionCaseStatus, statusOfPrimaryCase, isAllRelatedCases)) {
@@ -949,8 +982,7 @@ public class ProsecutionCaseQuery {
 
     private List<UUID> retrieveMasterDefendantIdList(final UUID caseId) {
         final ProsecutionCaseEntity prosecutionCaseEntity = prosecutionCaseRepository.findByCaseId(caseId);
-        final JsonObject prosecutionCasePayload = stringToJsonObjectConverter.convert(prosecutionCaseEntity.getPayload());
-        final ProsecutionCase prosecutionCase = jsonObjectToObjectConverter.convert(prosecutionCasePayload, ProsecutionCase.class);
+        final ProsecutionCase prosecutionCase = parsedPayloadCache.getProsecutionCase(prosecutionCaseEntity);
         return prosecutionCase.getDefendants().stream()
                 .map(Defendant::getMasterDefendantId)
                 .distinct()
@@ -969,8 +1001,7 @@ public class ProsecutionCaseQuery {
     }
 
     private String getHearingType(final HearingEntity hearingEntity) {
-        final JsonObject hearingJson = stringToJsonObjectConverter.convert(hearingEntity.getPayload());
-        final uk.gov.justice.core.courts.Hearing hearing = jsonObjectToObjectConverter.convert(hearingJson, uk.gov.justice.core.courts.Hearing.class);
+        final uk.gov.justice.core.courts.Hearing hearing = parsedPayloadCache.getHearing(hearingEntity);
         return hearing.getType().getDescription();
     }
 
@@ -67,7 +67,6 @@ import java.util.Set;
 import java.util.UUID;
 
 import javax.inject.Inject;
-import javax.json.JsonObject;
 
 import org.apache.commons.collections.CollectionUtils;
 import org.slf4j.Logger;
@@ -104,6 +103,9 @@ public class HearingAtAGlanceService {
     @Inject
     private HearingService hearingService;
 
+    @Inject
+    private ParsedPayloadCache parsedPayloadCache;
+
     public List<Hearings> getCaseHearings(final UUID caseId) {
         LOGGER.info("Get case hearings for case {}", caseId);
         final List<CaseDefendantHearingEntity> caseDefendantHearingEntities = caseDefendantHearingRepository.findByCaseId(caseId);
@@ -132,8 +134,7 @@ public class HearingAtAGlanceService {
         LOGGER.info("Get hearings for case {}", caseId);
         final List<CaseDefendantHearingEntity> caseDefendantHearingEntities = caseDefendantHearingRepository.findByCaseId(caseId);
         final ProsecutionCaseEntity prosecutionCaseEntity = prosecutionCaseRepository.findByCaseId(caseId);
-        final JsonObject prosecutionCaseJson = stringToJsonObjectConverter.convert(prosecutionCaseEntity.getPayload());
-        final ProsecutionCase prosecutionCase = jsonObjectToObjectConverter.convert(prosecutionCaseJson, ProsecutionCase.class);
+        final ProsecutionCase prosecutionCase = parsedPayloadCache.getProsecutionCase(prosecutionCaseEntity);
         JurisdictionType latestHearingJurisdictionType = null;
         final List<HearingEntity> hearingEntities = getHearingEntities(caseDefendantHearingEntities);
         addApplicationHearingEntities(caseId, hearingEntities);
@@ -271,8 +272,7 @@ public class HearingAtAGlanceService {
         LOGGER.info("Create hearings for case {}", caseId);
         final List<Hearings> hearingsList = new ArrayList<>();
         hearingEntities.forEach(hearingEntity -> {
-            final JsonObject hearingJson = stringToJsonObjectConverter.convert(hearingEntity.getPayload());
-            final Hearing hearing = jsonObjectToObjectConverter.convert(hearingJson, Hearing.class);
+            final Hearing hearing = parsedPayloadCache.getHearing(hearingEntity);
             LOGGER.info("Create hearing for hearingId {}", hearing.getId());
             final Hearings hearingsView = Hearings.hearings()
                     .withId(hearing.getId())
@@ -305,8 +305,7 @@ public class HearingAtAGlanceService {
     private List<Hearings> toHearings(List<HearingEntity> hearingEntities) {
         final List<Hearings> hearingsList = new ArrayList<>();
         hearingEntities.forEach(hearingEntity -> {
-            final JsonObject hearingJson = stringToJsonObjectConverter.convert(hearingEntity.getPayload());
-            final uk.gov.justice.core.courts.Hearing hearing = jsonObjectToObjectConverter.convert(hearingJson, uk.gov.justice.core.courts.Hearing.class);
+            final Hearing hearing = parsedPayloadCache.getHearing(hearingEntity);
 
             final Hearings hearingsView = Hearings.hearings()
                     .withId(hearing.getId())
@@ -323,8 +322,7 @@ public class HearingAtAGlanceService {
         LOGGER.info("Create trial hearings for prosecution case {}", prosecutionCaseId);
         final List<TrialHearing> trialHearings = new ArrayList<>();
         hearingEntities.forEach(hearingEntity -> {
-            final JsonObject hearingJson = stringToJsonObjectConverter.convert(hearingEntity.getPayload());
-            final Hearing hearing = jsonObjectToObjectConverter.convert(hearingJson, Hearing.class);
+            final Hearing hearing = parsedPayloadCache.getHearing(hearingEntity);
 
             final TrialHearing trialHearing = TrialHearing.trialHearing()
                     .withId(hearing.getId())
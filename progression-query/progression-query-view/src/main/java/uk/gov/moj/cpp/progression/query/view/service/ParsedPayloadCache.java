@@ -0,0 +1,191 @@
+package uk.gov.moj.cpp.progression.query.view.service;
+
+import static java.lang.System.nanoTime;
+import static java.util.Comparator.comparingLong;
+import static java.util.Objects.isNull;
+import static java.util.Optional.ofNullable;
+
+import uk.gov.justice.core.courts.Hearing;
+import uk.gov.justice.core.courts.ProsecutionCase;
+import uk.gov.justice.services.common.configuration.Value;
+import uk.gov.justice.services.common.converter.JsonObjectToObjectConverter;
+import uk.gov.justice.services.common.converter.StringToJsonObjectConverter;
+import uk.gov.moj.cpp.prosecutioncase.persistence.entity.HearingEntity;
+import uk.gov.moj.cpp.prosecutioncase.persistence.entity.ProsecutionCaseEntity;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded cache of decoded {@link ProsecutionCase} and {@link Hearing} objects, keyed by entity id
+ * and versioned by the length and hash of the payload the entity was loaded with. When an event
+ * listener rewrites the row the payload no longer matches, so the stale entry is replaced by the
+ * new payload parsed. Lookups go to a concurrent map and take no lock, so concurrent readers do
+ * not wait on each other; the payload is only compared in full once its version has matched.
+ *
+ * <p>The cache is bounded by the total length of the cached payloads and evicts the least recently
+ * used entries first. Cached objects are shared between requests and must be treated as read only.
+ * Its hits, misses and evictions are logged at debug; they are not published anywhere else.
+ */
+@ApplicationScoped
+public class ParsedPayloadCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParsedPayloadCache.class);
+
+    private static final long DEFAULT_MAX_CACHED_PAYLOAD_CHARACTERS = 100_000_000L;
+
+    @Inject
+    private StringToJsonObjectConverter stringToJsonObjectConverter;
+
+    @Inject
+    private JsonObjectToObjectConverter jsonObjectToObjectConverter;
+
+    @Inject
+    @Value(key = "progression.query.parsedPayloadCache.maxPayloadCharacters", defaultValue = "100000000")
+    private String maxCachedPayloadCharacters;
+
+    private final Map<CacheKey, CacheEntry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong cachedPayloadCharacters = new AtomicLong();
+    private final Object evictionLock = new Object();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public ProsecutionCase getProsecutionCase(final ProsecutionCaseEntity prosecutionCaseEntity) {
+        return get(ProsecutionCase.class, prosecutionCaseEntity.getCaseId(), prosecutionCaseEntity.getPayload());
+    }
+
+    public Hearing getHearing(final HearingEntity hearingEntity) {
+        return get(Hearing.class, hearingEntity.getHearingId(), hearingEntity.getPayload());
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private <T> T get(final Class<T> type, final UUID id, final String payload) {
+        if (isNull(id) || isNull(payload)) {
+            return parse(type, payload);
+        }
+
+        final CacheKey cacheKey = new CacheKey(type, id);
+        final CacheEntry cacheEntry = entries.get(cacheKey);
+        if (cacheEntry != null && cacheEntry.isVersionOf(payload)) {
+            hitCount.incrementAndGet();
+            cacheEntry.lastAccessed = nanoTime();
+            return type.cast(cacheEntry.value);
+        }
+
+        missCount.incrementAndGet();
+        final T value = parse(type, payload);
+        put(cacheKey, new CacheEntry(payload, value));
+        return value;
+    }
+
+    private <T> T parse(final Class<T> type, final String payload) {
+        return jsonObjectToObjectConverter.convert(stringToJsonObjectConverter.convert(payload), type);
+    }
+
+    private void put(final CacheKey cacheKey, final CacheEntry cacheEntry) {
+        final long maxPayloadCharacters = maxPayloadCharacters();
+        if (cacheEntry.payload.length() > maxPayloadCharacters) {
+            return;
+        }
+
+        final CacheEntry replaced = entries.put(cacheKey, cacheEntry);
+        cachedPayloadCharacters.addAndGet(cacheEntry.payload.length());
+        if (replaced != null) {
+            cachedPayloadCharacters.addAndGet(-replaced.payload.length());
+            evictionCount.incrementAndGet();
+        }
+
+        if (cachedPayloadCharacters.get() > maxPayloadCharacters) {
+            evictLeastRecentlyUsed(cacheKey, maxPayloadCharacters);
+        }
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Parsed payload cache size={} hits={} misses={} evictions={}", entries.size(), hitCount.get(), missCount.get(), evictionCount.get());
+        }
+    }
+
+    private void evictLeastRecentlyUsed(final CacheKey keptKey, final long maxPayloadCharacters) {
+        synchronized (evictionLock) {
+            final List<Map.Entry<CacheKey, CacheEntry>> leastRecentlyUsed = new ArrayList<>(entries.entrySet());
+            leastRecentlyUsed.sort(comparingLong(entry -> entry.getValue().lastAccessed));
+            final Iterator<Map.Entry<CacheKey, CacheEntry>> eldest = leastRecentlyUsed.iterator();
+            while (cachedPayloadCharacters.get() > maxPayloadCharacters && eldest.hasNext()) {
+                final Map.Entry<CacheKey, CacheEntry> evicted = eldest.next();
+                if (!evicted.getKey().equals(keptKey) && entries.remove(evicted.getKey(), evicted.getValue())) {
+                    cachedPayloadCharacters.addAndGet(-evicted.getValue().payload.length());
+                    evictionCount.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    private long maxPayloadCharacters() {
+        return ofNullable(maxCachedPayloadCharacters)
+                .map(Long::valueOf)
+                .orElse(DEFAULT_MAX_CACHED_PAYLOAD_CHARACTERS);
+    }
+
+    private static class CacheKey {
+
+        private final Class<?> type;
+        private final UUID id;
+
+        CacheKey(final Class<?> type, final UUID id) {
+            this.type = type;
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final CacheKey that = (CacheKey) o;
+            return type.equals(that.type) && id.equals(that.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, id);
+        }
+    }
+
+    private static class CacheEntry {
+
+        private final String payload;
+        private final int payloadHash;
+        private final Object value;
+        private volatile long lastAccessed = nanoTime();
+
+        CacheEntry(final String payload, final Object value) {
+            this.payload = payload;
+            this.payloadHash = payload.hashCode();
+            this.value = value;
+        }
+
+        boolean isVersionOf(final String loadedPayload) {
+            return payload.length() == loadedPayload.length()
+                    && payloadHash == loadedPayload.hashCode()
+                    && payload.equals(loadedPayload);
+        }
+    }
+}
@@ -30,7 +30,6 @@ import uk.gov.justice.services.common.converter.ObjectToJsonObjectConverter;
 import uk.gov.justice.services.common.converter.StringToJsonObjectConverter;
 import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
 import uk.gov.justice.services.messaging.JsonEnvelope;
-import uk.gov.moj.cpp.prosecutioncase.persistence.entity.HearingEntity;
 import uk.gov.moj.cpp.prosecutioncase.persistence.entity.ProsecutionCaseEntity;
 import uk.gov.moj.cpp.prosecutioncase.persistence.repository.HearingRepository;
 import uk.gov.moj.cpp.prosecutioncase.persistence.repository.ProsecutionCaseRepository;
@@ -123,10 +122,8 @@ class ApplicationHearingQueryViewTest {
                         )
                         .build()))
                 .build();
-        final HearingEntity hearingEntity = new HearingEntity();
-        hearingEntity.setHearingId(hearingId);
-        hearingEntity.setPayload(objectToJsonObjectConverter.convert(hearing).toString());
-        when(hearingRepository.findBy(hearingId)).thenReturn(hearingEntity);
+        when(hearingRepository.findHearingPayloadWithCourtApplication(hearingId, applicationId.toString()))
+                .thenReturn(objectToJsonObjectConverter.convert(hearing).toString());
 
         final JsonObject response = applicationHearingQueryView.getApplicationHearingCaseDetails(jsonEnvelope).payloadAsJsonObject();
 
@@ -200,10 +197,8 @@ class ApplicationHearingQueryViewTest {
                                 .build())
                         .build()))
                 .build();
-        final HearingEntity hearingEntity = new HearingEntity();
-        hearingEntity.setHearingId(hearingId);
-        hearingEntity.setPayload(objectToJsonObjectConverter.convert(hearing).toString());
-        when(hearingRepository.findBy(hearingId)).thenReturn(hearingEntity);
+        when(hearingRepository.findHearingPayloadWithCourtApplication(hearingId, applicationId.toString()))
+                .thenReturn(objectToJsonObjectConverter.convert(hearing).toString());
         final ProsecutionCaseEntity prosecutionCaseEntity1 = new ProsecutionCaseEntity();
         prosecutionCaseEntity1.setPayload("{\"caseStatus\":\""+caseStatus1+"\"}");
         final ProsecutionCaseEntity prosecutionCaseEntity2 = new ProsecutionCaseEntity();
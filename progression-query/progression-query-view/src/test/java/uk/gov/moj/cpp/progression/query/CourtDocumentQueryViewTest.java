@@ -3,13 +3,17 @@ package uk.gov.moj.cpp.progression.query;
 import static java.nio.charset.Charset.defaultCharset;
 import static java.time.LocalDate.now;
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.Objects.nonNull;
 import static java.util.UUID.randomUUID;
 import static javax.json.Json.createObjectBuilder;
 import static org.apache.commons.collections.CollectionUtils.isNotEmpty;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -89,6 +93,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -159,6 +164,9 @@ public class CourtDocumentQueryViewTest {
     @Captor
     private ArgumentCaptor<CourtDocument> courtDocumentArgumentCaptor;
 
+    @Captor
+    private ArgumentCaptor<SearchCriteria> searchCriteriaArgumentCaptor;
+
     @Mock
     private NotificationStatusRepository notificationStatusRepository;
 
@@ -571,22 +579,13 @@ public class CourtDocumentQueryViewTest {
         final UUID caseId = randomUUID();
         final int pageSize = 2;
 
-        final SearchCriteria searchCriteria = SearchCriteria.searchCriteria()
-                .withCaseId(caseId)
-                .build();
-
         final JsonArray userGroupArray = Json.createArrayBuilder()
                 .add(Json.createObjectBuilder().add("groupName", "Court Clerks").build())
                 .build();
 
         final JsonEnvelope jsonEnvelopeIn = getJsonEnvelopeForQueryRequest(caseId, pageSize, 1, SECTION, ASC, null);
 
-        when(courtDocumentIndexService.getCourtDocumentIndexByCriteria(any())).thenReturn(asList(
-                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload.json", "Court Final orders0", "2020-09-18T08:56:14.195Z")),
-                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload.json", "Court Final orders3", "2020-09-20T08:56:14.195Z")),
-                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload.json", "Court Final orders1", "2020-09-17T08:56:14.195Z")),
-                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload.json", "Court Final orders2", "2020-09-21T08:56:14.195Z"))
-        ));
+        when(courtDocumentIndexService.getCourtDocumentIndexByCriteria(any())).thenReturn(getCourtDocumentIndexEntities());
         mockUserGroups(userGroupArray, jsonEnvelopeIn);
         mockReferenceData(jsonEnvelopeIn, userGroupArray);
 
@@ -622,22 +621,13 @@ public class CourtDocumentQueryViewTest {
         final UUID caseId = randomUUID();
         final int pageSize = 2;
 
-        final SearchCriteria searchCriteria = SearchCriteria.searchCriteria()
-                .withCaseId(caseId)
-                .build();
-
         final JsonArray userGroupArray = Json.createArrayBuilder()
                 .add(Json.createObjectBuilder().add("groupName", "Court Clerks").build())
                 .build();
 
         final JsonEnvelope jsonEnvelopeIn = getJsonEnvelopeForQueryRequest(caseId, pageSize, 1, SECTION, DESC, null);
 
-        when(courtDocumentIndexService.getCourtDocumentIndexByCriteria(any())).thenReturn(asList(
-                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload.json", "Court Final orders0", "2020-09-18T08:56:14.195Z")),
-                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload.json", "Court Final orders3", "2020-09-20T08:56:14.195Z")),
-                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload.json", "Court Final orders1", "2020-09-17T08:56:14.195Z")),
-                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload.json", "Court Final orders2", "2020-09-21T08:56:14.195Z"))
-        ));
+        when(courtDocumentIndexService.getCourtDocumentIndexByCriteria(any())).thenReturn(getCourtDocumentIndexEntities());
         mockUserGroups(userGroupArray, jsonEnvelopeIn);
         mockReferenceData(jsonEnvelopeIn, userGroupArray);
 
@@ -673,22 +663,13 @@ public class CourtDocumentQueryViewTest {
         final UUID caseId = randomUUID();
         final int pageSize = 2;
 
-        final SearchCriteria searchCriteria = SearchCriteria.searchCriteria()
-                .withCaseId(caseId)
-                .build();
-
         final JsonArray userGroupArray = Json.createArrayBuilder()
                 .add(Json.createObjectBuilder().add("groupName", "Court Clerks").build())
                 .build();
 
         final JsonEnvelope jsonEnvelopeIn = getJsonEnvelopeForQueryRequest(caseId, pageSize, 1, DATE, ASC, null);
 
-        when(courtDocumentIndexService.getCourtDocumentIndexByCriteria(any())).thenReturn(asList(
-                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload.json", "Court Final orders0", "2020-09-18T08:56:14.195Z")),
-                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload.json", "Court Final orders3", "2020-09-20T08:56:14.195Z")),
-                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload.json", "Court Final orders1", "2020-09-17T08:56:14.195Z")),
-                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload.json", "Court Final orders2", "2020-09-21T08:56:14.195Z"))
-        ));
+        when(courtDocumentIndexService.getCourtDocumentIndexByCriteria(any())).thenReturn(getCourtDocumentIndexEntities());
         mockUserGroups(userGroupArray, jsonEnvelopeIn);
         mockReferenceData(jsonEnvelopeIn, userGroupArray);
 
@@ -729,22 +710,13 @@ public class CourtDocumentQueryViewTest {
         final UUID caseId = randomUUID();
         final int pageSize = 2;
 
-        final SearchCriteria searchCriteria = SearchCriteria.searchCriteria()
-                .withCaseId(caseId)
-                .build();
-
         final JsonArray userGroupArray = Json.createArrayBuilder()
                 .add(Json.createObjectBuilder().add("groupName", "Court Clerks").build())
                 .build();
 
         final JsonEnvelope jsonEnvelopeIn = getJsonEnvelopeForQueryRequest(caseId, pageSize, 1, DATE, DESC, null);
 
-        when(courtDocumentIndexService.getCourtDocumentIndexByCriteria(any())).thenReturn(asList(
-                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload.json", "Court Final orders0", "2020-09-18T08:56:14.195Z")),
-                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload.json", "Court Final orders3", "2020-09-20T08:56:14.195Z")),
-                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload.json", "Court Final orders1", "2020-09-17T08:56:14.195Z")),
-                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload.json", "Court Final orders2", "2020-09-21T08:56:14.195Z"))
-        ));
+        when(courtDocumentIndexService.getCourtDocumentIndexByCriteria(any())).thenReturn(getCourtDocumentIndexEntities());
         mockUserGroups(userGroupArray, jsonEnvelopeIn);
         mockReferenceData(jsonEnvelopeIn, userGroupArray);
 
@@ -779,33 +751,61 @@ public class CourtDocumentQueryViewTest {
     }
 
     @Test
-    public void shouldFindDocumentsByPaginationOrderByDateDescWithDocumentNameFilteringFullMatch() throws IOException {
+    public void shouldFindDocumentsByPaginationOrderByDateDescByDefault() throws IOException {
 
         final UUID caseId = randomUUID();
         final int pageSize = 2;
 
-        final SearchCriteria searchCriteria = SearchCriteria.searchCriteria()
-                .withCaseId(caseId)
+        final JsonArray userGroupArray = Json.createArrayBuilder()
+                .add(Json.createObjectBuilder().add("groupName", "Court Clerks").build())
                 .build();
 
+        final JsonEnvelope jsonEnvelopeIn = JsonEnvelope.envelopeFrom(
+                JsonEnvelope.metadataBuilder().withId(randomUUID())
+                        .withName(COURT_DOCUMENTS_SEARCH_WITH_PAGINATION_NAME)
+                        .withUserId(randomUUID().toString())
+                        .build(),
+                Json.createObjectBuilder()
+                        .add(CASE_ID, caseId.toString())
+                        .add(PAGE, 1)
+                        .add(PAGE_SIZE, pageSize)
+                        .build());
+
+        when(courtDocumentIndexService.getCourtDocumentIndexByCriteria(any())).thenReturn(getCourtDocumentIndexEntities());
+        mockUserGroups(userGroupArray, jsonEnvelopeIn);
+        mockReferenceData(jsonEnvelopeIn, userGroupArray);
+
+        final JsonEnvelope jsonEnvelopeOut = target.searchCourtDocumentsWithPagination(jsonEnvelopeIn);
+        final CourtdocumentsWithPagination result = jsonObjectToObjectConverter.convert(jsonEnvelopeOut.payloadAsJsonObject(), CourtdocumentsWithPagination.class);
+        assertThat(result.getPaginationData().getTotalRecordCount(), is(4));
+        assertThat(result.getCourtDocuments().size(), is(pageSize));
+        assertThat(result.getPaginationData().getSortOrder().toString(), is(DESC));
+        assertThat(result.getPaginationData().getSortField().toString(), is(DATE));
+        assertThat(result.getCourtDocuments().get(0).getMaterial().getUploadDateTime().toString(), is("2020-09-21T08:56:14.195Z[UTC]"));
+        assertThat(result.getCourtDocuments().get(1).getMaterial().getUploadDateTime().toString(), is("2020-09-20T08:56:14.195Z[UTC]"));
+
+    }
+
+    @Test
+    public void shouldFindDocumentsByPaginationOrderByDateDescWithDocumentNameFilteringFullMatch() throws IOException {
+
+        final UUID caseId = randomUUID();
+        final int pageSize = 2;
+
         final JsonArray userGroupArray = Json.createArrayBuilder()
                 .add(Json.createObjectBuilder().add("groupName", "Court Clerks").build())
                 .build();
 
         final JsonEnvelope jsonEnvelopeIn = getJsonEnvelopeForQueryRequest(caseId, pageSize, 1, DATE, DESC, "Court Final orders1");
 
-        when(courtDocumentIndexService.getCourtDocumentIndexByCriteria(any())).thenReturn(asList(
-                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload.json", "Court Final orders0", "2020-09-18T08:56:14.195Z")),
-                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload.json", "Court Final orders3", "2020-09-20T08:56:14.195Z")),
-                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload.json", "Court Final orders1", "2020-09-17T08:56:14.195Z")),
-                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload.json", "Court Final orders2", "2020-09-21T08:56:14.195Z"))
+        when(courtDocumentIndexService.getCourtDocumentIndexByCriteria(any())).thenReturn(singletonList(
+                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload.json", "Court Final orders1", "2020-09-17T08:56:14.195Z"))
         ));
         mockUserGroups(userGroupArray, jsonEnvelopeIn);
         mockReferenceData(jsonEnvelopeIn, userGroupArray);
 
-        //query first page
-        JsonEnvelope jsonEnvelopeOut = target.searchCourtDocumentsWithPagination(jsonEnvelopeIn);
-        CourtdocumentsWithPagination result = jsonObjectToObjectConverter.convert(jsonEnvelopeOut.payloadAsJsonObject(), CourtdocumentsWithPagination.class);
+        final JsonEnvelope jsonEnvelopeOut = target.searchCourtDocumentsWithPagination(jsonEnvelopeIn);
+        final CourtdocumentsWithPagination result = jsonObjectToObjectConverter.convert(jsonEnvelopeOut.payloadAsJsonObject(), CourtdocumentsWithPagination.class);
         assertThat(result.getPaginationData().getTotalRecordCount(), is(1));
         assertThat(result.getCourtDocuments().size(), is(1));
         assertThat(result.getPaginationData().getPage(), is(1));
@@ -814,6 +814,9 @@ public class CourtDocumentQueryViewTest {
         assertThat(result.getPaginationData().getSortField().toString(), is(DATE));
         assertThat(result.getCourtDocuments().get(0).getName(), is("Court Final orders1"));
 
+        verify(courtDocumentIndexService).getCourtDocumentIndexByCriteria(searchCriteriaArgumentCaptor.capture());
+        assertThat(searchCriteriaArgumentCaptor.getValue().getDocumentName(), is(Optional.of("Court Final orders1")));
+
     }
 
     @Test
@@ -822,28 +825,20 @@ public class CourtDocumentQueryViewTest {
         final UUID caseId = randomUUID();
         final int pageSize = 2;
 
-        final SearchCriteria searchCriteria = SearchCriteria.searchCriteria()
-                .withCaseId(caseId)
-                .build();
-
         final JsonArray userGroupArray = Json.createArrayBuilder()
                 .add(Json.createObjectBuilder().add("groupName", "Court Clerks").build())
                 .build();
 
         final JsonEnvelope jsonEnvelopeIn = getJsonEnvelopeForQueryRequest(caseId, pageSize, 1, DATE, DESC, "cd");
 
-        when(courtDocumentIndexService.getCourtDocumentIndexByCriteria(any())).thenReturn(asList(
-                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload.json", "AbcCourt Final orders0", "2020-09-18T08:56:14.195Z")),
-                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload.json", "BcdCourt Final orders3", "2020-09-20T08:56:14.195Z")),
-                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload.json", "CdeCourt Final orders1", "2020-09-17T08:56:14.195Z")),
-                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload.json", "DefCourt Final orders2", "2020-09-21T08:56:14.195Z"))
+        when(courtDocumentIndexService.getCourtDocumentIndexByCriteria(any())).thenReturn(singletonList(
+                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload.json", "CdeCourt Final orders1", "2020-09-17T08:56:14.195Z"))
         ));
         mockUserGroups(userGroupArray, jsonEnvelopeIn);
         mockReferenceData(jsonEnvelopeIn, userGroupArray);
 
-        //query first page
-        JsonEnvelope jsonEnvelopeOut = target.searchCourtDocumentsWithPagination(jsonEnvelopeIn);
-        CourtdocumentsWithPagination result = jsonObjectToObjectConverter.convert(jsonEnvelopeOut.payloadAsJsonObject(), CourtdocumentsWithPagination.class);
+        final JsonEnvelope jsonEnvelopeOut = target.searchCourtDocumentsWithPagination(jsonEnvelopeIn);
+        final CourtdocumentsWithPagination result = jsonObjectToObjectConverter.convert(jsonEnvelopeOut.payloadAsJsonObject(), CourtdocumentsWithPagination.class);
         assertThat(result.getPaginationData().getTotalRecordCount(), is(1));
         assertThat(result.getCourtDocuments().size(), is(1));
         assertThat(result.getPaginationData().getPage(), is(1));
@@ -852,70 +847,64 @@ public class CourtDocumentQueryViewTest {
         assertThat(result.getPaginationData().getSortField().toString(), is(DATE));
         assertThat(result.getCourtDocuments().get(0).getName(), is("CdeCourt Final orders1"));
 
+        verify(courtDocumentIndexService).getCourtDocumentIndexByCriteria(searchCriteriaArgumentCaptor.capture());
+        final SearchCriteria searchCriteria = searchCriteriaArgumentCaptor.getValue();
+        assertThat(searchCriteria.getCaseId(), is(caseId));
+        assertThat(searchCriteria.getDocumentName(), is(Optional.of("cd")));
+        assertThat(searchCriteria.getMimeTypes().get(), containsInAnyOrder("pdf", "application/pdf"));
+
     }
 
     @Test
-    public void shouldFindDocumentsAndFilterRestrictedDocumentTypesByPaginationOrderBySectionAsc() throws IOException {
+    public void shouldOnlySearchDocumentTypesTheUserCanRead() throws IOException {
 
         final UUID caseId = randomUUID();
         final int pageSize = 2;
 
-        final SearchCriteria searchCriteria = SearchCriteria.searchCriteria()
-                .withCaseId(caseId)
-                .build();
-
         final JsonArray userGroupArray = Json.createArrayBuilder()
                 .add(Json.createObjectBuilder().add("groupName", "Court Clerks").build())
                 .build();
 
         final JsonEnvelope jsonEnvelopeIn = getJsonEnvelopeForQueryRequest(caseId, pageSize, 1, SECTION, ASC, null);
 
-        when(courtDocumentIndexService.getCourtDocumentIndexByCriteria(any())).thenReturn(asList(
-                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload-restricted-doc-type.json", "Court Final orders0", "2020-09-18T08:56:14.195Z")),
+        when(courtDocumentIndexService.getCourtDocumentIndexByCriteria(any())).thenReturn(singletonList(
                 getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload.json", "Court Final orders3", "2020-09-20T08:56:14.195Z"))
         ));
         mockUserGroups(userGroupArray, jsonEnvelopeIn);
         mockReferenceData(jsonEnvelopeIn, userGroupArray);
 
-        //query first page
-        JsonEnvelope jsonEnvelopeOut = target.searchCourtDocumentsWithPagination(jsonEnvelopeIn);
-        CourtdocumentsWithPagination result = jsonObjectToObjectConverter.convert(jsonEnvelopeOut.payloadAsJsonObject(), CourtdocumentsWithPagination.class);
+        final JsonEnvelope jsonEnvelopeOut = target.searchCourtDocumentsWithPagination(jsonEnvelopeIn);
+        final CourtdocumentsWithPagination result = jsonObjectToObjectConverter.convert(jsonEnvelopeOut.payloadAsJsonObject(), CourtdocumentsWithPagination.class);
         assertThat(result.getPaginationData().getTotalRecordCount(), is(1));
         assertThat(result.getCourtDocuments().size(), is(1));
-        assertThat(result.getPaginationData().getPage(), is(1));
-        assertThat(result.getPaginationData().getPageSize(), is(2));
-        assertThat(result.getPaginationData().getSortOrder().toString(), is(ASC));
-        assertThat(result.getPaginationData().getSortField().toString(), is(SECTION));
         assertThat(result.getCourtDocuments().get(0).getDocumentTypeDescription(), is("Court Final orders3"));
 
+        verify(courtDocumentIndexService).getCourtDocumentIndexByCriteria(searchCriteriaArgumentCaptor.capture());
+        final Set<String> documentTypeIds = searchCriteriaArgumentCaptor.getValue().getDocumentTypeIds().get();
+        assertThat(documentTypeIds, hasItem("460fbc00-c002-11e8-a355-529269fb1459"));
+        assertThat(documentTypeIds, not(hasItem("4e171f3f-e322-473f-aeea-66c79986a764")));
+        assertThat(documentTypeIds, not(hasItem("460f851e-c002-11e8-a355-529269fb1459")));
+
     }
 
     @Test
-    public void shouldFindNoDocumentWithPaginationDueToNotAuthorisedDocumentType() throws IOException {
+    public void shouldFindNoDocumentWithPaginationWhenNoDocumentMatches() throws IOException {
 
         final UUID caseId = randomUUID();
         final int pageSize = 2;
 
-        final SearchCriteria searchCriteria = SearchCriteria.searchCriteria()
-                .withCaseId(caseId)
-                .build();
-
         final JsonArray userGroupArray = Json.createArrayBuilder()
                 .add(Json.createObjectBuilder().add("groupName", "Court Clerks").build())
                 .build();
 
         final JsonEnvelope jsonEnvelopeIn = getJsonEnvelopeForQueryRequest(caseId, pageSize, 1, SECTION, ASC, null);
 
-        when(courtDocumentIndexService.getCourtDocumentIndexByCriteria(any())).thenReturn(asList(
-                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload-restricted-doc-type.json", "Court Final orders0", "2020-09-18T08:56:14.195Z")),
-                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload-restricted-doc-type.json", "Court Final orders3", "2020-09-20T08:56:14.195Z"))
-        ));
+        when(courtDocumentIndexService.getCourtDocumentIndexByCriteria(any())).thenReturn(emptyList());
         mockUserGroups(userGroupArray, jsonEnvelopeIn);
         mockReferenceData(jsonEnvelopeIn, userGroupArray);
 
-        //query first page
-        JsonEnvelope jsonEnvelopeOut = target.searchCourtDocumentsWithPagination(jsonEnvelopeIn);
-        CourtdocumentsWithPagination result = jsonObjectToObjectConverter.convert(jsonEnvelopeOut.payloadAsJsonObject(), CourtdocumentsWithPagination.class);
+        final JsonEnvelope jsonEnvelopeOut = target.searchCourtDocumentsWithPagination(jsonEnvelopeIn);
+        final CourtdocumentsWithPagination result = jsonObjectToObjectConverter.convert(jsonEnvelopeOut.payloadAsJsonObject(), CourtdocumentsWithPagination.class);
         assertThat(result.getPaginationData().getTotalRecordCount(), is(0));
         assertThat(result.getCourtDocuments().size(), is(0));
         assertThat(result.getPaginationData().getPage(), is(1));
@@ -926,15 +915,11 @@ public class CourtDocumentQueryViewTest {
     }
 
     @Test
-    public void shouldFindDocumentsAndFilterRestrictedDocumentByPaginationOrderBySectionAsc() throws IOException {
+    public void shouldNotCountDocumentsWhoseMaterialsAreAllRestricted() throws IOException {
 
         final UUID caseId = randomUUID();
         final int pageSize = 2;
 
-        final SearchCriteria searchCriteria = SearchCriteria.searchCriteria()
-                .withCaseId(caseId)
-                .build();
-
         final JsonArray userGroupArray = Json.createArrayBuilder()
                 .add(Json.createObjectBuilder().add("groupName", "Court Clerks").build())
                 .build();
@@ -948,19 +933,43 @@ public class CourtDocumentQueryViewTest {
         mockUserGroups(userGroupArray, jsonEnvelopeIn);
         mockReferenceData(jsonEnvelopeIn, userGroupArray);
 
-        //query first page
-        JsonEnvelope jsonEnvelopeOut = target.searchCourtDocumentsWithPagination(jsonEnvelopeIn);
-        CourtdocumentsWithPagination result = jsonObjectToObjectConverter.convert(jsonEnvelopeOut.payloadAsJsonObject(), CourtdocumentsWithPagination.class);
+        final JsonEnvelope jsonEnvelopeOut = target.searchCourtDocumentsWithPagination(jsonEnvelopeIn);
+        final CourtdocumentsWithPagination result = jsonObjectToObjectConverter.convert(jsonEnvelopeOut.payloadAsJsonObject(), CourtdocumentsWithPagination.class);
         assertThat(result.getPaginationData().getTotalRecordCount(), is(1));
         assertThat(result.getCourtDocuments().size(), is(1));
         assertThat(result.getPaginationData().getPage(), is(1));
         assertThat(result.getPaginationData().getPageSize(), is(2));
-        assertThat(result.getPaginationData().getSortOrder().toString(), is(ASC));
-        assertThat(result.getPaginationData().getSortField().toString(), is(SECTION));
         assertThat(result.getCourtDocuments().get(0).getDocumentTypeDescription(), is("Court Final orders3"));
 
     }
 
+    @Test
+    public void shouldFindDocumentsByPaginationOrderByDateAscComparingTheUploadInstant() throws IOException {
+
+        final UUID caseId = randomUUID();
+        final int pageSize = 2;
+
+        final JsonArray userGroupArray = Json.createArrayBuilder()
+                .add(Json.createObjectBuilder().add("groupName", "Court Clerks").build())
+                .build();
+
+        final JsonEnvelope jsonEnvelopeIn = getJsonEnvelopeForQueryRequest(caseId, pageSize, 1, DATE, ASC, null);
+
+        when(courtDocumentIndexService.getCourtDocumentIndexByCriteria(any())).thenReturn(asList(
+                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload.json", "Court Final orders1", "2020-09-18T08:57:00.000Z")),
+                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload.json", "Court Final orders0", "2020-09-18T09:56:14.195+01:00"))
+        ));
+        mockUserGroups(userGroupArray, jsonEnvelopeIn);
+        mockReferenceData(jsonEnvelopeIn, userGroupArray);
+
+        final JsonEnvelope jsonEnvelopeOut = target.searchCourtDocumentsWithPagination(jsonEnvelopeIn);
+        final CourtdocumentsWithPagination result = jsonObjectToObjectConverter.convert(jsonEnvelopeOut.payloadAsJsonObject(), CourtdocumentsWithPagination.class);
+        assertThat(result.getPaginationData().getTotalRecordCount(), is(2));
+        assertThat(result.getCourtDocuments().get(0).getDocumentTypeDescription(), is("Court Final orders0"));
+        assertThat(result.getCourtDocuments().get(1).getDocumentTypeDescription(), is("Court Final orders1"));
+
+    }
+
     private JsonEnvelope getJsonEnvelopeForQueryRequest(final UUID caseId, final int pageSize, final int page, final String sortField, final String sortOrder, final String documentName) {
         final JsonObjectBuilder jsonBuilder = Json.createObjectBuilder();
         jsonBuilder.add(SORT_FIELD, sortField);
@@ -981,6 +990,15 @@ public class CourtDocumentQueryViewTest {
         return jsonEnvelopeIn;
     }
 
+    private List<CourtDocumentIndexEntity> getCourtDocumentIndexEntities() throws IOException {
+        return asList(
+                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload.json", "Court Final orders2", "2020-09-21T08:56:14.195Z")),
+                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload.json", "Court Final orders0", "2020-09-18T08:56:14.195Z")),
+                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload.json", "Court Final orders3", "2020-09-20T08:56:14.195Z")),
+                getCourtDocumentIndexEntity(getCourtDocumentPayload("court-document-payload.json", "Court Final orders1", "2020-09-17T08:56:14.195Z"))
+        );
+    }
+
     private String getCourtDocumentPayload(final String resourceName, final String section, final String uploadDate) throws IOException {
         return getJsonPayloadAsString(resourceName)
                 .replace("TYPE_DESCRIPTION", section)
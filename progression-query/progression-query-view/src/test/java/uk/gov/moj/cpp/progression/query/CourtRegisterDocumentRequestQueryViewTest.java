@@ -134,4 +134,63 @@ public class CourtRegisterDocumentRequestQueryViewTest {
         assertThat(courtRegisterRequests.payloadAsJsonObject().getJsonArray("courtRegisterDocumentRequests")
                 .getJsonObject(0).getString("registerDate"), is(requestDate.toString()));
     }
+
+    @Test
+    public void shouldGetRecordedCourtRegisters() {
+        final UUID courtCentreId = UUID.randomUUID();
+        final LocalDate registerDate = LocalDate.parse("2024-10-24");
+        final JsonEnvelope envelope = JsonEnvelope.envelopeFrom(JsonEnvelope.metadataBuilder().withId(UUID.randomUUID())
+                        .withName("progression.query.recorded-court-registers").build(),
+                Json.createObjectBuilder().build());
+        when(courtRegisterRequestRepository.findCourtRegistersWithStatusRecorded()).thenReturn(Lists.<Object[]>newArrayList(new Object[]{courtCentreId, registerDate}));
+
+        final JsonEnvelope courtRegisters = courtRegisterDocumentRequestQueryView.getRecordedCourtRegisters(envelope);
+
+        assertThat(courtRegisters.payloadAsJsonObject().getJsonArray("courtRegisters").size(), is(1));
+        assertThat(courtRegisters.payloadAsJsonObject().getJsonArray("courtRegisters").getJsonObject(0).getString("courtCentreId"), is(courtCentreId.toString()));
+        assertThat(courtRegisters.payloadAsJsonObject().getJsonArray("courtRegisters").getJsonObject(0).getString("registerDate"), is("2024-10-24"));
+    }
+
+    @Test
+    public void shouldGetFirstPageOfRecordedCourtRegisterRequests() {
+        final UUID courtCentreId = UUID.randomUUID();
+        final LocalDate registerDate = LocalDate.parse("2024-10-24");
+        final JsonEnvelope envelope = JsonEnvelope.envelopeFrom(JsonEnvelope.metadataBuilder().withId(UUID.randomUUID())
+                        .withName("progression.query.recorded-court-register-document-requests").build(),
+                Json.createObjectBuilder()
+                        .add("courtCentreId", courtCentreId.toString())
+                        .add("registerDate", registerDate.toString())
+                        .add("pageSize", 50)
+                        .build());
+        final CourtRegisterRequestEntity courtRegisterRequestEntity = new CourtRegisterRequestEntity();
+        courtRegisterRequestEntity.setCourtCentreId(courtCentreId);
+        final JsonObject transformedJsonEntity = Json.createObjectBuilder().add("courtCentreId", courtCentreId.toString()).build();
+        when(objectToJsonObjectConverter.convert(courtRegisterRequestEntity)).thenReturn(transformedJsonEntity);
+        when(courtRegisterRequestRepository.findFirstPageByCourtRegisterAndStatusRecorded(courtCentreId, registerDate, 50)).thenReturn(Lists.newArrayList(courtRegisterRequestEntity));
+
+        final JsonEnvelope courtRegisterRequests = courtRegisterDocumentRequestQueryView.getRecordedCourtRegisterRequests(envelope);
+
+        assertThat(courtRegisterRequests.payloadAsJsonObject().getJsonArray("courtRegisterDocumentRequests").size(), is(1));
+        assertThat(courtRegisterRequests.payloadAsJsonObject().getJsonArray("courtRegisterDocumentRequests")
+                .getJsonObject(0).getString("courtCentreId"), is(courtCentreId.toString()));
+    }
+
+    @Test
+    public void shouldGetPageOfRecordedCourtRegisterRequestsAfterTheLastRequestRead() {
+        final UUID courtCentreId = UUID.randomUUID();
+        final UUID after = UUID.randomUUID();
+        final LocalDate registerDate = LocalDate.parse("2024-10-24");
+        final JsonEnvelope envelope = JsonEnvelope.envelopeFrom(JsonEnvelope.metadataBuilder().withId(UUID.randomUUID())
+                        .withName("progression.query.recorded-court-register-document-requests").build(),
+                Json.createObjectBuilder()
+                        .add("courtCentreId", courtCentreId.toString())
+                        .add("registerDate", registerDate.toString())
+                        .add("after", after.toString())
+                        .build());
+        when(courtRegisterRequestRepository.findPageAfterByCourtRegisterAndStatusRecorded(courtCentreId, registerDate, after, 200)).thenReturn(Lists.newArrayList());
+
+        final JsonEnvelope courtRegisterRequests = courtRegisterDocumentRequestQueryView.getRecordedCourtRegisterRequests(envelope);
+
+        assertThat(courtRegisterRequests.payloadAsJsonObject().getJsonArray("courtRegisterDocumentRequests").size(), is(0));
+    }
 }
@@ -11,6 +11,9 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
 
@@ -32,6 +35,7 @@ import uk.gov.justice.services.common.converter.StringToJsonObjectConverter;
 import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
 import uk.gov.justice.services.messaging.JsonEnvelope;
 import uk.gov.moj.cpp.progression.query.view.service.ListingService;
+import uk.gov.moj.cpp.progression.query.view.service.ParsedPayloadCache;
 import uk.gov.moj.cpp.prosecutioncase.persistence.entity.ProsecutionCaseEntity;
 import uk.gov.moj.cpp.prosecutioncase.persistence.repository.ProsecutionCaseRepository;
 
@@ -80,11 +84,16 @@ public class CourtlistQueryViewTest {
     private StringToJsonObjectConverter stringToJsonObjectConverter;
 
 
+    @Spy
+    private ParsedPayloadCache parsedPayloadCache;
+
     @InjectMocks
     private CourtlistQueryView courtlistQueryView;
 
     @BeforeEach
     public void setup() {
+        setField(this.parsedPayloadCache, "stringToJsonObjectConverter", stringToJsonObjectConverter);
+        setField(this.parsedPayloadCache, "jsonObjectToObjectConverter", jsonObjectToObjectConverter);
         setField(this.objectToJsonObjectConverter, "mapper", new ObjectMapperProducer().objectMapper());
         setField(this.jsonObjectToObjectConverter, "objectMapper", new ObjectMapperProducer().objectMapper());
     }
@@ -99,7 +108,7 @@ public class CourtlistQueryViewTest {
         final ProsecutionCase prosecutionCase = getHearings("courtlists.hearings.repository.all.json").get(0).getProsecutionCases().get(0);
         final ProsecutionCaseEntity prosecutionCaseEntity = new ProsecutionCaseEntity();
         prosecutionCaseEntity.setPayload(objectToJsonObjectConverter.convert(prosecutionCase).toString());
-        when(prosecutionCaseRepository.findByCaseId(any())).thenReturn(prosecutionCaseEntity);
+        when(prosecutionCaseRepository.findByProsecutionCaseIds(any())).thenReturn(singletonList(prosecutionCaseEntity));
 
         final JsonEnvelope query = JsonEnvelope.envelopeFrom(
                 JsonEnvelope.metadataBuilder()
@@ -112,6 +121,30 @@ public class CourtlistQueryViewTest {
         assertThat(actual, is(expected));
     }
 
+    @Test
+    public void shouldLoadAllProsecutionCasesForCourtlistInSingleQuery() throws IOException {
+        final Optional<JsonObject> listingResponse = Optional.of(getJsonPayload("listing-hearing-with-prosecution-case.json"));
+        final List<Hearing> hearingList = getHearings("courtlists.hearings.repository.all.json");
+        when(listingService.searchCourtlist(any(JsonEnvelope.class))).thenReturn(listingResponse);
+        when(hearingQueryView.getHearings(any(List.class))).thenReturn(hearingList);
+
+        final ProsecutionCase prosecutionCase = getHearings("courtlists.hearings.repository.all.json").get(0).getProsecutionCases().get(0);
+        final ProsecutionCaseEntity prosecutionCaseEntity = new ProsecutionCaseEntity();
+        prosecutionCaseEntity.setPayload(objectToJsonObjectConverter.convert(prosecutionCase).toString());
+        when(prosecutionCaseRepository.findByProsecutionCaseIds(any())).thenReturn(singletonList(prosecutionCaseEntity));
+
+        final JsonEnvelope query = JsonEnvelope.envelopeFrom(
+                JsonEnvelope.metadataBuilder()
+                        .withId(randomUUID())
+                        .withName("progression.search.court.list").build(),
+                Json.createObjectBuilder().build());
+
+        courtlistQueryView.searchCourtlist(query);
+
+        verify(prosecutionCaseRepository, times(1)).findByProsecutionCaseIds(any());
+        verify(prosecutionCaseRepository, never()).findByCaseId(any());
+    }
+
     @Test
     public void shouldNotIncludeGenderAndArrestNumberForBulkCivilCases() throws IOException {
         final Optional<JsonObject> listingResponse = Optional.of(getJsonPayload("listing-hearing-with-prosecution-case.json"));
@@ -122,7 +155,7 @@ public class CourtlistQueryViewTest {
         final ProsecutionCase prosecutionCase = getBulkCivilCasesHearings().get(0).getProsecutionCases().get(0);
         final ProsecutionCaseEntity prosecutionCaseEntity = new ProsecutionCaseEntity();
         prosecutionCaseEntity.setPayload(objectToJsonObjectConverter.convert(prosecutionCase).toString());
-        when(prosecutionCaseRepository.findByCaseId(any())).thenReturn(prosecutionCaseEntity);
+        when(prosecutionCaseRepository.findByProsecutionCaseIds(any())).thenReturn(singletonList(prosecutionCaseEntity));
 
         final JsonEnvelope query = JsonEnvelope.envelopeFrom(
                 JsonEnvelope.metadataBuilder()
@@ -145,7 +178,7 @@ public class CourtlistQueryViewTest {
         final ProsecutionCase prosecutionCase = getHearings("courtlists.hearings.repository.all.without.listing.number.json").get(0).getProsecutionCases().get(0);
         final ProsecutionCaseEntity prosecutionCaseEntity = new ProsecutionCaseEntity();
         prosecutionCaseEntity.setPayload(objectToJsonObjectConverter.convert(prosecutionCase).toString());
-        when(prosecutionCaseRepository.findByCaseId(any())).thenReturn(prosecutionCaseEntity);
+        when(prosecutionCaseRepository.findByProsecutionCaseIds(any())).thenReturn(singletonList(prosecutionCaseEntity));
 
         final JsonEnvelope query = JsonEnvelope.envelopeFrom(
                 JsonEnvelope.metadataBuilder()
@@ -167,7 +200,7 @@ public class CourtlistQueryViewTest {
         final ProsecutionCase prosecutionCase = getHearings("courtlists.hearings.repository.all.without.listing.number.json").get(0).getProsecutionCases().get(0);
         final ProsecutionCaseEntity prosecutionCaseEntity = new ProsecutionCaseEntity();
         prosecutionCaseEntity.setPayload(objectToJsonObjectConverter.convert(prosecutionCase).toString());
-        when(prosecutionCaseRepository.findByCaseId(any())).thenReturn(prosecutionCaseEntity);
+        when(prosecutionCaseRepository.findByProsecutionCaseIds(any())).thenReturn(singletonList(prosecutionCaseEntity));
 
         final JsonEnvelope query = JsonEnvelope.envelopeFrom(
                 JsonEnvelope.metadataBuilder()
@@ -190,7 +223,7 @@ public class CourtlistQueryViewTest {
         final ProsecutionCase prosecutionCase = getHearings("courtlists.hearings.repository.noplea.json").get(0).getProsecutionCases().get(0);
         final ProsecutionCaseEntity prosecutionCaseEntity = new ProsecutionCaseEntity();
         prosecutionCaseEntity.setPayload(objectToJsonObjectConverter.convert(prosecutionCase).toString());
-        when(prosecutionCaseRepository.findByCaseId(any())).thenReturn(prosecutionCaseEntity);
+        when(prosecutionCaseRepository.findByProsecutionCaseIds(any())).thenReturn(singletonList(prosecutionCaseEntity));
 
         final JsonEnvelope query = JsonEnvelope.envelopeFrom(
                 JsonEnvelope.metadataBuilder()
@@ -211,7 +244,7 @@ public class CourtlistQueryViewTest {
         final ProsecutionCase prosecutionCase = getHearings("courtlists.hearings.repository.indicated.guilty.plea.json").get(0).getProsecutionCases().get(0);
         final ProsecutionCaseEntity prosecutionCaseEntity = new ProsecutionCaseEntity();
         prosecutionCaseEntity.setPayload(objectToJsonObjectConverter.convert(prosecutionCase).toString());
-        when(prosecutionCaseRepository.findByCaseId(any())).thenReturn(prosecutionCaseEntity);
+        when(prosecutionCaseRepository.findByProsecutionCaseIds(any())).thenReturn(singletonList(prosecutionCaseEntity));
 
         final JsonEnvelope query = JsonEnvelope.envelopeFrom(
                 JsonEnvelope.metadataBuilder()
@@ -232,7 +265,7 @@ public class CourtlistQueryViewTest {
         final ProsecutionCase prosecutionCase = getHearings("courtlists.hearings.repository.indicated.not.guilty.plea.json").get(0).getProsecutionCases().get(0);
         final ProsecutionCaseEntity prosecutionCaseEntity = new ProsecutionCaseEntity();
         prosecutionCaseEntity.setPayload(objectToJsonObjectConverter.convert(prosecutionCase).toString());
-        when(prosecutionCaseRepository.findByCaseId(any())).thenReturn(prosecutionCaseEntity);
+        when(prosecutionCaseRepository.findByProsecutionCaseIds(any())).thenReturn(singletonList(prosecutionCaseEntity));
 
         final JsonEnvelope query = JsonEnvelope.envelopeFrom(
                 JsonEnvelope.metadataBuilder()
@@ -253,7 +286,7 @@ public class CourtlistQueryViewTest {
         final ProsecutionCase prosecutionCase = getHearings("courtlists.hearings.repository.all.without.listing.number.json").get(0).getProsecutionCases().get(0);
         final ProsecutionCaseEntity prosecutionCaseEntity = new ProsecutionCaseEntity();
         prosecutionCaseEntity.setPayload(objectToJsonObjectConverter.convert(prosecutionCase).toString());
-        when(prosecutionCaseRepository.findByCaseId(any())).thenReturn(prosecutionCaseEntity);
+        when(prosecutionCaseRepository.findByProsecutionCaseIds(any())).thenReturn(singletonList(prosecutionCaseEntity));
 
         final JsonEnvelope query = JsonEnvelope.envelopeFrom(
                 JsonEnvelope.metadataBuilder()
@@ -330,7 +363,7 @@ public class CourtlistQueryViewTest {
         final ProsecutionCase prosecutionCase = getHearings("courtlists.hearings.repository.all.json").get(0).getProsecutionCases().get(0);
         final ProsecutionCaseEntity prosecutionCaseEntity = new ProsecutionCaseEntity();
         prosecutionCaseEntity.setPayload(objectToJsonObjectConverter.convert(prosecutionCase).toString());
-        when(prosecutionCaseRepository.findByCaseId(any())).thenReturn(prosecutionCaseEntity);
+        when(prosecutionCaseRepository.findByProsecutionCaseIds(any())).thenReturn(singletonList(prosecutionCaseEntity));
 
         final JsonEnvelope query = JsonEnvelope.envelopeFrom(
                 JsonEnvelope.metadataBuilder()
@@ -414,7 +447,7 @@ public class CourtlistQueryViewTest {
         final ProsecutionCase prosecutionCase = getHearings("courtlists.hearings.repository.all.json").get(0).getProsecutionCases().get(0);
         final ProsecutionCaseEntity prosecutionCaseEntity = new ProsecutionCaseEntity();
         prosecutionCaseEntity.setPayload(objectToJsonObjectConverter.convert(prosecutionCase).toString());
-        when(prosecutionCaseRepository.findByCaseId(any())).thenReturn(prosecutionCaseEntity);
+        when(prosecutionCaseRepository.findByProsecutionCaseIds(any())).thenReturn(singletonList(prosecutionCaseEntity));
 
         final JsonEnvelope query = JsonEnvelope.envelopeFrom(
                 JsonEnvelope.metadataBuilder()
@@ -437,7 +470,7 @@ public class CourtlistQueryViewTest {
         final ProsecutionCase prosecutionCase = getHearings("courtlists.hearings.repository.all.json").get(0).getProsecutionCases().get(0);
         final ProsecutionCaseEntity prosecutionCaseEntity = new ProsecutionCaseEntity();
         prosecutionCaseEntity.setPayload(objectToJsonObjectConverter.convert(prosecutionCase).toString());
-        when(prosecutionCaseRepository.findByCaseId(any())).thenReturn(prosecutionCaseEntity);
+        when(prosecutionCaseRepository.findByProsecutionCaseIds(any())).thenReturn(singletonList(prosecutionCaseEntity));
 
         final JsonEnvelope query = JsonEnvelope.envelopeFrom(
                 JsonEnvelope.metadataBuilder()
@@ -464,7 +497,7 @@ public class CourtlistQueryViewTest {
         final ProsecutionCase prosecutionCase = getHearings("courtlists.hearings.repository.all.without.listing.number.json").get(0).getProsecutionCases().get(0);
         final ProsecutionCaseEntity prosecutionCaseEntity = new ProsecutionCaseEntity();
         prosecutionCaseEntity.setPayload(objectToJsonObjectConverter.convert(prosecutionCase).toString());
-        when(prosecutionCaseRepository.findByCaseId(any())).thenReturn(prosecutionCaseEntity);
+        when(prosecutionCaseRepository.findByProsecutionCaseIds(any())).thenReturn(singletonList(prosecutionCaseEntity));
 
         final JsonEnvelope query = JsonEnvelope.envelopeFrom(
                 JsonEnvelope.metadataBuilder()
@@ -79,6 +79,7 @@ import uk.gov.moj.cpp.progression.query.ProsecutionCaseQuery;
 import uk.gov.moj.cpp.progression.query.utils.ResultTextFlagBuilder;
 import uk.gov.moj.cpp.progression.query.view.service.CotrQueryService;
 import uk.gov.moj.cpp.progression.query.view.service.HearingAtAGlanceService;
+import uk.gov.moj.cpp.progression.query.view.service.ParsedPayloadCache;
 import uk.gov.moj.cpp.progression.query.view.service.ReferenceDataService;
 import uk.gov.moj.cpp.prosecutioncase.persistence.entity.CaseCpsProsecutorEntity;
 import uk.gov.moj.cpp.prosecutioncase.persistence.entity.CivilFeeEntity;
@@ -132,6 +133,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -215,6 +218,8 @@ public class ProsecutionCaseQueryViewTest {
     private ListToJsonArrayConverter<CaagDefendants> listToJsonArrayConverter;
     @Spy
     private ListToJsonArrayConverter<Hearings> hearingListToJsonArrayConverter;
+    @Spy
+    private ParsedPayloadCache parsedPayloadCache;
     @InjectMocks
     private ProsecutionCaseQuery prosecutionCaseQuery;
     @Mock
@@ -244,6 +249,8 @@ public class ProsecutionCaseQueryViewTest {
 
     @BeforeEach
     public void setup() {
+        setField(this.parsedPayloadCache, "stringToJsonObjectConverter", stringToJsonObjectConverter);
+        setField(this.parsedPayloadCache, "jsonObjectToObjectConverter", jsonObjectToObjectConverter);
         setField(this.objectToJsonObjectConverter, "mapper", new ObjectMapperProducer().objectMapper());
         setField(this.jsonObjectToObjectConverter, "objectMapper", new ObjectMapperProducer().objectMapper());
         setField(this.listToJsonArrayConverter, "mapper", new ObjectMapperProducer().objectMapper());
@@ -1165,9 +1172,100 @@ public class ProsecutionCaseQueryViewTest {
         searchCaseEntity.setStatus("SJP Referral");
         searchCaseEntity.setStandaloneApplication(false);
         searchProsecutionCaseEntities.add(searchCaseEntity);
-        when(searchCaseRepository.findBySearchCriteria(prepareSearch(searchCriteria.toLowerCase()))).thenReturn(searchProsecutionCaseEntities);
+        when(searchCaseRepository.findAllBySearchCriteria(prepareSearch(searchCriteria.toLowerCase()))).thenReturn(searchProsecutionCaseEntities);
+        final JsonEnvelope response = prosecutionCaseQuery.searchCase(jsonEnvelope);
+        assertThat(response.payloadAsJsonObject().getJsonArray("searchResults").size(), is(1));
+        assertThat(response.payloadAsJsonObject().containsKey("totalResults"), is(false));
+        assertThat(response.payloadAsJsonObject().containsKey("nextPageAfter"), is(false));
+    }
+
+    @Test
+    public void shouldPageWithTheDefaultSizeWhenOnlyTheCursorIsGiven() {
+        final String searchCriteria = "John Smith";
+        final UUID after = randomUUID();
+        final JsonObject jsonObject = Json.createObjectBuilder()
+                .add("q", searchCriteria)
+                .add("after", after.toString())
+                .build();
+        final JsonEnvelope jsonEnvelope = JsonEnvelope.envelopeFrom(
+                JsonEnvelope.metadataBuilder().withId(randomUUID()).withName("progression.query.search-cases").build(),
+                jsonObject);
+        when(searchCaseRepository.findPageBySearchCriteria(prepareSearch(searchCriteria.toLowerCase()), after, 101)).thenReturn(new ArrayList<>());
+
+        final JsonEnvelope response = prosecutionCaseQuery.searchCase(jsonEnvelope);
+
+        assertThat(response.payloadAsJsonObject().getJsonArray("searchResults").size(), is(0));
+        assertThat(response.payloadAsJsonObject().containsKey("nextPageAfter"), is(false));
+    }
+
+    @Test
+    public void shouldReturnRequestedPageOfCasesAndCursorForNextPage() {
+        final String searchCriteria = "John Smith";
+        final UUID after = randomUUID();
+        final JsonObject jsonObject = Json.createObjectBuilder()
+                .add("q", searchCriteria)
+                .add("pageSize", 2)
+                .add("after", after.toString())
+                .build();
+        final JsonEnvelope jsonEnvelope = JsonEnvelope.envelopeFrom(
+                JsonEnvelope.metadataBuilder().withId(randomUUID()).withName("progression.query.search-cases").build(),
+                jsonObject);
+
+        final List<SearchProsecutionCaseEntity> searchProsecutionCaseEntities = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            final SearchProsecutionCaseEntity searchCaseEntity = new SearchProsecutionCaseEntity();
+            searchCaseEntity.setDefendantId(randomUUID());
+            searchCaseEntity.setCaseId(randomUUID().toString());
+            searchCaseEntity.setReference("PAR-10" + i);
+            searchCaseEntity.setDefendantFirstName("John");
+            searchCaseEntity.setDefendantLastName("Smith");
+            searchCaseEntity.setProsecutor("TFL");
+            searchCaseEntity.setStatus("SJP Referral");
+            searchCaseEntity.setStandaloneApplication(false);
+            searchProsecutionCaseEntities.add(searchCaseEntity);
+        }
+        when(searchCaseRepository.findPageBySearchCriteria(prepareSearch(searchCriteria.toLowerCase()), after, 3)).thenReturn(searchProsecutionCaseEntities);
+
+        final JsonEnvelope response = prosecutionCaseQuery.searchCase(jsonEnvelope);
+
+        assertThat(response.payloadAsJsonObject().getJsonArray("searchResults").size(), is(2));
+        assertThat(response.payloadAsJsonObject().getString("nextPageAfter"), is(searchProsecutionCaseEntities.get(1).getDefendantId().toString()));
+        assertThat(response.payloadAsJsonObject().containsKey("totalResults"), is(false));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -5})
+    public void shouldSearchWithAPageOfOneWhenThePageSizeIsBelowOne(final int pageSize) {
+        final String searchCriteria = "John Smith";
+        final JsonObject jsonObject = Json.createObjectBuilder()
+                .add("q", searchCriteria)
+                .add("pageSize", pageSize)
+                .build();
+        final JsonEnvelope jsonEnvelope = JsonEnvelope.envelopeFrom(
+                JsonEnvelope.metadataBuilder().withId(randomUUID()).withName("progression.query.search-cases").build(),
+                jsonObject);
+
+        final List<SearchProsecutionCaseEntity> searchProsecutionCaseEntities = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            final SearchProsecutionCaseEntity searchCaseEntity = new SearchProsecutionCaseEntity();
+            searchCaseEntity.setDefendantId(randomUUID());
+            searchCaseEntity.setCaseId(randomUUID().toString());
+            searchCaseEntity.setReference("PAR-10" + i);
+            searchCaseEntity.setDefendantFirstName("John");
+            searchCaseEntity.setDefendantLastName("Smith");
+            searchCaseEntity.setProsecutor("TFL");
+            searchCaseEntity.setStatus("SJP Referral");
+            searchCaseEntity.setStandaloneApplication(false);
+            searchProsecutionCaseEntities.add(searchCaseEntity);
+        }
+        when(searchCaseRepository.findPageBySearchCriteria(prepareSearch(searchCriteria.toLowerCase()), null, 2)).thenReturn(searchProsecutionCaseEntities);
+        when(searchCaseRepository.countBySearchCriteria(prepareSearch(searchCriteria.toLowerCase()), 1000)).thenReturn(2);
+
         final JsonEnvelope response = prosecutionCaseQuery.searchCase(jsonEnvelope);
+
         assertThat(response.payloadAsJsonObject().getJsonArray("searchResults").size(), is(1));
+        assertThat(response.payloadAsJsonObject().getString("nextPageAfter"), is(searchProsecutionCaseEntities.get(0).getDefendantId().toString()));
+        assertThat(response.payloadAsJsonObject().getInt("totalResults"), is(2));
     }
 
     @Test
@@ -129,6 +129,9 @@ public class HearingAtAGlanceServiceTest {
     @Mock
     private HearingApplicationRepository hearingApplicationRepository;
 
+    @Spy
+    private ParsedPayloadCache parsedPayloadCache;
+
     @InjectMocks
     private HearingAtAGlanceService hearingAtAGlanceService;
 
@@ -153,6 +156,8 @@ public class HearingAtAGlanceServiceTest {
 
     @BeforeEach
     public void setup() {
+        setField(this.parsedPayloadCache, "stringToJsonObjectConverter", stringToJsonObjectConverter);
+        setField(this.parsedPayloadCache, "jsonObjectToObjectConverter", jsonObjectToObjectConverter);
         setField(this.jsonObjectToObjectConverter, "objectMapper", new ObjectMapperProducer().objectMapper());
         setField(this.objectToJsonObjectConverter, "mapper", new ObjectMapperProducer().objectMapper());
     }
@@ -0,0 +1,105 @@
+package uk.gov.moj.cpp.progression.query.view.service;
+
+import static java.util.UUID.randomUUID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+
+import uk.gov.justice.core.courts.Hearing;
+import uk.gov.justice.core.courts.ProsecutionCase;
+import uk.gov.justice.services.common.converter.JsonObjectToObjectConverter;
+import uk.gov.justice.services.common.converter.StringToJsonObjectConverter;
+import uk.gov.justice.services.common.converter.jackson.ObjectMapperProducer;
+import uk.gov.moj.cpp.prosecutioncase.persistence.entity.HearingEntity;
+import uk.gov.moj.cpp.prosecutioncase.persistence.entity.ProsecutionCaseEntity;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ParsedPayloadCacheTest {
+
+    @Spy
+    private StringToJsonObjectConverter stringToJsonObjectConverter;
+
+    @Spy
+    private JsonObjectToObjectConverter jsonObjectToObjectConverter;
+
+    @InjectMocks
+    private ParsedPayloadCache parsedPayloadCache;
+
+    @BeforeEach
+    public void setup() {
+        setField(this.jsonObjectToObjectConverter, "objectMapper", new ObjectMapperProducer().objectMapper());
+    }
+
+    @Test
+    public void shouldParsePayloadOnceWhileEntityIsUnchanged() {
+        final ProsecutionCaseEntity prosecutionCaseEntity = prosecutionCaseEntity(randomUUID(), "URN1");
+
+        final ProsecutionCase first = parsedPayloadCache.getProsecutionCase(prosecutionCaseEntity);
+        final ProsecutionCase second = parsedPayloadCache.getProsecutionCase(prosecutionCaseEntity);
+
+        assertThat(second, sameInstance(first));
+        verify(stringToJsonObjectConverter, times(1)).convert(anyString());
+    }
+
+    @Test
+    public void shouldEvictEntryWhenPayloadIsRewritten() {
+        final UUID caseId = randomUUID();
+
+        final ProsecutionCase original = parsedPayloadCache.getProsecutionCase(prosecutionCaseEntity(caseId, "URN1"));
+        final ProsecutionCase rewritten = parsedPayloadCache.getProsecutionCase(prosecutionCaseEntity(caseId, "URN2"));
+
+        assertThat(rewritten, not(sameInstance(original)));
+        assertThat(rewritten.getProsecutionCaseIdentifier().getCaseURN(), is("URN2"));
+        assertThat(parsedPayloadCache.size(), is(1));
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedEntriesWhenPayloadBudgetIsExceeded() {
+        final ProsecutionCaseEntity firstCase = prosecutionCaseEntity(randomUUID(), "URN1");
+        final ProsecutionCaseEntity secondCase = prosecutionCaseEntity(randomUUID(), "URN2");
+        setField(parsedPayloadCache, "maxCachedPayloadCharacters", String.valueOf(firstCase.getPayload().length() + 1));
+
+        parsedPayloadCache.getProsecutionCase(firstCase);
+        parsedPayloadCache.getProsecutionCase(secondCase);
+        parsedPayloadCache.getProsecutionCase(firstCase);
+
+        assertThat(parsedPayloadCache.size(), is(1));
+        verify(stringToJsonObjectConverter, times(3)).convert(anyString());
+    }
+
+    @Test
+    public void shouldCacheHearingsSeparatelyFromCases() {
+        final UUID id = randomUUID();
+        final HearingEntity hearingEntity = new HearingEntity();
+        hearingEntity.setHearingId(id);
+        hearingEntity.setPayload("{\"id\":\"" + id + "\"}");
+
+        final Hearing hearing = parsedPayloadCache.getHearing(hearingEntity);
+        parsedPayloadCache.getProsecutionCase(prosecutionCaseEntity(id, "URN1"));
+
+        assertThat(hearing.getId(), is(id));
+        assertThat(parsedPayloadCache.getHearing(hearingEntity), sameInstance(hearing));
+        assertThat(parsedPayloadCache.size(), is(2));
+    }
+
+    private static ProsecutionCaseEntity prosecutionCaseEntity(final UUID caseId, final String caseUrn) {
+        final ProsecutionCaseEntity prosecutionCaseEntity = new ProsecutionCaseEntity();
+        prosecutionCaseEntity.setCaseId(caseId);
+        prosecutionCaseEntity.setPayload("{\"id\":\"" + caseId + "\",\"prosecutionCaseIdentifier\":{\"caseURN\":\"" + caseUrn + "\"}}");
+        return prosecutionCaseEntity;
+    }
+}
@@ -39,6 +39,7 @@ import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -137,6 +138,8 @@ public class RefDataService {
     @Inject
     @ServiceComponent(QUERY_API)
     private Requester requester;
+    @Inject
+    private ReferenceDataCache referenceDataCache;
 
     public Optional<DocumentTypeAccessReferenceData> getDocumentTypeAccessReferenceData(final Requester requester, final UUID documentTypeId) {
         final List<DocumentTypeAccessReferenceData> documentTypeAccessReferenceDatas = getAllDocumentTypeAccess(requester);
@@ -146,10 +149,12 @@ public class RefDataService {
     }
 
     public List<DocumentTypeAccessReferenceData> getAllDocumentTypeAccess(final Requester requester) {
-        return getRefDataStream(REFERENCEDATA_GET_ALL_DOCUMENT_TYPE_ACCESS_QUERY,
-                DOCUMENT_TYPE_ACCESS, createObjectBuilder().add(DATE, LocalDate.now().toString()), requester)
-                .map(asDocumentsMetadataRefData())
-                .collect(Collectors.toList());
+        final LocalDate today = LocalDate.now();
+        return referenceDataCache.get(ReferenceDataLookup.DOCUMENT_TYPE_ACCESS, today, () ->
+                getRefDataStream(REFERENCEDATA_GET_ALL_DOCUMENT_TYPE_ACCESS_QUERY,
+                        DOCUMENT_TYPE_ACCESS, createObjectBuilder().add(DATE, today.toString()), requester)
+                        .map(asDocumentsMetadataRefData())
+                        .collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList)));
     }
 
     public List<LocalDate> getPublicHolidays(final String division, final LocalDate fromDate, final LocalDate toDate, final Requester requester) {
@@ -230,6 +235,10 @@ public class RefDataService {
     }
 
     public Optional<JsonObject> getJudgeByIdAsText(final String judgeId, final JsonEnvelope event, final Requester requester) {
+        return referenceDataCache.get(ReferenceDataLookup.JUDGE, judgeId, () -> requestJudgeById(judgeId, event, requester));
+    }
+
+    private Optional<JsonObject> requestJudgeById(final String judgeId, final JsonEnvelope event, final Requester requester) {
         final JsonObject payload = createObjectBuilder().add(ID, judgeId).build();
 
         final JsonEnvelope jsonEnvelop = requester.request(envelop(payload)
@@ -243,6 +252,10 @@ public class RefDataService {
     }
 
     public Optional<JsonObject> getOrganisationUnitById(final UUID courtCentreId, final JsonEnvelope event, final Requester requester) {
+        return referenceDataCache.get(ReferenceDataLookup.ORGANISATION_UNIT, courtCentreId, () -> requestOrganisationUnitById(courtCentreId, event, requester));
+    }
+
+    private Optional<JsonObject> requestOrganisationUnitById(final UUID courtCentreId, final JsonEnvelope event, final Requester requester) {
         final JsonObject payload = createObjectBuilder().add(ID, courtCentreId.toString()).build();
         final Envelope<JsonObject> envelope = requester.requestAsAdmin(envelop(payload)
                 .withName(REFERENCEDATA_GET_ORGANISATION)
@@ -325,6 +338,10 @@ public class RefDataService {
     }
 
     public Optional<JsonObject> getCourtCentreWithCourtRoomsById(final UUID courtCentreId, final JsonEnvelope event, final Requester requester) {
+        return referenceDataCache.get(ReferenceDataLookup.COURT_CENTRE_WITH_COURT_ROOMS, courtCentreId, () -> requestCourtCentreWithCourtRoomsById(courtCentreId, event, requester));
+    }
+
+    private Optional<JsonObject> requestCourtCentreWithCourtRoomsById(final UUID courtCentreId, final JsonEnvelope event, final Requester requester) {
 
         final JsonObject payload = Json.createObjectBuilder()
                 .add(ID, courtCentreId.toString())
@@ -341,6 +358,10 @@ public class RefDataService {
     }
 
     public Optional<JsonObject> getReferralReasons(final JsonEnvelope event, final Requester requester) {
+        return referenceDataCache.get(ReferenceDataLookup.REFERRAL_REASONS, REFERENCEDATA_GET_REFERRAL_REASONS, () -> requestReferralReasons(event, requester));
+    }
+
+    private Optional<JsonObject> requestReferralReasons(final JsonEnvelope event, final Requester requester) {
         final JsonEnvelope response = requester.request(envelop(createObjectBuilder().build())
                 .withName(REFERENCEDATA_GET_REFERRAL_REASONS)
                 .withMetadataFrom(event));
@@ -479,14 +500,16 @@ public class RefDataService {
     public Optional<JsonObject> getHearingType(final JsonEnvelope event, final UUID id, final Requester requester) {
 
         LOGGER.info(" Calling {} to get hearing-type for {} ", REFERENCEDATA_QUERY_HEARING_TYPES, id);
-        final JsonObject payload = Json.createObjectBuilder().build();
-
-        final JsonEnvelope response = requester.request(envelop(payload)
-                .withName(REFERENCEDATA_QUERY_HEARING_TYPES)
-                .withMetadataFrom(event));
+        final JsonObject hearingTypes = referenceDataCache.get(ReferenceDataLookup.HEARING_TYPES, REFERENCEDATA_QUERY_HEARING_TYPES, () -> {
+            final JsonObject payload = Json.createObjectBuilder().build();
 
+            final JsonEnvelope response = requester.request(envelop(payload)
+                    .withName(REFERENCEDATA_QUERY_HEARING_TYPES)
+                    .withMetadataFrom(event));
+            return response.payloadAsJsonObject();
+        });
 
-        return response.payloadAsJsonObject().getJsonArray(HEARING_TYPES).stream()
+        return hearingTypes.getJsonArray(HEARING_TYPES).stream()
                 .map(JsonObject.class::cast)
                 .filter(jsonObject -> jsonObject.getString(ID).equals(id.toString()))
                 .findFirst();
@@ -495,8 +518,7 @@ public class RefDataService {
     public Optional<JsonObject> getNationality(final JsonEnvelope event, final UUID id, final Requester requester) {
 
         LOGGER.info(" Calling {} to get nationalities for {} ", REFERENCEDATA_QUERY_NATIONALITIES, id);
-        final JsonEnvelope response = getNationalityResponse(event, requester);
-        return response.payloadAsJsonObject().getJsonArray(COUNTRY_NATIONALITY).stream()
+        return getNationalities(event, requester).getJsonArray(COUNTRY_NATIONALITY).stream()
                 .map(JsonObject.class::cast)
                 .filter(jsonObject -> jsonObject.getString(ID).equals(id.toString()))
                 .findFirst();
@@ -505,13 +527,16 @@ public class RefDataService {
     public Optional<JsonObject> getNationalityByNationality(final JsonEnvelope event, final String nationality, final Requester requester) {
 
         LOGGER.info(" Calling {} to get nationalities for {} ", REFERENCEDATA_QUERY_NATIONALITIES, nationality);
-        final JsonEnvelope response = getNationalityResponse(event, requester);
-        return response.payloadAsJsonObject().getJsonArray(COUNTRY_NATIONALITY).stream()
+        return getNationalities(event, requester).getJsonArray(COUNTRY_NATIONALITY).stream()
                 .map(JsonObject.class::cast)
                 .filter(jsonObject -> jsonObject.getString(NATIONALITY).equalsIgnoreCase(nationality))
                 .findFirst();
     }
 
+    private JsonObject getNationalities(final JsonEnvelope event, final Requester requester) {
+        return referenceDataCache.get(ReferenceDataLookup.NATIONALITIES, REFERENCEDATA_QUERY_NATIONALITIES, () -> getNationalityResponse(event, requester).payloadAsJsonObject());
+    }
+
     private JsonEnvelope getNationalityResponse(final JsonEnvelope event, final Requester requester) {
         final JsonObject payload = Json.createObjectBuilder().build();
 
@@ -523,6 +548,10 @@ public class RefDataService {
     }
 
     public Optional<JsonObject> getProsecutor(final JsonEnvelope event, final UUID id, final Requester requester) {
+        return referenceDataCache.get(ReferenceDataLookup.PROSECUTOR, id, () -> requestProsecutor(event, id, requester));
+    }
+
+    private Optional<JsonObject> requestProsecutor(final JsonEnvelope event, final UUID id, final Requester requester) {
 
         LOGGER.info(" Calling {} to get prosecutors for {} ", REFERENCEDATA_QUERY_PROSECUTOR, id);
 
@@ -580,6 +609,10 @@ public class RefDataService {
     }
 
     public Optional<JsonArray> getCPSProsecutors(final JsonEnvelope event, final Requester requester) {
+        return referenceDataCache.get(ReferenceDataLookup.CPS_PROSECUTORS, REFERENCE_DATA_QUERY_CPS_PROSECUTORS, () -> requestCPSProsecutors(event, requester));
+    }
+
+    private Optional<JsonArray> requestCPSProsecutors(final JsonEnvelope event, final Requester requester) {
 
         LOGGER.info(" Calling {} to get prosecutors with cpsFlag true", REFERENCE_DATA_QUERY_CPS_PROSECUTORS);
 
@@ -750,9 +783,10 @@ public class RefDataService {
     }
 
     public List<PrisonCustodySuite> getPrisonsCustodySuites(final Requester requester) {
-        return getRefDataStream(requester, REFERENCEDATA_QUERY_PRISONS_CUSTODY_SUITES, FIELD_PRISONS_CUSTODY_SUITES, createObjectBuilder())
-                .map(asPrisonCustodySuite())
-                .collect(Collectors.toList());
+        return referenceDataCache.get(ReferenceDataLookup.PRISON_CUSTODY_SUITES, REFERENCEDATA_QUERY_PRISONS_CUSTODY_SUITES, () ->
+                getRefDataStream(requester, REFERENCEDATA_QUERY_PRISONS_CUSTODY_SUITES, FIELD_PRISONS_CUSTODY_SUITES, createObjectBuilder())
+                        .map(asPrisonCustodySuite())
+                        .collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList)));
     }
 
     public List<CpResultActionMapping> getResultIdsByActionCode(final String resultActionCode, final Requester requester) {
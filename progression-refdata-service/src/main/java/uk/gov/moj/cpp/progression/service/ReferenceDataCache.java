@@ -0,0 +1,183 @@
+package uk.gov.moj.cpp.progression.service;
+
+import static java.lang.Boolean.parseBoolean;
+
+import uk.gov.justice.services.common.configuration.Value;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Read-through cache for reference data lookups. Each {@link ReferenceDataLookup} has its own time
+ * to live. Concurrent misses for the same key share a single request to referencedata, so an
+ * expired entry under load does not turn into a burst of identical requests. The hit rate of each
+ * lookup is logged at debug; it is not published anywhere else.
+ */
+@ApplicationScoped
+public class ReferenceDataCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReferenceDataCache.class);
+
+    private static final int MAX_ENTRIES = 20_000;
+
+    @Inject
+    @Value(key = "progression.refdata.cache.enabled", defaultValue = "true")
+    private String cacheEnabled;
+
+    private final Map<CacheKey, CacheEntry> entries = new ConcurrentHashMap<>();
+    private final Map<ReferenceDataLookup, AtomicLong> hitCounts = new EnumMap<>(ReferenceDataLookup.class);
+    private final Map<ReferenceDataLookup, AtomicLong> missCounts = new EnumMap<>(ReferenceDataLookup.class);
+    private Clock clock = Clock.systemUTC();
+
+    public ReferenceDataCache() {
+        for (final ReferenceDataLookup lookup : ReferenceDataLookup.values()) {
+            hitCounts.put(lookup, new AtomicLong());
+            missCounts.put(lookup, new AtomicLong());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(final ReferenceDataLookup lookup, final Object key, final Supplier<T> loader) {
+        if (!isEnabled()) {
+            return loader.get();
+        }
+
+        final CacheKey cacheKey = new CacheKey(lookup, key);
+        final Instant now = clock.instant();
+        final CacheEntry cached = entries.get(cacheKey);
+        if (cached != null && cached.isLiveAt(now)) {
+            hitCounts.get(lookup).incrementAndGet();
+            return (T) join(cached.value);
+        }
+
+        final CacheEntry loading = new CacheEntry(new CompletableFuture<>(), now.plus(lookup.getTimeToLive()));
+        final CacheEntry current = entries.compute(cacheKey, (k, existing) -> existing != null && existing.isLiveAt(now) ? existing : loading);
+        if (current != loading) {
+            hitCounts.get(lookup).incrementAndGet();
+            return (T) join(current.value);
+        }
+
+        missCounts.get(lookup).incrementAndGet();
+        try {
+            final T value = loader.get();
+            loading.value.complete(value);
+            if (isEmpty(value)) {
+                entries.remove(cacheKey, loading);
+            }
+            evictIfFull();
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Reference data cache loaded {} for key {}, hit rate {}", lookup, key, hitRate(lookup));
+            }
+            return value;
+        } catch (final RuntimeException e) {
+            entries.remove(cacheKey, loading);
+            loading.value.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    private double hitRate(final ReferenceDataLookup lookup) {
+        final long hits = hitCounts.get(lookup).get();
+        final long total = hits + missCounts.get(lookup).get();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    private boolean isEnabled() {
+        return cacheEnabled == null || parseBoolean(cacheEnabled);
+    }
+
+    /**
+     * A lookup that found nothing is not kept, so reference data that is added later is seen on
+     * the next lookup rather than after the time to live.
+     */
+    private static boolean isEmpty(final Object value) {
+        return value == null
+                || value instanceof Optional && !((Optional<?>) value).isPresent()
+                || value instanceof Collection && ((Collection<?>) value).isEmpty();
+    }
+
+    private void evictIfFull() {
+        if (entries.size() > MAX_ENTRIES) {
+            final Instant now = clock.instant();
+            entries.values().removeIf(entry -> !entry.isLiveAt(now));
+            if (entries.size() > MAX_ENTRIES) {
+                LOGGER.warn("Reference data cache exceeded {} live entries and has been cleared", MAX_ENTRIES);
+                entries.clear();
+            }
+        }
+    }
+
+    private static Object join(final CompletableFuture<Object> value) {
+        try {
+            return value.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static class CacheKey {
+
+        private final ReferenceDataLookup lookup;
+        private final Object key;
+
+        CacheKey(final ReferenceDataLookup lookup, final Object key) {
+            this.lookup = lookup;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final CacheKey that = (CacheKey) o;
+            return lookup == that.lookup && Objects.equals(key, that.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lookup, key);
+        }
+    }
+
+    private static class CacheEntry {
+
+        private final CompletableFuture<Object> value;
+        private final Instant expiresAt;
+
+        CacheEntry(final CompletableFuture<Object> value, final Instant expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isLiveAt(final Instant instant) {
+            return instant.isBefore(expiresAt);
+        }
+    }
+}
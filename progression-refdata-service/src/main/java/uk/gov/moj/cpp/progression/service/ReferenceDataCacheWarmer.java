@@ -0,0 +1,87 @@
+package uk.gov.moj.cpp.progression.service;
+
+import static java.lang.Boolean.parseBoolean;
+import static java.util.UUID.randomUUID;
+import static javax.json.Json.createObjectBuilder;
+import static uk.gov.justice.services.core.annotation.Component.QUERY_API;
+import static uk.gov.justice.services.messaging.JsonEnvelope.envelopeFrom;
+import static uk.gov.justice.services.messaging.JsonEnvelope.metadataBuilder;
+
+import uk.gov.justice.services.common.configuration.Value;
+import uk.gov.justice.services.core.annotation.ServiceComponent;
+import uk.gov.justice.services.core.dispatcher.SystemUserProvider;
+import uk.gov.justice.services.core.requester.Requester;
+import uk.gov.justice.services.messaging.JsonEnvelope;
+import uk.gov.justice.services.messaging.MetadataBuilder;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Initialized;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Preloads the list-style reference data held in {@link ReferenceDataCache} when the application
+ * starts, so the first requests after a deployment do not all miss the cache together. Disabled
+ * unless {@code progression.refdata.cache.warmUpOnStartup} is set to true; a lookup that fails is
+ * logged and left to load on first use.
+ */
+@ApplicationScoped
+public class ReferenceDataCacheWarmer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReferenceDataCacheWarmer.class);
+
+    private static final String WARM_UP_ACTION_NAME = "progression.refdata.cache.warm-up";
+
+    @Inject
+    @Value(key = "progression.refdata.cache.warmUpOnStartup", defaultValue = "false")
+    private String warmUpOnStartup;
+
+    @Inject
+    private RefDataService refDataService;
+
+    @Inject
+    @ServiceComponent(QUERY_API)
+    private Requester requester;
+
+    @Inject
+    private SystemUserProvider systemUserProvider;
+
+    public void onStartup(@Observes @Initialized(ApplicationScoped.class) final Object context) {
+        if (parseBoolean(warmUpOnStartup)) {
+            warmUp();
+        }
+    }
+
+    public void warmUp() {
+        final JsonEnvelope systemEnvelope = envelopeFrom(systemMetadata(), createObjectBuilder());
+
+        load("prosecutors with cpsFlag", () -> refDataService.getCPSProsecutors(systemEnvelope, requester));
+        load("referral reasons", () -> refDataService.getReferralReasons(systemEnvelope, requester));
+        load("document type access", () -> refDataService.getAllDocumentTypeAccess(requester));
+        load("prisons custody suites", () -> refDataService.getPrisonsCustodySuites(requester));
+    }
+
+    private MetadataBuilder systemMetadata() {
+        final MetadataBuilder metadataBuilder = metadataBuilder()
+                .withId(randomUUID())
+                .withName(WARM_UP_ACTION_NAME);
+        final Optional<UUID> systemUserId = systemUserProvider.getContextSystemUserId();
+        systemUserId.ifPresent(userId -> metadataBuilder.withUserId(userId.toString()));
+        return metadataBuilder;
+    }
+
+    private static void load(final String description, final Runnable lookup) {
+        try {
+            lookup.run();
+            LOGGER.info("Reference data cache warmed with {}", description);
+        } catch (final RuntimeException e) {
+            LOGGER.warn("Unable to warm reference data cache with {}", description, e);
+        }
+    }
+}
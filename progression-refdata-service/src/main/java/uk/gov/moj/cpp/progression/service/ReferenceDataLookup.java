@@ -0,0 +1,33 @@
+package uk.gov.moj.cpp.progression.service;
+
+import static java.time.Duration.ofHours;
+
+import java.time.Duration;
+
+/**
+ * Reference data lookups served through {@link ReferenceDataCache}, each with the time its
+ * results may be reused before they are fetched from referencedata again.
+ */
+public enum ReferenceDataLookup {
+
+    ORGANISATION_UNIT(ofHours(1)),
+    COURT_CENTRE_WITH_COURT_ROOMS(ofHours(1)),
+    JUDGE(ofHours(1)),
+    PROSECUTOR(ofHours(1)),
+    HEARING_TYPES(ofHours(4)),
+    NATIONALITIES(ofHours(12)),
+    CPS_PROSECUTORS(ofHours(1)),
+    REFERRAL_REASONS(ofHours(4)),
+    DOCUMENT_TYPE_ACCESS(ofHours(1)),
+    PRISON_CUSTODY_SUITES(ofHours(4));
+
+    private final Duration timeToLive;
+
+    ReferenceDataLookup(final Duration timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+}
@@ -103,6 +103,9 @@ public class RefDataServiceTest {
     @Mock
     private Requester requester;
 
+    @Spy
+    private ReferenceDataCache referenceDataCache;
+
     @InjectMocks
     private RefDataService refDataService;
 
@@ -474,6 +477,23 @@ public class RefDataServiceTest {
         assertThat(result.getId(), is(id));
     }
 
+    @Test
+    public void shouldServeRepeatedOrganisationUnitLookupsFromCache() {
+        final UUID courtCentreId = randomUUID();
+        final JsonObject payload = createReader(
+                        new ByteArrayInputStream(getOrganisationPayload(courtCentreId).getBytes()))
+                .readObject();
+        when(requester.requestAsAdmin(any(), any()))
+                .thenReturn(Envelope.envelopeFrom(DefaultJsonMetadata.metadataBuilder().withId(randomUUID()).withName(ORGANISATION_UNIT), payload));
+        final JsonEnvelope envelope = JsonEnvelope.envelopeFrom(DefaultJsonMetadata.metadataBuilder().withId(randomUUID()).withName(ORGANISATION_UNIT), JsonValue.NULL);
+
+        refDataService.getOrganisationUnitById(courtCentreId, envelope, requester);
+        final Optional<JsonObject> result = refDataService.getOrganisationUnitById(courtCentreId, envelope, requester);
+
+        verify(requester).requestAsAdmin(any(), any());
+        assertThat(result.get().getString("id"), is(courtCentreId.toString()));
+    }
+
     @Test
     public void shouldRequestReferralReasons() {
         final JsonObject payload = getReferralReasonsPayload();
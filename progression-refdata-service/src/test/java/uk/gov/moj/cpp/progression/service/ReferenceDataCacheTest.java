@@ -0,0 +1,154 @@
+package uk.gov.moj.cpp.progression.service;
+
+import static java.time.ZoneOffset.UTC;
+import static java.util.Collections.singletonList;
+import static java.util.UUID.randomUUID;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static uk.gov.justice.services.test.utils.core.reflection.ReflectionUtil.setField;
+import static uk.gov.moj.cpp.progression.service.ReferenceDataLookup.CPS_PROSECUTORS;
+import static uk.gov.moj.cpp.progression.service.ReferenceDataLookup.JUDGE;
+import static uk.gov.moj.cpp.progression.service.ReferenceDataLookup.PROSECUTOR;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ReferenceDataCacheTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T10:00:00Z");
+
+    private ReferenceDataCache referenceDataCache;
+
+    @BeforeEach
+    public void setUp() {
+        referenceDataCache = new ReferenceDataCache();
+        setField(referenceDataCache, "clock", Clock.fixed(NOW, UTC));
+    }
+
+    @Test
+    public void shouldLoadOnceAndServeFromCacheUntilExpired() {
+        final UUID prosecutorId = randomUUID();
+        final AtomicInteger loads = new AtomicInteger();
+
+        referenceDataCache.get(PROSECUTOR, prosecutorId, loads::incrementAndGet);
+        final Integer cached = referenceDataCache.get(PROSECUTOR, prosecutorId, loads::incrementAndGet);
+        setField(referenceDataCache, "clock", Clock.fixed(NOW.plus(PROSECUTOR.getTimeToLive()), UTC));
+        final Integer reloaded = referenceDataCache.get(PROSECUTOR, prosecutorId, loads::incrementAndGet);
+
+        assertThat(cached, is(1));
+        assertThat(reloaded, is(2));
+        assertThat(loads.get(), is(2));
+    }
+
+    @Test
+    public void shouldKeepLookupsWithTheSameKeySeparate() {
+        final UUID id = randomUUID();
+
+        final String prosecutor = referenceDataCache.get(PROSECUTOR, id, () -> "prosecutor");
+        final String judge = referenceDataCache.get(JUDGE, id, () -> "judge");
+
+        assertThat(prosecutor, is("prosecutor"));
+        assertThat(judge, is("judge"));
+        assertThat(referenceDataCache.get(PROSECUTOR, id, () -> "reloaded"), is("prosecutor"));
+    }
+
+    @Test
+    public void shouldNotCacheFailedLoads() {
+        final UUID judgeId = randomUUID();
+
+        assertThrows(IllegalStateException.class, () -> referenceDataCache.get(JUDGE, judgeId, () -> {
+            throw new IllegalStateException("referencedata unavailable");
+        }));
+        final String judge = referenceDataCache.get(JUDGE, judgeId, () -> "judge");
+
+        assertThat(judge, is("judge"));
+    }
+
+    @Test
+    public void shouldNotCacheAnEmptyOptional() {
+        final UUID prosecutorId = randomUUID();
+
+        final Optional<String> notFound = referenceDataCache.get(PROSECUTOR, prosecutorId, Optional::empty);
+        final Optional<String> found = referenceDataCache.get(PROSECUTOR, prosecutorId, () -> Optional.of("prosecutor"));
+
+        assertThat(notFound.isPresent(), is(false));
+        assertThat(found, is(Optional.of("prosecutor")));
+    }
+
+    @Test
+    public void shouldNotCacheAnEmptyCollection() {
+        final UUID organisationUnitId = randomUUID();
+
+        final List<String> notFound = referenceDataCache.get(CPS_PROSECUTORS, organisationUnitId, Collections::emptyList);
+        final List<String> found = referenceDataCache.get(CPS_PROSECUTORS, organisationUnitId, () -> singletonList("prosecutor"));
+
+        assertThat(notFound, is(empty()));
+        assertThat(found, contains("prosecutor"));
+    }
+
+    @Test
+    public void shouldShareASingleLoadBetweenConcurrentMisses() throws Exception {
+        final UUID judgeId = randomUUID();
+        final AtomicInteger loads = new AtomicInteger();
+        final CountDownLatch loaderStarted = new CountDownLatch(1);
+        final CountDownLatch releaseLoader = new CountDownLatch(1);
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        try {
+            final Future<String> first = executorService.submit(() -> referenceDataCache.get(JUDGE, judgeId, () -> {
+                loads.incrementAndGet();
+                loaderStarted.countDown();
+                awaitQuietly(releaseLoader);
+                return "judge";
+            }));
+            loaderStarted.await(5, SECONDS);
+            final Future<String> second = executorService.submit(() -> referenceDataCache.get(JUDGE, judgeId, () -> {
+                loads.incrementAndGet();
+                return "duplicate";
+            }));
+            releaseLoader.countDown();
+
+            assertThat(first.get(5, SECONDS), is("judge"));
+            assertThat(second.get(5, SECONDS), is("judge"));
+            assertThat(loads.get(), is(1));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldBypassCacheWhenDisabled() {
+        final UUID judgeId = randomUUID();
+        final AtomicInteger loads = new AtomicInteger();
+        setField(referenceDataCache, "cacheEnabled", "false");
+
+        referenceDataCache.get(JUDGE, judgeId, loads::incrementAndGet);
+        referenceDataCache.get(JUDGE, judgeId, loads::incrementAndGet);
+
+        assertThat(loads.get(), is(2));
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(5, SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
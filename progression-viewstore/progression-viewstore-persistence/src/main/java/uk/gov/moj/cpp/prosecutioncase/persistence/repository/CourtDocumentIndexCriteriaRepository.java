@@ -13,6 +13,7 @@ import javax.persistence.EntityManager;
 import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
 import javax.persistence.criteria.Join;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
@@ -27,6 +28,9 @@ public abstract class CourtDocumentIndexCriteriaRepository implements EntityRepo
 
     public static final String PROSECUTION_CASE_ID = "prosecutionCaseId";
     public static final String NAME = "name";
+    private static final String COURT_DOCUMENT = "courtDocument";
+    private static final String PAYLOAD = "payload";
+    private static final char LIKE_ESCAPE = '\\';
 
     @Inject
     private EntityManager entityManager;
@@ -60,24 +64,54 @@ public abstract class CourtDocumentIndexCriteriaRepository implements EntityRepo
     }
 
     private List<Predicate> getAllPredicates(final SearchCriteria searchCriteria, final CriteriaBuilder cBuilder, final Root<CourtDocumentIndexEntity> courtDocumentEntityRoot) {
+        return getAllPredicates(searchCriteria, cBuilder, courtDocumentEntityRoot, courtDocumentEntityRoot.join(COURT_DOCUMENT));
+    }
+
+    private List<Predicate> getAllPredicates(final SearchCriteria searchCriteria, final CriteriaBuilder cBuilder, final Root<CourtDocumentIndexEntity> courtDocumentEntityRoot,
+                                             final Join<CourtDocumentIndexEntity, CourtDocumentEntity> courtDocumentJoin) {
         final List<Predicate> predicates = new ArrayList<>();
 
         predicates.add(cBuilder.equal(courtDocumentEntityRoot.get(PROSECUTION_CASE_ID), searchCriteria.getCaseId()));
         searchCriteria.getDefendantId().ifPresent(value -> predicates.add(cBuilder.equal(courtDocumentEntityRoot.get("defendantId"), value)));
-        predicates.addAll(getCourtDocumentPredicates(cBuilder, searchCriteria, courtDocumentEntityRoot));
+        predicates.addAll(getCourtDocumentPredicates(cBuilder, searchCriteria, courtDocumentJoin));
         return predicates;
     }
 
-    private List<Predicate> getCourtDocumentPredicates(final CriteriaBuilder cBuilder, final SearchCriteria searchCriteria, final Root<CourtDocumentIndexEntity> courtDocumentIndexEntityRoot) {
+    private List<Predicate> getCourtDocumentPredicates(final CriteriaBuilder cBuilder, final SearchCriteria searchCriteria, final Join<CourtDocumentIndexEntity, CourtDocumentEntity> participantSetJoin) {
         final List<Predicate> predicates = new ArrayList<>();
-        final Join<CourtDocumentIndexEntity, CourtDocumentEntity> participantSetJoin = courtDocumentIndexEntityRoot.join("courtDocument");
         predicates.add(cBuilder.equal(participantSetJoin.get("isRemoved"), false));
         searchCriteria.getSectionId().ifPresent(value -> predicates.add(cBuilder.equal(
-                cBuilder.function("jsonb_extract_path_text", String.class, cBuilder.function("jsonb", String.class, participantSetJoin.get("payload")), cBuilder.literal("documentTypeId")),
+                cBuilder.function("jsonb_extract_path_text", String.class, cBuilder.function("jsonb", String.class, participantSetJoin.get(PAYLOAD)), cBuilder.literal("documentTypeId")),
                 value
         )));
+        searchCriteria.getDocumentTypeIds().ifPresent(values -> predicates.add(values.isEmpty()
+                ? cBuilder.disjunction()
+                : payloadValue(cBuilder, participantSetJoin, "documentTypeId").in(values)));
+        searchCriteria.getMimeTypes().ifPresent(values -> predicates.add(values.isEmpty()
+                ? cBuilder.disjunction()
+                : payloadValue(cBuilder, participantSetJoin, "mimeType").in(values)));
+        searchCriteria.getDocumentName().ifPresent(value -> predicates.add(cBuilder.like(
+                cBuilder.lower(payloadValue(cBuilder, participantSetJoin, NAME)),
+                escapeLike(value.toLowerCase()) + "%",
+                LIKE_ESCAPE
+        )));
 
         return predicates;
     }
 
+    private Expression<String> payloadValue(final CriteriaBuilder cBuilder, final Join<CourtDocumentIndexEntity, CourtDocumentEntity> courtDocumentJoin, final String... path) {
+        final List<Expression<?>> arguments = new ArrayList<>();
+        arguments.add(cBuilder.function("jsonb", String.class, courtDocumentJoin.get(PAYLOAD)));
+        for (final String key : path) {
+            arguments.add(cBuilder.literal(key));
+        }
+        return cBuilder.function("jsonb_extract_path_text", String.class, arguments.toArray(new Expression<?>[0]));
+    }
+
+    private static String escapeLike(final String value) {
+        return value.replace(String.valueOf(LIKE_ESCAPE), String.valueOf(LIKE_ESCAPE) + LIKE_ESCAPE)
+                .replace("%", LIKE_ESCAPE + "%")
+                .replace("_", LIKE_ESCAPE + "_");
+    }
+
 }
@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.UUID;
 
 import org.apache.deltaspike.data.api.EntityRepository;
+import org.apache.deltaspike.data.api.MaxResults;
 import org.apache.deltaspike.data.api.Query;
 import org.apache.deltaspike.data.api.QueryParam;
 import org.apache.deltaspike.data.api.Repository;
@@ -58,4 +59,38 @@ public interface CourtRegisterRequestRepository extends EntityRepository<CourtRe
             "(select max(cr.registerTime), hearingId from CourtRegisterRequestEntity cr where cr.status = 'RECORDED' AND cr.processedOn is null group by cr.hearingId, cr.status)")
     List<CourtRegisterRequestEntity> findByStatusRecorded();
 
+    /**
+     * The court centre id and register date of each register that {@link #findByStatusRecorded}
+     * has requests for, without reading the requests themselves.
+     */
+    @Query("select distinct courtRegister.courtCentreId, courtRegister.registerDate from CourtRegisterRequestEntity courtRegister " +
+            "where courtRegister.status = 'RECORDED' and courtRegister.processedOn is null and (courtRegister.registerTime, courtRegister.hearingId) IN " +
+            "(select max(cr.registerTime), hearingId from CourtRegisterRequestEntity cr where cr.status = 'RECORDED' AND cr.processedOn is null group by cr.hearingId, cr.status)")
+    List<Object[]> findCourtRegistersWithStatusRecorded();
+
+    /**
+     * The first {@code pageSize} of the requests {@link #findByStatusRecorded} returns for one court
+     * centre and register date, ordered by request id so that the following pages can be read with
+     * {@link #findPageAfterByCourtRegisterAndStatusRecorded}.
+     */
+    @Query("select courtRegister from CourtRegisterRequestEntity courtRegister " +
+            "where courtRegister.courtCentreId = :courtCentreId and courtRegister.registerDate = :registerDate" +
+            " and courtRegister.status = 'RECORDED' and courtRegister.processedOn is null and (courtRegister.registerTime, courtRegister.hearingId) IN " +
+            "(select max(cr.registerTime), hearingId from CourtRegisterRequestEntity cr where cr.status = 'RECORDED' AND cr.processedOn is null group by cr.hearingId, cr.status)" +
+            " order by courtRegister.courtRegisterRequestId")
+    List<CourtRegisterRequestEntity> findFirstPageByCourtRegisterAndStatusRecorded(@QueryParam("courtCentreId") final UUID courtCentreId,
+                                                                                  @QueryParam("registerDate") final LocalDate registerDate,
+                                                                                  @MaxResults final int pageSize);
+
+    @Query("select courtRegister from CourtRegisterRequestEntity courtRegister " +
+            "where courtRegister.courtCentreId = :courtCentreId and courtRegister.registerDate = :registerDate" +
+            " and courtRegister.courtRegisterRequestId > :after" +
+            " and courtRegister.status = 'RECORDED' and courtRegister.processedOn is null and (courtRegister.registerTime, courtRegister.hearingId) IN " +
+            "(select max(cr.registerTime), hearingId from CourtRegisterRequestEntity cr where cr.status = 'RECORDED' AND cr.processedOn is null group by cr.hearingId, cr.status)" +
+            " order by courtRegister.courtRegisterRequestId")
+    List<CourtRegisterRequestEntity> findPageAfterByCourtRegisterAndStatusRecorded(@QueryParam("courtCentreId") final UUID courtCentreId,
+                                                                                  @QueryParam("registerDate") final LocalDate registerDate,
+                                                                                  @QueryParam("after") final UUID after,
+                                                                                  @MaxResults final int pageSize);
+
 }
@@ -10,6 +10,7 @@ import org.apache.deltaspike.data.api.Modifying;
 import org.apache.deltaspike.data.api.Query;
 import org.apache.deltaspike.data.api.QueryParam;
 import org.apache.deltaspike.data.api.Repository;
+import org.apache.deltaspike.data.api.SingleResultType;
 
 @Repository
 public interface HearingRepository extends EntityRepository<HearingEntity, UUID> {
@@ -17,6 +18,19 @@ public interface HearingRepository extends EntityRepository<HearingEntity, UUID>
     @Query("from HearingEntity h where h.hearingId in (:hearingIds)")
      List<HearingEntity> findByHearingIds(@QueryParam("hearingIds") List<UUID> hearingIds);
 
+    /**
+     * Returns the hearing payload with an empty list of prosecution cases and only the given court
+     * application, so callers interested in one application do not load and parse the whole hearing.
+     */
+    @Query(value = """
+      SELECT CAST(jsonb_set(jsonb_set(jsonb(h.payload), '{prosecutionCases}', '[]'), '{courtApplications}',
+          jsonb_path_query_array(jsonb(h.payload), '$.courtApplications[*] ? (@.id == $id)', jsonb_build_object('id', CAST(:applicationId AS varchar)))) AS varchar)
+      FROM hearing h
+      WHERE h.hearing_id = :hearingId
+    """, isNative = true, singleResult = SingleResultType.OPTIONAL)
+    String findHearingPayloadWithCourtApplication(@QueryParam("hearingId") UUID hearingId,
+                                                  @QueryParam("applicationId") String applicationId);
+
     @Modifying
     @Query("delete from HearingEntity entity where entity.hearingId = :hearingId")
     void removeByHearingId(@QueryParam("hearingId") UUID hearingId);
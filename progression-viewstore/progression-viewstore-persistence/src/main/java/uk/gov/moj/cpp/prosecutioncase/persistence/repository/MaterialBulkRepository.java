@@ -1,64 +1,93 @@
 package uk.gov.moj.cpp.prosecutioncase.persistence.repository;
 
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.joining;
+
 import uk.gov.moj.cpp.prosecutioncase.persistence.entity.MaterialIdMapping;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import javax.persistence.Query;
 import javax.ws.rs.QueryParam;
 
+/**
+ * Resolves material ids to the court document, case and case URN they belong to. The ids are
+ * bound as a single uuid array parameter, so every lookup shares one statement text and its plan;
+ * very large lookups are split into chunks of {@link #MAX_IDS_PER_QUERY} ids.
+ */
 public class MaterialBulkRepository {
 
+    static final int MAX_IDS_PER_QUERY = 5000;
+
+    static final String MATERIAL_ID_MAPPINGS_QUERY = "WITH inputs(material_id) AS (\n" +
+            "  SELECT unnest(CAST(:materialIds AS uuid[]))\n" +
+            "),\n" +
+            "    links AS (\n" +
+            "      SELECT\n" +
+            "        cdm.material_id,\n" +
+            "        cdm.court_document_id,\n" +
+            "        cdi.prosecution_case_id AS case_id\n" +
+            "      FROM inputs i\n" +
+            "      JOIN court_document_material cdm ON cdm.material_id = i.material_id\n" +
+            "      JOIN court_document_index    cdi ON cdi.court_document_id = cdm.court_document_id\n" +
+            "    ),\n" +
+            "    ranked AS (\n" +
+            "      SELECT *,\n" +
+            "             ROW_NUMBER() OVER (\n" +
+            "               PARTITION BY material_id\n" +
+            "               ORDER BY\n" +
+            "                 court_document_id DESC\n" +
+            "             ) AS rn\n" +
+            "      FROM links\n" +
+            "    )\n" +
+            "    SELECT\n" +
+            "      l.material_id,\n" +
+            "      l.court_document_id,\n" +
+            "      l.case_id,\n" +
+            "      spc.reference AS caseurn\n" +
+            "    FROM ranked l\n" +
+            "    INNER JOIN search_prosecution_case spc ON spc.case_id = CAST(l.case_id AS text)\n" +
+            "    WHERE l.rn = 1\n" +
+            "    ORDER BY l.material_id";
+
     @PersistenceContext
     private EntityManager entityManager;
 
 
-    @SuppressWarnings("unchecked")
     public List<MaterialIdMapping> findMaterialIdMappingsInBulk(@QueryParam("materialIds") final List<UUID> materialIds) {
         if (materialIds == null || materialIds.isEmpty()) {
             return List.of();
         }
 
-        final String uuidValues = materialIds.stream()
-                .map(uuid -> "('" + uuid.toString() + "'\\:\\:uuid)")
-                .collect(Collectors.joining(","));
+        final List<UUID> distinctMaterialIds = new ArrayList<>(new LinkedHashSet<>(materialIds));
+        if (distinctMaterialIds.size() <= MAX_IDS_PER_QUERY) {
+            return findMaterialIdMappings(distinctMaterialIds);
+        }
 
-        final String sql = "WITH inputs(material_id) AS (\n" +
-                "  SELECT * FROM (VALUES " + uuidValues + ") AS t(material_id)\n" +
-                "),\n" +
-                "    links AS (\n" +
-                "      SELECT\n" +
-                "        cdm.material_id,\n" +
-                "        cdm.court_document_id,\n" +
-                "        cdi.prosecution_case_id AS case_id\n" +
-                "      FROM inputs i\n" +
-                "      JOIN court_document_material cdm ON cdm.material_id = i.material_id\n" +
-                "      JOIN court_document_index    cdi ON cdi.court_document_id = cdm.court_document_id\n" +
-                "    ),\n" +
-                "    ranked AS (\n" +
-                "      SELECT *,\n" +
-                "             ROW_NUMBER() OVER (\n" +
-                "               PARTITION BY material_id\n" +
-                "               ORDER BY\n" +
-                "                 court_document_id DESC\n" +
-                "             ) AS rn\n" +
-                "      FROM links\n" +
-                "    )\n" +
-                "    SELECT\n" +
-                "      l.material_id,\n" +
-                "      l.court_document_id,\n" +
-                "      l.case_id,\n" +
-                "      spc.reference AS caseurn\n" +
-                "    FROM ranked l\n" +
-                "    INNER JOIN search_prosecution_case spc ON spc.case_id = l.case_id\\:\\:text\n" +
-                "    WHERE l.rn = 1\n" +
-                "    ORDER BY l.material_id";
+        final List<MaterialIdMapping> mappings = new ArrayList<>();
+        for (int from = 0; from < distinctMaterialIds.size(); from += MAX_IDS_PER_QUERY) {
+            mappings.addAll(findMaterialIdMappings(distinctMaterialIds.subList(from, Math.min(from + MAX_IDS_PER_QUERY, distinctMaterialIds.size()))));
+        }
+        // each chunk is ordered by the database; the text form of a uuid sorts the same way
+        mappings.sort(comparing(mapping -> mapping.getMaterialId().toString()));
+        return mappings;
+    }
 
-        final Query query = entityManager.createNativeQuery(sql, "MaterialIdMappingResult");
+    @SuppressWarnings("unchecked")
+    private List<MaterialIdMapping> findMaterialIdMappings(final List<UUID> materialIds) {
+        final Query query = entityManager.createNativeQuery(MATERIAL_ID_MAPPINGS_QUERY, "MaterialIdMappingResult");
+        query.setParameter("materialIds", uuidArray(materialIds));
         return query.getResultList();
     }
-}
\ No newline at end of file
+
+    private static String uuidArray(final List<UUID> materialIds) {
+        return materialIds.stream()
+                .map(UUID::toString)
+                .collect(joining(",", "{", "}"));
+    }
+}
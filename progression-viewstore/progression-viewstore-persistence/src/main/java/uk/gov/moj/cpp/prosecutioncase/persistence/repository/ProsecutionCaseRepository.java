@@ -45,4 +45,14 @@ public interface ProsecutionCaseRepository extends EntityRepository<ProsecutionC
       GROUP BY p.id, p.payload
     """, isNative = true)
     List<String> findInactiveMigratedCaseSummaries(@QueryParam("caseIds") List<UUID> caseIds);
+
+    @Query(value = """
+      SELECT jsonb_extract_path_text(
+          jsonb_path_query_first(jsonb(p.payload), '$.defendants[*] ? (@.id == $id)', jsonb_build_object('id', CAST(:defendantId AS varchar))),
+          'masterDefendantId')
+      FROM prosecution_case p
+      WHERE p.id = :caseId
+    """, isNative = true)
+    List<String> findMasterDefendantIdsByCaseIdAndDefendantId(@QueryParam("caseId") UUID caseId,
+                                                              @QueryParam("defendantId") String defendantId);
 }
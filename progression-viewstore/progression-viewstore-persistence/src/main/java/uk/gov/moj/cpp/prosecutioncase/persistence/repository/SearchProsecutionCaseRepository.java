@@ -1,11 +1,16 @@
 package uk.gov.moj.cpp.prosecutioncase.persistence.repository;
 
+import static java.lang.Boolean.TRUE;
+import static java.util.Collections.emptyList;
+import static java.util.Objects.isNull;
+
 import uk.gov.moj.cpp.prosecutioncase.persistence.entity.SearchProsecutionCaseEntity;
 
 import java.util.List;
 import java.util.UUID;
 
 import org.apache.deltaspike.data.api.AbstractEntityRepository;
+import org.apache.deltaspike.data.api.MaxResults;
 import org.apache.deltaspike.data.api.Query;
 import org.apache.deltaspike.data.api.QueryParam;
 import org.apache.deltaspike.data.api.Repository;
@@ -14,13 +19,98 @@ import org.apache.deltaspike.data.api.Repository;
 @Repository(forEntity = SearchProsecutionCaseEntity.class)
 public abstract class SearchProsecutionCaseRepository extends AbstractEntityRepository<SearchProsecutionCaseEntity, UUID> {
 
-    @Query("from SearchProsecutionCaseEntity sc where LOWER(sc.searchTarget) LIKE :searchCriteria order by isStandaloneApplication, (defendantFirstName || defendantLastName) NULLS LAST, (defendantFirstName || defendantLastName), prosecutor")
-    public abstract List<SearchProsecutionCaseEntity> findBySearchCriteria(@QueryParam("searchCriteria") final String searchCriteria);
-
     public abstract List<SearchProsecutionCaseEntity> findByCaseId(String caseId);
 
     @Query("from SearchProsecutionCaseEntity sc where reference = :caseUrn order by isStandaloneApplication, (defendantFirstName || defendantLastName) NULLS LAST, (defendantFirstName || defendantLastName), prosecutor")
     public abstract List<SearchProsecutionCaseEntity> findByCaseUrn(@QueryParam("caseUrn") final String caseUrn);
-}
 
+    /**
+     * Returns up to {@code pageSize} matches in the same order as {@link #findAllBySearchCriteria},
+     * starting after the row for defendant {@code after}, or from the first match when it is null.
+     * The order is made total by the defendant id, so pages never overlap or skip rows.
+     */
+    public List<SearchProsecutionCaseEntity> findPageBySearchCriteria(final String searchCriteria, final UUID after, final int pageSize) {
+        if (isNull(after)) {
+            return findFirstPageBySearchCriteria(searchCriteria, pageSize);
+        }
+
+        final SearchProsecutionCaseEntity last = findBy(after);
+        if (isNull(last)) {
+            return emptyList();
+        }
+
+        final String lastDefendantName = isNull(last.getDefendantFirstName()) || isNull(last.getDefendantLastName())
+                ? null : last.getDefendantFirstName() + last.getDefendantLastName();
+        return findPageAfterBySearchCriteria(searchCriteria,
+                TRUE.equals(last.getStandaloneApplication()) ? "T" : "F",
+                isNull(lastDefendantName),
+                isNull(lastDefendantName) ? "" : lastDefendantName,
+                last.getProsecutor(),
+                last.getDefendantId(),
+                pageSize);
+    }
 
+    /**
+     * Every match for a search, for callers that do not page, ordered by standalone application,
+     * defendant name with unnamed defendants last, prosecutor and defendant id.
+     */
+    @Query(value = """
+            SELECT sc.* FROM search_prosecution_case sc
+            WHERE LOWER(sc.search_target) LIKE :searchCriteria
+            ORDER BY sc.is_standalone_application,
+                     (sc.defendant_first_name || sc.defendant_last_name) IS NULL,
+                     COALESCE(sc.defendant_first_name || sc.defendant_last_name, ''),
+                     sc.prosecutor,
+                     sc.defendant_id
+            """, isNative = true)
+    public abstract List<SearchProsecutionCaseEntity> findAllBySearchCriteria(@QueryParam("searchCriteria") final String searchCriteria);
+
+    @Query(value = """
+            SELECT sc.* FROM search_prosecution_case sc
+            WHERE LOWER(sc.search_target) LIKE :searchCriteria
+            ORDER BY sc.is_standalone_application,
+                     (sc.defendant_first_name || sc.defendant_last_name) IS NULL,
+                     COALESCE(sc.defendant_first_name || sc.defendant_last_name, ''),
+                     sc.prosecutor,
+                     sc.defendant_id
+            """, isNative = true)
+    public abstract List<SearchProsecutionCaseEntity> findFirstPageBySearchCriteria(@QueryParam("searchCriteria") final String searchCriteria,
+                                                                                    @MaxResults final int pageSize);
+
+    @Query(value = """
+            SELECT sc.* FROM search_prosecution_case sc
+            WHERE LOWER(sc.search_target) LIKE :searchCriteria
+            AND (sc.is_standalone_application,
+                 (sc.defendant_first_name || sc.defendant_last_name) IS NULL,
+                 COALESCE(sc.defendant_first_name || sc.defendant_last_name, ''),
+                 sc.prosecutor,
+                 sc.defendant_id)
+                > (:standaloneApplication, :defendantNameIsNull, :defendantName, :prosecutor, :defendantId)
+            ORDER BY sc.is_standalone_application,
+                     (sc.defendant_first_name || sc.defendant_last_name) IS NULL,
+                     COALESCE(sc.defendant_first_name || sc.defendant_last_name, ''),
+                     sc.prosecutor,
+                     sc.defendant_id
+            """, isNative = true)
+    public abstract List<SearchProsecutionCaseEntity> findPageAfterBySearchCriteria(@QueryParam("searchCriteria") final String searchCriteria,
+                                                                                    @QueryParam("standaloneApplication") final String standaloneApplication,
+                                                                                    @QueryParam("defendantNameIsNull") final boolean defendantNameIsNull,
+                                                                                    @QueryParam("defendantName") final String defendantName,
+                                                                                    @QueryParam("prosecutor") final String prosecutor,
+                                                                                    @QueryParam("defendantId") final UUID defendantId,
+                                                                                    @MaxResults final int pageSize);
+
+    /**
+     * Counts the matches for a search, stopping at {@code maxCount} so that a very broad search
+     * does not have to visit every matching row just to report how many there are.
+     */
+    @Query(value = """
+            SELECT CAST(COUNT(*) AS INTEGER) FROM (
+                SELECT 1 FROM search_prosecution_case sc
+                WHERE LOWER(sc.search_target) LIKE :searchCriteria
+                LIMIT :maxCount
+            ) matches
+            """, isNative = true)
+    public abstract Integer countBySearchCriteria(@QueryParam("searchCriteria") final String searchCriteria,
+                                                  @QueryParam("maxCount") final int maxCount);
+}
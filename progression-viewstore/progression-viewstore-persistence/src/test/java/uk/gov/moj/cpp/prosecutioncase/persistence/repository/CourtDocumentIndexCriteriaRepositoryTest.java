@@ -1,9 +1,15 @@
 package uk.gov.moj.cpp.prosecutioncase.persistence.repository;
 
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
 import static java.util.UUID.randomUUID;
+import static java.util.stream.Collectors.toList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
 
 import uk.gov.moj.cpp.progression.domain.pojo.SearchCriteria;
 import uk.gov.moj.cpp.prosecutioncase.persistence.entity.CourtDocumentEntity;
@@ -34,6 +40,9 @@ public class CourtDocumentIndexCriteriaRepositoryTest {
     final static String courtDocumentName1 = "AbcDocument Name1";
     final static String courtDocumentName2 = "BcdDocument Name2";
     final static String courtDocumentName3 = "CdeDocument Name3";
+    final static String documentTypeId1 = "460fbc00-c002-11e8-a355-529269fb1459";
+    final static String documentTypeId2 = "460f851e-c002-11e8-a355-529269fb1459";
+    final static String pdf = "application/pdf";
 
     @Inject
     private CourtDocumentIndexCriteriaRepository courtDocumentIndexCriteriaRepository;
@@ -43,9 +52,9 @@ public class CourtDocumentIndexCriteriaRepositoryTest {
 
     @Before
     public void init() {
-        persistCourtDocument(courtDocumentId1, caseId, defendantId1, courtDocumentName1);
-        persistCourtDocument(courtDocumentId2, caseId, defendantId1, courtDocumentName2);
-        persistCourtDocument(courtDocumentId3, caseId, defendantId2, courtDocumentName3);
+        persistCourtDocument(courtDocumentId1, caseId, defendantId1, courtDocumentName1, documentTypeId1, "Charges", pdf, "2024-01-02T10:00:00.000Z");
+        persistCourtDocument(courtDocumentId2, caseId, defendantId1, courtDocumentName2, documentTypeId2, "Applications", "image/jpeg", "2024-01-03T10:00:00.000Z");
+        persistCourtDocument(courtDocumentId3, caseId, defendantId2, courtDocumentName3, documentTypeId1, "Sentence", pdf, "2024-01-01T10:00:00.000Z");
     }
 
     @After
@@ -94,6 +103,63 @@ public class CourtDocumentIndexCriteriaRepositoryTest {
         assertThat(courtDocumentIndexEntity.getDefendantId(), is(defendantId2));
     }
 
+    @Test
+    public void shouldGetDocumentsOfTheReadableDocumentTypes() {
+        final SearchCriteria searchCriteria = SearchCriteria.searchCriteria()
+                .withValuesFrom(buildCriteria(null, null))
+                .withDocumentTypeIds(of(singleton(documentTypeId2)))
+                .build();
+
+        assertThat(names(searchCriteria), containsInAnyOrder(courtDocumentName2));
+        assertThat(courtDocumentIndexCriteriaRepository.countByCriteria(searchCriteria), is(1L));
+    }
+
+    @Test
+    public void shouldGetNoDocumentsWhenNoDocumentTypeIsReadable() {
+        final SearchCriteria searchCriteria = SearchCriteria.searchCriteria()
+                .withValuesFrom(buildCriteria(null, null))
+                .withDocumentTypeIds(of(emptySet()))
+                .build();
+
+        assertThat(names(searchCriteria), is(empty()));
+        assertThat(courtDocumentIndexCriteriaRepository.countByCriteria(searchCriteria), is(0L));
+    }
+
+    @Test
+    public void shouldGetDocumentsOfTheMimeTypes() {
+        final SearchCriteria searchCriteria = SearchCriteria.searchCriteria()
+                .withValuesFrom(buildCriteria(null, null))
+                .withMimeTypes(of(singleton(pdf)))
+                .build();
+
+        assertThat(names(searchCriteria), containsInAnyOrder(courtDocumentName3, courtDocumentName1));
+        assertThat(courtDocumentIndexCriteriaRepository.countByCriteria(searchCriteria), is(2L));
+    }
+
+    @Test
+    public void shouldGetDocumentsWhoseNameStartsWithTheDocumentName() {
+        assertThat(names(buildCriteria(null, "bcd")), containsInAnyOrder(courtDocumentName2));
+        assertThat(names(buildCriteria(null, courtDocumentName3)), containsInAnyOrder(courtDocumentName3));
+        assertThat(names(buildCriteria(null, "Document")), is(empty()));
+        assertThat(courtDocumentIndexCriteriaRepository.countByCriteria(buildCriteria(null, "bcd")), is(1L));
+    }
+
+    @Test
+    public void shouldMatchPercentAndUnderscoreInTheDocumentNameLiterally() {
+        persistCourtDocument(randomUUID(), caseId, defendantId1, "100%_Report", documentTypeId1, "Charges", pdf, "2024-01-04T10:00:00.000Z");
+        persistCourtDocument(randomUUID(), caseId, defendantId1, "100 Report", documentTypeId1, "Charges", pdf, "2024-01-05T10:00:00.000Z");
+
+        assertThat(names(buildCriteria(null, "100%")), containsInAnyOrder("100%_Report"));
+        assertThat(names(buildCriteria(null, "100%_")), containsInAnyOrder("100%_Report"));
+        assertThat(names(buildCriteria(null, "1_0")), is(empty()));
+    }
+
+    private List<String> names(final SearchCriteria searchCriteria) {
+        return courtDocumentIndexCriteriaRepository.getCourtDocumentIndexByCriteria(searchCriteria).stream()
+                .map(courtDocumentIndexEntity -> courtDocumentIndexEntity.getCourtDocument().getName())
+                .collect(toList());
+    }
+
     private SearchCriteria buildCriteria(final UUID defendantId, final String name) {
         return SearchCriteria.searchCriteria()
                 .withCaseId(caseId)
@@ -102,12 +168,16 @@ public class CourtDocumentIndexCriteriaRepositoryTest {
                 .build();
     }
 
-    private void persistCourtDocument(final UUID courtDocumentId, final UUID caseId, final UUID defendantId, final String courtDocumentName) {
+    private void persistCourtDocument(final UUID courtDocumentId, final UUID caseId, final UUID defendantId, final String courtDocumentName,
+                                      final String documentTypeId, final String documentTypeDescription, final String mimeType, final String uploadDateTime) {
         CourtDocumentEntity courtDocumentEntity = new CourtDocumentEntity();
         courtDocumentEntity.setCourtDocumentId(courtDocumentId);
         courtDocumentEntity.setName(courtDocumentName);
         courtDocumentEntity.setIsRemoved(false);
-        courtDocumentEntity.setPayload("{\"documentTypeId\":\"460fbc00-c002-11e8-a355-529269fb1459\"," +
+        courtDocumentEntity.setPayload("{\"documentTypeId\":\"" + documentTypeId + "\"," +
+                "\"documentTypeDescription\":\"" + documentTypeDescription + "\"," +
+                "\"mimeType\":\"" + mimeType + "\"," +
+                "\"materials\":[{\"id\":\"" + randomUUID() + "\",\"uploadDateTime\":\"" + uploadDateTime + "\"}]," +
                 "\"name\":\"" + courtDocumentName + "\"}");
         final Set<CourtDocumentIndexEntity> indices = new HashSet<>();
         indices.add(getCourtDocumentIndexEntity(courtDocumentEntity, caseId, defendantId, courtDocumentId));
@@ -0,0 +1,122 @@
+package uk.gov.moj.cpp.prosecutioncase.persistence.repository;
+
+import static java.lang.String.format;
+
+import java.io.StringReader;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonReader;
+import javax.json.JsonString;
+import javax.json.JsonStructure;
+import javax.json.JsonValue;
+
+/**
+ * Stands in for the postgres jsonb functions used by the criteria repositories, so that their
+ * payload predicates and orderings run against the in memory test database. Registered through
+ * h2-jsonb-functions.sql when the test data source is opened.
+ *
+ * <p>Of the json path language only the filter {@code $.array[*] ? (@.key == $variable)} used by
+ * the repositories is understood.
+ */
+public final class H2JsonbFunctions {
+
+    private static final Pattern ARRAY_FILTER = Pattern.compile("\\$\\.(\\w+)\\[\\*] \\? \\(@\\.(\\w+) == \\$(\\w+)\\)");
+
+    private H2JsonbFunctions() {
+    }
+
+    public static String jsonb(final String value) {
+        return value;
+    }
+
+    public static String jsonbExtractPathText(final String json, final String key) {
+        return extractPathText(json, key);
+    }
+
+    public static String jsonbExtractPathText(final String json, final String key1, final String key2, final String key3) {
+        return extractPathText(json, key1, key2, key3);
+    }
+
+    public static String jsonbBuildObject(final String key, final String value) {
+        return Json.createObjectBuilder().add(key, value).build().toString();
+    }
+
+    public static String jsonbSet(final String json, final String path, final String value) {
+        final String key = path.replaceAll("[{}]", "");
+        final JsonObjectBuilder jsonObjectBuilder = Json.createObjectBuilder();
+        ((JsonObject) read(json)).forEach(jsonObjectBuilder::add);
+        return jsonObjectBuilder.add(key, read(value)).build().toString();
+    }
+
+    public static String jsonbPathQueryFirst(final String json, final String path, final String vars) {
+        final JsonArray matches = filter(json, path, vars);
+        return matches.isEmpty() ? null : matches.get(0).toString();
+    }
+
+    public static String jsonbPathQueryArray(final String json, final String path, final String vars) {
+        return filter(json, path, vars).toString();
+    }
+
+    private static JsonArray filter(final String json, final String path, final String vars) {
+        final Matcher matcher = ARRAY_FILTER.matcher(path);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException(format("Json path %s is not supported by the test database", path));
+        }
+
+        final JsonValue expected = ((JsonObject) read(vars)).get(matcher.group(3));
+        final JsonValue array = ((JsonObject) read(json)).get(matcher.group(1));
+        final JsonArrayBuilder matches = Json.createArrayBuilder();
+        if (array instanceof JsonArray) {
+            ((JsonArray) array).stream()
+                    .filter(element -> element instanceof JsonObject && expected.equals(((JsonObject) element).get(matcher.group(2))))
+                    .forEach(matches::add);
+        }
+        return matches.build();
+    }
+
+    private static JsonStructure read(final String json) {
+        try (final JsonReader jsonReader = Json.createReader(new StringReader(json))) {
+            return jsonReader.read();
+        }
+    }
+
+    private static String extractPathText(final String json, final String... path) {
+        if (json == null) {
+            return null;
+        }
+
+        JsonValue value;
+        try (final JsonReader jsonReader = Json.createReader(new StringReader(json))) {
+            value = jsonReader.read();
+        }
+        for (final String key : path) {
+            value = child(value, key);
+            if (value == null) {
+                return null;
+            }
+        }
+
+        if (value == JsonValue.NULL) {
+            return null;
+        }
+        return value instanceof JsonString ? ((JsonString) value).getString() : value.toString();
+    }
+
+    private static JsonValue child(final JsonValue value, final String key) {
+        if (value instanceof JsonObject) {
+            return ((JsonObject) value).get(key);
+        }
+        if (value instanceof JsonArray) {
+            final JsonArray array = (JsonArray) value;
+            final int index = Integer.parseInt(key);
+            return index < array.size() ? array.get(index) : null;
+        }
+        return null;
+    }
+}
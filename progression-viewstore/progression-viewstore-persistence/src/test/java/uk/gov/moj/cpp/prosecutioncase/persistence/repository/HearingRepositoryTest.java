@@ -0,0 +1,72 @@
+package uk.gov.moj.cpp.prosecutioncase.persistence.repository;
+
+import static java.util.UUID.randomUUID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import uk.gov.moj.cpp.prosecutioncase.persistence.entity.HearingEntity;
+
+import java.io.StringReader;
+import java.util.UUID;
+
+import javax.inject.Inject;
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+
+import org.apache.deltaspike.testcontrol.api.junit.CdiTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(CdiTestRunner.class)
+public class HearingRepositoryTest {
+
+    @Inject
+    private HearingRepository hearingRepository;
+
+    @Before
+    public void setUp() {
+        hearingRepository.findAll().forEach(entity -> hearingRepository.remove(entity));
+    }
+
+    @Test
+    public void shouldReturnHearingPayloadWithOnlyTheRequestedCourtApplication() {
+        final UUID hearingId = randomUUID();
+        final UUID applicationId = randomUUID();
+        saveHearing(hearingId, "{\"id\":\"" + hearingId + "\",\"type\":{\"description\":\"Trial\"},\"prosecutionCases\":[{\"id\":\"c\"}],"
+                + "\"courtApplications\":[{\"id\":\"" + applicationId + "\"},{\"id\":\"" + randomUUID() + "\"}]}");
+
+        final JsonObject hearing = read(hearingRepository.findHearingPayloadWithCourtApplication(hearingId, applicationId.toString()));
+
+        final JsonArray courtApplications = hearing.getJsonArray("courtApplications");
+        assertThat(courtApplications.size(), is(1));
+        assertThat(courtApplications.getJsonObject(0).getString("id"), is(applicationId.toString()));
+        assertThat(hearing.getJsonArray("prosecutionCases").isEmpty(), is(true));
+        assertThat(hearing.getJsonObject("type").getString("description"), is("Trial"));
+    }
+
+    @Test
+    public void shouldReturnNoCourtApplicationsWhenTheHearingDoesNotHaveTheRequestedOne() {
+        final UUID hearingId = randomUUID();
+        saveHearing(hearingId, "{\"id\":\"" + hearingId + "\",\"courtApplications\":[{\"id\":\"" + randomUUID() + "\"}]}");
+
+        final JsonObject hearing = read(hearingRepository.findHearingPayloadWithCourtApplication(hearingId, randomUUID().toString()));
+
+        assertThat(hearing.getJsonArray("courtApplications").isEmpty(), is(true));
+    }
+
+    private void saveHearing(final UUID hearingId, final String payload) {
+        final HearingEntity hearingEntity = new HearingEntity();
+        hearingEntity.setHearingId(hearingId);
+        hearingEntity.setPayload(payload);
+        hearingRepository.save(hearingEntity);
+    }
+
+    private static JsonObject read(final String payload) {
+        try (final JsonReader jsonReader = Json.createReader(new StringReader(payload))) {
+            return jsonReader.readObject();
+        }
+    }
+}
@@ -11,6 +11,7 @@ import uk.gov.moj.cpp.prosecutioncase.persistence.entity.MaterialIdMapping;
 
 import javax.persistence.EntityManager;
 import javax.persistence.Query;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
@@ -22,8 +23,11 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static uk.gov.moj.cpp.prosecutioncase.persistence.repository.MaterialBulkRepository.MATERIAL_ID_MAPPINGS_QUERY;
+import static uk.gov.moj.cpp.prosecutioncase.persistence.repository.MaterialBulkRepository.MAX_IDS_PER_QUERY;
 
 @ExtendWith(MockitoExtension.class)
 class MaterialBulkRepositoryTest {
@@ -205,4 +209,48 @@ class MaterialBulkRepositoryTest {
         assertThat(result, hasSize(0));
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldBindDistinctMaterialIdsAsOneArrayParameter() {
+        // Given
+        final List<UUID> materialIds = Arrays.asList(materialId1, materialId2, materialId1);
+
+        when(entityManager.createNativeQuery(MATERIAL_ID_MAPPINGS_QUERY, "MaterialIdMappingResult"))
+                .thenReturn(query);
+        when(query.getResultList()).thenReturn(Arrays.asList());
+
+        // When
+        materialBulkRepository.findMaterialIdMappingsInBulk(materialIds);
+
+        // Then
+        verify(query).setParameter("materialIds", "{" + materialId1 + "," + materialId2 + "}");
+    }
+
+    @Test
+    void shouldSplitVeryLargeLookupsIntoChunksAndOrderTheResultsByMaterialId() {
+        // Given
+        final List<UUID> materialIds = new ArrayList<>();
+        for (int i = 0; i < MAX_IDS_PER_QUERY; i++) {
+            materialIds.add(UUID.randomUUID());
+        }
+        materialIds.add(materialId1);
+
+        final MaterialIdMapping mapping1 = new MaterialIdMapping(materialId1, courtDocumentId1, caseId1, "39GD1116822");
+        final MaterialIdMapping mapping2 = new MaterialIdMapping(materialId2, courtDocumentId2, caseId2, "TFL122222");
+
+        when(entityManager.createNativeQuery(MATERIAL_ID_MAPPINGS_QUERY, "MaterialIdMappingResult"))
+                .thenReturn(query);
+        when(query.getResultList()).thenReturn(Arrays.asList(mapping2), Arrays.asList(mapping1));
+
+        // When
+        final List<MaterialIdMapping> result = materialBulkRepository.findMaterialIdMappingsInBulk(materialIds);
+
+        // Then
+        assertThat(result, hasSize(2));
+        assertThat(result.get(0).getMaterialId(), equalTo(materialId1));
+        assertThat(result.get(1).getMaterialId(), equalTo(materialId2));
+
+        verify(entityManager, times(2)).createNativeQuery(MATERIAL_ID_MAPPINGS_QUERY, "MaterialIdMappingResult");
+        verify(query).setParameter("materialIds", "{" + materialId1 + "}");
+    }
+
+}
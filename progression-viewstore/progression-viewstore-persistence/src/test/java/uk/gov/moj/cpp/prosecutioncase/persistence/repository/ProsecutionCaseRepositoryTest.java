@@ -0,0 +1,71 @@
+package uk.gov.moj.cpp.prosecutioncase.persistence.repository;
+
+import static java.util.UUID.randomUUID;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+import uk.gov.moj.cpp.prosecutioncase.persistence.entity.ProsecutionCaseEntity;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import javax.inject.Inject;
+
+import org.apache.deltaspike.testcontrol.api.junit.CdiTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(CdiTestRunner.class)
+public class ProsecutionCaseRepositoryTest {
+
+    private final UUID caseId = randomUUID();
+
+    private final UUID defendantId = randomUUID();
+
+    private final UUID masterDefendantId = randomUUID();
+
+    private final UUID defendantWithoutMasterId = randomUUID();
+
+    @Inject
+    private ProsecutionCaseRepository prosecutionCaseRepository;
+
+    @Before
+    public void setUp() {
+        prosecutionCaseRepository.findAll().forEach(entity -> prosecutionCaseRepository.remove(entity));
+
+        final ProsecutionCaseEntity prosecutionCaseEntity = new ProsecutionCaseEntity();
+        prosecutionCaseEntity.setCaseId(caseId);
+        prosecutionCaseEntity.setPayload("{\"defendants\":[{\"id\":\"" + defendantId + "\",\"masterDefendantId\":\"" + masterDefendantId + "\"},"
+                + "{\"id\":\"" + defendantWithoutMasterId + "\"}]}");
+        prosecutionCaseRepository.save(prosecutionCaseEntity);
+    }
+
+    @Test
+    public void shouldFindMasterDefendantIdOfTheRequestedDefendant() {
+        final List<String> masterDefendantIds = prosecutionCaseRepository.findMasterDefendantIdsByCaseIdAndDefendantId(caseId, defendantId.toString());
+
+        assertThat(nonNull(masterDefendantIds), contains(masterDefendantId.toString()));
+    }
+
+    @Test
+    public void shouldFindNoMasterDefendantIdForDefendantWithoutOne() {
+        final List<String> masterDefendantIds = prosecutionCaseRepository.findMasterDefendantIdsByCaseIdAndDefendantId(caseId, defendantWithoutMasterId.toString());
+
+        assertThat(nonNull(masterDefendantIds), empty());
+    }
+
+    @Test
+    public void shouldFindNoMasterDefendantIdForUnknownDefendant() {
+        final List<String> masterDefendantIds = prosecutionCaseRepository.findMasterDefendantIdsByCaseIdAndDefendantId(caseId, randomUUID().toString());
+
+        assertThat(nonNull(masterDefendantIds), empty());
+    }
+
+    private static List<String> nonNull(final List<String> values) {
+        return values.stream().filter(Objects::nonNull).collect(toList());
+    }
+}
@@ -45,7 +45,7 @@ public class SearchProsecutionCaseRepositoryTest {
         repository.save(searchProsecutionCase());
 
         //when
-        final List<SearchProsecutionCaseEntity> actual = repository.findBySearchCriteria(searchCriteria); //"%John%"
+        final List<SearchProsecutionCaseEntity> actual = repository.findAllBySearchCriteria(searchCriteria); //"%John%"
 
         //then
         assertNotNull(actual, "Should not be null");
@@ -113,6 +113,43 @@ public class SearchProsecutionCaseRepositoryTest {
         assertEquals(caseId, actual.getCaseId());
     }
 
+    @Test
+    public void shouldPageThroughCasesMatchingSearchCriteria() {
+        //given
+        final SearchProsecutionCaseEntity john = searchProsecutionCase();
+        final SearchProsecutionCaseEntity alan = searchProsecutionCase();
+        alan.setDefendantId(UUID.randomUUID());
+        alan.setDefendantFirstName("Alan");
+        alan.setSearchTarget("TEST12346 | Alan Smith | 1980-01-01");
+        repository.save(john);
+        repository.save(alan);
+
+        //when
+        final List<SearchProsecutionCaseEntity> firstPage = repository.findPageBySearchCriteria("%smith%", null, 1);
+        final List<SearchProsecutionCaseEntity> secondPage = repository.findPageBySearchCriteria("%smith%", firstPage.get(0).getDefendantId(), 1);
+        final List<SearchProsecutionCaseEntity> thirdPage = repository.findPageBySearchCriteria("%smith%", secondPage.get(0).getDefendantId(), 1);
+
+        //then
+        assertEquals(1, firstPage.size());
+        assertEquals("Alan", firstPage.get(0).getDefendantFirstName());
+        assertEquals(1, secondPage.size());
+        assertEquals("John", secondPage.get(0).getDefendantFirstName());
+        assertEquals(0, thirdPage.size());
+    }
+
+    @Test
+    public void shouldCountCasesMatchingSearchCriteriaUpToMaximum() {
+        //given
+        final SearchProsecutionCaseEntity alan = searchProsecutionCase();
+        alan.setDefendantId(UUID.randomUUID());
+        repository.save(searchProsecutionCase());
+        repository.save(alan);
+
+        //then
+        assertEquals(Integer.valueOf(2), repository.countBySearchCriteria("%smith%", 10));
+        assertEquals(Integer.valueOf(1), repository.countBySearchCriteria("%smith%", 1));
+    }
+
     private SearchProsecutionCaseEntity searchProsecutionCase() {
         final SearchProsecutionCaseEntity searchProsecutionCaseEntity = new SearchProsecutionCaseEntity();
         searchProsecutionCaseEntity.setDefendantId(defedantId);
@@ -0,0 +1,6 @@
+CREATE ALIAS IF NOT EXISTS JSONB FOR "uk.gov.moj.cpp.prosecutioncase.persistence.repository.H2JsonbFunctions.jsonb";
+CREATE ALIAS IF NOT EXISTS JSONB_EXTRACT_PATH_TEXT FOR "uk.gov.moj.cpp.prosecutioncase.persistence.repository.H2JsonbFunctions.jsonbExtractPathText";
+CREATE ALIAS IF NOT EXISTS JSONB_BUILD_OBJECT FOR "uk.gov.moj.cpp.prosecutioncase.persistence.repository.H2JsonbFunctions.jsonbBuildObject";
+CREATE ALIAS IF NOT EXISTS JSONB_SET FOR "uk.gov.moj.cpp.prosecutioncase.persistence.repository.H2JsonbFunctions.jsonbSet";
+CREATE ALIAS IF NOT EXISTS JSONB_PATH_QUERY_FIRST FOR "uk.gov.moj.cpp.prosecutioncase.persistence.repository.H2JsonbFunctions.jsonbPathQueryFirst";
+CREATE ALIAS IF NOT EXISTS JSONB_PATH_QUERY_ARRAY FOR "uk.gov.moj.cpp.prosecutioncase.persistence.repository.H2JsonbFunctions.jsonbPathQueryArray";